@@ -43,12 +43,46 @@ public interface AnalysisCriterion {
     double calculate(TimeSeries series, Trade trade);
 
     /**
+     * A {@link SummaryTradingRecord summary trading record} should be calculated from its accumulators (see
+     * {@link #calculate(TimeSeries, SummaryTradingRecord)}), whatever its static type (e.g. when it has been run by a
+     * {@link TimeSeriesManager time series manager}), or rejected with an {@link IllegalArgumentException} if the
+     * criterion does not {@link #isSummarySupported() support it}.
      * @param series a time series
      * @param tradingRecord a trading record
      * @return the criterion value for the trades
      */
     double calculate(TimeSeries series, TradingRecord tradingRecord);
 
+    /**
+     * Calculates the criterion value from the accumulators of a summary trading record.
+     * <p>
+     * By default, the record is handled as any other trading record: it fails for the criteria going through the
+     * trades (see {@link #isSummarySupported()}).
+     * @param series the time series the summary trading record is built with
+     * @param summary a summary trading record
+     * @return the criterion value for the trades of the record
+     */
+    default double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return calculate(series, (TradingRecord) summary);
+    }
+
+    /**
+     * @return true if the criterion can be calculated from a {@link SummaryTradingRecord summary trading record} (i.e.
+     *         without its trades), false otherwise
+     */
+    default boolean isSummarySupported() {
+        return false;
+    }
+
+    /**
+     * @return a new {@link CriterionAccumulator accumulator} computing the criterion as the orders are recorded (e.g.
+     *         to evaluate it in the same pass as the criteria {@link #isSummarySupported() supporting} the summary
+     *         trading records), null if the criterion has none
+     */
+    default CriterionAccumulator createAccumulator() {
+        return null;
+    }
+
     /**
      * @param manager the time series manager
      * @param strategies a list of strategies
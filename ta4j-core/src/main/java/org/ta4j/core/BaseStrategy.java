@@ -83,6 +83,13 @@ public class BaseStrategy implements Strategy {
 		return exitRule;
 	}
     
+    /**
+     * @return the unstable period (number of ticks)
+     */
+    public int getUnstablePeriod() {
+        return unstablePeriod;
+    }
+
     @Override
     public void setUnstablePeriod(int unstablePeriod) {
         this.unstablePeriod = unstablePeriod;
@@ -95,14 +102,20 @@ public class BaseStrategy implements Strategy {
 
     @Override
     public boolean shouldEnter(int index, TradingRecord tradingRecord) {
+        final RuleProbe probe = RuleProbes.getProbe();
+        final long startTime = probe.startTime();
         boolean enter = Strategy.super.shouldEnter(index, tradingRecord);
+        probe.onStrategyEvaluated(this, index, true, enter, startTime);
         traceShouldEnter(index, enter);
         return enter;
     }
 
     @Override
     public boolean shouldExit(int index, TradingRecord tradingRecord) {
+        final RuleProbe probe = RuleProbes.getProbe();
+        final long startTime = probe.startTime();
         boolean exit = Strategy.super.shouldExit(index, tradingRecord);
+        probe.onStrategyEvaluated(this, index, false, exit, startTime);
         traceShouldExit(index, exit);
         return exit;
     }
@@ -111,17 +124,19 @@ public class BaseStrategy implements Strategy {
      * Traces the shouldEnter() method calls.
      * @param index the tick index
      * @param enter true if the strategy should enter, false otherwise
+     * @deprecated no longer logs anything, use a {@link RuleProbe} (see {@link RuleProbes#setProbe(RuleProbe)})
      */
+    @Deprecated
     protected void traceShouldEnter(int index, boolean enter) {
-        log.trace(">>> {}#shouldEnter({}): {}", getClass().getSimpleName(), index, enter);
     }
 
     /**
      * Traces the shouldExit() method calls.
      * @param index the tick index
      * @param exit true if the strategy should exit, false otherwise
+     * @deprecated no longer logs anything, use a {@link RuleProbe} (see {@link RuleProbes#setProbe(RuleProbe)})
      */
+    @Deprecated
     protected void traceShouldExit(int index, boolean exit) {
-        log.trace(">>> {}#shouldExit({}): {}", getClass().getSimpleName(), index, exit);
     }
 }
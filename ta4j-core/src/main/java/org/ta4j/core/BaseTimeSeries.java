@@ -148,7 +148,9 @@ public class BaseTimeSeries implements TimeSeries {
                 // Cannot return the i-th tick if i < 0
                 throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
             }
-            log.trace("Time series `{}` ({} ticks): tick {} already removed, use {}-th instead", name, ticks.size(), i, removedTicksCount);
+            if (log.isTraceEnabled()) {
+                log.trace("Time series `{}` ({} ticks): tick {} already removed, use {}-th instead", name, ticks.size(), i, removedTicksCount);
+            }
             if (ticks.isEmpty()) {
                 throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedTicksCount));
             }
@@ -0,0 +1,332 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.ta4j.core.Order.OrderType;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact implementation of a {@link TradingRecord}.
+ * <p>
+ * The orders are stored in growable arrays (index, price and amount of each order) instead of {@link Order order} and
+ * {@link Trade trade} objects. As in a {@link BaseTradingRecord base trading record}, the orders alternate between
+ * entries (of the starting type) and exits: the type of an order is derived from its position, and the trade t is made
+ * of the orders 2t and 2t+1.<br>
+ * The prices and amounts are the provided {@link Decimal decimals} (e.g. the close prices of the ticks), which are not
+ * copied.
+ * <p>
+ * The {@link Order order} and {@link Trade trade} objects are only built when requested (e.g. {@link #getLastEntry()},
+ * {@link #getTrades()}), the {@link #getOrderIndex(int) order accessors} giving an allocation-free access to the orders.
+ * The {@link #getCurrentTrade() current trade} is a view of the last (non-closed) trade of the record.
+ */
+public class CompactTradingRecord implements TradingRecord {
+
+    private static final long serialVersionUID = 6346396475914376407L;
+
+    /** The initial capacity of the arrays */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The entry type (BUY or SELL) in the trading session */
+    private final OrderType startingType;
+
+    /** The number of recorded orders */
+    private int orderCount;
+
+    /** The indexes of the orders */
+    private int[] indexes = new int[INITIAL_CAPACITY];
+
+    /** The prices of the orders */
+    private Decimal[] prices = new Decimal[INITIAL_CAPACITY];
+
+    /** The amounts of the orders */
+    private Decimal[] amounts = new Decimal[INITIAL_CAPACITY];
+
+    /** The current trade (view) */
+    private final CurrentTrade currentTrade;
+
+    /** The entry order of the current trade, built when requested */
+    private Order currentEntry;
+
+    /**
+     * The current (non-closed) trade: a view of the last orders of the record.
+     */
+    private class CurrentTrade extends Trade {
+
+        private static final long serialVersionUID = -2913468237346123021L;
+
+        CurrentTrade() {
+            super(startingType);
+        }
+
+        @Override
+        public Order getEntry() {
+            return isOpened() ? getLastEntry() : null;
+        }
+
+        @Override
+        public Order getExit() {
+            return null;
+        }
+
+        @Override
+        public Order operate(int index, Decimal price, Decimal amount) {
+            CompactTradingRecord.this.operate(index, price, amount);
+            return getLastOrder();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public boolean isOpened() {
+            return orderCount % 2 == 1;
+        }
+
+        @Override
+        public boolean isNew() {
+            return orderCount % 2 == 0;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj == this;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry: " + getEntry() + " exit: null";
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    public CompactTradingRecord() {
+        this(OrderType.BUY);
+    }
+
+    /**
+     * Constructor.
+     * @param entryOrderType the {@link OrderType order type} of entries in the trading session
+     */
+    public CompactTradingRecord(OrderType entryOrderType) {
+        if (entryOrderType == null) {
+            throw new IllegalArgumentException("Starting type must not be null");
+        }
+        this.startingType = entryOrderType;
+        this.currentTrade = new CurrentTrade();
+    }
+
+    @Override
+    public Trade getCurrentTrade() {
+        return currentTrade;
+    }
+
+    @Override
+    public void operate(int index, Decimal price, Decimal amount) {
+        if (orderCount % 2 == 1 && index < indexes[orderCount - 1]) {
+            throw new IllegalStateException("The index i is less than the entryOrder index");
+        }
+        if (orderCount == indexes.length) {
+            int capacity = 2 * orderCount;
+            indexes = Arrays.copyOf(indexes, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        indexes[orderCount] = index;
+        prices[orderCount] = price;
+        amounts[orderCount] = amount;
+        orderCount++;
+        currentEntry = null;
+    }
+
+    @Override
+    public boolean enter(int index, Decimal price, Decimal amount) {
+        if (currentTrade.isNew()) {
+            operate(index, price, amount);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean exit(int index, Decimal price, Decimal amount) {
+        if (currentTrade.isOpened()) {
+            operate(index, price, amount);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the recorded trades (a view of the record, the trades being built on access)
+     */
+    @Override
+    public List<Trade> getTrades() {
+        return new AbstractList<Trade>() {
+            @Override
+            public Trade get(int trade) {
+                if (trade < 0 || trade >= size()) {
+                    throw new IndexOutOfBoundsException("Trade: " + trade + ", trade count: " + size());
+                }
+                return new Trade(getOrder(2 * trade), getOrder(2 * trade + 1));
+            }
+
+            @Override
+            public int size() {
+                return getTradeCount();
+            }
+        };
+    }
+
+    @Override
+    public int getTradeCount() {
+        return orderCount / 2;
+    }
+
+    @Override
+    public Trade getLastTrade() {
+        int tradeCount = getTradeCount();
+        return tradeCount > 0 ? new Trade(getOrder(2 * tradeCount - 2), getOrder(2 * tradeCount - 1)) : null;
+    }
+
+    @Override
+    public Order getLastOrder() {
+        return orderCount > 0 ? getOrder(orderCount - 1) : null;
+    }
+
+    @Override
+    public Order getLastOrder(OrderType orderType) {
+        // Entries and exits alternate: the last order of a type is one of the last two orders
+        for (int order = orderCount - 1; order >= Math.max(0, orderCount - 2); order--) {
+            if (getOrderType(order) == orderType) {
+                return getOrder(order);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Order getLastEntry() {
+        if (orderCount == 0) {
+            return null;
+        }
+        int entry = (orderCount - 1) & ~1;
+        if (entry == orderCount - 1) {
+            // Entry of the current trade (kept until the next order)
+            if (currentEntry == null) {
+                currentEntry = getOrder(entry);
+            }
+            return currentEntry;
+        }
+        return getOrder(entry);
+    }
+
+    @Override
+    public Order getLastExit() {
+        int tradeCount = getTradeCount();
+        return tradeCount > 0 ? getOrder(2 * tradeCount - 1) : null;
+    }
+
+    /**
+     * @return the number of recorded orders
+     */
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return true if the order is an entry, false if it is an exit
+     */
+    public boolean isEntry(int order) {
+        checkOrder(order);
+        return order % 2 == 0;
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return the type of the order
+     */
+    public OrderType getOrderType(int order) {
+        return isEntry(order) ? startingType : startingType.complementType();
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return the index the order was executed
+     */
+    public int getOrderIndex(int order) {
+        checkOrder(order);
+        return indexes[order];
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return the price of the order
+     */
+    public Decimal getOrderPrice(int order) {
+        checkOrder(order);
+        return prices[order];
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return the amount of the order
+     */
+    public Decimal getOrderAmount(int order) {
+        checkOrder(order);
+        return amounts[order];
+    }
+
+    /**
+     * @param order the order number (between 0 and {@link #getOrderCount()} - 1)
+     * @return the order (built on each call)
+     */
+    public Order getOrder(int order) {
+        OrderType type = getOrderType(order);
+        return type == OrderType.BUY
+                ? Order.buyAt(indexes[order], prices[order], amounts[order])
+                : Order.sellAt(indexes[order], prices[order], amounts[order]);
+    }
+
+    /**
+     * @param order an order number
+     * @throws IndexOutOfBoundsException if the order has not been recorded
+     */
+    private void checkOrder(int order) {
+        if (order < 0 || order >= orderCount) {
+            throw new IndexOutOfBoundsException("Order: " + order + ", order count: " + orderCount);
+        }
+    }
+}
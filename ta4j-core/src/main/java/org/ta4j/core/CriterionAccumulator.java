@@ -0,0 +1,49 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.io.Serializable;
+
+/**
+ * An online accumulator of an {@link AnalysisCriterion analysis criterion}.
+ * <p>
+ * Updated each time an order is recorded (e.g. during a {@link TimeSeriesManager#run(Strategy, TradingRecord,
+ * CriterionAccumulator...) run}), so that the value of the criterion is available at any time without going through
+ * the series and the trades again (e.g. at the end of a backtest, or on each tick of a live session).<br>
+ * An accumulator follows a single trading record.
+ */
+public interface CriterionAccumulator extends Serializable {
+
+    /**
+     * Updates the accumulator with the order which has just been recorded.
+     * @param series the time series
+     * @param tradingRecord the trading record (the order is already recorded)
+     * @param order the recorded order
+     */
+    void onOrder(TimeSeries series, TradingRecord tradingRecord, Order order);
+
+    /**
+     * @return the value of the criterion for the orders recorded so far
+     */
+    double getValue();
+}
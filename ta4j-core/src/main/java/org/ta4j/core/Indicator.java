@@ -23,6 +23,8 @@
 package org.ta4j.core;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Indicator over a {@link TimeSeries time series}.
@@ -42,4 +44,15 @@ public interface Indicator<T> extends Serializable {
      * @return the related time series
      */
     TimeSeries getTimeSeries();
+
+    /**
+     * Returns the upstream indicators this indicator is computed from (e.g. the close price for a SMA).
+     * <p>
+     * None are declared by default: the indicator graph then finds them from the indicator fields. An indicator
+     * computed from the series only should override this method anyway (returning an empty list).
+     * @return the dependencies declared by the indicator (empty if none)
+     */
+    default List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -23,10 +23,14 @@
 package org.ta4j.core;
 
 import org.ta4j.core.trading.rules.AndRule;
+import org.ta4j.core.trading.rules.CachedRule;
 import org.ta4j.core.trading.rules.NotRule;
 import org.ta4j.core.trading.rules.OrRule;
 import org.ta4j.core.trading.rules.XorRule;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A rule for strategy building.
  * <p>
@@ -66,6 +70,23 @@ public interface Rule {
     default Rule negation() {
     	return new NotRule(this);
     }
+
+    /**
+     * @return a rule which caches the results of this rule for each tick index (if this rule does not
+     * {@link #isTradingRecordDependent() depend on the trading record})
+     */
+    default Rule cached() {
+        return new CachedRule(this);
+    }
+
+    /**
+     * @param series the time series the rule is evaluated over
+     * @return a rule which caches the results of this rule for each tick index still in the series (if this rule
+     * does not {@link #isTradingRecordDependent() depend on the trading record})
+     */
+    default Rule cached(TimeSeries series) {
+        return new CachedRule(this, series);
+    }
     
     /**
      * @param index the tick index
@@ -81,4 +102,25 @@ public interface Rule {
      * @return true if this rule is satisfied for the provided index, false otherwise
      */
     boolean isSatisfied(int index, TradingRecord tradingRecord);
+
+    /**
+     * Tells if this rule may depend on the trading record (or on its previous calls).
+     * <p>
+     * A rule which does not depend on it only depends on the tick index: it can be evaluated for any index,
+     * in any order (e.g. over a whole range of ticks at once).
+     * @return true if this rule may depend on the trading record, false otherwise
+     */
+    default boolean isTradingRecordDependent() {
+        return true;
+    }
+
+    /**
+     * Returns the indicators and the sub-rules this rule is evaluated from (e.g. the two rules of an AND rule).
+     * <p>
+     * None are declared by default: the indicator graph then finds them from the rule fields.
+     * @return the indicators and rules declared by the rule (empty if none)
+     */
+    default List<Object> getDependencies() {
+        return Collections.emptyList();
+    }
 }
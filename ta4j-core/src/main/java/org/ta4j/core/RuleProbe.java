@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+/**
+ * A probe on the evaluations of the {@link Rule rules} and of the {@link Strategy strategies}.
+ * <p>
+ * The probe in use is the one of {@link RuleProbes}. The default one ({@link #NO_OP}) does nothing: its empty methods
+ * are inlined by the JIT, so that the evaluations cost nothing more when nothing is probed (no boxing, no logging).
+ */
+public interface RuleProbe {
+
+    /** The probe doing nothing */
+    RuleProbe NO_OP = new RuleProbe() {
+        @Override
+        public void onRuleEvaluated(Rule rule, int index, boolean satisfied) {
+        }
+
+        @Override
+        public void onStrategyEvaluated(Strategy strategy, int index, boolean entry, boolean satisfied, long startTime) {
+        }
+    };
+
+    /**
+     * Called each time a rule has been evaluated.
+     * @param rule the rule
+     * @param index the tick index
+     * @param satisfied true if the rule is satisfied, false otherwise
+     */
+    void onRuleEvaluated(Rule rule, int index, boolean satisfied);
+
+    /**
+     * @return the start time (in nanoseconds) of a strategy evaluation, 0 if the evaluations are not timed
+     */
+    default long startTime() {
+        return 0L;
+    }
+
+    /**
+     * Called each time the entry or the exit rule of a strategy has been evaluated.
+     * @param strategy the strategy
+     * @param index the tick index
+     * @param entry true for the entry rule, false for the exit rule
+     * @param satisfied true if the strategy should enter/exit, false otherwise
+     * @param startTime the start time of the evaluation (as returned by {@link #startTime()})
+     */
+    void onStrategyEvaluated(Strategy strategy, int index, boolean entry, boolean satisfied, long startTime);
+}
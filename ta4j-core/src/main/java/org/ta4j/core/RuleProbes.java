@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Holder of the {@link RuleProbe rule probe} in use.
+ * <p>
+ * No probe by default (i.e. the {@link RuleProbe#NO_OP no-op probe}).<br>
+ * The probe is the constant target of a static final {@link MutableCallSite call site}: the JIT folds it into the
+ * evaluations of the rules (the calls to the no-op probe are eliminated), and deoptimizes them when the probe is
+ * changed.
+ */
+public final class RuleProbes {
+
+    /** The call site of the probe in use, of type ()RuleProbe */
+    private static final MutableCallSite PROBE_SITE = new MutableCallSite(constant(RuleProbe.NO_OP));
+
+    /** The invoker of the call site */
+    private static final MethodHandle PROBE = PROBE_SITE.dynamicInvoker();
+
+    private RuleProbes() {
+    }
+
+    /**
+     * @return the probe in use
+     */
+    public static RuleProbe getProbe() {
+        try {
+            return (RuleProbe) PROBE.invokeExact();
+        } catch (Throwable t) {
+            // Never occurs (constant method handle)
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * @param ruleProbe the probe to be used, null for no probe
+     */
+    public static synchronized void setProbe(RuleProbe ruleProbe) {
+        PROBE_SITE.setTarget(constant(ruleProbe == null ? RuleProbe.NO_OP : ruleProbe));
+        // Makes the new probe visible to the other threads
+        MutableCallSite.syncAll(new MutableCallSite[] { PROBE_SITE });
+    }
+
+    /**
+     * @param probe a probe
+     * @return a method handle returning the probe
+     */
+    private static MethodHandle constant(RuleProbe probe) {
+        return MethodHandles.constant(RuleProbe.class, probe);
+    }
+}
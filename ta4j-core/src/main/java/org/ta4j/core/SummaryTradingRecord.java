@@ -0,0 +1,254 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.analysis.accumulators.AverageProfitableTradesAccumulator;
+import org.ta4j.core.analysis.accumulators.MaximumDrawdownAccumulator;
+import org.ta4j.core.analysis.accumulators.NumberOfTicksAccumulator;
+import org.ta4j.core.analysis.accumulators.TotalProfitAccumulator;
+
+import java.util.List;
+
+/**
+ * Summary-only implementation of a {@link TradingRecord}.
+ * <p>
+ * Keeps the current trade, the last orders and {@link CriterionAccumulator online accumulators} instead of the order
+ * history: its memory footprint does not depend on the number of trades (e.g. for the runs of an optimizer).<br>
+ * Each recorded order updates the accumulators from the close prices of the series:
+ * <ul>
+ * <li>the number of trades, of profitable trades and of ticks in trades
+ * <li>the total profit (as the {@link org.ta4j.core.analysis.criteria.TotalProfitCriterion total profit criterion})
+ * <li>the {@link org.ta4j.core.analysis.CashFlow cash flow} value, its peak and the maximum drawdown (as the
+ * {@link org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion maximum drawdown criterion})
+ * </ul>
+ * The criteria {@link AnalysisCriterion#isSummarySupported() supporting it} are calculated from these accumulators
+ * (see {@link AnalysisCriterion#calculate(TimeSeries, SummaryTradingRecord)}). The trades themselves are not kept:
+ * {@link #getTrades()} is not supported, and neither are the criteria iterating over the trades (e.g. the linear
+ * transaction cost criterion). The record must be evaluated over the series it has been built with.
+ */
+public class SummaryTradingRecord implements TradingRecord {
+
+    private static final long serialVersionUID = -1640356929616426337L;
+
+    /** The time series (close prices) */
+    private final TimeSeries series;
+
+    /** The entry type (BUY or SELL) in the trading session */
+    private final OrderType startingType;
+
+    /** The current non-closed trade (there's always one) */
+    private Trade currentTrade;
+
+    /** The last closed trade */
+    private Trade lastTrade;
+
+    private Order lastOrder;
+
+    private Order lastBuyOrder;
+
+    private Order lastSellOrder;
+
+    private Order lastEntry;
+
+    private Order lastExit;
+
+    private int tradeCount;
+
+    private final AverageProfitableTradesAccumulator profitableTrades = new AverageProfitableTradesAccumulator();
+
+    private final NumberOfTicksAccumulator tradedTicks = new NumberOfTicksAccumulator();
+
+    private final TotalProfitAccumulator totalProfit = new TotalProfitAccumulator();
+
+    private final MaximumDrawdownAccumulator maximumDrawdown = new MaximumDrawdownAccumulator();
+
+    /**
+     * Constructor.
+     * @param series the time series the record is built with
+     */
+    public SummaryTradingRecord(TimeSeries series) {
+        this(series, OrderType.BUY);
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series the record is built with
+     * @param entryOrderType the {@link OrderType order type} of entries in the trading session
+     */
+    public SummaryTradingRecord(TimeSeries series, OrderType entryOrderType) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series must not be null");
+        }
+        if (entryOrderType == null) {
+            throw new IllegalArgumentException("Starting type must not be null");
+        }
+        this.series = series;
+        this.startingType = entryOrderType;
+        currentTrade = new Trade(entryOrderType);
+    }
+
+    @Override
+    public Trade getCurrentTrade() {
+        return currentTrade;
+    }
+
+    @Override
+    public void operate(int index, Decimal price, Decimal amount) {
+        if (currentTrade.isClosed()) {
+            // Current trade closed, should not occur
+            throw new IllegalStateException("Current trade should not be closed");
+        }
+        boolean isEntry = currentTrade.isNew();
+        Order order = currentTrade.operate(index, price, amount);
+        lastOrder = order;
+        if (order.isBuy()) {
+            lastBuyOrder = order;
+        } else {
+            lastSellOrder = order;
+        }
+        if (isEntry) {
+            lastEntry = order;
+        } else {
+            lastExit = order;
+            tradeCount++;
+            lastTrade = currentTrade;
+            currentTrade = new Trade(startingType);
+        }
+        profitableTrades.onOrder(series, this, order);
+        tradedTicks.onOrder(series, this, order);
+        totalProfit.onOrder(series, this, order);
+        maximumDrawdown.onOrder(series, this, order);
+    }
+
+    @Override
+    public boolean enter(int index, Decimal price, Decimal amount) {
+        if (currentTrade.isNew()) {
+            operate(index, price, amount);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean exit(int index, Decimal price, Decimal amount) {
+        if (currentTrade.isOpened()) {
+            operate(index, price, amount);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Not supported: the trades are not kept.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public List<Trade> getTrades() {
+        throw new UnsupportedOperationException("The trades are not kept by a summary trading record");
+    }
+
+    @Override
+    public int getTradeCount() {
+        return tradeCount;
+    }
+
+    @Override
+    public Trade getLastTrade() {
+        return lastTrade;
+    }
+
+    @Override
+    public Order getLastOrder() {
+        return lastOrder;
+    }
+
+    @Override
+    public Order getLastOrder(OrderType orderType) {
+        if (OrderType.BUY.equals(orderType)) {
+            return lastBuyOrder;
+        } else if (OrderType.SELL.equals(orderType)) {
+            return lastSellOrder;
+        }
+        return null;
+    }
+
+    @Override
+    public Order getLastEntry() {
+        return lastEntry;
+    }
+
+    @Override
+    public Order getLastExit() {
+        return lastExit;
+    }
+
+    /**
+     * @return the time series the record is built with
+     */
+    public TimeSeries getTimeSeries() {
+        return series;
+    }
+
+    /**
+     * @return the number of profitable trades
+     */
+    public int getProfitableTradeCount() {
+        return profitableTrades.getProfitableTradeCount();
+    }
+
+    /**
+     * @return the number of ticks in trades (entry and exit ticks included)
+     */
+    public int getTradedTickCount() {
+        return (int) tradedTicks.getValue();
+    }
+
+    /**
+     * @return the total profit (product of the profit ratios of the trades)
+     */
+    public double getTotalProfit() {
+        return totalProfit.getValue();
+    }
+
+    /**
+     * @return the cash flow value at the exit of the last trade
+     */
+    public Decimal getCashFlow() {
+        return maximumDrawdown.getCashFlow();
+    }
+
+    /**
+     * @return the highest cash flow value
+     */
+    public Decimal getPeakCashFlow() {
+        return maximumDrawdown.getPeakCashFlow();
+    }
+
+    /**
+     * @return the maximum drawdown of the cash flow
+     */
+    public Decimal getMaximumDrawdown() {
+        return maximumDrawdown.getMaximumDrawdown();
+    }
+}
@@ -141,16 +141,75 @@ public class TimeSeriesManager {
      * @return the trading record coming from the run
      */
     public TradingRecord run(Strategy strategy, OrderType orderType, Decimal amount, int startIndex, int finishIndex) {
+        return run(strategy, new BaseTradingRecord(orderType), amount, startIndex, finishIndex);
+    }
+
+    /**
+     * Runs the provided strategy over the managed series, recording the orders in the provided trading record.
+     * <p>
+     * The trades are opened with the entry order type of the trading record.
+     * @param strategy the trading strategy
+     * @param tradingRecord the trading record to be filled (e.g. a {@link SummaryTradingRecord summary trading record})
+     * @return the provided trading record
+     */
+    public TradingRecord run(Strategy strategy, TradingRecord tradingRecord) {
+        return run(strategy, tradingRecord, Decimal.NaN, timeSeries.getBeginIndex(), timeSeries.getEndIndex());
+    }
+
+    /**
+     * Runs the provided strategy over the managed series (from startIndex to finishIndex), recording the orders in the
+     * provided trading record.
+     * <p>
+     * The trades are opened with the entry order type of the trading record.
+     * @param strategy the trading strategy
+     * @param tradingRecord the trading record to be filled (e.g. a {@link SummaryTradingRecord summary trading record})
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the run (included)
+     * @param finishIndex the finish index for the run (included)
+     * @return the provided trading record
+     */
+    public TradingRecord run(Strategy strategy, TradingRecord tradingRecord, Decimal amount, int startIndex, int finishIndex) {
+        return run(strategy, tradingRecord, amount, startIndex, finishIndex, new CriterionAccumulator[0]);
+    }
+
+    /**
+     * Runs the provided strategy over the managed series, recording the orders in the provided trading record and
+     * updating the provided accumulators as the orders are recorded.
+     * <p>
+     * The trades are opened with the entry order type of the trading record.
+     * @param strategy the trading strategy
+     * @param tradingRecord the trading record to be filled
+     * @param accumulators the online criteria accumulators (e.g. total profit, maximum drawdown)
+     * @return the provided trading record
+     */
+    public TradingRecord run(Strategy strategy, TradingRecord tradingRecord, CriterionAccumulator... accumulators) {
+        return run(strategy, tradingRecord, Decimal.NaN, timeSeries.getBeginIndex(), timeSeries.getEndIndex(), accumulators);
+    }
+
+    /**
+     * Runs the provided strategy over the managed series (from startIndex to finishIndex), recording the orders in the
+     * provided trading record and updating the provided accumulators as the orders are recorded.
+     * <p>
+     * The trades are opened with the entry order type of the trading record.
+     * @param strategy the trading strategy
+     * @param tradingRecord the trading record to be filled
+     * @param amount the amount used to open/close the trades
+     * @param startIndex the start index for the run (included)
+     * @param finishIndex the finish index for the run (included)
+     * @param accumulators the online criteria accumulators (e.g. total profit, maximum drawdown)
+     * @return the provided trading record
+     */
+    public TradingRecord run(Strategy strategy, TradingRecord tradingRecord, Decimal amount, int startIndex, int finishIndex,
+            CriterionAccumulator... accumulators) {
 
         int runBeginIndex = Math.max(startIndex, timeSeries.getBeginIndex());
         int runEndIndex = Math.min(finishIndex, timeSeries.getEndIndex());
         
-        log.trace("Running strategy (indexes: {} -> {}): {} (starting with {})", runBeginIndex, runEndIndex, strategy, orderType);
-        TradingRecord tradingRecord = new BaseTradingRecord(orderType);
+        log.trace("Running strategy (indexes: {} -> {}): {}", runBeginIndex, runEndIndex, strategy);
         for (int i = runBeginIndex; i <= runEndIndex; i++) {
             // For each tick between both indexes...       
             if (strategy.shouldOperate(i, tradingRecord)) {
-                tradingRecord.operate(i, timeSeries.getTick(i).getClosePrice(), amount);
+                operate(tradingRecord, i, amount, accumulators);
             }
         }
 
@@ -162,7 +221,7 @@ public class TimeSeriesManager {
                 // For each tick after the end index of this run...
                 // --> Trying to close the last trade
                 if (strategy.shouldOperate(i, tradingRecord)) {
-                    tradingRecord.operate(i, timeSeries.getTick(i).getClosePrice(), amount);
+                    operate(tradingRecord, i, amount, accumulators);
                     break;
                 }
             }
@@ -170,4 +229,20 @@ public class TimeSeriesManager {
         return tradingRecord;
     }
 
+    /**
+     * Records an order at the close price of a tick, then updates the accumulators.
+     * @param tradingRecord the trading record
+     * @param index the tick index
+     * @param amount the amount of the order
+     * @param accumulators the online criteria accumulators
+     */
+    protected void operate(TradingRecord tradingRecord, int index, Decimal amount, CriterionAccumulator[] accumulators) {
+        tradingRecord.operate(index, timeSeries.getTick(index).getClosePrice(), amount);
+        if (accumulators.length > 0) {
+            Order order = tradingRecord.getLastOrder();
+            for (CriterionAccumulator accumulator : accumulators) {
+                accumulator.onOrder(timeSeries, tradingRecord, order);
+            }
+        }
+    }
 }
@@ -24,23 +24,42 @@ package org.ta4j.core.analysis;
 
 import org.ta4j.core.*;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * The cash flow.
  * <p>
- * This class allows to follow the money cash flow involved by a list of trades over a time series.
+ * This class allows to follow the money cash flow involved by a list of trades over a time series.<br>
+ * Only the trades are stored (entry/exit indexes and cash flow values): the construction costs O(trades) and the
+ * value of a tick is derived on demand from the trade it belongs to and the close prices of the series. Between two
+ * trades, the value stays the one of the last exit (the same instance is returned).
  */
 public class CashFlow implements Indicator<Decimal> {
 
     /** The time series */
     private final TimeSeries timeSeries;
 
-    /** The cash flow values */
-    private List<Decimal> values = new ArrayList<Decimal>(Arrays.asList(Decimal.ONE));
+    /** The entry indexes of the trades (in increasing order) */
+    private final int[] entryIndexes;
+
+    /** The exit indexes of the trades */
+    private final int[] exitIndexes;
+
+    /** True for the trades entered with a buy order, false otherwise */
+    private final boolean[] buys;
+
+    /** The close prices at the entries of the trades */
+    private final Decimal[] entryPrices;
+
+    /** The cash flow values at the entries of the trades */
+    private final Decimal[] entryValues;
+
+    /** The cash flow values at the exits of the trades */
+    private final Decimal[] exitValues;
+
+    /** The number of cash flow values */
+    private final int size;
 
     /**
      * Constructor.
@@ -48,9 +67,7 @@ public class CashFlow implements Indicator<Decimal> {
      * @param trade a single trade
      */
     public CashFlow(TimeSeries timeSeries, Trade trade) {
-        this.timeSeries = timeSeries;
-        calculate(trade);
-        fillToTheEnd();
+        this(timeSeries, Collections.singletonList(trade));
     }
 
     /**
@@ -59,9 +76,40 @@ public class CashFlow implements Indicator<Decimal> {
      * @param tradingRecord the trading record
      */
     public CashFlow(TimeSeries timeSeries, TradingRecord tradingRecord) {
+        this(timeSeries, tradingRecord.getTrades());
+    }
+
+    /**
+     * Constructor.
+     * @param timeSeries the time series
+     * @param trades the closed trades
+     */
+    private CashFlow(TimeSeries timeSeries, List<Trade> trades) {
         this.timeSeries = timeSeries;
-        calculate(tradingRecord);
-        fillToTheEnd();
+        final int tradeCount = trades.size();
+        entryIndexes = new int[tradeCount];
+        exitIndexes = new int[tradeCount];
+        buys = new boolean[tradeCount];
+        entryPrices = new Decimal[tradeCount];
+        entryValues = new Decimal[tradeCount];
+        exitValues = new Decimal[tradeCount];
+
+        Decimal value = Decimal.ONE;
+        int lastIndex = 0;
+        for (int t = 0; t < tradeCount; t++) {
+            Trade trade = trades.get(t);
+            entryIndexes[t] = trade.getEntry().getIndex();
+            exitIndexes[t] = trade.getExit().getIndex();
+            buys[t] = trade.getEntry().isBuy();
+            entryPrices[t] = timeSeries.getTick(entryIndexes[t]).getClosePrice();
+            entryValues[t] = value;
+            if (exitIndexes[t] > entryIndexes[t]) {
+                value = calculate(t, exitIndexes[t]);
+            }
+            exitValues[t] = value;
+            lastIndex = Math.max(lastIndex, exitIndexes[t]);
+        }
+        size = Math.max(lastIndex, timeSeries.getEndIndex()) + 1;
     }
 
     /**
@@ -70,7 +118,17 @@ public class CashFlow implements Indicator<Decimal> {
      */
     @Override
     public Decimal getValue(int index) {
-        return values.get(index);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int t = getLastTradeEnteredBefore(index);
+        if (t < 0) {
+            return Decimal.ONE;
+        }
+        if (index >= exitIndexes[t]) {
+            return exitValues[t];
+        }
+        return calculate(t, index);
     }
 
     @Override
@@ -86,46 +144,36 @@ public class CashFlow implements Indicator<Decimal> {
     }
 
     /**
-     * Calculates the cash flow for a single trade.
-     * @param trade a single trade
+     * @param index a tick index
+     * @return the number of the last trade entered strictly before the index, -1 if none
      */
-    private void calculate(Trade trade) {
-        final int entryIndex = trade.getEntry().getIndex();
-        int begin = entryIndex + 1;
-        if (begin > values.size()) {
-            Decimal lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(begin - values.size(), lastValue));
-        }
-        int end = trade.getExit().getIndex();
-        for (int i = Math.max(begin, 1); i <= end; i++) {
-            Decimal ratio;
-            if (trade.getEntry().isBuy()) {
-                ratio = timeSeries.getTick(i).getClosePrice().dividedBy(timeSeries.getTick(entryIndex).getClosePrice());
+    private int getLastTradeEnteredBefore(int index) {
+        int low = 0;
+        int high = entryIndexes.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (entryIndexes[middle] < index) {
+                low = middle + 1;
             } else {
-                ratio = timeSeries.getTick(entryIndex).getClosePrice().dividedBy(timeSeries.getTick(i).getClosePrice());
+                high = middle - 1;
             }
-            values.add(values.get(entryIndex).multipliedBy(ratio));
         }
+        return high;
     }
 
     /**
-     * Calculates the cash flow for a trading record.
-     * @param tradingRecord the trading record
+     * @param t the trade number
+     * @param index a tick index between the entry (excluded) and the exit (included) of the trade
+     * @return the cash flow value at the index-th position
      */
-    private void calculate(TradingRecord tradingRecord) {
-        for (Trade trade : tradingRecord.getTrades()) {
-            // For each trade...
-            calculate(trade);
-        }
+    private Decimal calculate(int t, int index) {
+        Decimal price = timeSeries.getTick(index).getClosePrice();
+        Decimal ratio = buys[t] ? price.dividedBy(entryPrices[t]) : entryPrices[t].dividedBy(price);
+        return entryValues[t].multipliedBy(ratio);
     }
 
-    /**
-     * Fills with last value till the end of the series.
-     */
-    private void fillToTheEnd() {
-        if (timeSeries.getEndIndex() >= values.size()) {
-            Decimal lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(timeSeries.getEndIndex() - values.size() + 1, lastValue));
-        }
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.ta4j.core.CriterionAccumulator;
+import org.ta4j.core.Order;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+
+/**
+ * Abstract criterion accumulator.
+ * <p>
+ * Splits the recorded orders into entries and exits (i.e. closed trades).
+ */
+public abstract class AbstractCriterionAccumulator implements CriterionAccumulator {
+
+    private static final TotalProfitCriterion TOTAL_PROFIT = new TotalProfitCriterion();
+
+    @Override
+    public void onOrder(TimeSeries series, TradingRecord tradingRecord, Order order) {
+        if (tradingRecord.getCurrentTrade().isOpened()) {
+            onEntry(series, order);
+        } else {
+            onExit(series, tradingRecord.getLastTrade());
+        }
+    }
+
+    /**
+     * Updates the accumulator with an entry order.
+     * @param series the time series
+     * @param entry the entry order of the current trade
+     */
+    protected void onEntry(TimeSeries series, Order entry) {
+    }
+
+    /**
+     * Updates the accumulator with a closed trade.
+     * @param series the time series
+     * @param trade the trade which has just been closed
+     */
+    protected abstract void onExit(TimeSeries series, Trade trade);
+
+    /**
+     * @param series the time series
+     * @param trade a closed trade
+     * @return the profit ratio of the trade (from the {@link TotalProfitCriterion total profit criterion})
+     */
+    protected static double getProfit(TimeSeries series, Trade trade) {
+        return TOTAL_PROFIT.calculate(series, trade);
+    }
+
+    @Override
+    public String toString() {
+        String[] tokens = getClass().getSimpleName().split("(?=\\p{Lu})", -1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens.length - 1; i++) {
+            sb.append(tokens[i]).append(' ');
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+import org.ta4j.core.analysis.criteria.AverageProfitableTradesCriterion;
+
+/**
+ * Average profitable trades accumulator.
+ * <p>
+ * Online version of the {@link AverageProfitableTradesCriterion average profitable trades criterion}.
+ */
+public class AverageProfitableTradesAccumulator extends AbstractCriterionAccumulator {
+
+    private static final AverageProfitableTradesCriterion PROFITABLE = new AverageProfitableTradesCriterion();
+
+    private int tradeCount;
+
+    private int profitableTradeCount;
+
+    @Override
+    protected void onExit(TimeSeries series, Trade trade) {
+        tradeCount++;
+        profitableTradeCount += (int) PROFITABLE.calculate(series, trade);
+    }
+
+    /**
+     * @return the number of profitable trades
+     */
+    public int getProfitableTradeCount() {
+        return profitableTradeCount;
+    }
+
+    @Override
+    public double getValue() {
+        return ((double) profitableTradeCount) / tradeCount;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.ta4j.core.Order;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+
+/**
+ * Linear transaction cost accumulator.
+ * <p>
+ * Online version of the {@link org.ta4j.core.analysis.criteria.LinearTransactionCostCriterion linear transaction cost
+ * criterion} (a * x + b per order). The entry cost of the current trade is included as soon as the trade is opened.<br>
+ * The costs may also be added trade by trade from the profit ratios of the trades (see {@link #enter()} and
+ * {@link #exit(double)}): the criterion itself is calculated this way.
+ */
+public class LinearTransactionCostAccumulator extends AbstractCriterionAccumulator {
+
+    private final double a;
+
+    private final double b;
+
+    /** The amount traded by the next trade */
+    private double tradedAmount;
+
+    /** The costs of the closed trades */
+    private double closedTradesCost;
+
+    /** The entry cost of the current trade, 0 if the current trade is not opened */
+    private double entryCost;
+
+    /**
+     * Constructor.
+     * (a * x)
+     * @param initialAmount the initially traded amount
+     * @param a the a coefficient (e.g. 0.005 for 0.5% per {@link Order order})
+     */
+    public LinearTransactionCostAccumulator(double initialAmount, double a) {
+        this(initialAmount, a, 0);
+    }
+
+    /**
+     * Constructor.
+     * (a * x + b)
+     * @param initialAmount the initially traded amount
+     * @param a the a coefficient (e.g. 0.005 for 0.5% per {@link Order order})
+     * @param b the b constant (e.g. 0.2 for $0.2 per {@link Order order})
+     */
+    public LinearTransactionCostAccumulator(double initialAmount, double a, double b) {
+        this.tradedAmount = initialAmount;
+        this.a = a;
+        this.b = b;
+    }
+
+    @Override
+    protected void onEntry(TimeSeries series, Order entry) {
+        enter();
+    }
+
+    @Override
+    protected void onExit(TimeSeries series, Trade trade) {
+        exit(getProfit(series, trade));
+    }
+
+    /**
+     * Adds the cost of the entry of a trade.
+     */
+    public void enter() {
+        entryCost = getOrderCost(tradedAmount);
+    }
+
+    /**
+     * Adds the cost of the exit of the current trade.
+     * @param profit the profit ratio of the trade (as computed by the
+     *            {@link org.ta4j.core.analysis.criteria.TotalProfitCriterion total profit criterion})
+     */
+    public void exit(double profit) {
+        // The exit order trades the amount left after the entry cost, multiplied by the profit ratio
+        double tradeCost = entryCost + getOrderCost((tradedAmount - entryCost) * profit);
+        closedTradesCost += tradeCost;
+        tradedAmount = (tradedAmount - tradeCost) * profit;
+        entryCost = 0;
+    }
+
+    /**
+     * @param tradedAmount the traded amount for an order
+     * @return the absolute order cost
+     */
+    private double getOrderCost(double tradedAmount) {
+        return a * tradedAmount + b;
+    }
+
+    @Override
+    public double getValue() {
+        return closedTradesCost + entryCost;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+
+/**
+ * Maximum drawdown accumulator.
+ * <p>
+ * Online version of the {@link org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion maximum drawdown criterion}:
+ * the {@link org.ta4j.core.analysis.CashFlow cash flow} is followed over the ticks of each closed trade.
+ */
+public class MaximumDrawdownAccumulator extends AbstractCriterionAccumulator {
+
+    /** The last cash flow value */
+    private Decimal cashFlow = Decimal.ONE;
+
+    /** The highest cash flow value */
+    private Decimal peakCashFlow = Decimal.ONE;
+
+    private Decimal maximumDrawdown = Decimal.ZERO;
+
+    @Override
+    protected void onExit(TimeSeries series, Trade trade) {
+        final int entryIndex = trade.getEntry().getIndex();
+        final boolean isBuy = trade.getEntry().isBuy();
+        final Decimal entryPrice = series.getTick(entryIndex).getClosePrice();
+        final Decimal entryCashFlow = cashFlow;
+        for (int i = Math.max(entryIndex + 1, 1); i <= trade.getExit().getIndex(); i++) {
+            Decimal price = series.getTick(i).getClosePrice();
+            Decimal ratio = isBuy ? price.dividedBy(entryPrice) : entryPrice.dividedBy(price);
+            cashFlow = entryCashFlow.multipliedBy(ratio);
+            if (cashFlow.isGreaterThan(peakCashFlow)) {
+                peakCashFlow = cashFlow;
+            }
+            Decimal drawdown = peakCashFlow.minus(cashFlow).dividedBy(peakCashFlow);
+            if (drawdown.isGreaterThan(maximumDrawdown)) {
+                maximumDrawdown = drawdown;
+            }
+        }
+    }
+
+    /**
+     * @return the cash flow value at the exit of the last trade
+     */
+    public Decimal getCashFlow() {
+        return cashFlow;
+    }
+
+    /**
+     * @return the highest cash flow value
+     */
+    public Decimal getPeakCashFlow() {
+        return peakCashFlow;
+    }
+
+    /**
+     * @return the maximum drawdown of the cash flow
+     */
+    public Decimal getMaximumDrawdown() {
+        return maximumDrawdown;
+    }
+
+    @Override
+    public double getValue() {
+        return maximumDrawdown.toDouble();
+    }
+}
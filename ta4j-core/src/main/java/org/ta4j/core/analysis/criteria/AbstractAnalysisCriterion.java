@@ -23,12 +23,63 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.SummaryTradingRecord;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TradingRecord;
 
 /**
  * An abstract analysis criterion.
+ * <p>
+ * A {@link SummaryTradingRecord summary trading record} passed as any other trading record (e.g. the one returned
+ * by a {@link org.ta4j.core.TimeSeriesManager time series manager}) is calculated from its accumulators if the
+ * criterion {@link #isSummarySupported() supports it}, otherwise it is rejected. The other trading records are
+ * calculated from their trades by {@link #calculateTrades(TimeSeries, TradingRecord)}.
  */
 public abstract class AbstractAnalysisCriterion implements AnalysisCriterion {
 
+    /**
+     * @param series a time series
+     * @param tradingRecord a trading record
+     * @return the criterion value for the trades
+     * @throws IllegalArgumentException if the record is a summary trading record the criterion does not support
+     *         (see {@link #calculate(TimeSeries, SummaryTradingRecord)})
+     */
+    @Override
+    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+        if (tradingRecord instanceof SummaryTradingRecord) {
+            return calculate(series, (SummaryTradingRecord) tradingRecord);
+        }
+        return calculateTrades(series, tradingRecord);
+    }
+
+    /**
+     * Calculates the criterion value from the accumulators of a summary trading record.
+     * <p>
+     * By default, goes through {@link #calculateTrades(TimeSeries, TradingRecord)} (i.e. for the criteria which
+     * don't need the trades of the record).
+     * @param series the time series the summary trading record is built with
+     * @param summary a summary trading record
+     * @return the criterion value for the trades of the record
+     * @throws IllegalArgumentException if the criterion does not support summary trading records
+     */
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        if (!isSummarySupported()) {
+            throw new IllegalArgumentException(this + " cannot be calculated from a summary trading record");
+        }
+        return calculateTrades(series, summary);
+    }
+
+    /**
+     * Calculates the criterion value from the trades of a trading record.
+     * @param series a time series
+     * @param tradingRecord a trading record (not a summary one, unless the criterion does not use its trades)
+     * @return the criterion value for the trades
+     */
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
+        throw new UnsupportedOperationException(this + " cannot be calculated from a trading record");
+    }
+
     @Override
     public String toString() {
         String[] tokens = getClass().getSimpleName().split("(?=\\p{Lu})", -1);
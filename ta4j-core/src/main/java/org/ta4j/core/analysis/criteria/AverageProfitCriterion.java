@@ -23,6 +23,7 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -39,7 +40,7 @@ public class AverageProfitCriterion extends AbstractAnalysisCriterion {
     private AnalysisCriterion numberOfTicks = new NumberOfTicksCriterion();
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         double ticks = numberOfTicks.calculate(series, tradingRecord);
         if (ticks == 0) {
             return 1;
@@ -47,6 +48,20 @@ public class AverageProfitCriterion extends AbstractAnalysisCriterion {
         return Math.pow(totalProfit.calculate(series, tradingRecord), 1d / ticks);
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        double ticks = numberOfTicks.calculate(series, summary);
+        if (ticks == 0) {
+            return 1;
+        }
+        return Math.pow(totalProfit.calculate(series, summary), 1d / ticks);
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public double calculate(TimeSeries series, Trade trade) {
         double ticks = numberOfTicks.calculate(series, trade);
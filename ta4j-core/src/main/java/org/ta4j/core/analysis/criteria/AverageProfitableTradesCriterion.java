@@ -23,6 +23,7 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -52,7 +53,7 @@ public class AverageProfitableTradesCriterion extends AbstractAnalysisCriterion
     }
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         int numberOfProfitable = 0;
         for (Trade trade : tradingRecord.getTrades()) {
             int entryIndex = trade.getEntry().getIndex();
@@ -73,6 +74,16 @@ public class AverageProfitableTradesCriterion extends AbstractAnalysisCriterion
         return ((double) numberOfProfitable) / tradingRecord.getTradeCount();
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return ((double) summary.getProfitableTradeCount()) / summary.getTradeCount();
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
         return criterionValue1 > criterionValue2;
@@ -34,7 +34,7 @@ import org.ta4j.core.TradingRecord;
 public class BuyAndHoldCriterion extends AbstractAnalysisCriterion {
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         return series.getTick(series.getEndIndex()).getClosePrice().dividedBy(series.getTick(series.getBeginIndex()).getClosePrice()).toDouble();
     }
 
@@ -50,6 +50,11 @@ public class BuyAndHoldCriterion extends AbstractAnalysisCriterion {
         }
     }
 
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
         return criterionValue1 > criterionValue2;
@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.criteria;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.CriterionAccumulator;
+import org.ta4j.core.Order;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.SummaryTradingRecord;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-pass evaluator of several {@link AnalysisCriterion analysis criteria}.
+ * <p>
+ * Instead of letting each criterion go through the trades (and build its own {@link org.ta4j.core.analysis.CashFlow
+ * cash flow}), the trades of the record are replayed once into a {@link SummaryTradingRecord summary trading record}:
+ * its accumulators (trade counts, ticks in trades, total profit, cash flow and maximum drawdown) are shared by all the
+ * criteria {@link AnalysisCriterion#isSummarySupported() supporting it}. The other criteria having an
+ * {@link AnalysisCriterion#createAccumulator() accumulator} (e.g. the {@link LinearTransactionCostCriterion linear
+ * transaction cost criterion}) are updated in the same pass.<br>
+ * Scoring many criteria then costs about the same as scoring one (e.g. for the candidates of an optimizer). The other
+ * criteria are calculated over the original trading record, as usual.
+ */
+public class CriteriaEvaluator {
+
+    /** The evaluated criteria */
+    private final List<AnalysisCriterion> criteria;
+
+    /**
+     * Constructor.
+     * @param criteria the criteria to be evaluated
+     */
+    public CriteriaEvaluator(AnalysisCriterion... criteria) {
+        this(Arrays.asList(criteria));
+    }
+
+    /**
+     * Constructor.
+     * @param criteria the criteria to be evaluated
+     */
+    public CriteriaEvaluator(List<AnalysisCriterion> criteria) {
+        if (criteria == null || criteria.isEmpty()) {
+            throw new IllegalArgumentException("Criteria must not be empty");
+        }
+        for (AnalysisCriterion criterion : criteria) {
+            if (criterion == null) {
+                throw new IllegalArgumentException("Criteria must not be null");
+            }
+        }
+        this.criteria = Collections.unmodifiableList(new ArrayList<>(criteria));
+    }
+
+    /**
+     * @return the evaluated criteria
+     */
+    public List<AnalysisCriterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * @param series the time series
+     * @param tradingRecord the trading record
+     * @return the values of the criteria for the trading record (in the order of the criteria)
+     */
+    public double[] calculate(TimeSeries series, TradingRecord tradingRecord) {
+        SummaryTradingRecord summary;
+        CriterionAccumulator[] accumulators = new CriterionAccumulator[criteria.size()];
+        if (tradingRecord instanceof SummaryTradingRecord) {
+            summary = (SummaryTradingRecord) tradingRecord;
+            if (summary.getTimeSeries() != series) {
+                throw new IllegalArgumentException("A summary trading record must be evaluated over the series it is built with");
+            }
+        } else {
+            for (int i = 0; i < accumulators.length; i++) {
+                AnalysisCriterion criterion = criteria.get(i);
+                if (!criterion.isSummarySupported()) {
+                    accumulators[i] = criterion.createAccumulator();
+                }
+            }
+            summary = replay(series, tradingRecord, accumulators);
+        }
+
+        double[] values = new double[criteria.size()];
+        for (int i = 0; i < values.length; i++) {
+            AnalysisCriterion criterion = criteria.get(i);
+            if (summary != null && criterion.isSummarySupported()) {
+                values[i] = criterion.calculate(series, summary);
+            } else if (summary != null && accumulators[i] != null) {
+                values[i] = accumulators[i].getValue();
+            } else {
+                values[i] = criterion.calculate(series, tradingRecord);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Replays the orders of a trading record into a summary trading record and accumulators.
+     * @param series the time series
+     * @param tradingRecord the trading record
+     * @param accumulators the accumulators to be updated (null elements are skipped)
+     * @return the summary trading record, null if the trades do not share the same entry type
+     */
+    private static SummaryTradingRecord replay(TimeSeries series, TradingRecord tradingRecord,
+            CriterionAccumulator[] accumulators) {
+        List<Trade> trades = tradingRecord.getTrades();
+        Trade currentTrade = tradingRecord.getCurrentTrade();
+        OrderType startingType = OrderType.BUY;
+        if (!trades.isEmpty()) {
+            startingType = trades.get(0).getEntry().getType();
+        } else if (currentTrade.isOpened()) {
+            startingType = currentTrade.getEntry().getType();
+        }
+
+        SummaryTradingRecord summary = new SummaryTradingRecord(series, startingType);
+        for (Trade trade : trades) {
+            if (trade.getEntry().getType() != startingType) {
+                return null;
+            }
+            replay(series, summary, trade.getEntry(), accumulators);
+            replay(series, summary, trade.getExit(), accumulators);
+        }
+        if (currentTrade.isOpened()) {
+            if (currentTrade.getEntry().getType() != startingType) {
+                return null;
+            }
+            replay(series, summary, currentTrade.getEntry(), accumulators);
+        }
+        return summary;
+    }
+
+    /**
+     * @param series the time series
+     * @param summary the summary trading record
+     * @param order the order to be replayed
+     * @param accumulators the accumulators to be updated (null elements are skipped)
+     */
+    private static void replay(TimeSeries series, SummaryTradingRecord summary, Order order,
+            CriterionAccumulator[] accumulators) {
+        summary.operate(order.getIndex(), order.getPrice(), order.getAmount());
+        for (CriterionAccumulator accumulator : accumulators) {
+            if (accumulator != null) {
+                accumulator.onOrder(series, summary, order);
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.ta4j.core.Order;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.accumulators.LinearTransactionCostAccumulator;
 
 /**
  * A linear transaction cost criterion.
@@ -68,70 +69,43 @@ public class LinearTransactionCostCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(TimeSeries series, Trade trade) {
-        return getTradeCost(series, trade, initialAmount);
+        LinearTransactionCostAccumulator costs = createAccumulator();
+        addTradeCost(costs, series, trade);
+        return costs.getValue();
     }
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
-        double totalCosts = 0d;
-        double tradedAmount = initialAmount;
-        
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
+        LinearTransactionCostAccumulator costs = createAccumulator();
         for (Trade trade : tradingRecord.getTrades()) {
-            double tradeCost = getTradeCost(series, trade, tradedAmount);
-            totalCosts += tradeCost;
-            // To calculate the new traded amount:
-            //    - Remove the cost of the first order
-            //    - Multiply by the profit ratio
-            tradedAmount = (tradedAmount - tradeCost) * profit.calculate(series, trade);
+            addTradeCost(costs, series, trade);
         }
-        
         // Special case: if the current trade is open
-        Trade currentTrade = tradingRecord.getCurrentTrade();
-        if (currentTrade.isOpened()) {
-            totalCosts += getOrderCost(currentTrade.getEntry(), tradedAmount);
-        }
-        
-        return totalCosts;
+        addTradeCost(costs, series, tradingRecord.getCurrentTrade());
+        return costs.getValue();
     }
 
     @Override
-    public boolean betterThan(double criterionValue1, double criterionValue2) {
-        return criterionValue1 < criterionValue2;
+    public LinearTransactionCostAccumulator createAccumulator() {
+        return new LinearTransactionCostAccumulator(initialAmount, a, b);
     }
 
-    /**
-     * @param order a trade order
-     * @param tradedAmount the traded amount for the order
-     * @return the absolute order cost
-     */
-    private double getOrderCost(Order order, double tradedAmount) {
-        double orderCost = 0d;
-        if (order != null) {
-            return a * tradedAmount + b;
-        }
-        return orderCost;
+    @Override
+    public boolean betterThan(double criterionValue1, double criterionValue2) {
+        return criterionValue1 < criterionValue2;
     }
 
     /**
+     * @param costs the accumulated costs
      * @param series the time series
      * @param trade a trade
-     * @param initialAmount the initially traded amount for the trade
-     * @return the absolute total cost of all orders in the trade
      */
-    private double getTradeCost(TimeSeries series, Trade trade, double initialAmount) {
-        double totalTradeCost = 0d;
-        if (trade != null) {
-            if (trade.getEntry() != null) {
-                totalTradeCost = getOrderCost(trade.getEntry(), initialAmount);
-                if (trade.getExit() != null) {
-                    // To calculate the new traded amount:
-                    //    - Remove the cost of the first order
-                    //    - Multiply by the profit ratio
-                    double newTradedAmount = (initialAmount - totalTradeCost) * profit.calculate(series, trade);
-                    totalTradeCost += getOrderCost(trade.getExit(), newTradedAmount);
-                }
+    private void addTradeCost(LinearTransactionCostAccumulator costs, TimeSeries series, Trade trade) {
+        if (trade != null && trade.getEntry() != null) {
+            costs.enter();
+            if (trade.getExit() != null) {
+                costs.exit(profit.calculate(series, trade));
             }
         }
-        return totalTradeCost;
     }
 }
@@ -23,6 +23,7 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -36,12 +37,22 @@ import org.ta4j.core.analysis.CashFlow;
 public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         CashFlow cashFlow = new CashFlow(series, tradingRecord);
         Decimal maximumDrawdown = calculateMaximumDrawdown(series, cashFlow);
         return maximumDrawdown.toDouble();
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return summary.getMaximumDrawdown().toDouble();
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public double calculate(TimeSeries series, Trade trade) {
         if (trade != null && trade.getEntry() != null && trade.getExit() != null) {
@@ -68,8 +79,14 @@ public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
         Decimal maxPeak = Decimal.ZERO;
         if (!series.isEmpty()) {
         	// The series is not empty
+	        Decimal previousValue = null;
 	        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
 	            Decimal value = cashFlow.getValue(i);
+	            if (value == previousValue) {
+	                // Flat cash flow (between two trades): same drawdown
+	                continue;
+	            }
+	            previousValue = value;
 	            if (value.isGreaterThan(maxPeak)) {
 	                maxPeak = value;
 	            }
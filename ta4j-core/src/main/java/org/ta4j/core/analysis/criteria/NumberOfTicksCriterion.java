@@ -22,6 +22,7 @@
  */
 package org.ta4j.core.analysis.criteria;
 
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -34,7 +35,7 @@ import org.ta4j.core.TradingRecord;
 public class NumberOfTicksCriterion extends AbstractAnalysisCriterion {
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         int nTicks = 0;
         for (Trade trade : tradingRecord.getTrades()) {
             nTicks += calculate(series, trade);
@@ -42,6 +43,16 @@ public class NumberOfTicksCriterion extends AbstractAnalysisCriterion {
         return nTicks;
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return summary.getTradedTickCount();
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public double calculate(TimeSeries series, Trade trade) {
         return (1 + trade.getExit().getIndex()) - trade.getEntry().getIndex();
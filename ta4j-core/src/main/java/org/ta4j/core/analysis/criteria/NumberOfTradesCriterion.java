@@ -32,7 +32,7 @@ import org.ta4j.core.TradingRecord;
 public class NumberOfTradesCriterion extends AbstractAnalysisCriterion {
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         return tradingRecord.getTradeCount();
     }
 
@@ -41,6 +41,11 @@ public class NumberOfTradesCriterion extends AbstractAnalysisCriterion {
         return 1d;
     }
 
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
         return criterionValue1 < criterionValue2;
@@ -23,6 +23,7 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -39,10 +40,20 @@ public class RewardRiskRatioCriterion extends AbstractAnalysisCriterion {
     private AnalysisCriterion maxDrawdown = new MaximumDrawdownCriterion();
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         return totalProfit.calculate(series, tradingRecord) / maxDrawdown.calculate(series, tradingRecord);
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return totalProfit.calculate(series, summary) / maxDrawdown.calculate(series, summary);
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
         return criterionValue1 > criterionValue2;
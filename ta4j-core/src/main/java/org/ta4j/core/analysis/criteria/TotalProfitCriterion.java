@@ -23,6 +23,7 @@
 package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.SummaryTradingRecord;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
@@ -35,7 +36,7 @@ import org.ta4j.core.TradingRecord;
 public class TotalProfitCriterion extends AbstractAnalysisCriterion {
 
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
         double value = 1d;
         for (Trade trade : tradingRecord.getTrades()) {
             value *= calculateProfit(series, trade);
@@ -43,6 +44,16 @@ public class TotalProfitCriterion extends AbstractAnalysisCriterion {
         return value;
     }
 
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return summary.getTotalProfit();
+    }
+
+    @Override
+    public boolean isSummarySupported() {
+        return true;
+    }
+
     @Override
     public double calculate(TimeSeries series, Trade trade) {
         return calculateProfit(series, trade);
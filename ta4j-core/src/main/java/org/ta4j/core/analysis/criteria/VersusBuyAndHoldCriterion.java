@@ -24,15 +24,57 @@ package org.ta4j.core.analysis.criteria;
 
 import org.ta4j.core.*;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Versus "buy and hold" criterion.
  * <p>
  * Compares the value of a provided {@link AnalysisCriterion criterion} with the value of a {@link BuyAndHoldCriterion "buy and hold" criterion}.
+ * <p>
+ * The "buy and hold" value of the provided criterion is computed once per time series and kept until the series
+ * changes (i.e. until its begin or end tick is not the same anymore, e.g. when a new tick is added, or until the
+ * close price of its end tick changes, e.g. when a trade is added to the last tick of a live series).
  */
 public class VersusBuyAndHoldCriterion extends AbstractAnalysisCriterion {
 
+    /**
+     * Cached "buy and hold" value of the criterion for a series.
+     */
+    private static final class Baseline {
+
+        private final Tick beginTick;
+
+        private final Tick endTick;
+
+        /** The close price of the end tick (which may be updated in place) */
+        private final Decimal endClosePrice;
+
+        private final double value;
+
+        Baseline(Tick beginTick, Tick endTick, Decimal endClosePrice, double value) {
+            this.beginTick = beginTick;
+            this.endTick = endTick;
+            this.endClosePrice = endClosePrice;
+            this.value = value;
+        }
+
+        /**
+         * @param beginTick the begin tick of the series
+         * @param endTick the end tick of the series
+         * @param endClosePrice the close price of the end tick
+         * @return true if the baseline has been computed over these ticks, false otherwise
+         */
+        boolean isComputedOver(Tick beginTick, Tick endTick, Decimal endClosePrice) {
+            return this.beginTick == beginTick && this.endTick == endTick && this.endClosePrice.equals(endClosePrice);
+        }
+    }
+
     private AnalysisCriterion criterion;
 
+    /** The cached "buy and hold" values, per time series */
+    private final Map<TimeSeries, Baseline> baselines = new WeakHashMap<>();
+
     /**
      * Constructor.
      * @param criterion an analysis criterion to be compared
@@ -41,22 +83,31 @@ public class VersusBuyAndHoldCriterion extends AbstractAnalysisCriterion {
         this.criterion = criterion;
     }
 
+    /**
+     * @return the compared analysis criterion
+     */
+    public AnalysisCriterion getCriterion() {
+        return criterion;
+    }
+
     @Override
-    public double calculate(TimeSeries series, TradingRecord tradingRecord) {
-        TradingRecord fakeRecord = new BaseTradingRecord();
-        fakeRecord.enter(series.getBeginIndex());
-        fakeRecord.exit(series.getEndIndex());
+    protected double calculateTrades(TimeSeries series, TradingRecord tradingRecord) {
+        return criterion.calculate(series, tradingRecord) / getBaseline(series);
+    }
 
-        return criterion.calculate(series, tradingRecord) / criterion.calculate(series, fakeRecord);
+    @Override
+    public double calculate(TimeSeries series, SummaryTradingRecord summary) {
+        return criterion.calculate(series, summary) / getBaseline(series);
     }
 
     @Override
-    public double calculate(TimeSeries series, Trade trade) {
-        TradingRecord fakeRecord = new BaseTradingRecord();
-        fakeRecord.enter(series.getBeginIndex());
-        fakeRecord.exit(series.getEndIndex());
+    public boolean isSummarySupported() {
+        return criterion.isSummarySupported();
+    }
 
-        return criterion.calculate(series, trade) / criterion.calculate(series, fakeRecord);
+    @Override
+    public double calculate(TimeSeries series, Trade trade) {
+        return criterion.calculate(series, trade) / getBaseline(series);
     }
 
     @Override
@@ -64,6 +115,41 @@ public class VersusBuyAndHoldCriterion extends AbstractAnalysisCriterion {
         return criterionValue1 > criterionValue2;
     }
 
+    /**
+     * @param series the time series
+     * @return the value of the criterion for a "buy and hold" trade over the whole series
+     */
+    private double getBaseline(TimeSeries series) {
+        if (series.isEmpty()) {
+            return calculateBaseline(series);
+        }
+        Tick beginTick = series.getTick(series.getBeginIndex());
+        Tick endTick = series.getTick(series.getEndIndex());
+        Decimal endClosePrice = endTick.getClosePrice();
+        synchronized (baselines) {
+            Baseline baseline = baselines.get(series);
+            if (baseline != null && baseline.isComputedOver(beginTick, endTick, endClosePrice)) {
+                return baseline.value;
+            }
+        }
+        double value = calculateBaseline(series);
+        synchronized (baselines) {
+            baselines.put(series, new Baseline(beginTick, endTick, endClosePrice, value));
+        }
+        return value;
+    }
+
+    /**
+     * @param series the time series
+     * @return the value of the criterion for a "buy and hold" trade over the whole series (not cached)
+     */
+    private double calculateBaseline(TimeSeries series) {
+        TradingRecord fakeRecord = new BaseTradingRecord();
+        fakeRecord.enter(series.getBeginIndex());
+        fakeRecord.exit(series.getEndIndex());
+        return criterion.calculate(series, fakeRecord);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder(super.toString());
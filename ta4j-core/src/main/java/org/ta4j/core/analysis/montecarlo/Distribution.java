@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.montecarlo;
+
+import java.util.Arrays;
+
+/**
+ * An empirical distribution (e.g. of the values of a criterion over Monte Carlo samples).
+ */
+public class Distribution {
+
+    /** The sorted values */
+    private final double[] values;
+
+    private final double mean;
+
+    private final double standardDeviation;
+
+    /**
+     * Constructor.
+     * @param values the values (sorted in place)
+     */
+    public Distribution(double[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("A distribution needs at least one value");
+        }
+        Arrays.sort(values);
+        this.values = values;
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        standardDeviation = Math.sqrt(squares / values.length);
+    }
+
+    /**
+     * @return the number of values
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return the mean of the values
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the (population) standard deviation of the values
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * @return the lowest value
+     */
+    public double getMin() {
+        return values[0];
+    }
+
+    /**
+     * @return the highest value
+     */
+    public double getMax() {
+        return values[values.length - 1];
+    }
+
+    /**
+     * @param percentage the percentage (between 0 and 100)
+     * @return the percentile of the values (linear interpolation between the closest ranks)
+     */
+    public double getPercentile(double percentage) {
+        if (percentage < 0 || percentage > 100) {
+            throw new IllegalArgumentException("Percentage must be between 0 and 100");
+        }
+        double rank = percentage / 100 * (values.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return values[lower] + (rank - lower) * (values[upper] - values[lower]);
+    }
+
+    /**
+     * @return the median of the values
+     */
+    public double getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * @return a copy of the sorted values
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Distribution{mean=%.4f, sd=%.4f, min=%.4f, p5=%.4f, median=%.4f, p95=%.4f, max=%.4f}",
+                mean, standardDeviation, getMin(), getPercentile(5), getMedian(), getPercentile(95), getMax());
+    }
+}
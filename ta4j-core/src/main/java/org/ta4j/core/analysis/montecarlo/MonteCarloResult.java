@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.montecarlo;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a {@link MonteCarloSimulation Monte Carlo simulation}.
+ */
+public class MonteCarloResult {
+
+    private final Distribution totalProfit;
+
+    private final Distribution maximumDrawdown;
+
+    private final List<Distribution> criterionDistributions;
+
+    /**
+     * Constructor.
+     * @param totalProfit the distribution of the total profit
+     * @param maximumDrawdown the distribution of the maximum drawdown
+     */
+    public MonteCarloResult(Distribution totalProfit, Distribution maximumDrawdown) {
+        this(totalProfit, maximumDrawdown, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param totalProfit the distribution of the total profit
+     * @param maximumDrawdown the distribution of the maximum drawdown
+     * @param criterionDistributions the distributions of the other criteria
+     */
+    public MonteCarloResult(Distribution totalProfit, Distribution maximumDrawdown,
+            List<Distribution> criterionDistributions) {
+        this.totalProfit = totalProfit;
+        this.maximumDrawdown = maximumDrawdown;
+        this.criterionDistributions = Collections.unmodifiableList(criterionDistributions);
+    }
+
+    /**
+     * @return the distribution of the total profit (see {@link org.ta4j.core.analysis.criteria.TotalProfitCriterion})
+     */
+    public Distribution getTotalProfit() {
+        return totalProfit;
+    }
+
+    /**
+     * @return the distribution of the maximum drawdown (see {@link org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion})
+     */
+    public Distribution getMaximumDrawdown() {
+        return maximumDrawdown;
+    }
+
+    /**
+     * @return the distributions of the other criteria, in the order of their accumulators (see
+     *         {@link MonteCarloSimulation#MonteCarloSimulation(org.ta4j.core.TimeSeries, org.ta4j.core.TradingRecord,
+     *         java.util.concurrent.ExecutorService, List)})
+     */
+    public List<Distribution> getCriterionDistributions() {
+        return criterionDistributions;
+    }
+
+    @Override
+    public String toString() {
+        return "MonteCarloResult{totalProfit=" + totalProfit + ", maximumDrawdown=" + maximumDrawdown
+                + ", criteria=" + criterionDistributions + "}";
+    }
+}
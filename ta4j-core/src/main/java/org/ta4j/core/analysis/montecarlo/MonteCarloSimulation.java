@@ -0,0 +1,466 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.montecarlo;
+
+import org.ta4j.core.BaseTick;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.CriterionAccumulator;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Order;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.utils.Futures;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * A Monte Carlo simulation over a trading record.
+ * <p>
+ * Builds many alternative equity curves from the trades of a trading record and gives the distributions of their
+ * total profit and maximum drawdown (computed as the {@link org.ta4j.core.analysis.criteria.TotalProfitCriterion total
+ * profit} and the {@link org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion maximum drawdown} criteria over
+ * the {@link CashFlow cash flow}):
+ * <ul>
+ * <li>{@link #shuffleTrades(int, long)}: the trades in a random order
+ * <li>{@link #resampleTrades(int, long)}: as many trades drawn (with replacement) from the trades of the record
+ * <li>{@link #blockBootstrap(int, int, long)}: blocks of consecutive tick returns of the cash flow drawn with replacement
+ * </ul>
+ * The cash flow of the record is converted once to primitive ratios; the samples are then computed in parallel without
+ * any per-sample allocation. For a given seed, the results do not depend on the executor.
+ * <p>
+ * Other criteria can be given as {@link CriterionAccumulator criterion accumulators}: the equity curve of each sample
+ * (starting at 1) is then replayed into them as the close prices of a synthetic series, each trade buying one unit at
+ * its entry (with a flat tick between two trades; the block bootstrap curve being a single trade). This costs a
+ * series and a trading record per sample.
+ */
+public class MonteCarloSimulation {
+
+    /** Number of iterations of a chunk (i.e. of a parallel task) */
+    private static final int CHUNK_SIZE = 1000;
+
+    /** The end time of the first tick of the synthetic series */
+    private static final ZonedDateTime SAMPLE_START = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final ExecutorService executor;
+
+    /** The cash flow ratios (to the entry value) of the ticks of the trades, trade after trade */
+    private final double[] tradeRatios;
+
+    /** The index of the first ratio of each trade (plus the end of the last one) */
+    private final int[] tradeOffsets;
+
+    /** The cash flow returns of the ticks of the series */
+    private final double[] tickReturns;
+
+    /** The factories of the accumulators of the other criteria */
+    private final List<Supplier<? extends CriterionAccumulator>> criteria;
+
+    /**
+     * The values of the samples.
+     */
+    private static final class Samples {
+
+        /** The total profits of the iterations */
+        final double[] totalProfits;
+
+        /** The maximum drawdowns of the iterations */
+        final double[] maximumDrawdowns;
+
+        /** The values of the other criteria (per criterion) of the iterations */
+        final double[][] criterionValues;
+
+        Samples(int iterations, int criterionCount) {
+            totalProfits = new double[iterations];
+            maximumDrawdowns = new double[iterations];
+            criterionValues = new double[criterionCount][iterations];
+        }
+    }
+
+    /**
+     * The equity curve of a sample (for the other criteria).
+     */
+    private static final class SamplePath {
+
+        /** The values of the ticks */
+        private double[] values = new double[64];
+
+        private int tickCount;
+
+        /** The tick indexes of the orders (entries and exits alternately) */
+        private int[] orders = new int[16];
+
+        private int orderCount;
+
+        void clear() {
+            tickCount = 0;
+            orderCount = 0;
+        }
+
+        /**
+         * @param value the value of the next tick
+         */
+        void addTick(double value) {
+            if (tickCount == values.length) {
+                values = Arrays.copyOf(values, 2 * tickCount);
+            }
+            values[tickCount++] = value;
+        }
+
+        /**
+         * Adds an order on the last tick.
+         */
+        void addOrder() {
+            if (orderCount == orders.length) {
+                orders = Arrays.copyOf(orders, 2 * orderCount);
+            }
+            orders[orderCount++] = tickCount - 1;
+        }
+    }
+
+    /**
+     * An operation computing the samples of an iteration range.
+     */
+    @FunctionalInterface
+    private interface Sampler {
+
+        /**
+         * @param random the random generator of the range
+         * @param from the first iteration of the range (included)
+         * @param to the last iteration of the range (excluded)
+         * @param samples the values of the samples
+         */
+        void sample(SplittableRandom random, int from, int to, Samples samples);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The samples are computed on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param series the time series
+     * @param tradingRecord the trading record
+     */
+    public MonteCarloSimulation(TimeSeries series, TradingRecord tradingRecord) {
+        this(series, tradingRecord, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param tradingRecord the trading record
+     * @param executor the executor service the samples are computed on
+     */
+    public MonteCarloSimulation(TimeSeries series, TradingRecord tradingRecord, ExecutorService executor) {
+        this(series, tradingRecord, executor, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param tradingRecord the trading record
+     * @param executor the executor service the samples are computed on
+     * @param criteria the factories of the accumulators of other criteria (a new accumulator per sample), whose
+     *        distributions are given in the same order by {@link MonteCarloResult#getCriterionDistributions()}
+     */
+    public MonteCarloSimulation(TimeSeries series, TradingRecord tradingRecord, ExecutorService executor,
+            List<? extends Supplier<? extends CriterionAccumulator>> criteria) {
+        if (series == null || tradingRecord == null || executor == null || criteria == null) {
+            throw new IllegalArgumentException("Series, trading record, executor and criteria must not be null");
+        }
+        this.executor = executor;
+        this.criteria = new ArrayList<>(criteria);
+
+        List<Trade> trades = tradingRecord.getTrades();
+        tradeOffsets = new int[trades.size() + 1];
+        int ratioCount = 0;
+        for (int t = 0; t < trades.size(); t++) {
+            tradeOffsets[t] = ratioCount;
+            Trade trade = trades.get(t);
+            ratioCount += Math.max(0, trade.getExit().getIndex() - Math.max(trade.getEntry().getIndex() + 1, 1) + 1);
+        }
+        tradeOffsets[trades.size()] = ratioCount;
+        tradeRatios = new double[ratioCount];
+        for (int t = 0; t < trades.size(); t++) {
+            Trade trade = trades.get(t);
+            Decimal entryPrice = series.getTick(trade.getEntry().getIndex()).getClosePrice();
+            int i = Math.max(trade.getEntry().getIndex() + 1, 1);
+            for (int r = tradeOffsets[t]; r < tradeOffsets[t + 1]; r++, i++) {
+                Decimal price = series.getTick(i).getClosePrice();
+                tradeRatios[r] = trade.getEntry().isBuy()
+                        ? price.dividedBy(entryPrice).toDouble()
+                        : entryPrice.dividedBy(price).toDouble();
+            }
+        }
+
+        CashFlow cashFlow = new CashFlow(series, tradingRecord);
+        int tickCount = series.isEmpty() ? 0 : series.getEndIndex() - series.getBeginIndex();
+        tickReturns = new double[tickCount];
+        double previous = tickCount > 0 ? cashFlow.getValue(series.getBeginIndex()).toDouble() : 1;
+        for (int j = 0; j < tickCount; j++) {
+            double value = cashFlow.getValue(series.getBeginIndex() + j + 1).toDouble();
+            tickReturns[j] = value / previous;
+            previous = value;
+        }
+    }
+
+    /**
+     * Simulates the trades in random orders.
+     * <p>
+     * The total profit is the same for all the samples: only the path (i.e. the drawdown) changes.
+     * @param iterations the number of samples
+     * @param seed the seed of the random generator
+     * @return the result of the simulation
+     */
+    public MonteCarloResult shuffleTrades(int iterations, long seed) {
+        final int tradeCount = tradeOffsets.length - 1;
+        return simulate(iterations, seed, (random, from, to, samples) -> {
+            SamplePath path = newSamplePath();
+            int[] order = new int[tradeCount];
+            for (int t = 0; t < tradeCount; t++) {
+                order[t] = t;
+            }
+            for (int i = from; i < to; i++) {
+                // Fisher-Yates shuffle
+                for (int t = tradeCount - 1; t > 0; t--) {
+                    int other = random.nextInt(t + 1);
+                    int swapped = order[t];
+                    order[t] = order[other];
+                    order[other] = swapped;
+                }
+                simulateTrades(order, i, samples, path);
+            }
+        });
+    }
+
+    /**
+     * Simulates as many trades as in the record, drawn with replacement from the trades of the record.
+     * @param iterations the number of samples
+     * @param seed the seed of the random generator
+     * @return the result of the simulation
+     */
+    public MonteCarloResult resampleTrades(int iterations, long seed) {
+        final int tradeCount = tradeOffsets.length - 1;
+        return simulate(iterations, seed, (random, from, to, samples) -> {
+            SamplePath path = newSamplePath();
+            int[] trades = new int[tradeCount];
+            for (int i = from; i < to; i++) {
+                for (int t = 0; t < tradeCount; t++) {
+                    trades[t] = random.nextInt(tradeCount);
+                }
+                simulateTrades(trades, i, samples, path);
+            }
+        });
+    }
+
+    /**
+     * Simulates the cash flow from blocks of consecutive tick returns drawn with replacement (moving block bootstrap),
+     * up to the number of ticks of the series.
+     * @param blockLength the number of ticks of a block
+     * @param iterations the number of samples
+     * @param seed the seed of the random generator
+     * @return the result of the simulation
+     */
+    public MonteCarloResult blockBootstrap(int blockLength, int iterations, long seed) {
+        if (blockLength < 1) {
+            throw new IllegalArgumentException("Block length must be strictly positive");
+        }
+        final int tickCount = tickReturns.length;
+        final int length = Math.max(1, Math.min(blockLength, tickCount));
+        return simulate(iterations, seed, (random, from, to, samples) -> {
+            SamplePath path = newSamplePath();
+            for (int i = from; i < to; i++) {
+                double value = 1;
+                double peak = 1;
+                double maximumDrawdown = 0;
+                int position = 0;
+                if (path != null) {
+                    path.clear();
+                    path.addTick(value);
+                    path.addOrder();
+                }
+                while (position < tickCount) {
+                    int start = random.nextInt(tickCount - length + 1);
+                    int end = Math.min(length, tickCount - position);
+                    for (int k = 0; k < end; k++) {
+                        value *= tickReturns[start + k];
+                        if (path != null) {
+                            path.addTick(value);
+                        }
+                        if (value > peak) {
+                            peak = value;
+                        }
+                        double drawdown = (peak - value) / peak;
+                        if (drawdown > maximumDrawdown) {
+                            maximumDrawdown = drawdown;
+                        }
+                    }
+                    position += end;
+                }
+                samples.totalProfits[i] = value;
+                samples.maximumDrawdowns[i] = maximumDrawdown;
+                if (path != null) {
+                    if (tickCount > 0) {
+                        path.addOrder();
+                    } else {
+                        path.clear();
+                    }
+                    recordCriteria(path, i, samples);
+                }
+            }
+        });
+    }
+
+    /**
+     * Computes the cash flow of a sequence of trades.
+     * @param trades the indexes of the trades (in sequence order)
+     * @param iteration the iteration
+     * @param samples the values of the samples
+     * @param path the equity curve of the sample, null if there is no other criterion
+     */
+    private void simulateTrades(int[] trades, int iteration, Samples samples, SamplePath path) {
+        double value = 1;
+        double peak = 1;
+        double maximumDrawdown = 0;
+        if (path != null) {
+            path.clear();
+            path.addTick(value);
+        }
+        for (int trade : trades) {
+            final double entryValue = value;
+            final boolean recorded = path != null && tradeOffsets[trade + 1] > tradeOffsets[trade];
+            if (recorded) {
+                if (path.orderCount > 0) {
+                    // Flat tick between two trades
+                    path.addTick(value);
+                }
+                path.addOrder();
+            }
+            for (int r = tradeOffsets[trade]; r < tradeOffsets[trade + 1]; r++) {
+                value = entryValue * tradeRatios[r];
+                if (path != null) {
+                    path.addTick(value);
+                }
+                if (value > peak) {
+                    peak = value;
+                }
+                double drawdown = (peak - value) / peak;
+                if (drawdown > maximumDrawdown) {
+                    maximumDrawdown = drawdown;
+                }
+            }
+            if (recorded) {
+                path.addOrder();
+            }
+        }
+        samples.totalProfits[iteration] = value;
+        samples.maximumDrawdowns[iteration] = maximumDrawdown;
+        if (path != null) {
+            recordCriteria(path, iteration, samples);
+        }
+    }
+
+    /**
+     * @return a new sample path, null if there is no other criterion
+     */
+    private SamplePath newSamplePath() {
+        return criteria.isEmpty() ? null : new SamplePath();
+    }
+
+    /**
+     * Replays the equity curve of a sample into new accumulators of the other criteria.
+     * @param path the equity curve of the sample
+     * @param iteration the iteration
+     * @param samples the values of the samples
+     */
+    private void recordCriteria(SamplePath path, int iteration, Samples samples) {
+        List<Tick> ticks = new ArrayList<>(path.tickCount);
+        for (int i = 0; i < path.tickCount; i++) {
+            Decimal value = Decimal.valueOf(path.values[i]);
+            ticks.add(new BaseTick(SAMPLE_START.plusMinutes(i), value, value, value, value, Decimal.ZERO));
+        }
+        TimeSeries sampleSeries = new BaseTimeSeries(ticks);
+        CriterionAccumulator[] accumulators = new CriterionAccumulator[criteria.size()];
+        for (int c = 0; c < accumulators.length; c++) {
+            accumulators[c] = criteria.get(c).get();
+        }
+        TradingRecord sampleRecord = new BaseTradingRecord();
+        for (int k = 0; k < path.orderCount; k++) {
+            final int index = path.orders[k];
+            sampleRecord.operate(index, sampleSeries.getTick(index).getClosePrice(), Decimal.ONE);
+            Order order = sampleRecord.getLastOrder();
+            for (CriterionAccumulator accumulator : accumulators) {
+                accumulator.onOrder(sampleSeries, sampleRecord, order);
+            }
+        }
+        for (int c = 0; c < accumulators.length; c++) {
+            samples.criterionValues[c][iteration] = accumulators[c].getValue();
+        }
+    }
+
+    /**
+     * Runs a sampler over chunks of iterations in parallel.
+     * @param iterations the number of samples
+     * @param seed the seed of the random generator
+     * @param sampler the sampler
+     * @return the result of the simulation
+     */
+    private MonteCarloResult simulate(int iterations, long seed, Sampler sampler) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be strictly positive");
+        }
+        final Samples samples = new Samples(iterations, criteria.size());
+        int chunkCount = (iterations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // The random generators are split on the calling thread: the samples only depend on the seed
+        SplittableRandom seedRandom = new SplittableRandom(seed);
+        List<Future<?>> futures = new ArrayList<>(chunkCount);
+        for (int c = 0; c < chunkCount; c++) {
+            final int from = c * CHUNK_SIZE;
+            final int to = Math.min(iterations, from + CHUNK_SIZE);
+            final SplittableRandom random = seedRandom.split();
+            futures.add(executor.submit(() -> sampler.sample(random, from, to, samples)));
+        }
+        for (Future<?> future : futures) {
+            Futures.getResult(future, "simulation");
+        }
+        List<Distribution> criterionDistributions = new ArrayList<>(criteria.size());
+        for (double[] values : samples.criterionValues) {
+            criterionDistributions.add(new Distribution(values));
+        }
+        return new MonteCarloResult(new Distribution(samples.totalProfits), new Distribution(samples.maximumDrawdowns),
+                criterionDistributions);
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.ConcurrentIndicator;
+import org.ta4j.core.indicators.IndicatorGraph;
+import org.ta4j.core.utils.Futures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A parallel backtest executor.
+ * <p>
+ * Runs several {@link Strategy strategies} concurrently over the time series of a
+ * {@link TimeSeriesManager time series manager}, each strategy getting its own trading record.<br>
+ * The series and the (cached) indicators may be shared between the strategies: before the parallel runs, the
+ * indicators of the {@link IndicatorGraph dependency graph} of the strategies are computed once over the series, on
+ * the calling thread, so that the runs only read their cached values (without any lock). Indicators which are not
+ * part of the graph (or not built on the managed series) must not be shared, unless they are wrapped in a
+ * {@link ConcurrentIndicator concurrent indicator}. Strategies holding a per-run state (e.g. a
+ * {@link org.ta4j.core.trading.rules.JustOnceRule}) must not be shared between concurrent runs.
+ */
+public class BacktestExecutor {
+
+    private final TimeSeriesManager manager;
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructor.
+     * <p>
+     * The strategies are run on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param manager the time series manager
+     */
+    public BacktestExecutor(TimeSeriesManager manager) {
+        this(manager, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param manager the time series manager
+     * @param executor the executor service the strategies are run on
+     */
+    public BacktestExecutor(TimeSeriesManager manager, ExecutorService executor) {
+        if (manager == null || executor == null) {
+            throw new IllegalArgumentException("Manager and executor must not be null");
+        }
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the strategies over the managed series.
+     * <p>
+     * Opens the trades with {@link OrderType#BUY} orders.
+     * @param strategies the trading strategies
+     * @param criterion the analysis criterion
+     * @return the results, in the order of the strategies
+     */
+    public List<BacktestResult> execute(List<Strategy> strategies, AnalysisCriterion criterion) {
+        return execute(strategies, criterion, OrderType.BUY);
+    }
+
+    /**
+     * Runs the strategies over the managed series.
+     * @param strategies the trading strategies
+     * @param criterion the analysis criterion
+     * @param orderType the {@link OrderType} used to open the trades
+     * @return the results, in the order of the strategies
+     */
+    public List<BacktestResult> execute(List<Strategy> strategies, AnalysisCriterion criterion, OrderType orderType) {
+        final TimeSeries series = manager.getTimeSeries();
+        computeIndicators(strategies, series);
+        List<Future<BacktestResult>> futures = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            futures.add(executor.submit(() -> {
+                TradingRecord tradingRecord = manager.run(strategy, orderType);
+                return new BacktestResult(strategy, tradingRecord, criterion.calculate(series, tradingRecord));
+            }));
+        }
+        List<BacktestResult> results = new ArrayList<>(futures.size());
+        for (Future<BacktestResult> future : futures) {
+            results.add(Futures.getResult(future, "backtest"));
+        }
+        return results;
+    }
+
+    /**
+     * Runs the strategies over the managed series and chooses the best one.
+     * <p>
+     * Same as {@link AnalysisCriterion#chooseBest(TimeSeriesManager, List)}, with the strategies run in parallel.
+     * @param strategies the trading strategies
+     * @param criterion the analysis criterion
+     * @return the result of the best strategy (among the provided ones) according to the criterion
+     */
+    public BacktestResult chooseBest(List<Strategy> strategies, AnalysisCriterion criterion) {
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is needed");
+        }
+        return bestOf(execute(strategies, criterion), criterion);
+    }
+
+    /**
+     * Computes the values of the indicators of the strategies built on the series.
+     * @param strategies the trading strategies
+     * @param series the time series
+     */
+    private static void computeIndicators(List<Strategy> strategies, TimeSeries series) {
+        List<Indicator<?>> seriesIndicators = new ArrayList<>();
+        for (Indicator<?> indicator : IndicatorGraph.of(strategies).getIndicators()) {
+            if (indicator.getTimeSeries() == series) {
+                seriesIndicators.add(indicator);
+            }
+        }
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            for (Indicator<?> indicator : seriesIndicators) {
+                indicator.getValue(i);
+            }
+        }
+    }
+
+    /**
+     * @param results the backtest results
+     * @param criterion the analysis criterion
+     * @return the best result (the first one in case of a tie) according to the criterion, null if there is no result
+     */
+    static BacktestResult bestOf(List<BacktestResult> results, AnalysisCriterion criterion) {
+        BacktestResult best = null;
+        for (BacktestResult result : results) {
+            if (best == null || criterion.betterThan(result.getCriterionValue(), best.getCriterionValue())) {
+                best = result;
+            }
+        }
+        return best;
+    }
+}
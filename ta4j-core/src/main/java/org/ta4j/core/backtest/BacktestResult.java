@@ -0,0 +1,73 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * The result of the backtest of a {@link Strategy strategy}.
+ * <p>
+ * Holds the trading record coming from the run and the value of the analysis criterion for this record.
+ */
+public class BacktestResult {
+
+    private final Strategy strategy;
+
+    private final TradingRecord tradingRecord;
+
+    private final double criterionValue;
+
+    /**
+     * Constructor.
+     * @param strategy the backtested strategy
+     * @param tradingRecord the trading record coming from the run
+     * @param criterionValue the criterion value for the trading record
+     */
+    public BacktestResult(Strategy strategy, TradingRecord tradingRecord, double criterionValue) {
+        this.strategy = strategy;
+        this.tradingRecord = tradingRecord;
+        this.criterionValue = criterionValue;
+    }
+
+    /**
+     * @return the backtested strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the trading record coming from the run
+     */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /**
+     * @return the criterion value for the trading record
+     */
+    public double getCriterionValue() {
+        return criterionValue;
+    }
+}
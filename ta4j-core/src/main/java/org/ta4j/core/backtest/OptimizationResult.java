@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+/**
+ * The result of the backtest of a candidate of a {@link StrategyOptimizer strategy optimizer}.
+ * <p>
+ * Only the candidate parameters and the summary of the run are kept (not the trading record).
+ */
+public class OptimizationResult<P> {
+
+    private final long candidateIndex;
+
+    private final P parameters;
+
+    private final double criterionValue;
+
+    private final int tradeCount;
+
+    /**
+     * Constructor.
+     * @param candidateIndex the index of the candidate (in the candidates order)
+     * @param parameters the parameters of the candidate
+     * @param criterionValue the criterion value for the run of the candidate
+     * @param tradeCount the number of trades of the run
+     */
+    public OptimizationResult(long candidateIndex, P parameters, double criterionValue, int tradeCount) {
+        this.candidateIndex = candidateIndex;
+        this.parameters = parameters;
+        this.criterionValue = criterionValue;
+        this.tradeCount = tradeCount;
+    }
+
+    /**
+     * @return the index of the candidate (in the candidates order)
+     */
+    public long getCandidateIndex() {
+        return candidateIndex;
+    }
+
+    /**
+     * @return the parameters of the candidate
+     */
+    public P getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the criterion value for the run of the candidate
+     */
+    public double getCriterionValue() {
+        return criterionValue;
+    }
+
+    /**
+     * @return the number of trades of the run
+     */
+    public int getTradeCount() {
+        return tradeCount;
+    }
+}
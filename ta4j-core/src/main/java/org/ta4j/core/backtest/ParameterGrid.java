@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A grid of integer parameters.
+ * <p>
+ * The cartesian product of several parameter axes (e.g. time frames and thresholds), enumerated lazily:
+ * the combinations are never held in memory. Each combination is an array with one value per axis.
+ */
+public class ParameterGrid implements Iterable<int[]> {
+
+    private final int[][] axes;
+
+    private final long size;
+
+    /**
+     * Constructor.
+     * @param axes the values of each parameter
+     */
+    public ParameterGrid(int[]... axes) {
+        if (axes.length == 0) {
+            throw new IllegalArgumentException("At least one parameter axis is needed");
+        }
+        long combinations = 1;
+        for (int[] axis : axes) {
+            if (axis == null || axis.length == 0) {
+                throw new IllegalArgumentException("Parameter axes must not be empty");
+            }
+            combinations = Math.multiplyExact(combinations, axis.length);
+        }
+        this.axes = axes.clone();
+        this.size = combinations;
+    }
+
+    /**
+     * @param from the first value (included)
+     * @param to the last value (included)
+     * @param step the step between two values
+     * @return the values from "from" to "to" with the provided step
+     */
+    public static int[] range(int from, int to, int step) {
+        if (step < 1 || to < from) {
+            throw new IllegalArgumentException("Invalid range: from " + from + " to " + to + " by " + step);
+        }
+        int[] values = new int[(to - from) / step + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+    /**
+     * @return the number of combinations in the grid
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param position the position of the combination in the grid (the last axis varying the fastest)
+     * @return the combination of parameters
+     */
+    public int[] get(long position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", size: " + size);
+        }
+        int[] parameters = new int[axes.length];
+        long remaining = position;
+        for (int i = axes.length - 1; i >= 0; i--) {
+            parameters[i] = axes[i][(int) (remaining % axes[i].length)];
+            remaining /= axes[i].length;
+        }
+        return parameters;
+    }
+
+    /**
+     * Random search: draws distinct combinations of the grid.
+     * @param count the number of combinations to draw (at most the size of the grid)
+     * @param random the random generator
+     * @return the drawn combinations
+     */
+    public List<int[]> sample(int count, Random random) {
+        if (count < 0 || count > size) {
+            throw new IllegalArgumentException("Cannot draw " + count + " combinations out of " + size);
+        }
+        Set<Long> positions = new HashSet<>();
+        List<int[]> combinations = new ArrayList<>(count);
+        while (combinations.size() < count) {
+            long position = Math.floorMod(random.nextLong(), size);
+            if (positions.add(position)) {
+                combinations.add(get(position));
+            }
+        }
+        return combinations;
+    }
+
+    @Override
+    public Iterator<int[]> iterator() {
+        return new Iterator<int[]>() {
+
+            private long position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public int[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(position++);
+            }
+        };
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.utils.Futures;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A multi-asset portfolio backtest.
+ * <p>
+ * Runs a {@link Strategy strategy} per asset over the asset {@link TimeSeries time series}, all the series being
+ * advanced on a merged timeline (i.e. by tick end time). Each asset gets its own trading record while the cash is held
+ * at the portfolio level:
+ * <ul>
+ * <li>an entry invests the position value (or the remaining cash if lower) at the close price of the tick; it is
+ * ignored when there is no cash left
+ * <li>an exit sells the whole position at the close price of the tick
+ * </ul>
+ * The rules of the strategies which do not {@link org.ta4j.core.Rule#isTradingRecordDependent() depend on the trading
+ * record} are first evaluated over the whole series of their asset (see {@link VectorizedTimeSeriesManager}), the assets
+ * in parallel (one task per asset); the other strategies are evaluated on the timeline. The orders of the assets having
+ * a tick at the same time are applied in the order the assets were added, exits first (so that the released cash can
+ * be used by the entries of the same time).<br>
+ * The trades are opened with {@link org.ta4j.core.Order.OrderType#BUY BUY} orders.
+ * @param <K> the type of the asset symbols
+ */
+public class PortfolioBacktest<K> {
+
+    private final Decimal initialCash;
+
+    private final Decimal positionValue;
+
+    private final ExecutorService executor;
+
+    private final List<Asset> assets = new ArrayList<>();
+
+    /**
+     * An asset of the portfolio.
+     */
+    private class Asset {
+
+        final K symbol;
+
+        final TimeSeries series;
+
+        final Strategy strategy;
+
+        /** The position of the asset in the portfolio */
+        final int position;
+
+        /** The trading record of the current run */
+        TradingRecord tradingRecord;
+
+        /** The index of the next tick of the current run */
+        int nextIndex;
+
+        /** The end time (epoch milliseconds) of the next tick of the current run */
+        long nextTime;
+
+        /** True if the strategy should enter on the current tick */
+        boolean shouldEnter;
+
+        /** True if the strategy should exit on the current tick */
+        boolean shouldExit;
+
+        /** The entry signals of the strategy over the series (null if not evaluated in advance) */
+        BitSet entries;
+
+        /** The exit signals of the strategy over the series (null if not evaluated in advance) */
+        BitSet exits;
+
+        Asset(K symbol, TimeSeries series, Strategy strategy, int position) {
+            this.symbol = symbol;
+            this.series = series;
+            this.strategy = strategy;
+            this.position = position;
+        }
+
+        /**
+         * Moves to a tick.
+         * @param index the index of the next tick of the current run
+         * @return false if there is no such tick, true otherwise
+         */
+        boolean moveTo(int index) {
+            nextIndex = index;
+            if (series.isEmpty() || index > series.getEndIndex()) {
+                return false;
+            }
+            nextTime = series.getTick(index).getEndTime().toInstant().toEpochMilli();
+            return true;
+        }
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The strategies are evaluated in advance on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param initialCash the initial cash of the portfolio
+     * @param positionValue the value invested on each entry
+     */
+    public PortfolioBacktest(Decimal initialCash, Decimal positionValue) {
+        this(initialCash, positionValue, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param initialCash the initial cash of the portfolio
+     * @param positionValue the value invested on each entry
+     * @param executor the executor service the strategies are evaluated in advance on
+     */
+    public PortfolioBacktest(Decimal initialCash, Decimal positionValue, ExecutorService executor) {
+        if (initialCash == null || initialCash.isNaN() || initialCash.isNegative()) {
+            throw new IllegalArgumentException("Initial cash must be positive or zero");
+        }
+        if (positionValue == null || positionValue.isNaN() || !positionValue.isPositive()) {
+            throw new IllegalArgumentException("Position value must be strictly positive");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        this.initialCash = initialCash;
+        this.positionValue = positionValue;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds an asset to the portfolio.
+     * @param symbol the asset symbol
+     * @param series the time series of the asset
+     * @param strategy the trading strategy of the asset
+     */
+    public void addAsset(K symbol, TimeSeries series, Strategy strategy) {
+        if (symbol == null || series == null || strategy == null) {
+            throw new IllegalArgumentException("Symbol, series and strategy must not be null");
+        }
+        for (Asset asset : assets) {
+            if (asset.symbol.equals(symbol)) {
+                throw new IllegalArgumentException("Asset already added: " + symbol);
+            }
+        }
+        assets.add(new Asset(symbol, series, strategy, assets.size()));
+    }
+
+    /**
+     * Runs the strategies over the merged timeline of the asset series.
+     * @return the result of the run
+     */
+    public PortfolioResult<K> run() {
+        // Assets ordered by next tick time, then by insertion order
+        PriorityQueue<Asset> timeline = new PriorityQueue<>(Math.max(1, assets.size()),
+                Comparator.<Asset>comparingLong(asset -> asset.nextTime).thenComparingInt(asset -> asset.position));
+        evaluateSignals();
+        for (Asset asset : assets) {
+            asset.tradingRecord = new BaseTradingRecord();
+            if (asset.moveTo(asset.series.getBeginIndex())) {
+                timeline.add(asset);
+            }
+        }
+
+        Decimal cash = initialCash;
+        List<Asset> currentAssets = new ArrayList<>();
+        while (!timeline.isEmpty()) {
+            // Assets having a tick at the current time (in insertion order)
+            currentAssets.clear();
+            long time = timeline.peek().nextTime;
+            while (!timeline.isEmpty() && timeline.peek().nextTime == time) {
+                currentAssets.add(timeline.poll());
+            }
+
+            for (Asset asset : currentAssets) {
+                evaluate(asset);
+            }
+            for (Asset asset : currentAssets) {
+                if (asset.shouldExit) {
+                    Decimal closePrice = asset.series.getTick(asset.nextIndex).getClosePrice();
+                    Decimal amount = asset.tradingRecord.getCurrentTrade().getEntry().getAmount();
+                    asset.tradingRecord.exit(asset.nextIndex, closePrice, amount);
+                    cash = cash.plus(amount.multipliedBy(closePrice));
+                }
+            }
+            for (Asset asset : currentAssets) {
+                if (asset.shouldEnter && cash.isPositive()) {
+                    Decimal closePrice = asset.series.getTick(asset.nextIndex).getClosePrice();
+                    if (closePrice.isPositive()) {
+                        Decimal value = positionValue.min(cash);
+                        asset.tradingRecord.enter(asset.nextIndex, closePrice, value.dividedBy(closePrice));
+                        cash = cash.minus(value);
+                    }
+                }
+            }
+
+            for (Asset asset : currentAssets) {
+                if (asset.moveTo(asset.nextIndex + 1)) {
+                    timeline.add(asset);
+                }
+            }
+        }
+
+        Map<K, TradingRecord> tradingRecords = new LinkedHashMap<>();
+        Decimal equity = cash;
+        for (Asset asset : assets) {
+            tradingRecords.put(asset.symbol, asset.tradingRecord);
+            if (asset.tradingRecord.getCurrentTrade().isOpened()) {
+                Tick lastTick = asset.series.getTick(asset.series.getEndIndex());
+                equity = equity.plus(asset.tradingRecord.getCurrentTrade().getEntry().getAmount()
+                        .multipliedBy(lastTick.getClosePrice()));
+            }
+        }
+        return new PortfolioResult<>(tradingRecords, cash, equity);
+    }
+
+    /**
+     * Evaluates the entry and exit signals of the strategies not depending on the trading record, over the whole
+     * series of their asset (the assets in parallel).
+     */
+    private void evaluateSignals() {
+        List<Asset> vectorizableAssets = new ArrayList<>();
+        for (Asset asset : assets) {
+            asset.entries = null;
+            asset.exits = null;
+            if (!asset.series.isEmpty() && VectorizedTimeSeriesManager.isVectorizable(asset.strategy)) {
+                vectorizableAssets.add(asset);
+            }
+        }
+        if (vectorizableAssets.size() == 1) {
+            evaluateSignals(vectorizableAssets.get(0));
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (Asset asset : vectorizableAssets) {
+            futures.add(executor.submit(() -> evaluateSignals(asset)));
+        }
+        for (Future<?> future : futures) {
+            Futures.getResult(future, "backtest");
+        }
+    }
+
+    /**
+     * Evaluates the entry and exit signals of the strategy of an asset over its whole series.
+     * @param asset the asset
+     */
+    private void evaluateSignals(Asset asset) {
+        BitSet stableIndexes = new BitSet(asset.series.getEndIndex() + 1);
+        for (int i = asset.series.getBeginIndex(); i <= asset.series.getEndIndex(); i++) {
+            if (!asset.strategy.isUnstableAt(i)) {
+                stableIndexes.set(i);
+            }
+        }
+        asset.entries = VectorizedTimeSeriesManager.evaluate(asset.strategy.getEntryRule(), stableIndexes);
+        asset.exits = VectorizedTimeSeriesManager.evaluate(asset.strategy.getExitRule(), stableIndexes);
+    }
+
+    /**
+     * Evaluates the strategy of an asset on its current tick.
+     * @param asset the asset
+     */
+    private void evaluate(Asset asset) {
+        boolean opened = asset.tradingRecord.getCurrentTrade().isOpened();
+        boolean shouldOperate;
+        if (asset.entries != null) {
+            // Evaluated in advance
+            shouldOperate = (opened ? asset.exits : asset.entries).get(asset.nextIndex);
+        } else {
+            shouldOperate = asset.strategy.shouldOperate(asset.nextIndex, asset.tradingRecord);
+        }
+        asset.shouldEnter = shouldOperate && !opened;
+        asset.shouldExit = shouldOperate && opened;
+    }
+}
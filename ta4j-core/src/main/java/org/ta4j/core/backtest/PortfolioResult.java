@@ -0,0 +1,85 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.TradingRecord;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of a {@link PortfolioBacktest portfolio backtest}.
+ * <p>
+ * Holds the trading record of each asset and the portfolio cash and equity at the end of the run.
+ * @param <K> the type of the asset symbols
+ */
+public class PortfolioResult<K> {
+
+    private final Map<K, TradingRecord> tradingRecords;
+
+    private final Decimal cash;
+
+    private final Decimal equity;
+
+    /**
+     * Constructor.
+     * @param tradingRecords the trading record of each asset
+     * @param cash the remaining cash at the end of the run
+     * @param equity the equity (cash and opened positions at their last close price) at the end of the run
+     */
+    public PortfolioResult(Map<K, TradingRecord> tradingRecords, Decimal cash, Decimal equity) {
+        this.tradingRecords = Collections.unmodifiableMap(tradingRecords);
+        this.cash = cash;
+        this.equity = equity;
+    }
+
+    /**
+     * @return the trading record of each asset (in the order the assets were added)
+     */
+    public Map<K, TradingRecord> getTradingRecords() {
+        return tradingRecords;
+    }
+
+    /**
+     * @param symbol an asset symbol
+     * @return the trading record of the asset, null if the asset is unknown
+     */
+    public TradingRecord getTradingRecord(K symbol) {
+        return tradingRecords.get(symbol);
+    }
+
+    /**
+     * @return the remaining cash at the end of the run
+     */
+    public Decimal getCash() {
+        return cash;
+    }
+
+    /**
+     * @return the equity (cash and opened positions at their last close price) at the end of the run
+     */
+    public Decimal getEquity() {
+        return equity;
+    }
+}
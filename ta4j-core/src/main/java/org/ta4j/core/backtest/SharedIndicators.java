@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ConcurrentIndicator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A registry of indicators shared between several strategies.
+ * <p>
+ * When many variants of a strategy are built (e.g. by a {@link StrategyOptimizer strategy optimizer}), most of
+ * their sub-indicators (close price, long-term moving average, etc.) don't depend on the varying parameters.
+ * Getting them from this registry builds each of them only once, so that their values are computed (and cached)
+ * only once for all the variants.<br>
+ * The registry is thread-safe, and the registered indicators are wrapped in {@link ConcurrentIndicator concurrent
+ * indicators}, so that they can be read by the variants run in parallel. The indicators built from a shared indicator
+ * should only read it through the registry (i.e. through its concurrent view).
+ */
+public class SharedIndicators {
+
+    private final Map<List<Object>, Indicator<?>> indicators = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the indicator registered for the key, building (and registering) it if needed.
+     * <p>
+     * The key should identify the indicator, e.g. {@code get(() -> new SMAIndicator(closePrice, 200), "sma", 200)}.
+     * The builder may itself get indicators from this registry.
+     * @param builder the builder of the indicator
+     * @param key the components of the key of the indicator
+     * @return the shared indicator
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Indicator<T> get(Supplier<? extends Indicator<T>> builder, Object... key) {
+        List<Object> indicatorKey = Arrays.asList(key);
+        Indicator<?> indicator = indicators.get(indicatorKey);
+        if (indicator == null) {
+            // Built outside of the map: the builder may use the registry recursively
+            Indicator<?> newIndicator = new ConcurrentIndicator<>(builder.get());
+            indicator = indicators.putIfAbsent(indicatorKey, newIndicator);
+            if (indicator == null) {
+                indicator = newIndicator;
+            }
+        }
+        return (Indicator<T>) indicator;
+    }
+
+    /**
+     * @return the number of shared indicators
+     */
+    public int size() {
+        return indicators.size();
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.SummaryTradingRecord;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.utils.Futures;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A strategy optimizer (grid or random parameter search).
+ * <p>
+ * Builds a {@link Strategy strategy} for each candidate set of parameters, runs the candidates in parallel over
+ * the time series of a {@link TimeSeriesManager time series manager} and streams their
+ * {@link OptimizationResult results} out as they complete: the trading records are dropped once evaluated (and are
+ * {@link SummaryTradingRecord summary ones} when the criterion {@link AnalysisCriterion#isSummarySupported() supports
+ * it}), and only a bounded number of candidates are in progress at the same time, so that large sweeps run in constant
+ * memory.<br>
+ * The strategy builder should get the sub-indicators which don't depend on the parameters from
+ * {@link SharedIndicators shared indicators}, so that they are computed only once for the whole sweep.
+ * @param <P> the type of the parameters of a candidate (e.g. int[] for a {@link ParameterGrid parameter grid})
+ */
+public class StrategyOptimizer<P> {
+
+    private final TimeSeriesManager manager;
+
+    private final Function<P, Strategy> strategyBuilder;
+
+    private final ExecutorService executor;
+
+    /** The maximum number of candidates in progress at the same time */
+    private final int maxPendingCandidates;
+
+    /**
+     * Constructor.
+     * <p>
+     * The candidates are run on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param manager the time series manager
+     * @param strategyBuilder the builder of the strategy of a candidate
+     */
+    public StrategyOptimizer(TimeSeriesManager manager, Function<P, Strategy> strategyBuilder) {
+        this(manager, strategyBuilder, ForkJoinPool.commonPool(), 2 * ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Constructor.
+     * @param manager the time series manager
+     * @param strategyBuilder the builder of the strategy of a candidate
+     * @param executor the executor service the candidates are run on
+     * @param maxPendingCandidates the maximum number of candidates in progress at the same time
+     */
+    public StrategyOptimizer(TimeSeriesManager manager, Function<P, Strategy> strategyBuilder,
+            ExecutorService executor, int maxPendingCandidates) {
+        if (manager == null || strategyBuilder == null || executor == null) {
+            throw new IllegalArgumentException("Manager, strategy builder and executor must not be null");
+        }
+        if (maxPendingCandidates < 1) {
+            throw new IllegalArgumentException("Maximum number of pending candidates must be strictly positive");
+        }
+        this.manager = manager;
+        this.strategyBuilder = strategyBuilder;
+        this.executor = executor;
+        this.maxPendingCandidates = maxPendingCandidates;
+    }
+
+    /**
+     * Runs the candidates and streams their results out.
+     * <p>
+     * The results are passed to the consumer on the calling thread, in completion order. If a candidate (or the
+     * consumer) fails, the candidates still in progress are cancelled and the failure is thrown.
+     * @param candidates the candidate parameters (may be lazily generated)
+     * @param criterion the analysis criterion
+     * @param consumer the consumer of the results
+     */
+    public void run(Iterable<P> candidates, AnalysisCriterion criterion, Consumer<OptimizationResult<P>> consumer) {
+        final TimeSeries series = manager.getTimeSeries();
+        final boolean summarySupported = criterion.isSummarySupported();
+        CompletionService<OptimizationResult<P>> completionService = new ExecutorCompletionService<>(executor);
+        Set<Future<OptimizationResult<P>>> pendingCandidates = new HashSet<>();
+        Iterator<P> iterator = candidates.iterator();
+        long candidateIndex = 0;
+        try {
+            while (iterator.hasNext() || !pendingCandidates.isEmpty()) {
+                while (pendingCandidates.size() < maxPendingCandidates && iterator.hasNext()) {
+                    final P parameters = iterator.next();
+                    final long index = candidateIndex++;
+                    pendingCandidates.add(completionService.submit(() -> {
+                        Strategy strategy = strategyBuilder.apply(parameters);
+                        TradingRecord tradingRecord = summarySupported
+                                ? manager.run(strategy, new SummaryTradingRecord(series, OrderType.BUY))
+                                : manager.run(strategy, OrderType.BUY);
+                        return new OptimizationResult<>(index, parameters,
+                                criterion.calculate(series, tradingRecord), tradingRecord.getTradeCount());
+                    }));
+                }
+                Future<OptimizationResult<P>> completed;
+                try {
+                    completed = completionService.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a candidate", e);
+                }
+                pendingCandidates.remove(completed);
+                consumer.accept(Futures.getResult(completed, "candidate"));
+            }
+        } finally {
+            // Nothing is pending unless a candidate failed
+            for (Future<OptimizationResult<P>> pendingCandidate : pendingCandidates) {
+                pendingCandidate.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Runs the candidates and keeps the best one.
+     * @param candidates the candidate parameters (may be lazily generated)
+     * @param criterion the analysis criterion
+     * @return the result of the best candidate according to the criterion (the first one in the candidates
+     *          order in case of a tie), null if there is no candidate
+     */
+    public OptimizationResult<P> optimize(Iterable<P> candidates, AnalysisCriterion criterion) {
+        BestResult<P> best = new BestResult<>(criterion);
+        run(candidates, criterion, best);
+        return best.result;
+    }
+
+    /**
+     * Keeps the best result.
+     */
+    private static class BestResult<P> implements Consumer<OptimizationResult<P>> {
+
+        private final AnalysisCriterion criterion;
+
+        private OptimizationResult<P> result;
+
+        BestResult(AnalysisCriterion criterion) {
+            this.criterion = criterion;
+        }
+
+        @Override
+        public void accept(OptimizationResult<P> candidate) {
+            if (result == null
+                    || criterion.betterThan(candidate.getCriterionValue(), result.getCriterionValue())
+                    || (Double.compare(candidate.getCriterionValue(), result.getCriterionValue()) == 0
+                        && candidate.getCandidateIndex() < result.getCandidateIndex())) {
+                result = candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.CriterionAccumulator;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.trading.rules.AndRule;
+import org.ta4j.core.trading.rules.NotRule;
+import org.ta4j.core.trading.rules.OrRule;
+import org.ta4j.core.trading.rules.XorRule;
+
+import java.util.BitSet;
+
+/**
+ * A vectorized {@link TimeSeriesManager time series manager}.
+ * <p>
+ * When the rules of a {@link BaseStrategy base strategy} do not {@link Rule#isTradingRecordDependent() depend on
+ * the trading record}, its entry and exit rules are evaluated over the whole run range into bit sets (the
+ * AND/OR/XOR/NOT combinations being computed 64 ticks at a time on the bit set words). The trading record
+ * is then built by a tight loop jumping from an entry signal to the next exit signal.<br>
+ * The resulting trading record is the same as the one of the {@link TimeSeriesManager#run(Strategy, TradingRecord, Decimal, int, int)
+ * tick by tick run}, which is still used for the other strategies.
+ * <p>
+ * Note that both rules are evaluated for all the (stable) ticks of the run, while the tick by tick run only evaluates
+ * the entry rule outside of trades and the exit rule inside them.
+ */
+public class VectorizedTimeSeriesManager extends TimeSeriesManager {
+
+    /**
+     * Constructor.
+     */
+    public VectorizedTimeSeriesManager() {
+    }
+
+    /**
+     * Constructor.
+     * @param timeSeries the time series to be managed
+     */
+    public VectorizedTimeSeriesManager(TimeSeries timeSeries) {
+        super(timeSeries);
+    }
+
+    @Override
+    public TradingRecord run(Strategy strategy, TradingRecord tradingRecord, Decimal amount, int startIndex, int finishIndex,
+            CriterionAccumulator... accumulators) {
+        if (!isVectorizable(strategy) || !tradingRecord.getCurrentTrade().isNew()) {
+            return super.run(strategy, tradingRecord, amount, startIndex, finishIndex, accumulators);
+        }
+        TimeSeries timeSeries = getTimeSeries();
+        int runBeginIndex = Math.max(startIndex, timeSeries.getBeginIndex());
+        int runEndIndex = Math.min(finishIndex, timeSeries.getEndIndex());
+
+        if (runBeginIndex > runEndIndex) {
+            return tradingRecord;
+        }
+
+        BitSet stableIndexes = new BitSet(runEndIndex + 1);
+        for (int i = runBeginIndex; i <= runEndIndex; i++) {
+            if (!strategy.isUnstableAt(i)) {
+                stableIndexes.set(i);
+            }
+        }
+        BitSet entries = evaluate(strategy.getEntryRule(), stableIndexes);
+        BitSet exits = evaluate(strategy.getExitRule(), stableIndexes);
+
+        int entryIndex = entries.nextSetBit(runBeginIndex);
+        while (entryIndex >= 0) {
+            operate(tradingRecord, entryIndex, amount, accumulators);
+            int exitIndex = exits.nextSetBit(entryIndex + 1);
+            if (exitIndex < 0) {
+                break;
+            }
+            operate(tradingRecord, exitIndex, amount, accumulators);
+            entryIndex = entries.nextSetBit(exitIndex + 1);
+        }
+
+        if (!tradingRecord.isClosed()) {
+            // If the last trade is still opened, we search out of the run end index (tick by tick)
+            int seriesMaxSize = Math.max(timeSeries.getEndIndex() + 1, timeSeries.getTickData().size());
+            for (int i = runEndIndex + 1; i < seriesMaxSize; i++) {
+                if (strategy.shouldOperate(i, tradingRecord)) {
+                    operate(tradingRecord, i, amount, accumulators);
+                    break;
+                }
+            }
+        }
+        return tradingRecord;
+    }
+
+    /**
+     * @param strategy a trading strategy
+     * @return true if the strategy can be run in vectorized mode, false otherwise
+     */
+    public static boolean isVectorizable(Strategy strategy) {
+        // Subclasses may override the signal methods
+        return strategy.getClass() == BaseStrategy.class
+                && !strategy.getEntryRule().isTradingRecordDependent()
+                && !strategy.getExitRule().isTradingRecordDependent();
+    }
+
+    /**
+     * Evaluates a rule over a set of indexes.
+     * <p>
+     * The rule is evaluated without trading record. As for the tick by tick evaluation, the second rule of
+     * an AND (resp. OR) combination is only evaluated where the first one is (resp. is not) satisfied.
+     * @param rule a trading rule (which does not depend on the trading record)
+     * @param indexes the tick indexes the rule has to be evaluated for
+     * @return the indexes (among the provided ones) for which the rule is satisfied
+     */
+    public static BitSet evaluate(Rule rule, BitSet indexes) {
+        if (rule instanceof AndRule) {
+            AndRule and = (AndRule) rule;
+            return evaluate(and.getRule2(), evaluate(and.getRule1(), indexes));
+        }
+        if (rule instanceof OrRule) {
+            OrRule or = (OrRule) rule;
+            BitSet satisfied = evaluate(or.getRule1(), indexes);
+            BitSet remaining = (BitSet) indexes.clone();
+            remaining.andNot(satisfied);
+            satisfied.or(evaluate(or.getRule2(), remaining));
+            return satisfied;
+        }
+        if (rule instanceof XorRule) {
+            XorRule xor = (XorRule) rule;
+            BitSet satisfied = evaluate(xor.getRule1(), indexes);
+            satisfied.xor(evaluate(xor.getRule2(), indexes));
+            return satisfied;
+        }
+        if (rule instanceof NotRule) {
+            BitSet satisfied = (BitSet) indexes.clone();
+            satisfied.andNot(evaluate(((NotRule) rule).getRule(), indexes));
+            return satisfied;
+        }
+        BitSet satisfied = new BitSet(indexes.length());
+        for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+            if (rule.isSatisfied(i, null)) {
+                satisfied.set(i);
+            }
+        }
+        return satisfied;
+    }
+}
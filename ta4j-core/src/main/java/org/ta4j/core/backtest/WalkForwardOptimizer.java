@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.utils.Futures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A walk-forward optimizer.
+ * <p>
+ * For each {@link WalkForwardWindow walk-forward window}, the candidates are backtested over the in-sample range,
+ * then the best one is validated over the out-of-sample range. The windows are processed in parallel.<br>
+ * The in-sample and out-of-sample ranges are constrained views of the series (the ticks are not copied). The
+ * strategies should be built on the whole series (e.g. with {@link SharedIndicators shared indicators}), so that
+ * the indicator values cached for a window are reused by the overlapping windows.
+ * @param <P> the type of the parameters of a candidate (e.g. int[] for a {@link ParameterGrid parameter grid})
+ */
+public class WalkForwardOptimizer<P> {
+
+    private final TimeSeries series;
+
+    private final Function<P, Strategy> strategyBuilder;
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructor.
+     * <p>
+     * The windows are processed on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param series the time series
+     * @param strategyBuilder the builder of the strategy of a candidate
+     */
+    public WalkForwardOptimizer(TimeSeries series, Function<P, Strategy> strategyBuilder) {
+        this(series, strategyBuilder, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param strategyBuilder the builder of the strategy of a candidate
+     * @param executor the executor service the windows are processed on
+     */
+    public WalkForwardOptimizer(TimeSeries series, Function<P, Strategy> strategyBuilder, ExecutorService executor) {
+        if (series == null || strategyBuilder == null || executor == null) {
+            throw new IllegalArgumentException("Series, strategy builder and executor must not be null");
+        }
+        this.series = series;
+        this.strategyBuilder = strategyBuilder;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the walk-forward analysis and streams the results out.
+     * <p>
+     * The results are passed to the consumer on the calling thread, in the windows order, as soon as they are available.
+     * @param windows the walk-forward windows
+     * @param candidates the candidate parameters (iterated once per window)
+     * @param criterion the analysis criterion
+     * @param consumer the consumer of the results
+     */
+    public void run(List<WalkForwardWindow> windows, Iterable<P> candidates, AnalysisCriterion criterion,
+            Consumer<WalkForwardResult<P>> consumer) {
+        if (!candidates.iterator().hasNext()) {
+            throw new IllegalArgumentException("At least one candidate is needed");
+        }
+        List<Future<WalkForwardResult<P>>> futures = new ArrayList<>(windows.size());
+        for (WalkForwardWindow window : windows) {
+            futures.add(executor.submit(() -> process(window, candidates, criterion)));
+        }
+        for (Future<WalkForwardResult<P>> future : futures) {
+            consumer.accept(Futures.getResult(future, "walk-forward window"));
+        }
+    }
+
+    /**
+     * Runs the walk-forward analysis.
+     * @param windows the walk-forward windows
+     * @param candidates the candidate parameters (iterated once per window)
+     * @param criterion the analysis criterion
+     * @return the results, in the windows order
+     */
+    public List<WalkForwardResult<P>> run(List<WalkForwardWindow> windows, Iterable<P> candidates, AnalysisCriterion criterion) {
+        List<WalkForwardResult<P>> results = new ArrayList<>(windows.size());
+        run(windows, candidates, criterion, results::add);
+        return results;
+    }
+
+    /**
+     * Optimizes the candidates over the in-sample range and validates the best one over the out-of-sample range.
+     * @param window the walk-forward window
+     * @param candidates the candidate parameters
+     * @param criterion the analysis criterion
+     * @return the result of the window
+     */
+    private WalkForwardResult<P> process(WalkForwardWindow window, Iterable<P> candidates, AnalysisCriterion criterion) {
+        TimeSeries inSample = new BaseTimeSeries(series, window.getInSampleBeginIndex(), window.getInSampleEndIndex());
+        TimeSeriesManager inSampleManager = new TimeSeriesManager(inSample);
+        OptimizationResult<P> best = null;
+        long candidateIndex = 0;
+        for (P parameters : candidates) {
+            TradingRecord tradingRecord = inSampleManager.run(strategyBuilder.apply(parameters));
+            double value = criterion.calculate(inSample, tradingRecord);
+            if (best == null || criterion.betterThan(value, best.getCriterionValue())) {
+                best = new OptimizationResult<>(candidateIndex, parameters, value, tradingRecord.getTradeCount());
+            }
+            candidateIndex++;
+        }
+
+        TimeSeries outOfSample = new BaseTimeSeries(series, window.getOutOfSampleBeginIndex(), window.getOutOfSampleEndIndex());
+        TradingRecord outOfSampleRecord = new TimeSeriesManager(outOfSample).run(strategyBuilder.apply(best.getParameters()));
+        return new WalkForwardResult<>(window, best, outOfSampleRecord, criterion.calculate(outOfSample, outOfSampleRecord));
+    }
+}
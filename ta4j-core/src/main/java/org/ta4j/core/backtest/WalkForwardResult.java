@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.TradingRecord;
+
+/**
+ * The result of a {@link WalkForwardWindow walk-forward window}.
+ * <p>
+ * Holds the best in-sample candidate and the validation of this candidate over the out-of-sample range.
+ */
+public class WalkForwardResult<P> {
+
+    private final WalkForwardWindow window;
+
+    private final OptimizationResult<P> inSampleResult;
+
+    private final TradingRecord outOfSampleTradingRecord;
+
+    private final double outOfSampleCriterionValue;
+
+    /**
+     * Constructor.
+     * @param window the walk-forward window
+     * @param inSampleResult the result of the best candidate over the in-sample range
+     * @param outOfSampleTradingRecord the trading record of the best candidate over the out-of-sample range
+     * @param outOfSampleCriterionValue the criterion value of the best candidate over the out-of-sample range
+     */
+    public WalkForwardResult(WalkForwardWindow window, OptimizationResult<P> inSampleResult,
+            TradingRecord outOfSampleTradingRecord, double outOfSampleCriterionValue) {
+        this.window = window;
+        this.inSampleResult = inSampleResult;
+        this.outOfSampleTradingRecord = outOfSampleTradingRecord;
+        this.outOfSampleCriterionValue = outOfSampleCriterionValue;
+    }
+
+    /**
+     * @return the walk-forward window
+     */
+    public WalkForwardWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * @return the result of the best candidate over the in-sample range
+     */
+    public OptimizationResult<P> getInSampleResult() {
+        return inSampleResult;
+    }
+
+    /**
+     * @return the parameters of the best in-sample candidate
+     */
+    public P getParameters() {
+        return inSampleResult.getParameters();
+    }
+
+    /**
+     * @return the trading record of the best candidate over the out-of-sample range
+     */
+    public TradingRecord getOutOfSampleTradingRecord() {
+        return outOfSampleTradingRecord;
+    }
+
+    /**
+     * @return the criterion value of the best candidate over the out-of-sample range
+     */
+    public double getOutOfSampleCriterionValue() {
+        return outOfSampleCriterionValue;
+    }
+}
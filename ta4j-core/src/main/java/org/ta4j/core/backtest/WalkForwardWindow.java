@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.TimeSeries;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A walk-forward window.
+ * <p>
+ * An in-sample range of ticks (on which the strategy parameters are optimized) immediately followed by an
+ * out-of-sample range (on which the optimized strategy is validated). The indexes are the ones of the whole series.
+ */
+public class WalkForwardWindow {
+
+    private final int inSampleBeginIndex;
+
+    private final int inSampleEndIndex;
+
+    private final int outOfSampleEndIndex;
+
+    /**
+     * Constructor.
+     * @param inSampleBeginIndex the begin index of the in-sample range (included)
+     * @param inSampleEndIndex the end index of the in-sample range (included)
+     * @param outOfSampleEndIndex the end index of the out-of-sample range (included), which begins right after the in-sample range
+     */
+    public WalkForwardWindow(int inSampleBeginIndex, int inSampleEndIndex, int outOfSampleEndIndex) {
+        if (inSampleBeginIndex < 0 || inSampleEndIndex < inSampleBeginIndex || outOfSampleEndIndex <= inSampleEndIndex) {
+            throw new IllegalArgumentException("Invalid walk-forward window: " + inSampleBeginIndex + ", "
+                    + inSampleEndIndex + ", " + outOfSampleEndIndex);
+        }
+        this.inSampleBeginIndex = inSampleBeginIndex;
+        this.inSampleEndIndex = inSampleEndIndex;
+        this.outOfSampleEndIndex = outOfSampleEndIndex;
+    }
+
+    /**
+     * Builds rolling windows with fixed numbers of ticks.
+     * <p>
+     * Each window starts outOfSampleTickCount ticks after the previous one, so that the out-of-sample ranges are
+     * contiguous. The last out-of-sample range may be shorter.
+     * @param series the time series
+     * @param inSampleTickCount the number of ticks of the in-sample ranges
+     * @param outOfSampleTickCount the number of ticks of the out-of-sample ranges
+     * @return the windows
+     */
+    public static List<WalkForwardWindow> rolling(TimeSeries series, int inSampleTickCount, int outOfSampleTickCount) {
+        if (inSampleTickCount < 1 || outOfSampleTickCount < 1) {
+            throw new IllegalArgumentException("Tick counts must be strictly positive");
+        }
+        List<WalkForwardWindow> windows = new ArrayList<>();
+        final int endIndex = series.getEndIndex();
+        for (int begin = series.getBeginIndex(); begin + inSampleTickCount <= endIndex; begin += outOfSampleTickCount) {
+            int inSampleEnd = begin + inSampleTickCount - 1;
+            windows.add(new WalkForwardWindow(begin, inSampleEnd, Math.min(inSampleEnd + outOfSampleTickCount, endIndex)));
+        }
+        return windows;
+    }
+
+    /**
+     * Builds rolling windows with fixed durations.
+     * <p>
+     * Each window starts outOfSampleDuration after the previous one. The split indexes are found by binary search
+     * on the tick end times. Windows with an empty range (e.g. gaps in the series) are skipped.
+     * @param series the time series
+     * @param inSampleDuration the duration of the in-sample ranges
+     * @param outOfSampleDuration the duration of the out-of-sample ranges
+     * @return the windows
+     */
+    public static List<WalkForwardWindow> rolling(TimeSeries series, Duration inSampleDuration, Duration outOfSampleDuration) {
+        if (inSampleDuration.isNegative() || inSampleDuration.isZero()
+                || outOfSampleDuration.isNegative() || outOfSampleDuration.isZero()) {
+            throw new IllegalArgumentException("Durations must be strictly positive");
+        }
+        List<WalkForwardWindow> windows = new ArrayList<>();
+        if (series.isEmpty()) {
+            return windows;
+        }
+        final int endIndex = series.getEndIndex();
+        ZonedDateTime windowStart = series.getFirstTick().getEndTime();
+        ZonedDateTime lastTickTime = series.getLastTick().getEndTime();
+        while (!windowStart.plus(inSampleDuration).isAfter(lastTickTime)) {
+            ZonedDateTime outOfSampleStart = windowStart.plus(inSampleDuration);
+            int inSampleBegin = firstIndexNotBefore(series, windowStart);
+            int outOfSampleBegin = firstIndexNotBefore(series, outOfSampleStart);
+            int outOfSampleEnd = Math.min(firstIndexNotBefore(series, outOfSampleStart.plus(outOfSampleDuration)), endIndex + 1) - 1;
+            if (inSampleBegin < outOfSampleBegin && outOfSampleBegin <= outOfSampleEnd) {
+                windows.add(new WalkForwardWindow(inSampleBegin, outOfSampleBegin - 1, outOfSampleEnd));
+            }
+            windowStart = windowStart.plus(outOfSampleDuration);
+        }
+        return windows;
+    }
+
+    /**
+     * @param series the time series
+     * @param time a time
+     * @return the index of the first tick ending at or after the time (end index + 1 if there is no such tick)
+     */
+    private static int firstIndexNotBefore(TimeSeries series, ZonedDateTime time) {
+        int low = series.getBeginIndex();
+        int high = series.getEndIndex() + 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (series.getTick(middle).getEndTime().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the begin index of the in-sample range (included)
+     */
+    public int getInSampleBeginIndex() {
+        return inSampleBeginIndex;
+    }
+
+    /**
+     * @return the end index of the in-sample range (included)
+     */
+    public int getInSampleEndIndex() {
+        return inSampleEndIndex;
+    }
+
+    /**
+     * @return the begin index of the out-of-sample range (included)
+     */
+    public int getOutOfSampleBeginIndex() {
+        return inSampleEndIndex + 1;
+    }
+
+    /**
+     * @return the end index of the out-of-sample range (included)
+     */
+    public int getOutOfSampleEndIndex() {
+        return outOfSampleEndIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "In-sample: " + inSampleBeginIndex + "-" + inSampleEndIndex
+                + ", out-of-sample: " + getOutOfSampleBeginIndex() + "-" + outOfSampleEndIndex;
+    }
+}
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Acceleration-deceleration indicator.
  * <p>
@@ -50,4 +54,9 @@ public class AccelerationDecelerationIndicator extends CachedIndicator<Decimal>
     protected Decimal calculate(int index) {
         return awesome.getValue(index).minus(sma5.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(awesome, sma5);
+    }
 }
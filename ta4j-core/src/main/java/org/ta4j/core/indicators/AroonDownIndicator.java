@@ -29,6 +29,9 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 /**
  * Aroon down indicator.
@@ -86,6 +89,11 @@ public class AroonDownIndicator extends CachedIndicator<Decimal> {
         return Decimal.valueOf(timeFrame - nbTicks).dividedBy(Decimal.valueOf(timeFrame)).multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(lowestMinPriceIndicator, minValueIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName()+" timeFrame: "+timeFrame;
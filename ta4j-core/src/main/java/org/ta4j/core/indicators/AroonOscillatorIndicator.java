@@ -24,8 +24,12 @@ package org.ta4j.core.indicators;
 
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Aroon Oscillator.
  * <p>
@@ -49,6 +53,11 @@ public class AroonOscillatorIndicator extends CachedIndicator<Decimal>{
         return aroonUpIndicator.getValue(index).minus(aroonDownIndicator.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(aroonDownIndicator, aroonUpIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName()+" timeFrame: "+timeFrame;
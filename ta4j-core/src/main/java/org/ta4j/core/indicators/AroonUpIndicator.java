@@ -28,6 +28,9 @@ import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 /**
  * Aroon up indicator.
@@ -85,6 +88,11 @@ public class AroonUpIndicator extends CachedIndicator<Decimal> {
         return Decimal.valueOf(timeFrame - nbTicks).dividedBy(Decimal.valueOf(timeFrame)).multipliedBy(Decimal.HUNDRED);
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(highestMaxPriceIndicator, maxValueIndicator);
+    }
+
     @Override
     public String toString() {
 	return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Awesome oscillator. (AO)
  * <p>
@@ -50,4 +53,9 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return sma5.getValue(index).minus(sma34.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(sma5, sma34);
+    }
 }
@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.MeanDeviationIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Commodity Channel Index (CCI) indicator.
  * <p>
@@ -68,6 +72,11 @@ public class CCIIndicator extends CachedIndicator<Decimal> {
         return (typicalPrice.minus(typicalPriceAvg)).dividedBy(meanDeviation.multipliedBy(FACTOR));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(typicalPriceInd, smaInd, meanDeviationInd);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
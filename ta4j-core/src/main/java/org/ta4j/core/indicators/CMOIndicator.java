@@ -24,8 +24,10 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.helpers.CumulatedGainsIndicator;
-import org.ta4j.core.indicators.helpers.CumulatedLossesIndicator;
+import org.ta4j.core.indicators.helpers.GainLossIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Chande Momentum Oscillator indicator.
@@ -35,9 +37,7 @@ import org.ta4j.core.indicators.helpers.CumulatedLossesIndicator;
  */
 public class CMOIndicator extends CachedIndicator<Decimal> {
 
-    private final CumulatedGainsIndicator cumulatedGains;
-
-    private final CumulatedLossesIndicator cumulatedLosses;
+    private final GainLossIndicator gainLoss;
 
     /**
      * Constructor.
@@ -46,16 +46,21 @@ public class CMOIndicator extends CachedIndicator<Decimal> {
      */
     public CMOIndicator(Indicator<Decimal> price, int timeFrame) {
         super(price);
-        cumulatedGains = new CumulatedGainsIndicator(price, timeFrame);
-        cumulatedLosses = new CumulatedLossesIndicator(price, timeFrame);
+        gainLoss = new GainLossIndicator(price, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sumOfGains = cumulatedGains.getValue(index);
-        Decimal sumOfLosses = cumulatedLosses.getValue(index);
+        GainLossIndicator.GainLoss values = gainLoss.getValue(index);
+        Decimal sumOfGains = values.getCumulatedGains();
+        Decimal sumOfLosses = values.getCumulatedLosses();
         return sumOfGains.minus(sumOfLosses)
                 .dividedBy(sumOfGains.plus(sumOfLosses))
                 .multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(gainLoss);
+    }
 }
@@ -33,6 +33,10 @@ import java.util.List;
  * Cached {@link Indicator indicator}.
  * <p>
  * Caches the constructor of the indicator. Avoid to calculate the same index of the indicator twice.
+ * <p>
+ * The cache is not thread-safe (no lock is taken on the values reads). To share an indicator between several
+ * threads, wrap it in a {@link ConcurrentIndicator concurrent indicator}, or compute all its values before the
+ * threads only read them (see {@link org.ta4j.core.backtest.BacktestExecutor}).
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
@@ -79,8 +83,10 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         T result;
         if (index < removedTicksCount) {
             // Result already removed from cache
-            log.trace("{}: result from tick {} already removed from cache, use {}-th instead",
-                    getClass().getSimpleName(), index, removedTicksCount);
+            if (log.isTraceEnabled()) {
+                log.trace("{}: result from tick {} already removed from cache, use {}-th instead",
+                        getClass().getSimpleName(), index, removedTicksCount);
+            }
             increaseLengthTo(removedTicksCount, maximumResultCount);
             highestResultIndex = removedTicksCount;
             result = results.get(0);
@@ -117,6 +123,53 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected abstract T calculate(int index);
 
+    /**
+     * Invalidates the cached values from an index.
+     * <p>
+     * To be called when the ticks from index have been amended (e.g. the last tick of a live series, still forming,
+     * has received a new trade): the values from index will be computed again on the next calls, and the internal
+     * state of the indicator (if any) is {@link #rollBack(int) rolled back} before index.<br>
+     * The indicators depending on this one have to be invalidated as well, before this one: their state may be rolled
+     * back with the values they have read from it (see {@link IndicatorGraph#invalidateFrom(int)}).
+     * @param index the first tick index to be invalidated
+     */
+    public void invalidateFrom(int index) {
+        if (index <= highestResultIndex) {
+            final int firstResultIndex = highestResultIndex - results.size() + 1;
+            if (index <= firstResultIndex) {
+                results.clear();
+                highestResultIndex = -1;
+            } else {
+                results.subList(results.size() - (highestResultIndex - index + 1), results.size()).clear();
+                highestResultIndex = index - 1;
+            }
+        }
+        rollBack(index);
+    }
+
+    /**
+     * Rolls the internal state of the indicator back before an index.
+     * <p>
+     * Called when the values from index are {@link #invalidateFrom(int) invalidated}. Does nothing by default: the
+     * indicators keeping a state between two calculations (e.g. a sliding window or the previous step of a recursion)
+     * have to forget the part of it coming from the ticks from index.
+     * @param index the first invalidated tick index
+     */
+    protected void rollBack(int index) {
+    }
+
+    /**
+     * @param index the tick index
+     * @return the cached value of the indicator, null if not computed yet (or no longer cached)
+     */
+    protected T getCachedValue(int index) {
+        final int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
+        if (index > highestResultIndex || resultInnerIndex < 0) {
+            return null;
+        }
+        return results.get(resultInnerIndex);
+    }
+
     /**
      * Increases the size of cached results buffer.
      * @param index the index to increase length to
@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Chandelier Exit (long) Indicator.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit
@@ -65,4 +69,9 @@ public class ChandelierExitLongIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return high.getValue(index).minus(atr.getValue(index).multipliedBy(k));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(high, atr);
+    }
 }
@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Chandelier Exit (short) Indicator.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit
@@ -65,4 +69,9 @@ public class ChandelierExitShortIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return low.getValue(index).plus(atr.getValue(index).multipliedBy(k));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(low, atr);
+    }
 }
@@ -0,0 +1,184 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Concurrent {@link Indicator indicator}.
+ * <p>
+ * Thread-safe view of an indicator shared between several threads (e.g. a sub-indicator shared by the strategies
+ * backtested in parallel). The values are computed by the wrapped indicator, in index order and one thread at a
+ * time, then published: the values already computed are read without any lock (also on a moving series, whose
+ * removed ticks are dropped from time to time).<br>
+ * The wrapped indicator (and the indicators it depends on) must only be read through this view while it is shared.
+ * The published values of amended ticks are dropped by {@link #invalidateFrom(int)}.
+ */
+public class ConcurrentIndicator<T> extends CachedIndicator<T> {
+
+    /**
+     * Published values (immutable once published, except the slots after the published ones).
+     */
+    private static final class Values {
+
+        private static final Values EMPTY = new Values(new Object[0], 0, 0);
+
+        /** The values, from firstIndex */
+        private final Object[] values;
+
+        /** The index of the first value */
+        private final int firstIndex;
+
+        /** The index after the last published value */
+        private final int endIndex;
+
+        Values(Object[] values, int firstIndex, int endIndex) {
+            this.values = values;
+            this.firstIndex = firstIndex;
+            this.endIndex = endIndex;
+        }
+
+        boolean contains(int index) {
+            return index >= firstIndex && index < endIndex;
+        }
+    }
+
+    private final Indicator<T> indicator;
+
+    /** The published values */
+    private volatile Values published = Values.EMPTY;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator to be shared between threads
+     */
+    public ConcurrentIndicator(Indicator<T> indicator) {
+        super(indicator.getTimeSeries());
+        this.indicator = indicator;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValue(int index) {
+        Values current = published;
+        if (current.contains(index)) {
+            // Published value: no lock
+            return (T) current.values[index - current.firstIndex];
+        }
+        synchronized (indicator) {
+            current = published;
+            if (current.contains(index)) {
+                return (T) current.values[index - current.firstIndex];
+            }
+            TimeSeries series = getTimeSeries();
+            if (series == null || index < series.getRemovedTicksCount() || index > series.getEndIndex()) {
+                // Not a publishable value
+                return indicator.getValue(index);
+            }
+            current = reserve(current, series, index);
+            Object[] values = current.values;
+            for (int i = current.endIndex; i <= index; i++) {
+                values[i - current.firstIndex] = indicator.getValue(i);
+            }
+            published = new Values(values, current.firstIndex, index + 1);
+            return (T) values[index - current.firstIndex];
+        }
+    }
+
+    @Override
+    protected T calculate(int index) {
+        return indicator.getValue(index);
+    }
+
+    /**
+     * Invalidates the published values from an index.
+     * <p>
+     * The wrapped indicator has to be invalidated as well, after this one (see
+     * {@link IndicatorGraph#invalidateFrom(int)}).
+     * @param index the first tick index to be invalidated
+     */
+    @Override
+    public void invalidateFrom(int index) {
+        synchronized (indicator) {
+            Values current = published;
+            if (index <= current.firstIndex) {
+                published = Values.EMPTY;
+            } else if (index < current.endIndex) {
+                published = new Values(current.values, current.firstIndex, index);
+            }
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
+    /**
+     * @return the wrapped indicator
+     */
+    public Indicator<T> getIndicator() {
+        return indicator;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + indicator;
+    }
+
+    /**
+     * Makes room for the values up to an index (the capacity grows geometrically, the values of the removed ticks are
+     * dropped once they fill half of it).
+     * @param current the published values
+     * @param series the time series
+     * @param index the index of the value to be published
+     * @return the values to be completed up to index (not published)
+     */
+    private static Values reserve(Values current, TimeSeries series, int index) {
+        final int removedTicksCount = series.getRemovedTicksCount();
+        int firstIndex = current.firstIndex;
+        int endIndex = current.endIndex;
+        if (endIndex < removedTicksCount) {
+            // All the published values are from removed ticks
+            firstIndex = removedTicksCount;
+            endIndex = removedTicksCount;
+        } else if (removedTicksCount - firstIndex > current.values.length / 2) {
+            firstIndex = removedTicksCount;
+        }
+        final int requiredLength = index + 1 - firstIndex;
+        if (firstIndex == current.firstIndex && requiredLength <= current.values.length) {
+            return current;
+        }
+        final int keptCount = endIndex - firstIndex;
+        final int length = Math.max(Math.max(requiredLength, 2 * keptCount), series.getEndIndex() + 1 - firstIndex);
+        Object[] values = new Object[length];
+        if (keptCount > 0) {
+            System.arraycopy(current.values, firstIndex - current.firstIndex, values, 0, keptCount);
+        }
+        return new Values(values, firstIndex, endIndex);
+    }
+}
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.SumIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Coppock Curve indicator.
  * <p>
@@ -67,4 +70,9 @@ public class CoppockCurveIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return wma.getValue(index);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(wma);
+    }
 }
@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Detrended Price Oscillator (DPO) indicator.
  * <p>
@@ -78,6 +81,11 @@ public class DPOIndicator extends CachedIndicator<Decimal> {
         return price.getValue(index).minus(sma.getValue(index-timeShift));
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(price, sma);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
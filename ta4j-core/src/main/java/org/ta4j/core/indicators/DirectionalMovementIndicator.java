@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.DirectionalDownIndicator;
 import org.ta4j.core.indicators.helpers.DirectionalUpIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Directional movement indicator.
  * <p>
@@ -52,6 +56,11 @@ public class DirectionalMovementIndicator extends CachedIndicator<Decimal>{
         return difference.abs().dividedBy(dupValue.plus(ddownValue)).multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(dup, ddown);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Double exponential moving average indicator.
  * <p>
@@ -49,6 +52,11 @@ public class DoubleEMAIndicator extends CachedIndicator<Decimal> {
                 .minus(emaEma.getValue(index));
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(ema);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Exponential moving average indicator.
  * <p>
@@ -63,6 +66,11 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
         return indicator.getValue(index).minus(emaPrev).multipliedBy(multiplier).plus(emaPrev);
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Fisher Indicator.
  * @see http://www.tradingsystemlab.com/files/The%20Fisher%20Transform.pdf
@@ -108,4 +111,8 @@ public class FisherIndicator extends RecursiveCachedIndicator<Decimal>{
         return ext.plus(getValue(index - 1)).dividedBy(Decimal.TWO);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(price, intermediateValue);
+    }
 }
@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.DifferenceIndicator;
 import org.ta4j.core.indicators.helpers.MultiplierIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Hull moving average (HMA) indicator.
  * <p>
@@ -54,6 +57,11 @@ public class HMAIndicator extends CachedIndicator<Decimal> {
         return sqrtWma.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(sqrtWma);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
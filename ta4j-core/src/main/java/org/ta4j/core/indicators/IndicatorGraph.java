@@ -0,0 +1,401 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.trading.rules.CachedRule;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dependency graph of {@link Indicator indicators}.
+ * <p>
+ * Built from the {@link #dependenciesOf(Indicator) dependencies} of a set of indicators (e.g. the indicators of the
+ * rules of {@link Strategy strategies}), it keeps all the indicators of the graph in topological order: each indicator
+ * comes after all its dependencies.<br>
+ * When a tick arrives, {@link #update(int)} computes the value of every indicator exactly once, from the inputs to the
+ * indicators read by the rules: no indicator computation has to go back up the graph.<br>
+ * When the last tick of the series is still forming (i.e. amended by each new trade), {@link #invalidateFrom(int)}
+ * invalidates its values across the whole graph (and the {@link CachedRule cached rules} of the strategies), so that the
+ * next update only computes that tick again.<br>
+ * The dependencies are the ones {@link Indicator#getDependencies() declared} by the indicators (and
+ * {@link Rule#getDependencies() by the rules}), as all the indicators and rules of the library do. The dependencies of
+ * the other ones are found from their fields (see {@link #findDependencies(Object)}): a warning is logged (once per
+ * class) when nothing is found, as it may be an indicator computed from the series only, or one whose dependencies are
+ * not discoverable.
+ */
+public class IndicatorGraph {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicatorGraph.class);
+
+    /** The fields which may hold dependencies, per class */
+    private static final Map<Class<?>, Field[]> DEPENDENCY_FIELDS = new ConcurrentHashMap<>();
+
+    /** True if the class declares its dependencies, per indicator or rule class */
+    private static final Map<Class<?>, Boolean> DECLARING_CLASSES = new ConcurrentHashMap<>();
+
+    /** The classes whose undiscoverable dependencies have already been reported */
+    private static final Set<Class<?>> REPORTED_CLASSES = ConcurrentHashMap.newKeySet();
+
+    /** The indicators of the graph, in topological order */
+    private final List<Indicator<?>> indicators = new ArrayList<>();
+
+    /** The dependencies of the indicators of the graph */
+    private final Map<Indicator<?>, List<Indicator<?>>> dependencies = new IdentityHashMap<>();
+
+    /** The cached rules of the strategies of the graph */
+    private final List<CachedRule> cachedRules = new ArrayList<>();
+
+    /**
+     * Constructor.
+     * @param indicators the indicators of the graph (their dependencies are added to it)
+     */
+    public IndicatorGraph(Collection<? extends Indicator<?>> indicators) {
+        Map<Indicator<?>, Boolean> visiting = new IdentityHashMap<>();
+        for (Indicator<?> indicator : indicators) {
+            visit(indicator, visiting);
+        }
+    }
+
+    /**
+     * @param strategies trading strategies
+     * @return the graph of the indicators used by the rules of the strategies
+     */
+    public static IndicatorGraph of(Strategy... strategies) {
+        return of(Arrays.asList(strategies));
+    }
+
+    /**
+     * @param strategies trading strategies
+     * @return the graph of the indicators used by the rules of the strategies
+     */
+    public static IndicatorGraph of(Collection<? extends Strategy> strategies) {
+        List<Indicator<?>> indicators = new ArrayList<>();
+        Map<Object, Boolean> visitedRules = new IdentityHashMap<>();
+        for (Strategy strategy : strategies) {
+            collectIndicators(strategy.getEntryRule(), indicators, visitedRules);
+            collectIndicators(strategy.getExitRule(), indicators, visitedRules);
+        }
+        IndicatorGraph graph = new IndicatorGraph(indicators);
+        for (Object rule : visitedRules.keySet()) {
+            if (rule instanceof CachedRule) {
+                graph.cachedRules.add((CachedRule) rule);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @return the indicators of the graph, in topological order (dependencies first)
+     */
+    public List<Indicator<?>> getIndicators() {
+        return Collections.unmodifiableList(indicators);
+    }
+
+    /**
+     * @param indicator an indicator of the graph
+     * @return the dependencies of the indicator, null if the indicator is not in the graph
+     */
+    public List<Indicator<?>> getDependencies(Indicator<?> indicator) {
+        return dependencies.get(indicator);
+    }
+
+    /**
+     * @return the cached rules of the strategies of the graph (empty if the graph has not been built from strategies)
+     */
+    public List<CachedRule> getCachedRules() {
+        return Collections.unmodifiableList(cachedRules);
+    }
+
+    /**
+     * Computes the values of all the indicators of the graph for a tick, in topological order.
+     * @param index the tick index
+     */
+    public void update(int index) {
+        for (Indicator<?> indicator : indicators) {
+            indicator.getValue(index);
+        }
+    }
+
+    /**
+     * Invalidates the values of all the (cached) indicators and rules of the graph from a tick.
+     * <p>
+     * To be called when the ticks from index have been amended (e.g. when a new trade has been added to the last tick
+     * of the series): the indicators forget the values and roll their state back before index, then the next
+     * {@link #update(int)} computes them again (i.e. only the amended ticks are computed again).
+     * @param index the first tick index to be invalidated
+     */
+    public void invalidateFrom(int index) {
+        invalidateFrom(indicators, cachedRules, index);
+    }
+
+    /**
+     * Invalidates the values of indicators and cached rules from a tick.
+     * <p>
+     * The indicators are invalidated in reverse topological order (each indicator before its dependencies), so that
+     * they roll their state back with the values they have read from their dependencies.
+     * @param indicators the indicators, in topological order (dependencies first)
+     * @param cachedRules the cached rules
+     * @param index the first tick index to be invalidated
+     * @see #invalidateFrom(int)
+     */
+    public static void invalidateFrom(List<? extends Indicator<?>> indicators,
+            Collection<? extends CachedRule> cachedRules, int index) {
+        for (int i = indicators.size() - 1; i >= 0; i--) {
+            Indicator<?> indicator = indicators.get(i);
+            if (indicator instanceof CachedIndicator) {
+                ((CachedIndicator<?>) indicator).invalidateFrom(index);
+            }
+        }
+        for (CachedRule rule : cachedRules) {
+            rule.invalidateFrom(index);
+        }
+    }
+
+    /**
+     * Finds the dependencies of an indicator (or of a rule) from its fields.
+     * <p>
+     * Fallback for the indicators and rules which do not declare their dependencies: the dependencies are the
+     * indicators held by the (non-static) fields of the object, in its class and its superclasses, including the
+     * variables captured by an anonymous or local class. A field is inspected if it may hold an indicator (e.g. declared
+     * as an indicator, an {@code Object} or a {@code Serializable}), an array, a collection or a map (values) of them.
+     * The indicators only reachable through other objects are not found.
+     * @param object an indicator (or a rule)
+     * @return the indicators referenced by the object
+     */
+    public static List<Indicator<?>> findDependencies(Object object) {
+        List<Indicator<?>> found = new ArrayList<>();
+        for (Object value : findReferences(object)) {
+            if (value instanceof Indicator && value != object) {
+                found.add((Indicator<?>) value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return the {@link Indicator#getDependencies() dependencies declared} by the indicator, or else
+     *         {@link #findDependencies(Object) found} from its fields
+     */
+    public static List<Indicator<?>> dependenciesOf(Indicator<?> indicator) {
+        List<Indicator<?>> declared = indicator.getDependencies();
+        if (!declared.isEmpty() || isDeclaringDependencies(indicator.getClass(), Indicator.class)) {
+            return declared;
+        }
+        List<Indicator<?>> found = findDependencies(indicator);
+        if (found.isEmpty() && REPORTED_CLASSES.add(indicator.getClass())) {
+            log.warn("No dependency declared nor found for {} ({}): override getDependencies() if it is computed from"
+                    + " other indicators", indicator, indicator.getClass().getName());
+        }
+        return found;
+    }
+
+    /**
+     * @param type an indicator or rule class
+     * @param root the interface declaring the default getDependencies() method (Indicator or Rule)
+     * @return true if the class (or one of its superclasses) overrides getDependencies(), false otherwise
+     */
+    private static boolean isDeclaringDependencies(Class<?> type, Class<?> root) {
+        return DECLARING_CLASSES.computeIfAbsent(type, c -> {
+            try {
+                return c.getMethod("getDependencies").getDeclaringClass() != root;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Adds an indicator (after its dependencies) to the graph.
+     * @param indicator the indicator
+     * @param visiting the indicators being visited (for the cycle detection)
+     */
+    private void visit(Indicator<?> indicator, Map<Indicator<?>, Boolean> visiting) {
+        if (dependencies.containsKey(indicator)) {
+            return;
+        }
+        if (visiting.put(indicator, Boolean.TRUE) != null) {
+            throw new IllegalArgumentException("Cyclic indicator dependencies: " + indicator);
+        }
+        List<Indicator<?>> indicatorDependencies = dependenciesOf(indicator);
+        for (Indicator<?> dependency : indicatorDependencies) {
+            visit(dependency, visiting);
+        }
+        visiting.remove(indicator);
+        dependencies.put(indicator, Collections.unmodifiableList(new ArrayList<>(indicatorDependencies)));
+        indicators.add(indicator);
+    }
+
+    /**
+     * Collects the indicators used by a rule (and its sub-rules).
+     * @param rule the rule
+     * @param indicators the collected indicators
+     * @param visitedRules the rules already visited
+     */
+    private static void collectIndicators(Rule rule, List<Indicator<?>> indicators, Map<Object, Boolean> visitedRules) {
+        if (visitedRules.put(rule, Boolean.TRUE) != null) {
+            return;
+        }
+        List<Object> declared = rule.getDependencies();
+        boolean isDeclaring = !declared.isEmpty() || isDeclaringDependencies(rule.getClass(), Rule.class);
+        for (Object value : isDeclaring ? declared : findReferences(rule)) {
+            if (value instanceof Indicator) {
+                indicators.add((Indicator<?>) value);
+            } else if (value instanceof Rule) {
+                collectIndicators((Rule) value, indicators, visitedRules);
+            }
+        }
+    }
+
+    /**
+     * @param object an indicator or a rule
+     * @return the indicators and rules referenced by the fields of the object
+     */
+    private static List<Object> findReferences(Object object) {
+        List<Object> references = new ArrayList<>();
+        for (Field field : DEPENDENCY_FIELDS.computeIfAbsent(object.getClass(), IndicatorGraph::findDependencyFields)) {
+            Object value;
+            try {
+                value = field.get(object);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (value instanceof Object[]) {
+                addReferences(Arrays.asList((Object[]) value), references);
+            } else if (value instanceof Collection) {
+                addReferences((Collection<?>) value, references);
+            } else if (value instanceof Map) {
+                addReferences(((Map<?, ?>) value).values(), references);
+            } else if (value != null) {
+                addReferences(Collections.singletonList(value), references);
+            }
+        }
+        return references;
+    }
+
+    /**
+     * @param values values of a field
+     * @param references the indicators and rules referenced by the fields
+     */
+    private static void addReferences(Collection<?> values, List<Object> references) {
+        for (Object value : values) {
+            if (value instanceof Indicator || value instanceof Rule) {
+                references.add(value);
+            }
+        }
+    }
+
+    /**
+     * @param type a class
+     * @return the accessible fields of the class (and of its superclasses) which may hold indicators or rules
+     */
+    private static Field[] findDependencyFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || isEnclosingInstance(field)
+                        || !isDependencyType(field.getGenericType())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    fields.add(field);
+                } catch (RuntimeException e) {
+                    // Inaccessible field (e.g. in another module): not a discoverable dependency
+                }
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * @param field a field
+     * @return true if the field is the (synthetic) reference of an inner class to its enclosing instance, false
+     *         otherwise (e.g. a variable captured by an anonymous class)
+     */
+    private static boolean isEnclosingInstance(Field field) {
+        return field.isSynthetic() && field.getName().startsWith("this$");
+    }
+
+    /**
+     * @param type the (generic) type of a field or of an element
+     * @return true if the type may hold an indicator or a rule, or an array, a collection or a map (values) of them,
+     *         false otherwise
+     */
+    private static boolean isDependencyType(Type type) {
+        if (type instanceof WildcardType) {
+            return isDependencyType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof GenericArrayType) {
+            return isDependencyType(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof TypeVariable) {
+            return isDependencyType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (Collection.class.isAssignableFrom(rawType) && arguments.length == 1) {
+                return isDependencyType(arguments[0]);
+            }
+            if (Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+                return isDependencyType(arguments[1]);
+            }
+            return isDependencyType(rawType);
+        }
+        if (!(type instanceof Class)) {
+            return false;
+        }
+        Class<?> c = (Class<?>) type;
+        if (c.isArray()) {
+            return isDependencyType(c.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(c) || Map.class.isAssignableFrom(c)) {
+            // Raw collection or map: its elements are checked at runtime
+            return true;
+        }
+        return Indicator.class.isAssignableFrom(c) || c.isAssignableFrom(Indicator.class)
+                || Rule.class.isAssignableFrom(c) || c.isAssignableFrom(Rule.class);
+    }
+}
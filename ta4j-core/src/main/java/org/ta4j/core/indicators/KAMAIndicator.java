@@ -24,6 +24,11 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.CumulatedGainsIndicator;
+import org.ta4j.core.indicators.helpers.CumulatedLossesIndicator;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * The Kaufman's Adaptive Moving Average (KAMA)  Indicator.
@@ -39,6 +44,10 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Decimal> {
     private final Decimal fastest;
     
     private final Decimal slowest;
+
+    private final CumulatedGainsIndicator cumulatedGains;
+
+    private final CumulatedLossesIndicator cumulatedLosses;
     
     /**
      * Constructor.
@@ -54,6 +63,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Decimal> {
         this.timeFrameEffectiveRatio = timeFrameEffectiveRatio;
         fastest = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrameFast + 1));
         slowest = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrameSlow + 1));
+        cumulatedGains = new CumulatedGainsIndicator(price, timeFrameEffectiveRatio);
+        cumulatedLosses = new CumulatedLossesIndicator(price, timeFrameEffectiveRatio);
     }
 
     @Override
@@ -68,13 +79,11 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Decimal> {
          * Change = ABS(Close - Close (10 periods ago))
          * Volatility = Sum10(ABS(Close - Prior Close))
          * Volatility is the sum of the absolute value of the last ten price changes (Close - Prior Close).
+         * (i.e. the sum of the cumulated gains and the cumulated losses over the period)
          */
         int startChangeIndex = Math.max(0, index - timeFrameEffectiveRatio);
         Decimal change = currentPrice.minus(price.getValue(startChangeIndex)).abs();
-        Decimal volatility = Decimal.ZERO;
-        for (int i = startChangeIndex; i < index; i++) {
-            volatility = volatility.plus(price.getValue(i + 1).minus(price.getValue(i)).abs());
-        }
+        Decimal volatility = cumulatedGains.getValue(index).plus(cumulatedLosses.getValue(index));
         Decimal er = change.dividedBy(volatility);
         /*
          * Smoothing Constant (SC)
@@ -90,4 +99,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Decimal> {
         return priorKAMA.plus(sc.multipliedBy(currentPrice.minus(priorKAMA)));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(price, cumulatedGains, cumulatedLosses);
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Moving average convergence divergence (MACDIndicator) indicator.
  * <p>
@@ -48,4 +51,9 @@ public class MACDIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return shortTermEma.getValue(index).minus(longTermEma.getValue(index));
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(shortTermEma, longTermEma);
+    }
+}
@@ -29,6 +29,9 @@ import org.ta4j.core.indicators.helpers.DifferenceIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Mass index indicator.
  * <p>
@@ -69,4 +72,9 @@ public class MassIndexIndicator extends CachedIndicator<Decimal> {
         }
         return massIndex;
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(singleEma, doubleEma);
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Percentage price oscillator (PPO) indicator.
  * <p>
@@ -52,4 +55,9 @@ public class PPOIndicator extends CachedIndicator<Decimal> {
                 .dividedBy(longEmaValue)
                 .multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(shortTermEma, longTermEma);
+    }
 }
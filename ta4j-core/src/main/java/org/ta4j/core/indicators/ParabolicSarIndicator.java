@@ -23,12 +23,17 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Parabolic SAR indicator.
  * team172011(Simon-Justus Wimmer), 18.09.2017
@@ -51,6 +56,10 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
     private Decimal currentExtremePoint; // the extreme point of the current calculation
     private Decimal minMaxExtremePoint; // depending on trend the maximum or minimum extreme point value of trend
 
+    // states before the calculation of the last two calculated ticks (for the roll back of amended ticks)
+    private State lastState;
+    private State previousState;
+
     /**
      * Constructor with default parameters
      * @param series the time series for this indicator
@@ -90,6 +99,7 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
+        saveState(index);
         Decimal sar = Decimal.NaN;
         if (index == series.getBeginIndex()) {
             return sar; // no trend detection possible for the first value
@@ -148,6 +158,72 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
 
     }
 
+    /**
+     * Invalidates the cached values from an index.
+     * <p>
+     * Only the states before the last two calculated ticks are kept: when the state before index is not kept, all the
+     * values are computed again from the beginning of the series.
+     * @param index the first tick index to be invalidated
+     */
+    @Override
+    public void invalidateFrom(int index) {
+        final boolean stateLost = lastState != null && index <= lastState.index && getState(index) == null;
+        super.invalidateFrom(stateLost ? 0 : index);
+    }
+
+    @Override
+    protected void rollBack(int index) {
+        super.rollBack(index);
+        if (lastState == null || index > lastState.index) {
+            // Nothing calculated from index
+            return;
+        }
+        State state = getState(index);
+        if (state == null) {
+            // Computed again from the beginning of the series
+            accelerationFactor = accelarationStart;
+            currentTrend = false;
+            startTrendIndex = 0;
+            currentExtremePoint = null;
+            minMaxExtremePoint = null;
+            lastState = null;
+            previousState = null;
+            return;
+        }
+        accelerationFactor = state.accelerationFactor;
+        currentTrend = state.trend;
+        startTrendIndex = state.startTrendIndex;
+        currentExtremePoint = state.extremePoint;
+        minMaxExtremePoint = state.minMaxExtremePoint;
+        // The state before index is saved again when index is calculated
+        lastState = state == lastState ? previousState : null;
+        previousState = null;
+    }
+
+    /**
+     * @param index a tick index
+     * @return the kept state before the calculation of the tick, null if not kept
+     */
+    private State getState(int index) {
+        if (lastState != null && lastState.index == index) {
+            return lastState;
+        }
+        if (previousState != null && previousState.index == index) {
+            return previousState;
+        }
+        return null;
+    }
+
+    /**
+     * Saves the state of the indicator before the calculation of a tick.
+     * @param index the tick index
+     */
+    private void saveState(int index) {
+        previousState = lastState;
+        lastState = new State(index, accelerationFactor, currentTrend, startTrendIndex, currentExtremePoint,
+                minMaxExtremePoint);
+    }
+
     /**
      * Increments the acceleration factor.
      */
@@ -158,4 +234,34 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
             accelerationFactor = accelerationFactor.plus(accelerationIncrement);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * State of the indicator before the calculation of a tick.
+     */
+    private static final class State implements Serializable {
+
+        private static final long serialVersionUID = 4270591874735612189L;
+
+        private final int index;
+        private final Decimal accelerationFactor;
+        private final boolean trend;
+        private final int startTrendIndex;
+        private final Decimal extremePoint;
+        private final Decimal minMaxExtremePoint;
+
+        State(int index, Decimal accelerationFactor, boolean trend, int startTrendIndex, Decimal extremePoint,
+                Decimal minMaxExtremePoint) {
+            this.index = index;
+            this.accelerationFactor = accelerationFactor;
+            this.trend = trend;
+            this.startTrendIndex = startTrendIndex;
+            this.extremePoint = extremePoint;
+            this.minMaxExtremePoint = minMaxExtremePoint;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(minPriceIndicator, maxPriceIndicator);
+    }
+}
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Chande's Range Action Verification Index (RAVI) indicator.
  * 
@@ -55,4 +58,9 @@ public class RAVIIndicator extends CachedIndicator<Decimal> {
                 .dividedBy(longMA)
                 .multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(shortSma, longSma);
+    }
 }
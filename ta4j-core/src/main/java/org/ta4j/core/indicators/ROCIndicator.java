@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Rate of change (ROCIndicator) indicator.
  * Aka. Momentum
@@ -53,6 +56,11 @@ public class ROCIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(Decimal.HUNDRED);
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -26,6 +26,10 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.AverageGainIndicator;
 import org.ta4j.core.indicators.helpers.AverageLossIndicator;
+import org.ta4j.core.indicators.helpers.GainLossIndicator;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Relative strength index indicator.
@@ -45,8 +49,11 @@ public class RSIIndicator extends CachedIndicator<Decimal> {
     private Indicator<Decimal> averageLossIndicator;
     
     public RSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        this(new AverageGainIndicator(indicator, timeFrame),
-                new AverageLossIndicator(indicator, timeFrame));
+        this(new GainLossIndicator(indicator, timeFrame));
+    }
+
+    private RSIIndicator(GainLossIndicator gainLoss) {
+        this(new AverageGainIndicator(gainLoss), new AverageLossIndicator(gainLoss));
     }
 
     public RSIIndicator(Indicator<Decimal> avgGainIndicator, Indicator<Decimal> avgLossIndicator) {
@@ -74,4 +81,8 @@ public class RSIIndicator extends CachedIndicator<Decimal> {
         return Decimal.HUNDRED.minus(ratio);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(averageGainIndicator, averageLossIndicator);
+    }
 }
@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Class RandomWalkIndexLowIndicator.
  */
@@ -64,6 +68,11 @@ private final MaxPriceIndicator maxPrice;
                 .dividedBy(averageTrueRange.getValue(index).multipliedBy(sqrtTimeFrame));
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(maxPrice, minPrice, averageTrueRange);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
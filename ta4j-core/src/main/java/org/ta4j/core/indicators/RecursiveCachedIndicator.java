@@ -28,21 +28,23 @@ import org.ta4j.core.TimeSeries;
 /**
  * Recursive cached {@link Indicator indicator}.
  * <p>
- * Recursive indicators should extend this class.<br>
- * This class is only here to avoid (OK, to postpone) the StackOverflowError that
- * may be thrown on the first getValue(int) call of a recursive indicator.
- * Concretely when an index value is asked, if the last cached value is too old/far,
- * the computation of all the values between the last cached and the asked one
- * is executed iteratively.
+ * Recursive indicators (i.e. indicators whose value at index depends on their value at index - 1)
+ * should extend this class.<br>
+ * The values are always computed iteratively and strictly in index order: when an index value is
+ * asked, all the values between the last cached one and the asked one are computed first. This way
+ * the {@code getValue(index - 1)} call of a recursive calculation never recurses deeper (even when
+ * recursive indicators are nested, e.g. EMA of EMA) and the StackOverflowError is avoided.<br>
+ * The last computed value is also kept, so that the {@code getValue(index - 1)} call made by the
+ * next step does not need to go through the cache.
  */
 public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
-    /**
-     * The recursion threshold for which an iterative calculation is executed.
-     * @TODO Should be variable (depending on the sub-indicators used in this indicator)
-     */
-    private static final int RECURSION_THRESHOLD = 100;
-    
+    /** The index of the last computed value, -1 if no value has been computed yet */
+    private int lastIndex = -1;
+
+    /** The last computed value */
+    private T lastValue;
+
     /**
      * Constructor.
      * @param series the related time series
@@ -61,23 +63,46 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
     @Override
     public T getValue(int index) {
+        if (index == lastIndex) {
+            // Previous step of a forward iteration
+            return lastValue;
+        }
+        if (index <= highestResultIndex) {
+            // Already computed (a read only: the state is left as is)
+            return super.getValue(index);
+        }
         TimeSeries series = getTimeSeries();
         if (series != null) {
             final int seriesEndIndex = series.getEndIndex();
             if (index <= seriesEndIndex) {
                 // We are not after the end of the series
-                final int removedTicksCount = series.getRemovedTicksCount();
-                int startIndex = Math.max(removedTicksCount, highestResultIndex);
-                if (index - startIndex > RECURSION_THRESHOLD) {
-                    // Too many uncalculated values; the risk for a StackOverflowError becomes high.
-                    // Calculating the previous values iteratively
-                    for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
-                        super.getValue(prevIdx);
-                    }
+                // Calculating the previous values iteratively, in index order
+                final int startIndex = Math.max(series.getRemovedTicksCount(), highestResultIndex + 1);
+                for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
+                    keepLastValue(prevIdx, super.getValue(prevIdx));
                 }
             }
         }
-        
-        return super.getValue(index);
+        return keepLastValue(index, super.getValue(index));
+    }
+
+    @Override
+    protected void rollBack(int index) {
+        if (lastIndex >= index) {
+            lastIndex = -1;
+            lastValue = null;
+        }
+    }
+
+    /**
+     * Keeps the last computed value.
+     * @param index the tick index
+     * @param value the value of the indicator at index
+     * @return the value
+     */
+    private T keepLastValue(int index, T value) {
+        lastIndex = index;
+        lastValue = value;
+        return value;
     }
 }
@@ -25,31 +25,65 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Simple moving average (SMA) indicator.
  * <p>
  */
-public class SMAIndicator extends CachedIndicator<Decimal> {
+public class SMAIndicator extends WindowedCachedIndicator<Decimal> {
 
     private final Indicator<Decimal> indicator;
 
-    private final int timeFrame;
+    /** Sum of the (non-NaN) values in the current window */
+    private Decimal sum = Decimal.ZERO;
+
+    /** Number of NaN values in the current window */
+    private int nanCount = 0;
 
     public SMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
+        super(indicator, timeFrame);
         this.indicator = indicator;
-        this.timeFrame = timeFrame;
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        Decimal sum = Decimal.ZERO;
-        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
+    protected void resetWindow() {
+        sum = Decimal.ZERO;
+        nanCount = 0;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount++;
+        } else {
+            sum = sum.plus(value);
         }
+    }
 
-        final int realTimeFrame = Math.min(timeFrame, index + 1);
-        return sum.dividedBy(Decimal.valueOf(realTimeFrame));
+    @Override
+    protected void onEvict(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount--;
+        } else {
+            sum = sum.minus(value);
+        }
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
+        if (nanCount > 0) {
+            return Decimal.NaN;
+        }
+        return sum.dividedBy(Decimal.valueOf(getWindowSize(index)));
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
     }
 
     @Override
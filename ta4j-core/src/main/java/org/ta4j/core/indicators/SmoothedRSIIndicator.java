@@ -24,6 +24,7 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.GainLossIndicator;
 import org.ta4j.core.indicators.helpers.SmoothedAverageGainIndicator;
 import org.ta4j.core.indicators.helpers.SmoothedAverageLossIndicator;
 
@@ -46,8 +47,11 @@ public class SmoothedRSIIndicator extends RSIIndicator {
     private static final Integer SMOOTH_MIN_TICKS = 150;
 
     public SmoothedRSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(new SmoothedAverageGainIndicator(indicator, timeFrame),
-                new SmoothedAverageLossIndicator(indicator, timeFrame));
+        this(new GainLossIndicator(indicator, timeFrame));
+    }
+
+    private SmoothedRSIIndicator(GainLossIndicator gainLoss) {
+        super(new SmoothedAverageGainIndicator(gainLoss), new SmoothedAverageLossIndicator(gainLoss));
     }
 
     @Override
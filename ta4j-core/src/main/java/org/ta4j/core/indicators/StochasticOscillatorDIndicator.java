@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Stochastic oscillator D.
  * <p>
@@ -48,6 +51,11 @@ public class StochasticOscillatorDIndicator extends CachedIndicator<Decimal> {
         return indicator.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " " + indicator;
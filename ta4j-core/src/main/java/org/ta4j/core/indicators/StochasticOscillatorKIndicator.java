@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 
 /**
  * Stochastic oscillator K.
@@ -72,6 +75,11 @@ public class StochasticOscillatorKIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, maxPriceIndicator, minPriceIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -29,6 +29,9 @@ import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The Stochastic RSI Indicator.
  * 
@@ -79,4 +82,8 @@ public class StochasticRSIIndicator extends CachedIndicator<Decimal> {
                 .dividedBy(maxRsi.getValue(index).minus(minRsiValue));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(rsi, minRsi, maxRsi);
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * This class implenents a basic trailing stop loss indicator.
  * 
@@ -59,6 +62,11 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
     private Decimal stopLossLimit;
     
     private final Decimal stopLossDistance;
+
+    private final Decimal initialStopLossLimit;
+
+    /** The index of the last calculated tick, -1 if none */
+    private int stopLossLimitIndex = -1;
     
     /**
      * Constructor.
@@ -80,6 +88,7 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
         this.indicator = indicator;
         this.stopLossDistance = stopLossDistance;
         this.stopLossLimit = initialStopLossLimit;
+        this.initialStopLossLimit = initialStopLossLimit;
     }
     
     /**
@@ -91,6 +100,7 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
      */
     @Override
     protected Decimal calculate(int index) {
+        stopLossLimitIndex = index;
         if (stopLossLimit.isNaN()) {
             // Case without initial stop-loss limit value
             stopLossLimit = indicator.getValue(0).minus(stopLossDistance);
@@ -103,4 +113,30 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
         }
         return stopLossLimit;
     }
+
+    /**
+     * Invalidates the cached values from an index.
+     * <p>
+     * The stop-loss limit before a tick is the value of the previous tick: when it is no longer cached, all the values
+     * are computed again from the beginning of the series.
+     * @param index the first tick index to be invalidated
+     */
+    @Override
+    public void invalidateFrom(int index) {
+        final boolean previousLimitLost = index > 0 && index <= stopLossLimitIndex && getCachedValue(index - 1) == null;
+        super.invalidateFrom(previousLimitLost ? 0 : index);
+    }
+
+    @Override
+    protected void rollBack(int index) {
+        if (stopLossLimitIndex >= index) {
+            stopLossLimit = index > 0 ? getCachedValue(index - 1) : initialStopLossLimit;
+            stopLossLimitIndex = index - 1;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Triple exponential moving average indicator.
  * <p>
@@ -49,6 +52,11 @@ public class TripleEMAIndicator extends CachedIndicator<Decimal> {
         return Decimal.THREE.multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(ema);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Ulcer index indicator.
  * <p>
@@ -67,6 +70,11 @@ public class UlcerIndexIndicator extends CachedIndicator<Decimal> {
         return squaredAverage.sqrt();
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, highestValueInd);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
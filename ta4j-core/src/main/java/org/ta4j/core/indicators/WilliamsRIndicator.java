@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * William's R indicator.
  * <p>
@@ -70,6 +73,11 @@ public class WilliamsRIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(multiplier);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, maxPriceIndicator, minPriceIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -0,0 +1,160 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+
+/**
+ * Windowed cached {@link Indicator indicator}.
+ * <p>
+ * Indicators computed over a rolling window of ticks (i.e. the ticks from
+ * {@code index - timeFrame + 1} to {@code index}) should extend this class.<br>
+ * When the values are requested in index order, the window slides by one tick:
+ * {@link #onEvict(int)} is called for the tick leaving the window and {@link #onAdd(int)}
+ * for the tick entering it. When the last ticks are {@link #invalidateFrom(int) invalidated}, the window slides back
+ * the same way. Any other access (random access, removed ticks, etc.) falls back to a full recomputation of the window.
+ */
+public abstract class WindowedCachedIndicator<T> extends CachedIndicator<T> {
+
+    /** The time frame (i.e. the maximum size of the window) */
+    protected final int timeFrame;
+
+    /** The index of the last tick added to the window, -1 if the window is not initialized */
+    private int windowEndIndex = -1;
+
+    /**
+     * Constructor.
+     * @param series the related time series
+     * @param timeFrame the time frame
+     * @throws IllegalArgumentException if the time frame is not strictly positive
+     */
+    public WindowedCachedIndicator(TimeSeries series, int timeFrame) {
+        super(series);
+        if (timeFrame < 1) {
+            throw new IllegalArgumentException("Time frame must be strictly positive");
+        }
+        this.timeFrame = timeFrame;
+    }
+
+    /**
+     * Constructor.
+     * @param indicator a related indicator (with a time series)
+     * @param timeFrame the time frame
+     */
+    public WindowedCachedIndicator(Indicator<?> indicator, int timeFrame) {
+        this(indicator.getTimeSeries(), timeFrame);
+    }
+
+    @Override
+    protected T calculate(int index) {
+        final int evictedIndex = index - timeFrame;
+        if (windowEndIndex > -1 && index == windowEndIndex + 1 && isStillAvailable(evictedIndex)) {
+            // Sliding the window by one tick
+            if (evictedIndex >= 0) {
+                onEvict(evictedIndex);
+            }
+            onAdd(index);
+        } else {
+            // Random access: rebuilding the whole window
+            resetWindow();
+            for (int i = getWindowStartIndex(index); i <= index; i++) {
+                onAdd(i);
+            }
+        }
+        windowEndIndex = index;
+        return getWindowValue(index);
+    }
+
+    @Override
+    protected void rollBack(int index) {
+        if (windowEndIndex < index) {
+            return;
+        }
+        final int newEndIndex = index - 1;
+        if (newEndIndex < 0 || windowEndIndex - newEndIndex >= timeFrame
+                || !isStillAvailable(getWindowStartIndex(newEndIndex))) {
+            // The whole window has been amended: it will be rebuilt
+            windowEndIndex = -1;
+            return;
+        }
+        // Sliding the window back (the dependencies, invalidated after this indicator, still return the values of
+        // the amended ticks added to the window)
+        for (int i = windowEndIndex; i > newEndIndex; i--) {
+            onEvict(i);
+            final int reenteringIndex = i - timeFrame;
+            if (reenteringIndex >= 0) {
+                onAdd(reenteringIndex);
+            }
+        }
+        windowEndIndex = newEndIndex;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the index of the first tick of the window ending at index
+     */
+    protected int getWindowStartIndex(int index) {
+        return Math.max(0, index - timeFrame + 1);
+    }
+
+    /**
+     * @param index the tick index
+     * @return the number of ticks in the window ending at index
+     */
+    protected int getWindowSize(int index) {
+        return index - getWindowStartIndex(index) + 1;
+    }
+
+    /**
+     * Clears the window (i.e. all the accumulated state).
+     */
+    protected abstract void resetWindow();
+
+    /**
+     * Adds a tick to the window.
+     * @param index the index of the tick entering the window
+     */
+    protected abstract void onAdd(int index);
+
+    /**
+     * Removes a tick from the window.
+     * @param index the index of the tick leaving the window
+     */
+    protected abstract void onEvict(int index);
+
+    /**
+     * @param index the tick index (i.e. the end index of the current window)
+     * @return the value of the indicator for the current window
+     */
+    protected abstract T getWindowValue(int index);
+
+    /**
+     * @param index a tick index
+     * @return true if the index has not been removed from the series (i.e. its values can still be retrieved), false otherwise
+     */
+    private boolean isStillAvailable(int index) {
+        TimeSeries series = getTimeSeries();
+        return index < 0 || series == null || index >= series.getRemovedTicksCount();
+    }
+}
@@ -25,6 +25,9 @@ package org.ta4j.core.indicators;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Zero-lag exponential moving average indicator.
  * <p>
@@ -63,6 +66,11 @@ public class ZLEMAIndicator extends RecursiveCachedIndicator<Decimal> {
                 .plus(Decimal.ONE.minus(k).multipliedBy(zlemaPrev));
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
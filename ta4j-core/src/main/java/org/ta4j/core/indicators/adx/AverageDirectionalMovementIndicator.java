@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.DirectionalMovementIndicator;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Average directional movement indicator (ADMI/ADX).
  * <p>
@@ -52,6 +56,11 @@ public class AverageDirectionalMovementIndicator extends RecursiveCachedIndicato
         return getValue(index - 1).multipliedBy(nbPeriodsMinusOne).dividedBy(nbPeriods).plus(dm.getValue(index).dividedBy(nbPeriods));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(dm);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
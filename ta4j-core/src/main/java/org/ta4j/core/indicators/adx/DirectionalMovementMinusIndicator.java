@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.AverageDirectionalMovementDownIndicator;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Directional movement minus indicator (DMI+).
  * Part of the Directional Movement System
@@ -53,6 +57,11 @@ public class DirectionalMovementMinusIndicator extends CachedIndicator<Decimal>{
         return averageDirectionalMovementDownIndicator.getValue(index).dividedBy(trueRangeIndicator.getValue(index)).multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(averageDirectionalMovementDownIndicator, trueRangeIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
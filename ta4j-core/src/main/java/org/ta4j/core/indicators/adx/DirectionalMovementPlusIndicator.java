@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.AverageDirectionalMovementUpIndicator;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Directional movement plus indicator (DMI+).
  * Part of the Directional Movement System
@@ -51,6 +55,11 @@ public class DirectionalMovementPlusIndicator extends CachedIndicator<Decimal> {
         return averageDirectionalMovementUpIndicator.getValue(index).dividedBy(trueRangeIndicator.getValue(index)).multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(averageDirectionalMovementUpIndicator, trueRangeIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "timeFrame: " + timeFrame;
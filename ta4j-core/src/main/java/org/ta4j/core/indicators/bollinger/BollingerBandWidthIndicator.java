@@ -23,8 +23,12 @@
 package org.ta4j.core.indicators.bollinger;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Bollinger BandWidth indicator.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_width
@@ -49,4 +53,9 @@ public class BollingerBandWidthIndicator extends CachedIndicator<Decimal> {
         return bbu.getValue(index).minus(bbl.getValue(index))
                 .dividedBy(bbm.getValue(index)).multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(bbu, bbm, bbl);
+    }
 }
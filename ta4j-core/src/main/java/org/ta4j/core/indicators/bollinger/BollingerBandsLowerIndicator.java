@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Buy - Occurs when the price line cross from down to up de Bollinger Band Low.
  * Sell - Occurs when the price line cross from up to down de Bollinger Band High.
@@ -62,6 +65,11 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Decimal> {
         return k;
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, bbm);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "deviation: " + indicator + "series: " + bbm;
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Buy - Occurs when the price line cross from down to up de Bollinger Band Low.
  * Sell - Occurs when the price line cross from up to down de Bollinger Band High.
@@ -49,6 +52,11 @@ public class BollingerBandsMiddleIndicator extends CachedIndicator<Decimal> {
         return indicator;
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " deviation: " + indicator;
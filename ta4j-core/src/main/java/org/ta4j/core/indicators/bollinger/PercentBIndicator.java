@@ -28,6 +28,9 @@ import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * %B indicator.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_perce
@@ -64,4 +67,9 @@ public class PercentBIndicator extends CachedIndicator<Decimal> {
         Decimal lowValue = bbl.getValue(index);
         return value.minus(lowValue).dividedBy(upValue.minus(lowValue));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, bbu, bbm, bbl);
+    }
 }
@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Bullish engulfing pattern indicator.
  * <p>
@@ -63,4 +67,9 @@ public class BullishEngulfingIndicator extends CachedIndicator<Boolean> {
         }
         return false;
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
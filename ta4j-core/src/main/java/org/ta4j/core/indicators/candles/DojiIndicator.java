@@ -29,6 +29,9 @@ import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.helpers.AbsoluteIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Doji indicator.
  * <p>
@@ -68,4 +71,9 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
         
         return currentBodyHeight.isLessThan(averageBodyHeight.multipliedBy(factor));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(bodyHeightInd, averageBodyHeightInd);
+    }
 }
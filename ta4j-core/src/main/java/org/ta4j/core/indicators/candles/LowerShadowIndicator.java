@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Lower shadow height indicator.
  * <p>
@@ -60,4 +64,9 @@ public class LowerShadowIndicator extends CachedIndicator<Decimal> {
             return closePrice.minus(t.getMinPrice());
         }
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
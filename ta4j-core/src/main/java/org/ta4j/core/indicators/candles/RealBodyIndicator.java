@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Real (candle) body height indicator.
  * <p>
@@ -52,4 +56,9 @@ public class RealBodyIndicator extends CachedIndicator<Decimal> {
         Tick t = series.getTick(index);
         return t.getClosePrice().minus(t.getOpenPrice());
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
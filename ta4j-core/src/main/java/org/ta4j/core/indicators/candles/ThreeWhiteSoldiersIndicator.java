@@ -23,11 +23,15 @@
 package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Three white soldiers indicator.
  * <p>
@@ -121,4 +125,9 @@ public class ThreeWhiteSoldiersIndicator extends CachedIndicator<Boolean> {
         }
         return false;
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(upperShadowInd, averageUpperShadowInd);
+    }
 }
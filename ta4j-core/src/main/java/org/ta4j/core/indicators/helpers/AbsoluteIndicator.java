@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Absolute indicator.
  * <p>
@@ -43,4 +46,9 @@ public class AbsoluteIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return indicator.getValue(index).abs();
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Amount indicator.
  * <p>
@@ -43,4 +47,9 @@ public class AmountIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return series.getTick(index).getAmount();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Average of {@link DirectionalMovementUpIndicator directional movement up indicator}.
  * <p>
@@ -51,4 +55,9 @@ public class AverageDirectionalMovementUpIndicator extends RecursiveCachedIndica
         Decimal nbPeriodsMinusOne = Decimal.valueOf(timeFrame - 1);
         return getValue(index - 1).multipliedBy(nbPeriodsMinusOne).dividedBy(nbPeriods).plus(dmup.getValue(index).dividedBy(nbPeriods));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(dmup);
+    }
 }
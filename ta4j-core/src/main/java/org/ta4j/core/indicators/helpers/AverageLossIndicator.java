@@ -26,25 +26,37 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Average loss indicator.
  * <p>
  */
 public class AverageLossIndicator extends CachedIndicator<Decimal> {
 
-    private final CumulatedLossesIndicator cumulatedLosses;
-
-    private final int timeFrame;
+    private final GainLossIndicator gainLoss;
 
     public AverageLossIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
-        this.cumulatedLosses = new CumulatedLossesIndicator(indicator, timeFrame);
-        this.timeFrame = timeFrame;
+        this(new GainLossIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * Constructor.
+     * @param gainLoss a (possibly shared) gain/loss indicator
+     */
+    public AverageLossIndicator(GainLossIndicator gainLoss) {
+        super(gainLoss);
+        this.gainLoss = gainLoss;
     }
 
     @Override
     protected Decimal calculate(int index) {
-        final int realTimeFrame = Math.min(timeFrame, index + 1);
-        return cumulatedLosses.getValue(index).dividedBy(Decimal.valueOf(realTimeFrame));
+        return gainLoss.getValue(index).getAverageLoss();
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(gainLoss);
     }
 }
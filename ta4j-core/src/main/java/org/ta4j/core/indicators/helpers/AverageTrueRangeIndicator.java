@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Average true range indicator.
  * <p>
@@ -50,4 +54,9 @@ public class AverageTrueRangeIndicator extends RecursiveCachedIndicator<Decimal>
         Decimal nbPeriodsMinusOne = Decimal.valueOf(timeFrame - 1);
         return getValue(index - 1).multipliedBy(nbPeriodsMinusOne).plus(tr.getValue(index)).dividedBy(nbPeriods);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(tr);
+    }
 }
@@ -24,10 +24,14 @@ package org.ta4j.core.indicators.helpers;
 
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Close Location Value (CLV) indicator.
  * <p>
@@ -49,4 +53,9 @@ public class CloseLocationValueIndicator extends CachedIndicator<Decimal> {
         return ((tick.getClosePrice().minus(tick.getMinPrice())).minus(tick.getMaxPrice().minus(tick.getClosePrice())))
                  .dividedBy(tick.getMaxPrice().minus(tick.getMinPrice()));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -22,8 +22,12 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Constant indicator.
  * <p>
@@ -42,6 +46,11 @@ public class ConstantIndicator<T> extends AbstractIndicator<T> {
         return value;
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " Value: " + value;
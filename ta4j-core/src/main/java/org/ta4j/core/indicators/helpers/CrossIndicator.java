@@ -26,10 +26,16 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Cross indicator.
  * <p>
- * Boolean indicator which monitors two-indicators crossings.
+ * Boolean indicator which monitors two-indicators crossings.<br>
+ * The last non-equal relation between both indicators (i.e. up over low or up under low) is carried forward from
+ * tick to tick: when the values are requested in index order, each tick costs a constant number of comparisons,
+ * whatever the length of the stretches where both indicators are equal.
  */
 public class CrossIndicator extends CachedIndicator<Boolean> {
 
@@ -38,6 +44,18 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
     /** Lower indicator */
     private final Indicator<Decimal> low;
 
+    /** The index of the last tick of the known relation, -1 if none */
+    private int relationIndex = -1;
+
+    /** True if up was over low at the last non-equal relation (the first tick excluded), false otherwise */
+    private boolean relationUpOver;
+
+    /** The index of the relation known before the last one, -1 if none */
+    private int previousRelationIndex = -1;
+
+    /** The relation known before the last one */
+    private boolean previousRelationUpOver;
+
     /**
      * Constructor.
      * @param up the upper indicator
@@ -52,21 +70,65 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
 
     @Override
     protected Boolean calculate(int index) {
+        if (index == 0) {
+            keepRelation(0, false);
+            return false;
+        }
+        final boolean wasUpOver = wasUpOver(index - 1);
+        final Decimal upValue = up.getValue(index);
+        final Decimal lowValue = low.getValue(index);
+        keepRelation(index, upValue.isEqual(lowValue) ? wasUpOver : upValue.isGreaterThan(lowValue));
 
-        int i = index;
-        if (i == 0 || up.getValue(i).isGreaterThanOrEqual(low.getValue(i))) {
+        if (upValue.isGreaterThanOrEqual(lowValue)) {
             return false;
         }
+        if (index == 1) {
+            // The relation on the first tick only counts when it is the previous one
+            return up.getValue(0).isGreaterThan(low.getValue(0));
+        }
+        return wasUpOver;
+    }
+
+    /**
+     * @param index a tick index
+     * @return true if up was over low at the last non-equal relation until index (the first tick excluded), false otherwise
+     */
+    private boolean wasUpOver(int index) {
+        if (index == relationIndex) {
+            // Relation carried forward from the previous tick
+            return relationUpOver;
+        }
+        // Random access: walking back to the last non-equal relation
+        int i = index;
+        while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
+            i--;
+        }
+        return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+    }
 
-        i--;
-        if (up.getValue(i).isGreaterThan(low.getValue(i))) {
-            return true;
-        } else {
+    /**
+     * Keeps the last relation between both indicators.
+     * @param index the tick index
+     * @param upOver true if up was over low at the last non-equal relation until index, false otherwise
+     */
+    private void keepRelation(int index, boolean upOver) {
+        previousRelationIndex = relationIndex;
+        previousRelationUpOver = relationUpOver;
+        relationIndex = index;
+        relationUpOver = upOver;
+    }
 
-            while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
-                i--;
+    @Override
+    protected void rollBack(int index) {
+        if (relationIndex >= index) {
+            if (relationIndex == index && previousRelationIndex == index - 1) {
+                // Back to the relation of the previous tick
+                relationIndex = previousRelationIndex;
+                relationUpOver = previousRelationUpOver;
+            } else {
+                relationIndex = -1;
             }
-            return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+            previousRelationIndex = -1;
         }
     }
 
@@ -84,6 +146,11 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
         return up;
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(up, low);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " " + low + " " + up;
@@ -24,32 +24,62 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Cumulated gains indicator.
  * <p>
  */
-public class CumulatedGainsIndicator extends CachedIndicator<Decimal> {
+public class CumulatedGainsIndicator extends WindowedCachedIndicator<Decimal> {
 
     private final Indicator<Decimal> indicator;
 
-    private final int timeFrame;
+    /** Sum of the gains in the current window */
+    private Decimal sumOfGains = Decimal.ZERO;
 
     public CumulatedGainsIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
+        super(indicator, timeFrame);
         this.indicator = indicator;
-        this.timeFrame = timeFrame;
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        Decimal sumOfGains = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isGreaterThan(indicator.getValue(i - 1))) {
-                sumOfGains = sumOfGains.plus(indicator.getValue(i).minus(indicator.getValue(i - 1)));
-            }
-        }
+    protected void resetWindow() {
+        sumOfGains = Decimal.ZERO;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        sumOfGains = sumOfGains.plus(calculateGain(index));
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        sumOfGains = sumOfGains.minus(calculateGain(index));
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
         return sumOfGains;
     }
+
+    /**
+     * @param index the tick index
+     * @return the gain between the (index-1)-th value and the index-th one
+     */
+    private Decimal calculateGain(int index) {
+        if (index < 1) {
+            return Decimal.ZERO;
+        }
+        Decimal current = indicator.getValue(index);
+        Decimal previous = indicator.getValue(index - 1);
+        return current.isGreaterThan(previous) ? current.minus(previous) : Decimal.ZERO;
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
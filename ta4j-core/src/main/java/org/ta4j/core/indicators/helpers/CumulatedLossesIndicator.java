@@ -24,32 +24,62 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Cumulated losses indicator.
  * <p>
  */
-public class CumulatedLossesIndicator extends CachedIndicator<Decimal> {
+public class CumulatedLossesIndicator extends WindowedCachedIndicator<Decimal> {
 
     private final Indicator<Decimal> indicator;
 
-    private final int timeFrame;
+    /** Sum of the losses in the current window */
+    private Decimal sumOfLosses = Decimal.ZERO;
 
     public CumulatedLossesIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
+        super(indicator, timeFrame);
         this.indicator = indicator;
-        this.timeFrame = timeFrame;
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        Decimal sumOfLosses = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isLessThan(indicator.getValue(i - 1))) {
-                sumOfLosses = sumOfLosses.plus(indicator.getValue(i - 1).minus(indicator.getValue(i)));
-            }
-        }
+    protected void resetWindow() {
+        sumOfLosses = Decimal.ZERO;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        sumOfLosses = sumOfLosses.plus(calculateLoss(index));
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        sumOfLosses = sumOfLosses.minus(calculateLoss(index));
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
         return sumOfLosses;
     }
+
+    /**
+     * @param index the tick index
+     * @return the loss between the (index-1)-th value and the index-th one
+     */
+    private Decimal calculateLoss(int index) {
+        if (index < 1) {
+            return Decimal.ZERO;
+        }
+        Decimal current = indicator.getValue(index);
+        Decimal previous = indicator.getValue(index - 1);
+        return current.isLessThan(previous) ? previous.minus(current) : Decimal.ZERO;
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Difference indicator.
  * <p>
@@ -54,4 +57,9 @@ public class DifferenceIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return first.getValue(index).minus(second.getValue(index));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(first, second);
+    }
 }
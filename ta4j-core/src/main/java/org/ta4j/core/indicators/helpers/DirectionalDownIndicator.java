@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Directional down indicator.
  * <p>
@@ -49,6 +52,11 @@ public class DirectionalDownIndicator extends CachedIndicator<Decimal>{
         return admdown.getValue(index).dividedBy(atr.getValue(index));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(admdown, atr);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: "+ timeFrame;
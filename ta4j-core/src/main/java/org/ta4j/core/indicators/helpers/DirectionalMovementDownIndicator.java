@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Directional movement down indicator.
  * <p>
@@ -55,4 +59,9 @@ public class DirectionalMovementDownIndicator extends CachedIndicator<Decimal>{
         }
         return prevMinPrice.minus(minPrice);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -22,10 +22,12 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -53,4 +55,9 @@ public class FixedIndicator<T> extends AbstractIndicator<T> {
     public T getValue(int index) {
         return values.get(index);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,257 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.RecursiveCachedIndicator;
+
+/**
+ * Gain/loss indicator.
+ * <p>
+ * Computes, in a single streaming pass over the values of an indicator, the gain and the loss
+ * of each tick, the cumulated gains and losses over a time frame and both their simple and
+ * smoothed (Wilder's) averages.<br>
+ * It is meant to be shared between the indicators consuming those values (e.g. the gain and
+ * loss sides of an RSI), so that each price difference is only computed once.
+ * @see AverageGainIndicator
+ * @see SmoothedAverageGainIndicator
+ */
+public class GainLossIndicator extends RecursiveCachedIndicator<GainLossIndicator.GainLoss> {
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    private final Decimal timeFrameDecimal;
+
+    private final Decimal timeFrameMinusOne;
+
+    /** The gains of the current window (circular buffer indexed by index % timeFrame) */
+    private final Decimal[] windowGains;
+
+    /** The losses of the current window (circular buffer indexed by index % timeFrame) */
+    private final Decimal[] windowLosses;
+
+    /** The index of the last tick added to the window, -1 if the window is not initialized */
+    private int windowEndIndex = -1;
+
+    /** The gain replaced in the window by the last slide, null if the window has been rebuilt */
+    private Decimal evictedGain;
+
+    /** The loss replaced in the window by the last slide, null if the window has been rebuilt */
+    private Decimal evictedLoss;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public GainLossIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(indicator);
+        if (timeFrame < 1) {
+            throw new IllegalArgumentException("Time frame must be strictly positive");
+        }
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+        this.timeFrameDecimal = Decimal.valueOf(timeFrame);
+        this.timeFrameMinusOne = Decimal.valueOf(timeFrame - 1);
+        this.windowGains = new Decimal[timeFrame];
+        this.windowLosses = new Decimal[timeFrame];
+    }
+
+    @Override
+    protected GainLoss calculate(int index) {
+        // Ensuring the previous values are computed first, so that the window slides in index order
+        GainLoss previous = index > 0 ? getValue(index - 1) : null;
+
+        Decimal change = index > 0 ? indicator.getValue(index).minus(indicator.getValue(index - 1)) : Decimal.ZERO;
+        Decimal gain = change.isPositive() ? change : Decimal.ZERO;
+        Decimal loss = change.isNegative() ? change.abs() : Decimal.ZERO;
+
+        Decimal cumulatedGains;
+        Decimal cumulatedLosses;
+        final int slot = index % timeFrame;
+        if (previous != null && windowEndIndex == index - 1) {
+            // Sliding the window by one tick
+            cumulatedGains = previous.cumulatedGains.plus(gain);
+            cumulatedLosses = previous.cumulatedLosses.plus(loss);
+            if (index >= timeFrame) {
+                cumulatedGains = cumulatedGains.minus(windowGains[slot]);
+                cumulatedLosses = cumulatedLosses.minus(windowLosses[slot]);
+            }
+            evictedGain = windowGains[slot];
+            evictedLoss = windowLosses[slot];
+            windowGains[slot] = gain;
+            windowLosses[slot] = loss;
+        } else {
+            // Random access: rebuilding the whole window
+            evictedGain = null;
+            evictedLoss = null;
+            cumulatedGains = Decimal.ZERO;
+            cumulatedLosses = Decimal.ZERO;
+            for (int i = Math.max(0, index - timeFrame + 1); i < index; i++) {
+                Decimal windowChange = i > 0 ? indicator.getValue(i).minus(indicator.getValue(i - 1)) : Decimal.ZERO;
+                windowGains[i % timeFrame] = windowChange.isPositive() ? windowChange : Decimal.ZERO;
+                windowLosses[i % timeFrame] = windowChange.isNegative() ? windowChange.abs() : Decimal.ZERO;
+                cumulatedGains = cumulatedGains.plus(windowGains[i % timeFrame]);
+                cumulatedLosses = cumulatedLosses.plus(windowLosses[i % timeFrame]);
+            }
+            windowGains[slot] = gain;
+            windowLosses[slot] = loss;
+            cumulatedGains = cumulatedGains.plus(gain);
+            cumulatedLosses = cumulatedLosses.plus(loss);
+        }
+        windowEndIndex = index;
+
+        Decimal realTimeFrame = index + 1 < timeFrame ? Decimal.valueOf(index + 1) : timeFrameDecimal;
+        Decimal averageGain = cumulatedGains.dividedBy(realTimeFrame);
+        Decimal averageLoss = cumulatedLosses.dividedBy(realTimeFrame);
+
+        Decimal smoothedAverageGain;
+        Decimal smoothedAverageLoss;
+        if (index > timeFrame) {
+            smoothedAverageGain = previous.smoothedAverageGain.multipliedBy(timeFrameMinusOne)
+                    .plus(gain).dividedBy(timeFrameDecimal);
+            smoothedAverageLoss = previous.smoothedAverageLoss.multipliedBy(timeFrameMinusOne)
+                    .plus(loss).dividedBy(timeFrameDecimal);
+        } else {
+            smoothedAverageGain = averageGain;
+            smoothedAverageLoss = averageLoss;
+        }
+
+        return new GainLoss(gain, loss, cumulatedGains, cumulatedLosses,
+                averageGain, averageLoss, smoothedAverageGain, smoothedAverageLoss);
+    }
+
+    @Override
+    protected void rollBack(int index) {
+        super.rollBack(index);
+        if (windowEndIndex >= index) {
+            if (windowEndIndex == index && evictedGain != null) {
+                // Undoing the last slide
+                final int slot = index % timeFrame;
+                windowGains[slot] = evictedGain;
+                windowLosses[slot] = evictedLoss;
+                evictedGain = null;
+                evictedLoss = null;
+                windowEndIndex = index - 1;
+            } else {
+                windowEndIndex = -1;
+            }
+        }
+    }
+
+    /**
+     * The gain/loss values of a tick.
+     */
+    public static final class GainLoss implements Serializable {
+
+        private static final long serialVersionUID = -1906312463458237407L;
+
+        private final Decimal gain;
+        private final Decimal loss;
+        private final Decimal cumulatedGains;
+        private final Decimal cumulatedLosses;
+        private final Decimal averageGain;
+        private final Decimal averageLoss;
+        private final Decimal smoothedAverageGain;
+        private final Decimal smoothedAverageLoss;
+
+        private GainLoss(Decimal gain, Decimal loss, Decimal cumulatedGains, Decimal cumulatedLosses,
+                Decimal averageGain, Decimal averageLoss, Decimal smoothedAverageGain, Decimal smoothedAverageLoss) {
+            this.gain = gain;
+            this.loss = loss;
+            this.cumulatedGains = cumulatedGains;
+            this.cumulatedLosses = cumulatedLosses;
+            this.averageGain = averageGain;
+            this.averageLoss = averageLoss;
+            this.smoothedAverageGain = smoothedAverageGain;
+            this.smoothedAverageLoss = smoothedAverageLoss;
+        }
+
+        /**
+         * @return the gain between the previous value and the current one
+         */
+        public Decimal getGain() {
+            return gain;
+        }
+
+        /**
+         * @return the loss (as a positive value) between the previous value and the current one
+         */
+        public Decimal getLoss() {
+            return loss;
+        }
+
+        /**
+         * @return the sum of the gains over the time frame
+         */
+        public Decimal getCumulatedGains() {
+            return cumulatedGains;
+        }
+
+        /**
+         * @return the sum of the losses over the time frame
+         */
+        public Decimal getCumulatedLosses() {
+            return cumulatedLosses;
+        }
+
+        /**
+         * @return the average gain over the time frame
+         */
+        public Decimal getAverageGain() {
+            return averageGain;
+        }
+
+        /**
+         * @return the average loss over the time frame
+         */
+        public Decimal getAverageLoss() {
+            return averageLoss;
+        }
+
+        /**
+         * @return the smoothed (Wilder's) average gain
+         */
+        public Decimal getSmoothedAverageGain() {
+            return smoothedAverageGain;
+        }
+
+        /**
+         * @return the smoothed (Wilder's) average loss
+         */
+        public Decimal getSmoothedAverageLoss() {
+            return smoothedAverageLoss;
+        }
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+}
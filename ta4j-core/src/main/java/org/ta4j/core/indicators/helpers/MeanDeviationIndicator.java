@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Mean deviation indicator.
  * <p>
@@ -67,6 +70,11 @@ public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
         return absoluteDeviations.dividedBy(Decimal.valueOf(nbValues));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator, sma);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Average high-low indicator.
  * <p>
@@ -44,4 +48,9 @@ public class MedianPriceIndicator extends CachedIndicator<Decimal> {
         return series.getTick(index).getMaxPrice().plus(series.getTick(index).getMinPrice())
                 .dividedBy(Decimal.TWO);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
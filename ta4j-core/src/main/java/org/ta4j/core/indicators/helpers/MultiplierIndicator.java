@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Simple multiplier indicator.
  * <p>
@@ -47,6 +50,11 @@ public class MultiplierIndicator extends CachedIndicator<Decimal> {
         return indicator.getValue(index).multipliedBy(coefficient);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " Coefficient: " + coefficient;
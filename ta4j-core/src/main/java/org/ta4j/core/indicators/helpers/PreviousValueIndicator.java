@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Returns the previous (n-th) value of an indicator
  * <p>
@@ -58,4 +61,9 @@ public class PreviousValueIndicator extends CachedIndicator<Decimal> {
         int previousValue = Math.max(0, (index-n));
         return this.indicator.getValue(previousValue);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+}
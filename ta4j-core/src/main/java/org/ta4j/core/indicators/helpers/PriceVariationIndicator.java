@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Price variation indicator.
  * <p>
@@ -45,4 +49,9 @@ public class PriceVariationIndicator extends CachedIndicator<Decimal> {
         Decimal currentTickClosePrice = series.getTick(index).getClosePrice();
         return currentTickClosePrice.dividedBy(previousTickClosePrice);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -24,39 +24,39 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.CachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Average gain indicator calculated using smoothing
  * <p>
  */
-public class SmoothedAverageGainIndicator extends RecursiveCachedIndicator<Decimal> {
-
-    private final AverageGainIndicator averageGains;
-    private final Indicator<Decimal> indicator;
+public class SmoothedAverageGainIndicator extends CachedIndicator<Decimal> {
 
-    private final int timeFrame;
+    private final GainLossIndicator gainLoss;
 
     public SmoothedAverageGainIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
-        this.indicator = indicator;
-        this.averageGains = new AverageGainIndicator(indicator, timeFrame);
-        this.timeFrame = timeFrame;
+        this(new GainLossIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * Constructor.
+     * @param gainLoss a (possibly shared) gain/loss indicator
+     */
+    public SmoothedAverageGainIndicator(GainLossIndicator gainLoss) {
+        super(gainLoss);
+        this.gainLoss = gainLoss;
     }
 
     @Override
     protected Decimal calculate(int index) {
-        if(index > timeFrame) {
-            return getValue(index - 1)
-                .multipliedBy(Decimal.valueOf(timeFrame - 1))
-                .plus(calculateGain(index))
-                .dividedBy(Decimal.valueOf(timeFrame));
-        }
-        return averageGains.getValue(index);
+        return gainLoss.getValue(index).getSmoothedAverageGain();
     }
 
-    private Decimal calculateGain(int index){
-        Decimal gain = indicator.getValue(index).minus(indicator.getValue(index - 1));
-        return gain.isPositive() ? gain : Decimal.ZERO;
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(gainLoss);
     }
 }
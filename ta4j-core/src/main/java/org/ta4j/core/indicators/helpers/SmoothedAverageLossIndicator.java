@@ -24,39 +24,39 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.CachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Average loss indicator calculated using smoothing
  * <p>
  */
-public class SmoothedAverageLossIndicator extends RecursiveCachedIndicator<Decimal> {
-
-    private final AverageLossIndicator averageLosses;
-    private final Indicator<Decimal> indicator;
+public class SmoothedAverageLossIndicator extends CachedIndicator<Decimal> {
 
-    private final int timeFrame;
+    private final GainLossIndicator gainLoss;
 
     public SmoothedAverageLossIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
-        this.indicator = indicator;
-        this.averageLosses = new AverageLossIndicator(indicator, timeFrame);
-        this.timeFrame = timeFrame;
+        this(new GainLossIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * Constructor.
+     * @param gainLoss a (possibly shared) gain/loss indicator
+     */
+    public SmoothedAverageLossIndicator(GainLossIndicator gainLoss) {
+        super(gainLoss);
+        this.gainLoss = gainLoss;
     }
 
     @Override
     protected Decimal calculate(int index) {
-        if (index > timeFrame) {
-            return getValue(index - 1)
-                .multipliedBy(Decimal.valueOf(timeFrame - 1))
-                .plus(calculateLoss(index))
-                .dividedBy(Decimal.valueOf(timeFrame));
-        }
-        return averageLosses.getValue(index);
+        return gainLoss.getValue(index).getSmoothedAverageLoss();
     }
 
-    private Decimal calculateLoss(int index) {
-        Decimal loss = indicator.getValue(index).minus(indicator.getValue(index - 1));
-        return loss.isNegative() ? loss.abs() : Decimal.ZERO;
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(gainLoss);
     }
 }
@@ -26,6 +26,10 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Sum indicator.
  * <p>
@@ -40,6 +44,7 @@ public class SumIndicator extends CachedIndicator<Decimal> {
      * (operand0 plus operand1 plus ... plus operandN)
      * @param operands the operand indicators for the sum
      */
+    @SafeVarargs
     public SumIndicator(Indicator<Decimal>... operands) {
         // TODO: check if first series is equal to the other ones
         super(operands[0]);
@@ -54,4 +59,9 @@ public class SumIndicator extends CachedIndicator<Decimal> {
         }
         return sum;
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.<Indicator<?>>unmodifiableList(Arrays.asList(operands));
+    }
 }
@@ -22,9 +22,13 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Trade count indicator.
  * <p>
@@ -42,4 +46,9 @@ public class TradeCountIndicator extends CachedIndicator<Integer> {
     protected Integer calculate(int index) {
         return series.getTick(index).getTrades();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * True range indicator.
  * <p>
@@ -47,4 +51,9 @@ public class TrueRangeIndicator extends CachedIndicator<Decimal>{
         
         return ts.abs().max(ys.abs()).max(yst.abs());
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Typical price indicator.
  * <p>
@@ -46,4 +50,9 @@ public class TypicalPriceIndicator extends CachedIndicator<Decimal> {
         Decimal closePrice = series.getTick(index).getClosePrice();
         return maxPrice.plus(minPrice).plus(closePrice).dividedBy(Decimal.THREE);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+}
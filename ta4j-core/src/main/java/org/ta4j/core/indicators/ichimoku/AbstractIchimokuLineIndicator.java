@@ -31,6 +31,9 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.indicators.helpers.MaxPriceIndicator;
 import org.ta4j.core.indicators.helpers.MinPriceIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * An abstract class for Ichimoku clouds indicators.
  * <p>
@@ -59,4 +62,9 @@ public abstract class AbstractIchimokuLineIndicator extends CachedIndicator<Deci
     protected Decimal calculate(int index) {
         return periodHigh.getValue(index).plus(periodLow.getValue(index)).dividedBy(Decimal.TWO);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(periodHigh, periodLow);
+    }
 }
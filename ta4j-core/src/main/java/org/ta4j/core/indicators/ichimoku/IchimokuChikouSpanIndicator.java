@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.ichimoku;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Ichimoku clouds: Chikou Span indicator
  * <p>
@@ -64,4 +68,8 @@ public class IchimokuChikouSpanIndicator extends CachedIndicator<Decimal> {
         return closePriceIndicator.getValue(Math.max(0, index - timeDelay));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(closePriceIndicator);
+    }
 }
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.ichimoku;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Ichimoku clouds: Senkou Span A (Leading Span A) indicator
  * <p>
@@ -73,4 +77,9 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return conversionLine.getValue(index).plus(baseLine.getValue(index)).dividedBy(Decimal.TWO);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(conversionLine, baseLine);
+    }
 }
@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.keltner;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.AverageTrueRangeIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Keltner Channel (lower line) indicator
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels
@@ -50,4 +54,8 @@ public class KeltnerChannelLowerIndicator extends CachedIndicator<Decimal> {
         return keltnerMiddleIndicator.getValue(index).minus(ratio.multipliedBy(averageTrueRangeIndicator.getValue(index)));
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(averageTrueRangeIndicator, keltnerMiddleIndicator);
+    }
 }
@@ -29,6 +29,9 @@ import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Keltner Channel (middle line) indicator
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels
@@ -51,4 +54,8 @@ public class KeltnerChannelMiddleIndicator extends CachedIndicator<Decimal> {
         return emaIndicator.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(emaIndicator);
+    }
 }
@@ -23,12 +23,12 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Decimal;
-import org.ta4j.core.Tick;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.CachedIndicator;
 
-import java.time.temporal.IsoFields;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -37,9 +37,9 @@ import java.util.List;
  * @author team172011(Simon-Justus Wimmer), 11.10.2017
  * @see <a href="http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">chart_school: pivotpoints</a>
  */
-public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Decimal> {
+public class DeMarkPivotPointIndicator extends CachedIndicator<Decimal> {
 
-    private final TimeLevel timeLevel;
+    private final PeriodBoundaries periodBoundaries;
 
     /**
      * Constructor.
@@ -59,106 +59,63 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Decimal>
      */
     public DeMarkPivotPointIndicator(TimeSeries series, TimeLevel timeLevelId) {
         super(series);
-        this.timeLevel = timeLevelId;
+        this.periodBoundaries = PeriodBoundaries.of(series, timeLevelId);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        return calcPivotPoint(getTicksOfPreviousPeriod(index));
+        return calcPivotPoint(getPreviousPeriod(index));
     }
 
-
-	private Decimal calcPivotPoint(List<Integer> ticksOfPreviousPeriod) {
-        if (ticksOfPreviousPeriod.isEmpty())
+    private Decimal calcPivotPoint(PeriodBoundaries.Period previousPeriod) {
+        if (previousPeriod == null) {
             return Decimal.NaN;
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-		Decimal open = getTimeSeries().getTick(ticksOfPreviousPeriod.get(ticksOfPreviousPeriod.size()-1)).getOpenPrice();
-        Decimal close = tick.getClosePrice();
-		Decimal high =  tick.getMaxPrice();
-		Decimal low = tick.getMinPrice();
-
-        for(int i: ticksOfPreviousPeriod){
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
         }
+        Decimal open = previousPeriod.getOpenPrice();
+        Decimal close = previousPeriod.getClosePrice();
+        Decimal high = previousPeriod.getMaxPrice();
+        Decimal low = previousPeriod.getMinPrice();
 
-		Decimal x;
+        Decimal x;
 
-		if (close.isLessThan(open)){
-		    x = high.plus(Decimal.TWO.multipliedBy(low)).plus(close);
+        if (close.isLessThan(open)) {
+            x = high.plus(Decimal.TWO.multipliedBy(low)).plus(close);
         }
         else if (close.isGreaterThan(open)) {
             x = Decimal.TWO.multipliedBy(high).plus(low).plus(close);
         }
-        else{
-		    x = high.plus(low).plus(Decimal.TWO.multipliedBy(close));
+        else {
+            x = high.plus(low).plus(Decimal.TWO.multipliedBy(close));
         }
 
-		return x.dividedBy(Decimal.valueOf(4));
-	}
+        return x.dividedBy(Decimal.valueOf(4));
+    }
 
     /**
      * Calculates the indices of the ticks of the previous period
      * @param index index of the current tick
      * @return list of indices of the ticks of the previous period
      */
-	public List<Integer> getTicksOfPreviousPeriod(int index) {
-		List<Integer> previousTicks = new ArrayList<>();
-
-        if(timeLevel == TimeLevel.TICKBASED){
-            previousTicks.add(Math.max(0, index-1));
-            return previousTicks;
-        }
-        if (index == 0) {
-            return previousTicks;
-        }
-
-
-		final Tick currentTick = getTimeSeries().getTick(index);
-
-        // step back while tick-1 in same period (day, week, etc):
-		while(index-1 >= getTimeSeries().getBeginIndex() && getPeriod(getTimeSeries().getTick(index-1)) == getPeriod(currentTick)){
-			index--;
-		}
-
-		// index = last tick in same period, index-1 = first tick in previous period
-        long previousPeriod = getPreviousPeriod(currentTick, index-1);
-		while(index-1 >= getTimeSeries().getBeginIndex() && getPeriod(getTimeSeries().getTick(index-1)) == previousPeriod){ // while tick-n in previous period
-			index--;
-			previousTicks.add(index);
-		}
-		return previousTicks;
-	}
+    public List<Integer> getTicksOfPreviousPeriod(int index) {
+        PeriodBoundaries.Period previousPeriod = getPreviousPeriod(index);
+        return previousPeriod == null ? new ArrayList<>() : previousPeriod.getTickIndices();
+    }
 
-	private long getPreviousPeriod(Tick tick, int indexOfPreviousTick) {
-		switch (timeLevel) {
-            case DAY: // return previous day
-                int prevCalendarDay =  tick.getEndTime().minusDays(1).getDayOfYear();
-                // skip weekend and holidays:
-                while (getTimeSeries().getTick(indexOfPreviousTick).getEndTime().getDayOfYear() != prevCalendarDay && indexOfPreviousTick > 0) {
-                    prevCalendarDay--;
-                }
-                return prevCalendarDay;
-            case WEEK: // return previous week
-                return tick.getEndTime().minusWeeks(1).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-            case MONTH: // return previous month
-                return tick.getEndTime().minusMonths(1).getMonthValue();
-            default: // return previous year
-                return tick.getEndTime().minusYears(1).getYear();
-		}
-	}
+    @Override
+    protected void rollBack(int index) {
+        periodBoundaries.invalidateFrom(getTimeSeries(), index);
+    }
 
-	private long getPeriod(Tick tick) {
-        switch (timeLevel) {
-            case DAY: // return previous day
-                return tick.getEndTime().getDayOfYear();
-            case WEEK: // return previous week
-                return tick.getEndTime().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-            case MONTH: // return previous month
-                return tick.getEndTime().getMonthValue();
-            default: // return previous year
-                return tick.getEndTime().getYear();
-        }
-	}
+    /**
+     * @param index index of the current tick
+     * @return the previous period (with its precomputed prices), null if there is no previous period
+     */
+    PeriodBoundaries.Period getPreviousPeriod(int index) {
+        return periodBoundaries.getPreviousPeriod(getTimeSeries(), index);
+    }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -23,9 +23,10 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Decimal;
-import org.ta4j.core.Tick;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,7 +35,7 @@ import java.util.List;
  * @author team172011(Simon-Justus Wimmer), 11.10.2017
  * @see <a href="http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">chart_school: pivotpoints</a>
  */
-public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Decimal> {
+public class DeMarkReversalIndicator extends CachedIndicator<Decimal> {
 
     private final DeMarkPivotPointIndicator pivotPointIndicator;
     private final DeMarkPivotLevel level;
@@ -74,30 +75,23 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Decimal> {
     }
 
     private Decimal calculateResistance(Decimal x, int index) {
-        List<Integer> ticksOfPreviousPeriod = pivotPointIndicator.getTicksOfPreviousPeriod(index);
-        if (ticksOfPreviousPeriod.isEmpty()){
+        PeriodBoundaries.Period previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null){
             return Decimal.NaN;
         }
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal low = tick.getMinPrice();
-        for(int i: ticksOfPreviousPeriod){
-            low = getTimeSeries().getTick(i).getMinPrice().min(low);
-        }
-
-        return x.dividedBy(Decimal.TWO).minus(low);
+        return x.dividedBy(Decimal.TWO).minus(previousPeriod.getMinPrice());
     }
 
     private Decimal calculateSupport(Decimal x, int index){
-       List<Integer> ticksOfPreviousPeriod = pivotPointIndicator.getTicksOfPreviousPeriod(index);
-       if (ticksOfPreviousPeriod.isEmpty()) {
+       PeriodBoundaries.Period previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+       if (previousPeriod == null) {
            return Decimal.NaN;
        }
-       Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-       Decimal high = tick.getMaxPrice();
-       for(int i: ticksOfPreviousPeriod){
-           high = getTimeSeries().getTick(i).getMaxPrice().max(high);
-       }
-
-       return x.dividedBy(Decimal.TWO).minus(high);
+       return x.dividedBy(Decimal.TWO).minus(previousPeriod.getMaxPrice());
    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(pivotPointIndicator);
+    }
 }
@@ -23,9 +23,10 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Decimal;
-import org.ta4j.core.Tick;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,7 +35,7 @@ import java.util.List;
  * @author team172011(Simon-Justus Wimmer), 09.10.2017
  * @see <a href="http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">chart_school: pivotpoints</a>
  */
-public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Decimal> {
+public class FibonacciReversalIndicator extends CachedIndicator<Decimal> {
 
     private final PivotPointIndicator pivotPointIndicator;
     private final FibReversalTyp fibReversalTyp;
@@ -93,20 +94,20 @@ public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Decimal
 
     @Override
     protected Decimal calculate(int index) {
-        List<Integer> ticksOfPreviousPeriod = pivotPointIndicator.getTicksOfPreviousPeriod(index);
-        if (ticksOfPreviousPeriod.isEmpty())
+        PeriodBoundaries.Period previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null)
             return Decimal.NaN;
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal high =  tick.getMaxPrice();
-        Decimal low = tick.getMinPrice();
-        for(int i: ticksOfPreviousPeriod){
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-        }
+        Decimal high = previousPeriod.getMaxPrice();
+        Decimal low = previousPeriod.getMinPrice();
 
         if (fibReversalTyp == FibReversalTyp.RESISTANCE) {
             return pivotPointIndicator.getValue(index).plus(fibonacciFactor.multipliedBy(high.minus(low)));
         }
         return pivotPointIndicator.getValue(index).minus(fibonacciFactor.multipliedBy(high.minus(low)));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(pivotPointIndicator);
+    }
 }
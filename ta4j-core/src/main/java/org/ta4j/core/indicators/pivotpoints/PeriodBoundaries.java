@@ -0,0 +1,295 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.pivotpoints;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Period boundaries of a time series for a {@link TimeLevel time level}.
+ * <p>
+ * Splits the ticks of a series into consecutive periods (days, weeks, months, years or single ticks)
+ * and keeps the open, high, low and close prices of each period. The boundaries are computed once,
+ * extended incrementally as new ticks are requested and shared between all the pivot indicators of
+ * a series and time level.
+ */
+final class PeriodBoundaries {
+
+    /** The shared boundaries, per series and time level (weak keys: the boundaries don't reference the series) */
+    private static final Map<TimeSeries, Map<TimeLevel, PeriodBoundaries>> SHARED_BOUNDARIES = new WeakHashMap<>();
+
+    private final TimeLevel timeLevel;
+
+    /** The periods, in index order */
+    private final List<Period> periods = new ArrayList<>();
+
+    /** The index of the next tick to be added to the periods */
+    private int nextIndex = -1;
+
+    private PeriodBoundaries(TimeLevel timeLevel) {
+        this.timeLevel = timeLevel;
+    }
+
+    /**
+     * @param series the time series
+     * @param timeLevel the time level
+     * @return the (shared) period boundaries of the series for the time level
+     */
+    static PeriodBoundaries of(TimeSeries series, TimeLevel timeLevel) {
+        synchronized (SHARED_BOUNDARIES) {
+            return SHARED_BOUNDARIES
+                    .computeIfAbsent(series, s -> new EnumMap<>(TimeLevel.class))
+                    .computeIfAbsent(timeLevel, PeriodBoundaries::new);
+        }
+    }
+
+    /**
+     * @param series the time series
+     * @param index the tick index
+     * @return the period preceding the one of the index-th tick, null if there is no such period
+     *          (e.g. first period of the series or missing previous calendar period)
+     */
+    synchronized Period getPreviousPeriod(TimeSeries series, int index) {
+        extendTo(series, index);
+        int periodIndex = findPeriod(index);
+        if (periodIndex < 0) {
+            return null;
+        }
+        if (timeLevel == TimeLevel.TICKBASED) {
+            return periods.get(Math.max(0, periodIndex - 1));
+        }
+        if (periodIndex == 0 || !periods.get(periodIndex).followsPreviousPeriod) {
+            return null;
+        }
+        return periods.get(periodIndex - 1);
+    }
+
+    /**
+     * Removes the ticks from index from the periods (e.g. when the last tick of the series has been amended).
+     * @param series the time series
+     * @param index the first tick index to be removed
+     */
+    synchronized void invalidateFrom(TimeSeries series, int index) {
+        if (nextIndex <= index) {
+            return;
+        }
+        nextIndex = index;
+        while (!periods.isEmpty() && periods.get(periods.size() - 1).startIndex >= index) {
+            periods.remove(periods.size() - 1);
+        }
+        if (periods.isEmpty()) {
+            return;
+        }
+        Period lastPeriod = periods.get(periods.size() - 1);
+        if (lastPeriod.endIndex >= index) {
+            if (lastPeriod.startIndex < series.getBeginIndex()) {
+                // The first ticks of the period have been removed: starting again from the first tick of the series
+                periods.clear();
+                nextIndex = -1;
+                return;
+            }
+            // Rebuilding the last period from its first tick
+            Period period = new Period(lastPeriod.startIndex, series.getTick(lastPeriod.startIndex),
+                    lastPeriod.periodId, lastPeriod.followsPreviousPeriod);
+            for (int i = lastPeriod.startIndex + 1; i < index; i++) {
+                period.add(i, series.getTick(i));
+            }
+            periods.set(periods.size() - 1, period);
+        }
+    }
+
+    /**
+     * Adds the ticks up to index to the periods.
+     * @param series the time series
+     * @param index the tick index
+     */
+    private void extendTo(TimeSeries series, int index) {
+        if (nextIndex < series.getBeginIndex()) {
+            // First use or ticks removed since the last call
+            periods.clear();
+            nextIndex = series.getBeginIndex();
+        }
+        final int lastIndex = Math.min(index, series.getEndIndex());
+        for (; nextIndex <= lastIndex; nextIndex++) {
+            Tick tick = series.getTick(nextIndex);
+            Period lastPeriod = periods.isEmpty() ? null : periods.get(periods.size() - 1);
+            long periodId = getPeriodId(tick);
+            if (lastPeriod != null && timeLevel != TimeLevel.TICKBASED && lastPeriod.periodId == periodId) {
+                lastPeriod.add(nextIndex, tick);
+            } else {
+                boolean followsPreviousPeriod = lastPeriod != null && follows(tick, lastPeriod);
+                periods.add(new Period(nextIndex, tick, periodId, followsPreviousPeriod));
+            }
+        }
+        removeObsoletePeriods(series.getBeginIndex());
+    }
+
+    /**
+     * Removes the periods which are not reachable anymore (i.e. before the period preceding the first tick of a moving series).
+     * @param beginIndex the begin index of the series
+     */
+    private void removeObsoletePeriods(int beginIndex) {
+        int obsoleteCount = 0;
+        while (obsoleteCount + 1 < periods.size() && periods.get(obsoleteCount + 1).endIndex < beginIndex) {
+            obsoleteCount++;
+        }
+        if (obsoleteCount > 0) {
+            periods.subList(0, obsoleteCount).clear();
+        }
+    }
+
+    /**
+     * @param index the tick index
+     * @return the position of the period containing the index-th tick, -1 if not found
+     */
+    private int findPeriod(int index) {
+        int low = 0;
+        int high = periods.size() - 1;
+        if (high < 0 || index < periods.get(0).startIndex) {
+            return -1;
+        }
+        if (index >= periods.get(high).startIndex) {
+            // Most frequent case: last period
+            return high;
+        }
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (periods.get(middle).startIndex <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param firstTick the first tick of a period
+     * @param previousPeriod the period just before
+     * @return true if the previous period is the calendar period preceding the one of the tick, false otherwise
+     */
+    private boolean follows(Tick firstTick, Period previousPeriod) {
+        switch (timeLevel) {
+            case DAY:
+                // Weekends and holidays are skipped: any previous trading day matches
+                // (except for a single first tick which has to be the exact previous day)
+                return previousPeriod.endIndex > 0
+                        || previousPeriod.periodId == firstTick.getEndTime().minusDays(1).getDayOfYear();
+            case WEEK:
+                return previousPeriod.periodId == firstTick.getEndTime().minusWeeks(1).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            case MONTH:
+                return previousPeriod.periodId == firstTick.getEndTime().minusMonths(1).getMonthValue();
+            case YEAR:
+                return previousPeriod.periodId == firstTick.getEndTime().minusYears(1).getYear();
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @param tick a tick
+     * @return the identifier of the period of the tick (for the time level)
+     */
+    private long getPeriodId(Tick tick) {
+        switch (timeLevel) {
+            case DAY:
+                return tick.getEndTime().getDayOfYear();
+            case WEEK:
+                return tick.getEndTime().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            case MONTH:
+                return tick.getEndTime().getMonthValue();
+            case YEAR:
+                return tick.getEndTime().getYear();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * A period (i.e. consecutive ticks of the same day, week, etc.).
+     */
+    static final class Period {
+
+        private final int startIndex;
+        private int endIndex;
+        private final long periodId;
+        private final boolean followsPreviousPeriod;
+        private final Decimal openPrice;
+        private Decimal maxPrice;
+        private Decimal minPrice;
+        private Decimal closePrice;
+
+        private Period(int startIndex, Tick firstTick, long periodId, boolean followsPreviousPeriod) {
+            this.startIndex = startIndex;
+            this.endIndex = startIndex;
+            this.periodId = periodId;
+            this.followsPreviousPeriod = followsPreviousPeriod;
+            this.openPrice = firstTick.getOpenPrice();
+            this.maxPrice = firstTick.getMaxPrice();
+            this.minPrice = firstTick.getMinPrice();
+            this.closePrice = firstTick.getClosePrice();
+        }
+
+        private void add(int index, Tick tick) {
+            endIndex = index;
+            maxPrice = tick.getMaxPrice().max(maxPrice);
+            minPrice = tick.getMinPrice().min(minPrice);
+            closePrice = tick.getClosePrice();
+        }
+
+        /**
+         * @return the indices of the ticks of the period, from the last one to the first one
+         */
+        List<Integer> getTickIndices() {
+            List<Integer> indices = new ArrayList<>(endIndex - startIndex + 1);
+            for (int i = endIndex; i >= startIndex; i--) {
+                indices.add(i);
+            }
+            return indices;
+        }
+
+        Decimal getOpenPrice() {
+            return openPrice;
+        }
+
+        Decimal getMaxPrice() {
+            return maxPrice;
+        }
+
+        Decimal getMinPrice() {
+            return minPrice;
+        }
+
+        Decimal getClosePrice() {
+            return closePrice;
+        }
+    }
+}
@@ -23,9 +23,10 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Decimal;
-import org.ta4j.core.Tick;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -34,7 +35,7 @@ import java.util.List;
  * @author team172011(Simon-Justus Wimmer), 11.10.2017
  * @see <a href="http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">chart_school: pivotpoints</a>
  */
-public class StandardReversalIndicator extends RecursiveCachedIndicator<Decimal> {
+public class StandardReversalIndicator extends CachedIndicator<Decimal> {
 
     private final PivotPointIndicator pivotPointIndicator;
     private final PivotLevel level;
@@ -54,86 +55,34 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Decimal>
 
     @Override
     protected Decimal calculate(int index) {
-        List<Integer> ticksOfPreviousPeriod = pivotPointIndicator.getTicksOfPreviousPeriod(index);
-        if (ticksOfPreviousPeriod.isEmpty()) {
+        PeriodBoundaries.Period previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null) {
             return Decimal.NaN;
         }
+        Decimal high = previousPeriod.getMaxPrice();
+        Decimal low = previousPeriod.getMinPrice();
+        Decimal pivotPoint = pivotPointIndicator.getValue(index);
         switch (level){
             case RESISTANCE_3:
-                return calculateR3(ticksOfPreviousPeriod, index);
+                return high.plus(Decimal.TWO.multipliedBy(pivotPoint.minus(low)));
             case RESISTANCE_2:
-                return calculateR2(ticksOfPreviousPeriod, index);
+                return pivotPoint.plus(high.minus(low));
             case RESISTANCE_1:
-                return calculateR1(ticksOfPreviousPeriod, index);
+                return Decimal.TWO.multipliedBy(pivotPoint).minus(low);
             case SUPPORT_1:
-                return  calculateS1(ticksOfPreviousPeriod, index);
+                return Decimal.TWO.multipliedBy(pivotPoint).minus(high);
             case SUPPORT_2:
-                return calculateS2(ticksOfPreviousPeriod, index);
+                return pivotPoint.minus(high.minus(low));
             case SUPPORT_3:
-                return calculateS3(ticksOfPreviousPeriod, index);
+                return low.minus(Decimal.TWO.multipliedBy(high.minus(pivotPoint)));
             default:
                 return Decimal.NaN;
         }
 
     }
 
-    private Decimal calculateR3(List<Integer> ticksOfPreviousPeriod, int index){
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal low = tick.getMinPrice();
-        Decimal high =  tick.getMaxPrice();
-        for(int i: ticksOfPreviousPeriod){
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-        }
-        return high.plus(Decimal.TWO.multipliedBy((pivotPointIndicator.getValue(index).minus(low))));
-    }
-
-    private Decimal calculateR2(List<Integer> ticksOfPreviousPeriod, int index){
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal low = tick.getMinPrice();
-        Decimal high = tick.getMaxPrice();
-        for(int i: ticksOfPreviousPeriod){
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-        }
-        return pivotPointIndicator.getValue(index).plus((high.minus(low)));
-    }
-
-    private Decimal calculateR1(List<Integer> ticksOfPreviousPeriod, int index){
-        Decimal low = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0)).getMinPrice();
-        for(int i: ticksOfPreviousPeriod){
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-        }
-        return Decimal.TWO.multipliedBy(pivotPointIndicator.getValue(index)).minus(low);
-    }
-
-    private Decimal calculateS1(List<Integer> ticksOfPreviousPeriod, int index){
-        Decimal high =  getTimeSeries().getTick(ticksOfPreviousPeriod.get(0)).getMaxPrice();
-        for(int i: ticksOfPreviousPeriod){
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-        }
-        return Decimal.TWO.multipliedBy(pivotPointIndicator.getValue(index)).minus(high);
-    }
-
-    private Decimal calculateS2(List<Integer> ticksOfPreviousPeriod, int index){
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal high =  tick.getMaxPrice();
-        Decimal low = tick.getMinPrice();
-        for(int i: ticksOfPreviousPeriod){
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-        }
-        return pivotPointIndicator.getValue(index).minus((high.minus(low)));
-    }
-
-    private Decimal calculateS3(List<Integer> ticksOfPreviousPeriod, int index){
-        Tick tick = getTimeSeries().getTick(ticksOfPreviousPeriod.get(0));
-        Decimal high =  tick.getMaxPrice();
-        Decimal low = tick.getMinPrice();
-        for(int i: ticksOfPreviousPeriod){
-            high = (getTimeSeries().getTick(i).getMaxPrice()).max(high);
-            low = (getTimeSeries().getTick(i).getMinPrice()).min(low);
-        }
-        return low.minus(Decimal.TWO.multipliedBy((high.minus(pivotPointIndicator.getValue(index)))));
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(pivotPointIndicator);
     }
 }
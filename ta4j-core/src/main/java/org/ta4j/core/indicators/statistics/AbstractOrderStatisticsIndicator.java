@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An abstract class for rolling order statistics indicators (median, percentiles, etc.).
+ * <p>
+ * The values of the window are kept sorted in an indexable skip list:
+ * each window update costs O(log n) (with n the time frame).
+ * If the window contains a NaN value, the indicator value is NaN.
+ */
+public abstract class AbstractOrderStatisticsIndicator extends WindowedCachedIndicator<Decimal> {
+
+    private final Indicator<Decimal> indicator;
+
+    /** The sorted (non-NaN) values of the current window */
+    private final IndexableSkipList sortedValues;
+
+    /** Number of NaN values in the current window */
+    private int nanCount = 0;
+
+    /** Last percentile position computed (the window size is constant most of the time) */
+    private Decimal positionPercentile;
+    private int positionSize = -1;
+    private int positionLowerRank;
+    private Decimal positionFraction;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public AbstractOrderStatisticsIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(indicator, timeFrame);
+        this.indicator = indicator;
+        sortedValues = new IndexableSkipList(timeFrame);
+    }
+
+    @Override
+    protected void resetWindow() {
+        sortedValues.clear();
+        nanCount = 0;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount++;
+        } else {
+            sortedValues.insert(value);
+        }
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount--;
+        } else {
+            sortedValues.remove(value);
+        }
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
+        if (nanCount > 0) {
+            return Decimal.NaN;
+        }
+        return calculateStatistic(sortedValues);
+    }
+
+    /**
+     * @param sortedValues the sorted values of the current window (not empty)
+     * @return the value of the indicator for the current window
+     */
+    protected abstract Decimal calculateStatistic(IndexableSkipList sortedValues);
+
+    /**
+     * Computes a percentile of sorted values.
+     * <p>
+     * Uses a linear interpolation between the closest ranks
+     * (i.e. the same definition as the PERCENTILE.INC function of spreadsheets).
+     * @param sortedValues the sorted values (not empty)
+     * @param percentile the percentile (between 0 and 100)
+     * @return the percentile of the values
+     */
+    protected Decimal percentile(IndexableSkipList sortedValues, Decimal percentile) {
+        final int size = sortedValues.size();
+        if (size != positionSize || percentile != positionPercentile) {
+            Decimal position = percentile.multipliedBy(Decimal.valueOf(size - 1)).dividedBy(Decimal.HUNDRED);
+            positionLowerRank = (int) Math.floor(position.toDouble());
+            positionFraction = position.minus(Decimal.valueOf(positionLowerRank));
+            positionPercentile = percentile;
+            positionSize = size;
+        }
+        Decimal lowerValue = sortedValues.get(positionLowerRank);
+        if (positionFraction.isZero() || positionLowerRank + 1 >= size) {
+            return lowerValue;
+        }
+        Decimal upperValue = sortedValues.get(positionLowerRank + 1);
+        return lowerValue.plus(upperValue.minus(lowerValue).multipliedBy(positionFraction));
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+}
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Correlation coefficient indicator.
  * <p>
@@ -60,4 +63,9 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
         
         return cov.dividedBy(var1.multipliedBy(var2).sqrt());
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(variance1, variance2, covariance);
+    }
 }
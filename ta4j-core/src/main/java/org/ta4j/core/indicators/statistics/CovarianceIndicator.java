@@ -24,24 +24,35 @@ package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Covariance indicator.
  * <p>
  */
-public class CovarianceIndicator extends CachedIndicator<Decimal> {
+public class CovarianceIndicator extends WindowedCachedIndicator<Decimal> {
 
     private Indicator<Decimal> indicator1;
     
     private Indicator<Decimal> indicator2;
 
-    private int timeFrame;
+    /** Number of ticks in the current window for which both values are not NaN */
+    private int count = 0;
 
-    private SMAIndicator sma1;
-    
-    private SMAIndicator sma2;
+    /** Mean of the values of the first indicator in the current window */
+    private Decimal mean1 = Decimal.ZERO;
+
+    /** Mean of the values of the second indicator in the current window */
+    private Decimal mean2 = Decimal.ZERO;
+
+    /** Sum of the products of the deviations from the means in the current window */
+    private Decimal sumOfProducts = Decimal.ZERO;
+
+    /** Number of ticks in the current window for which one of the values is NaN */
+    private int nanCount = 0;
 
     /**
      * Constructor.
@@ -50,27 +61,73 @@ public class CovarianceIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public CovarianceIndicator(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
-        super(indicator1);
+        super(indicator1, timeFrame);
         this.indicator1 = indicator1;
         this.indicator2 = indicator2;
-        this.timeFrame = timeFrame;
-        sma1 = new SMAIndicator(indicator1, timeFrame);
-        sma2 = new SMAIndicator(indicator2, timeFrame);
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Decimal covariance = Decimal.ZERO;
-        Decimal average1 = sma1.getValue(index);
-        Decimal average2 = sma2.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Decimal mul = indicator1.getValue(i).minus(average1).multipliedBy(indicator2.getValue(i).minus(average2));
-            covariance = covariance.plus(mul);
+    protected void resetWindow() {
+        count = 0;
+        mean1 = Decimal.ZERO;
+        mean2 = Decimal.ZERO;
+        sumOfProducts = Decimal.ZERO;
+        nanCount = 0;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        Decimal value1 = indicator1.getValue(index);
+        Decimal value2 = indicator2.getValue(index);
+        if (value1.isNaN() || value2.isNaN()) {
+            nanCount++;
+        } else {
+            // Welford's update
+            count++;
+            final Decimal n = Decimal.valueOf(count);
+            Decimal delta1 = value1.minus(mean1);
+            mean1 = mean1.plus(delta1.dividedBy(n));
+            mean2 = mean2.plus(value2.minus(mean2).dividedBy(n));
+            sumOfProducts = sumOfProducts.plus(delta1.multipliedBy(value2.minus(mean2)));
         }
-        covariance = covariance.dividedBy(Decimal.valueOf(numberOfObservations));
-        return covariance;
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        Decimal value1 = indicator1.getValue(index);
+        Decimal value2 = indicator2.getValue(index);
+        if (value1.isNaN() || value2.isNaN()) {
+            nanCount--;
+        } else {
+            // Reverse Welford's update
+            count--;
+            if (count == 0) {
+                mean1 = Decimal.ZERO;
+                mean2 = Decimal.ZERO;
+                sumOfProducts = Decimal.ZERO;
+                return;
+            }
+            final Decimal n = Decimal.valueOf(count);
+            Decimal delta1 = value1.minus(mean1);
+            mean1 = mean1.minus(delta1.dividedBy(n));
+            mean2 = mean2.minus(value2.minus(mean2).dividedBy(n));
+            sumOfProducts = sumOfProducts.minus(delta1.multipliedBy(value2.minus(mean2)));
+        }
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
+        if (nanCount > 0) {
+            return Decimal.NaN;
+        }
+        // Cov(X, Y) = sum((x - mean(X)) * (y - mean(Y))) / n
+        final Decimal numberOfObservations = Decimal.valueOf(getWindowSize(index));
+        return sumOfProducts.dividedBy(numberOfObservations);
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(indicator1, indicator2);
     }
 
     @Override
@@ -0,0 +1,216 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Decimal;
+
+import java.io.Serializable;
+import java.util.Random;
+
+/**
+ * Indexable skip list of {@link Decimal decimals}.
+ * <p>
+ * Keeps its values sorted and allows to insert/remove a value and to get the value
+ * at a given rank in O(log n).
+ * Used as the backing structure of the rolling order statistics indicators (the values of the window are
+ * read by {@link AbstractOrderStatisticsIndicator#calculateStatistic(IndexableSkipList)}, the list is only
+ * updated by the indicator).
+ * <p>
+ * NaN values are not supported (they cannot be ordered).
+ * @see <a href="http://code.activestate.com/recipes/576930/">Efficient running median using an indexable skiplist</a>
+ */
+public class IndexableSkipList implements Serializable {
+
+    private static final long serialVersionUID = -3346325519472302543L;
+
+    /**
+     * A node of the skip list.
+     */
+    private static class Node implements Serializable {
+
+        private static final long serialVersionUID = 6155367290787659640L;
+
+        /** The value of the node (null for the head) */
+        private final Decimal value;
+        /** The next node at each level (null for the end of the list) */
+        private final Node[] next;
+        /** The number of level 0 links crossed by each link */
+        private final int[] width;
+
+        Node(Decimal value, int levels) {
+            this.value = value;
+            next = new Node[levels];
+            width = new int[levels];
+        }
+    }
+
+    /** The number of levels */
+    private final int maxLevels;
+
+    /** The head of the list */
+    private final Node head;
+
+    /** The random generator used to compute the levels of the nodes */
+    private final Random random = new Random(42);
+
+    /** Working arrays (to avoid allocations on each update) */
+    private final Node[] chain;
+    private final int[] stepsAtLevel;
+
+    /** The number of values in the list */
+    private int size = 0;
+
+    /**
+     * Constructor.
+     * @param expectedSize the expected (maximum) number of values in the list
+     */
+    IndexableSkipList(int expectedSize) {
+        maxLevels = 1 + (31 - Integer.numberOfLeadingZeros(Math.max(1, expectedSize)));
+        head = new Node(null, maxLevels);
+        chain = new Node[maxLevels];
+        stepsAtLevel = new int[maxLevels];
+        clear();
+    }
+
+    /**
+     * @return the number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values of the list.
+     */
+    void clear() {
+        for (int level = 0; level < maxLevels; level++) {
+            head.next[level] = null;
+            head.width[level] = 1;
+        }
+        size = 0;
+    }
+
+    /**
+     * @param rank a rank (0 for the lowest value, size-1 for the highest one)
+     * @return the value at the provided rank
+     */
+    public Decimal get(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", size: " + size);
+        }
+        Node node = head;
+        int i = rank + 1;
+        for (int level = maxLevels - 1; level >= 0; level--) {
+            while (node.width[level] <= i) {
+                i -= node.width[level];
+                node = node.next[level];
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * @param value a value
+     * @return the number of values of the list which are strictly lower than the provided one
+     */
+    public int countLessThan(Decimal value) {
+        Node node = head;
+        int count = 0;
+        for (int level = maxLevels - 1; level >= 0; level--) {
+            while (node.next[level] != null && node.next[level].value.isLessThan(value)) {
+                count += node.width[level];
+                node = node.next[level];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Inserts a value in the list.
+     * @param value the value to be inserted (not NaN)
+     */
+    void insert(Decimal value) {
+        // Finding the last node at each level whose value is <= to the inserted one
+        Node node = head;
+        for (int level = maxLevels - 1; level >= 0; level--) {
+            stepsAtLevel[level] = 0;
+            while (node.next[level] != null && node.next[level].value.isLessThanOrEqual(value)) {
+                stepsAtLevel[level] += node.width[level];
+                node = node.next[level];
+            }
+            chain[level] = node;
+        }
+
+        // Linking the new node at each of its levels
+        int levels = 1;
+        while (levels < maxLevels && random.nextBoolean()) {
+            levels++;
+        }
+        Node newNode = new Node(value, levels);
+        int steps = 0;
+        for (int level = 0; level < levels; level++) {
+            Node previous = chain[level];
+            newNode.next[level] = previous.next[level];
+            previous.next[level] = newNode;
+            newNode.width[level] = previous.width[level] - steps;
+            previous.width[level] = steps + 1;
+            steps += stepsAtLevel[level];
+        }
+        for (int level = levels; level < maxLevels; level++) {
+            chain[level].width[level]++;
+        }
+        size++;
+    }
+
+    /**
+     * Removes a value from the list.
+     * @param value the value to be removed
+     * @throws IllegalArgumentException if the value is not in the list
+     */
+    void remove(Decimal value) {
+        // Finding the last node at each level whose value is < to the removed one
+        Node node = head;
+        for (int level = maxLevels - 1; level >= 0; level--) {
+            while (node.next[level] != null && node.next[level].value.isLessThan(value)) {
+                node = node.next[level];
+            }
+            chain[level] = node;
+        }
+        Node removed = chain[0].next[0];
+        if (removed == null || !removed.value.isEqual(value)) {
+            throw new IllegalArgumentException("Value not found: " + value);
+        }
+
+        // Unlinking the node at each of its levels
+        final int levels = removed.next.length;
+        for (int level = 0; level < levels; level++) {
+            Node previous = chain[level];
+            previous.width[level] += removed.width[level] - 1;
+            previous.next[level] = removed.next[level];
+        }
+        for (int level = levels; level < maxLevels; level++) {
+            chain[level].width[level]--;
+        }
+        size--;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+
+/**
+ * Rolling median absolute deviation (MAD) indicator.
+ * <p>
+ * Returns the median of the absolute deviations from the median of the values of an indicator over a time frame.
+ * It is a robust (i.e. insensitive to outliers) measure of the dispersion of the values.<br>
+ * Note that the returned value is not scaled (multiply it by 1.4826 to get a consistent estimator of the
+ * standard deviation for normally distributed values).
+ * @see <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">https://en.wikipedia.org/wiki/Median_absolute_deviation</a>
+ */
+public class MedianAbsoluteDeviationIndicator extends AbstractOrderStatisticsIndicator {
+
+    private static final Decimal MEDIAN_PERCENTILE = Decimal.valueOf(50);
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public MedianAbsoluteDeviationIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(indicator, timeFrame);
+    }
+
+    @Override
+    protected Decimal calculateStatistic(IndexableSkipList sortedValues) {
+        final Decimal median = percentile(sortedValues, MEDIAN_PERCENTILE);
+        final int size = sortedValues.size();
+        // The absolute deviations are two sorted sequences:
+        //  - below: median - values[p-1], median - values[p-2], ..., median - values[0]
+        //  - above: values[p] - median, values[p+1] - median, ..., values[size-1] - median
+        // (with p the number of values lower than the median)
+        // Their median is found with a selection over both sequences (no sort needed).
+        final int lowerCount = sortedValues.countLessThan(median);
+        Decimal deviation = selectDeviation(sortedValues, median, lowerCount, size / 2);
+        if (size % 2 == 0) {
+            Decimal lowerDeviation = selectDeviation(sortedValues, median, lowerCount, size / 2 - 1);
+            deviation = deviation.plus(lowerDeviation).dividedBy(Decimal.TWO);
+        }
+        return deviation;
+    }
+
+    /**
+     * Selects the k-th lowest absolute deviation from the median.
+     * @param sortedValues the sorted values
+     * @param median the median of the values
+     * @param lowerCount the number of values lower than the median
+     * @param k the rank of the deviation to select (0 for the lowest one)
+     * @return the k-th lowest absolute deviation
+     */
+    private static Decimal selectDeviation(IndexableSkipList sortedValues, Decimal median, int lowerCount, int k) {
+        final int belowSize = lowerCount;
+        final int aboveSize = sortedValues.size() - lowerCount;
+        final int count = k + 1;
+        // Binary search on the number of deviations taken from the "below" sequence
+        int low = Math.max(0, count - aboveSize);
+        int high = Math.min(count, belowSize);
+        while (true) {
+            int fromBelow = (low + high) >>> 1;
+            int fromAbove = count - fromBelow;
+            if (fromBelow < belowSize && fromAbove > 0
+                    && deviationAbove(sortedValues, median, lowerCount, fromAbove - 1)
+                            .isGreaterThan(deviationBelow(sortedValues, median, lowerCount, fromBelow))) {
+                // Too few deviations taken from below
+                low = fromBelow + 1;
+            } else if (fromBelow > 0 && fromAbove < aboveSize
+                    && deviationBelow(sortedValues, median, lowerCount, fromBelow - 1)
+                            .isGreaterThan(deviationAbove(sortedValues, median, lowerCount, fromAbove))) {
+                // Too many deviations taken from below
+                high = fromBelow - 1;
+            } else if (fromBelow == 0) {
+                return deviationAbove(sortedValues, median, lowerCount, fromAbove - 1);
+            } else if (fromAbove == 0) {
+                return deviationBelow(sortedValues, median, lowerCount, fromBelow - 1);
+            } else {
+                return deviationBelow(sortedValues, median, lowerCount, fromBelow - 1)
+                        .max(deviationAbove(sortedValues, median, lowerCount, fromAbove - 1));
+            }
+        }
+    }
+
+    /**
+     * @param sortedValues the sorted values
+     * @param median the median of the values
+     * @param lowerCount the number of values lower than the median
+     * @param i a rank (0 for the lowest deviation)
+     * @return the i-th lowest deviation of the values lower than the median
+     */
+    private static Decimal deviationBelow(IndexableSkipList sortedValues, Decimal median, int lowerCount, int i) {
+        return median.minus(sortedValues.get(lowerCount - 1 - i));
+    }
+
+    /**
+     * @param sortedValues the sorted values
+     * @param median the median of the values
+     * @param lowerCount the number of values lower than the median
+     * @param i a rank (0 for the lowest deviation)
+     * @return the i-th lowest deviation of the values greater than or equal to the median
+     */
+    private static Decimal deviationAbove(IndexableSkipList sortedValues, Decimal median, int lowerCount, int i) {
+        return sortedValues.get(lowerCount + i).minus(median);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame;
+    }
+}
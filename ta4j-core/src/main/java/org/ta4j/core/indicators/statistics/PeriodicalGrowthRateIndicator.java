@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * Periodical Growth Rate indicator.
@@ -129,5 +132,9 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Decimal> {
         return timeframedReturn;
 
     }
-}
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
+}
@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Simple linear regression indicator.
  * <p>
@@ -91,4 +94,9 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Decimal> {
         slope = xyBar.dividedBy(xxBar);
         intercept = yBar.minus(slope.multipliedBy(xBar));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
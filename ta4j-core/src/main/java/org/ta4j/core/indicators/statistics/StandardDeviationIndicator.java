@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Standard deviation indicator.
  * <p>
@@ -49,4 +52,9 @@ public class StandardDeviationIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return variance.getValue(index).sqrt();
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(variance);
+    }
 }
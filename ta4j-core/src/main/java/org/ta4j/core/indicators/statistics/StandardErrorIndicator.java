@@ -26,6 +26,9 @@ import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Standard error indicator.
  * <p>
@@ -53,4 +56,9 @@ public class StandardErrorIndicator extends CachedIndicator<Decimal> {
         final int numberOfObservations = index - startIndex + 1;
         return sdev.getValue(index).dividedBy(Decimal.valueOf(Math.sqrt(numberOfObservations)));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(sdev);
+    }
 }
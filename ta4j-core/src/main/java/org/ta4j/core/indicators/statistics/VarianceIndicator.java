@@ -24,20 +24,30 @@ package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Variance indicator.
  * <p>
  */
-public class VarianceIndicator extends CachedIndicator<Decimal> {
+public class VarianceIndicator extends WindowedCachedIndicator<Decimal> {
 
     private Indicator<Decimal> indicator;
 
-    private int timeFrame;
+    /** Number of (non-NaN) values in the current window */
+    private int count = 0;
+
+    /** Mean of the values in the current window */
+    private Decimal mean = Decimal.ZERO;
+
+    /** Sum of the squared deviations from the mean in the current window */
+    private Decimal sumOfSquaredDeviations = Decimal.ZERO;
 
-    private SMAIndicator sma;
+    /** Number of NaN values in the current window */
+    private int nanCount = 0;
 
     /**
      * Constructor.
@@ -45,24 +55,64 @@ public class VarianceIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public VarianceIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
+        super(indicator, timeFrame);
         this.indicator = indicator;
-        this.timeFrame = timeFrame;
-        sma = new SMAIndicator(indicator, timeFrame);
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Decimal variance = Decimal.ZERO;
-        Decimal average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Decimal pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
+    protected void resetWindow() {
+        count = 0;
+        mean = Decimal.ZERO;
+        sumOfSquaredDeviations = Decimal.ZERO;
+        nanCount = 0;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount++;
+        } else {
+            // Welford's update
+            count++;
+            Decimal delta = value.minus(mean);
+            mean = mean.plus(delta.dividedBy(Decimal.valueOf(count)));
+            sumOfSquaredDeviations = sumOfSquaredDeviations.plus(delta.multipliedBy(value.minus(mean)));
         }
-        variance = variance.dividedBy(Decimal.valueOf(numberOfObservations));
-        return variance;
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            nanCount--;
+        } else {
+            // Reverse Welford's update
+            count--;
+            if (count == 0) {
+                mean = Decimal.ZERO;
+                sumOfSquaredDeviations = Decimal.ZERO;
+                return;
+            }
+            Decimal delta = value.minus(mean);
+            mean = mean.minus(delta.dividedBy(Decimal.valueOf(count)));
+            sumOfSquaredDeviations = sumOfSquaredDeviations.minus(delta.multipliedBy(value.minus(mean)));
+        }
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
+        if (nanCount > 0) {
+            return Decimal.NaN;
+        }
+        // Var(X) = sum((x - mean)^2) / n (the rounding errors may not make it negative)
+        final Decimal numberOfObservations = Decimal.valueOf(getWindowSize(index));
+        return sumOfSquaredDeviations.max(Decimal.ZERO).dividedBy(numberOfObservations);
+    }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(indicator);
     }
 
     @Override
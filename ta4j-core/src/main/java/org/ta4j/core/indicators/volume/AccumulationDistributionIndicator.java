@@ -24,10 +24,14 @@ package org.ta4j.core.indicators.volume;
 
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Accumulation-distribution indicator.
  * <p>
@@ -58,4 +62,9 @@ public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<
 
         return moneyFlowVolume.plus(getValue(index - 1));
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(clvIndicator);
+    }
 }
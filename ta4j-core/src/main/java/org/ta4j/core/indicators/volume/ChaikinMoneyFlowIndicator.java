@@ -24,11 +24,15 @@ package org.ta4j.core.indicators.volume;
 
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Chaikin Money Flow (CMF) indicator.
  * <p>
@@ -73,6 +77,11 @@ public class ChaikinMoneyFlowIndicator extends CachedIndicator<Decimal> {
         return clvIndicator.getValue(index).multipliedBy(series.getTick(index).getVolume());
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(clvIndicator, volumeIndicator);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * The Moving volume weighted average price (MVWAP) Indicator.
  * @see http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp
@@ -50,4 +53,8 @@ public class MVWAPIndicator extends CachedIndicator<Decimal> {
         return sma.getValue(index);
     }
 
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.singletonList(sma);
+    }
 }
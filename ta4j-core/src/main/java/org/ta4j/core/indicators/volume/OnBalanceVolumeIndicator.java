@@ -23,9 +23,13 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * On-balance volume indicator.
  * <p>
@@ -54,4 +58,9 @@ public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Decimal>
         }
         return getValue(index - 1);
     }
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
 }
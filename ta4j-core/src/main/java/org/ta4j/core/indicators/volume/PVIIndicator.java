@@ -23,10 +23,14 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.Tick;
 import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Positive Volume Index (PVI) indicator.
  * <p>
@@ -60,5 +64,9 @@ public class PVIIndicator extends RecursiveCachedIndicator<Decimal> {
         }
         return previousValue;
     }
-	
-}
\ No newline at end of file
+
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Collections.emptyList();
+    }
+}
@@ -25,23 +25,30 @@ package org.ta4j.core.indicators.volume;
 import org.ta4j.core.Decimal;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TimeSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.WindowedCachedIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * The volume-weighted average price (VWAP) Indicator.
  * @see http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:vwap_intraday
  * @see https://en.wikipedia.org/wiki/Volume-weighted_average_price
  */
-public class VWAPIndicator extends CachedIndicator<Decimal> {
+public class VWAPIndicator extends WindowedCachedIndicator<Decimal> {
 
-    private final int timeFrame;
-    
     private final Indicator<Decimal> typicalPrice;
     
     private final Indicator<Decimal> volume;
+
+    /** Cumulative typical price x volume in the current window */
+    private Decimal cumulativeTPV = Decimal.ZERO;
+
+    /** Cumulative volume in the current window */
+    private Decimal cumulativeVolume = Decimal.ZERO;
     
     /**
      * Constructor.
@@ -49,28 +56,44 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
      * @param timeFrame the time frame
      */
     public VWAPIndicator(TimeSeries series, int timeFrame) {
-        super(series);
-        this.timeFrame = timeFrame;
+        super(series, timeFrame);
         typicalPrice = new TypicalPriceIndicator(series);
         volume = new VolumeIndicator(series);
     }
 
     @Override
-    protected Decimal calculate(int index) {
+    protected void resetWindow() {
+        cumulativeTPV = Decimal.ZERO;
+        cumulativeVolume = Decimal.ZERO;
+    }
+
+    @Override
+    protected void onAdd(int index) {
+        Decimal currentVolume = volume.getValue(index);
+        cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(index).multipliedBy(currentVolume));
+        cumulativeVolume = cumulativeVolume.plus(currentVolume);
+    }
+
+    @Override
+    protected void onEvict(int index) {
+        Decimal currentVolume = volume.getValue(index);
+        cumulativeTPV = cumulativeTPV.minus(typicalPrice.getValue(index).multipliedBy(currentVolume));
+        cumulativeVolume = cumulativeVolume.minus(currentVolume);
+    }
+
+    @Override
+    protected Decimal getWindowValue(int index) {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal cumulativeTPV = Decimal.ZERO;
-        Decimal cumulativeVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            Decimal currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
-        }
         return cumulativeTPV.dividedBy(cumulativeVolume);
     }
     
+    @Override
+    public List<Indicator<?>> getDependencies() {
+        return Arrays.asList(typicalPrice, volume);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -0,0 +1,281 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Order;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.IndicatorGraph;
+import org.ta4j.core.trading.rules.CachedRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An event-driven live trading engine.
+ * <p>
+ * {@link Strategy Strategies} are subscribed to a {@link TimeSeries time series}, each one with its own trading record.
+ * Each time a tick is {@link #addTick(Tick) added} to the series, every strategy is evaluated once on the new tick
+ * (its entry rule if no trade is opened, its exit rule otherwise) and the resulting orders are pushed to the
+ * {@link TradingSignalListener listeners} as {@link TradingSignal trading signals}, with the latency between the
+ * reception of the tick and the signal.
+ * <p>
+ * The strategies are evaluated in subscription order. Their indicators are expected to be built on the engine series and
+ * to be shared when possible. Before the strategies are evaluated, the indicators of the series (from all the
+ * subscribed strategies) are updated once, in the topological order of their {@link IndicatorGraph dependency graph}:
+ * the rules then only read cached values, whatever the number of strategies using an indicator.<br>
+ * The last tick may still be forming: when a {@link #addTrade(Decimal, Decimal) trade is added} to it, only its values
+ * are computed again (they are {@link IndicatorGraph#invalidateFrom(int) invalidated} across the dependency graph) and
+ * the strategies which have not operated on it yet are evaluated again (intrabar signals).<br>
+ * The listeners are called synchronously: a slow listener delays the following signals.
+ */
+public class LiveTradingEngine {
+
+    private final TimeSeries series;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final List<TradingSignalListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** The indicators of the subscribed strategies which are built on the series, in topological order */
+    private List<Indicator<?>> indicators = Collections.emptyList();
+
+    /** The cached rules of the subscribed strategies */
+    private List<CachedRule> cachedRules = Collections.emptyList();
+
+    /** The index of the last evaluated tick */
+    private int lastEvaluatedIndex = -1;
+
+    /**
+     * A strategy subscribed to the engine.
+     */
+    private static class Subscription {
+
+        final Strategy strategy;
+
+        final TradingRecord tradingRecord;
+
+        final Decimal amount;
+
+        Subscription(Strategy strategy, OrderType orderType, Decimal amount) {
+            this.strategy = strategy;
+            this.tradingRecord = new BaseTradingRecord(orderType);
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series the ticks are added to
+     */
+    public LiveTradingEngine(TimeSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+        this.series = series;
+    }
+
+    /**
+     * @return the time series of the engine
+     */
+    public TimeSeries getTimeSeries() {
+        return series;
+    }
+
+    /**
+     * Subscribes a strategy to the new ticks of the series.
+     * <p>
+     * Opens the trades with {@link OrderType#BUY} orders.
+     * @param strategy the trading strategy
+     * @return the trading record of the strategy (filled as the signals are emitted)
+     */
+    public TradingRecord subscribe(Strategy strategy) {
+        return subscribe(strategy, OrderType.BUY, Decimal.NaN);
+    }
+
+    /**
+     * Subscribes a strategy to the new ticks of the series.
+     * @param strategy the trading strategy
+     * @param orderType the {@link OrderType} used to open the trades
+     * @param amount the amount used to open/close the trades
+     * @return the trading record of the strategy (filled as the signals are emitted)
+     */
+    public TradingRecord subscribe(Strategy strategy, OrderType orderType, Decimal amount) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        Subscription subscription = new Subscription(strategy, orderType, amount);
+        subscriptions.add(subscription);
+        updateIndicatorGraph();
+        return subscription.tradingRecord;
+    }
+
+    /**
+     * Unsubscribes a strategy.
+     * @param strategy the trading strategy
+     * @return true if the strategy was subscribed, false otherwise
+     */
+    public boolean unsubscribe(Strategy strategy) {
+        boolean removed = subscriptions.removeIf(subscription -> subscription.strategy == strategy);
+        if (removed) {
+            updateIndicatorGraph();
+        }
+        return removed;
+    }
+
+    /**
+     * @param listener a trading signal listener
+     */
+    public void addListener(TradingSignalListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener a trading signal listener
+     * @return true if the listener was registered, false otherwise
+     */
+    public boolean removeListener(TradingSignalListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Adds a tick at the end of the series and evaluates the subscribed strategies on it.
+     * @param tick the new tick
+     */
+    public synchronized void addTick(Tick tick) {
+        long receptionTime = System.nanoTime();
+        series.addTick(tick);
+        evaluate(series.getEndIndex(), receptionTime);
+    }
+
+    /**
+     * Evaluates the subscribed strategies on the last tick of the series.
+     * <p>
+     * To be used when the ticks are added to the series by another component. A tick is evaluated only once.
+     */
+    public synchronized void evaluateLastTick() {
+        evaluate(series.getEndIndex(), System.nanoTime());
+    }
+
+    /**
+     * Adds a trade to the last tick of the series (still forming) and evaluates the subscribed strategies on it again.
+     * <p>
+     * Only the last tick is computed again. A strategy which has already operated on the tick is not evaluated again.
+     * @param tradeVolume the traded volume
+     * @param tradePrice the price
+     */
+    public synchronized void addTrade(Decimal tradeVolume, Decimal tradePrice) {
+        long receptionTime = System.nanoTime();
+        if (series.isEmpty()) {
+            throw new IllegalStateException("No tick to add the trade to");
+        }
+        series.getLastTick().addTrade(tradeVolume, tradePrice);
+        evaluateAmendedTick(series.getEndIndex(), receptionTime);
+    }
+
+    /**
+     * Evaluates the subscribed strategies on the last tick of the series again, after it has been amended.
+     * <p>
+     * To be used when the last tick is amended by another component (e.g. with {@link Tick#addTrade(Decimal, Decimal)}).
+     */
+    public synchronized void evaluateAmendedLastTick() {
+        evaluateAmendedTick(series.getEndIndex(), System.nanoTime());
+    }
+
+    /**
+     * Invalidates the values of an amended tick and evaluates the subscribed strategies on it again.
+     * @param index the tick index
+     * @param receptionTime the reception time of the amendment (in nanoseconds, see {@link System#nanoTime()})
+     */
+    private void evaluateAmendedTick(int index, long receptionTime) {
+        if (index == lastEvaluatedIndex) {
+            IndicatorGraph.invalidateFrom(indicators, cachedRules, index);
+            lastEvaluatedIndex = index - 1;
+        }
+        evaluate(index, receptionTime);
+    }
+
+    /**
+     * Evaluates the subscribed strategies on a tick.
+     * @param index the tick index
+     * @param receptionTime the reception time of the tick (in nanoseconds, see {@link System#nanoTime()})
+     */
+    private void evaluate(int index, long receptionTime) {
+        if (index <= lastEvaluatedIndex) {
+            return;
+        }
+        lastEvaluatedIndex = index;
+        for (Indicator<?> indicator : indicators) {
+            indicator.getValue(index);
+        }
+        Tick tick = series.getTick(index);
+        for (Subscription subscription : subscriptions) {
+            TradingRecord tradingRecord = subscription.tradingRecord;
+            Order lastOrder = tradingRecord.getLastOrder();
+            if (lastOrder != null && lastOrder.getIndex() == index) {
+                // Already operated on this (amended) tick
+                continue;
+            }
+            if (subscription.strategy.shouldOperate(index, tradingRecord)) {
+                boolean entry = tradingRecord.getCurrentTrade().isNew();
+                tradingRecord.operate(index, tick.getClosePrice(), subscription.amount);
+                Order order = tradingRecord.getLastOrder();
+                TradingSignal signal = new TradingSignal(subscription.strategy, tradingRecord, order, entry, tick,
+                        System.nanoTime() - receptionTime);
+                for (TradingSignalListener listener : listeners) {
+                    listener.onSignal(signal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the dependency graph of the indicators of the subscribed strategies.
+     */
+    private synchronized void updateIndicatorGraph() {
+        List<Strategy> strategies = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            strategies.add(subscription.strategy);
+        }
+        IndicatorGraph graph = IndicatorGraph.of(strategies);
+        List<Indicator<?>> seriesIndicators = new ArrayList<>();
+        for (Indicator<?> indicator : graph.getIndicators()) {
+            if (indicator.getTimeSeries() == series) {
+                seriesIndicators.add(indicator);
+            }
+        }
+        indicators = seriesIndicators;
+        cachedRules = graph.getCachedRules();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.utils.Futures;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * A multi-symbol screener.
+ * <p>
+ * Evaluates the same kind of {@link Rule rule} over the time series of many symbols in parallel and reports the
+ * matching ticks. The rule of a symbol (and its indicators) is built by the rule factory on the first screening of
+ * the symbol, then kept between the screenings: as the ticks are added to the series, the cached indicators only
+ * compute the values of the new ticks.<br>
+ * The series must not be modified during a screening.
+ * @param <K> the type of the symbols
+ */
+public class Screener<K> {
+
+    private final Function<TimeSeries, Rule> ruleFactory;
+
+    private final ExecutorService executor;
+
+    /** The screened symbols (in registration order) */
+    private final Map<K, ScreenedSeries> screenedSeries = new LinkedHashMap<>();
+
+    /**
+     * The series of a symbol and its rule.
+     */
+    private class ScreenedSeries {
+
+        final TimeSeries series;
+
+        /** The rule, built on the first screening */
+        Rule rule;
+
+        ScreenedSeries(TimeSeries series) {
+            this.series = series;
+        }
+
+        /**
+         * @param tickCount the number of (last) ticks to be screened
+         * @return the indexes (among the tickCount last ones) for which the rule is satisfied
+         */
+        List<Integer> screen(int tickCount) {
+            if (rule == null) {
+                rule = ruleFactory.apply(series);
+            }
+            List<Integer> indexes = new ArrayList<>(1);
+            if (series.isEmpty()) {
+                return indexes;
+            }
+            int endIndex = series.getEndIndex();
+            for (int i = Math.max(series.getBeginIndex(), endIndex - tickCount + 1); i <= endIndex; i++) {
+                if (rule.isSatisfied(i)) {
+                    indexes.add(i);
+                }
+            }
+            return indexes;
+        }
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The symbols are screened on the {@link ForkJoinPool#commonPool() common pool}.
+     * @param ruleFactory the factory building the rule of a symbol from its series
+     */
+    public Screener(Function<TimeSeries, Rule> ruleFactory) {
+        this(ruleFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     * @param ruleFactory the factory building the rule of a symbol from its series
+     * @param executor the executor service the symbols are screened on
+     */
+    public Screener(Function<TimeSeries, Rule> ruleFactory, ExecutorService executor) {
+        if (ruleFactory == null || executor == null) {
+            throw new IllegalArgumentException("Rule factory and executor must not be null");
+        }
+        this.ruleFactory = ruleFactory;
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a symbol.
+     * <p>
+     * Replaces the previous series of the symbol (and its rule), if any.
+     * @param symbol the symbol
+     * @param series the series of the symbol
+     */
+    public synchronized void register(K symbol, TimeSeries series) {
+        if (symbol == null || series == null) {
+            throw new IllegalArgumentException("Symbol and series must not be null");
+        }
+        screenedSeries.put(symbol, new ScreenedSeries(series));
+    }
+
+    /**
+     * Unregisters a symbol.
+     * @param symbol the symbol
+     * @return true if the symbol was registered, false otherwise
+     */
+    public synchronized boolean unregister(K symbol) {
+        return screenedSeries.remove(symbol) != null;
+    }
+
+    /**
+     * @return the number of registered symbols
+     */
+    public synchronized int size() {
+        return screenedSeries.size();
+    }
+
+    /**
+     * Screens the last tick of each symbol.
+     * @return the matches, in the registration order of the symbols
+     */
+    public List<ScreenerMatch<K>> screen() {
+        return screen(1);
+    }
+
+    /**
+     * Screens the last ticks of each symbol.
+     * @param tickCount the number of (last) ticks to be screened for each symbol
+     * @return the matches, in the registration order of the symbols then in index order
+     */
+    public synchronized List<ScreenerMatch<K>> screen(int tickCount) {
+        if (tickCount < 1) {
+            throw new IllegalArgumentException("Tick count must be strictly positive");
+        }
+        List<K> symbols = new ArrayList<>(screenedSeries.keySet());
+        List<Future<List<Integer>>> futures = new ArrayList<>(symbols.size());
+        for (K symbol : symbols) {
+            ScreenedSeries screened = screenedSeries.get(symbol);
+            futures.add(executor.submit(() -> screened.screen(tickCount)));
+        }
+        List<ScreenerMatch<K>> matches = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            K symbol = symbols.get(i);
+            TimeSeries series = screenedSeries.get(symbol).series;
+            for (int index : Futures.getResult(futures.get(i), "screening")) {
+                matches.add(new ScreenerMatch<>(symbol, series, index));
+            }
+        }
+        return matches;
+    }
+}
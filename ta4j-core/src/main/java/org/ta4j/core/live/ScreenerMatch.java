@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+
+/**
+ * A match of a {@link Screener screener}: a tick of a symbol series for which the screened rule is satisfied.
+ * @param <K> the type of the symbols
+ */
+public class ScreenerMatch<K> {
+
+    private final K symbol;
+
+    private final TimeSeries series;
+
+    private final int index;
+
+    /**
+     * Constructor.
+     * @param symbol the symbol
+     * @param series the series of the symbol
+     * @param index the index of the matching tick
+     */
+    public ScreenerMatch(K symbol, TimeSeries series, int index) {
+        this.symbol = symbol;
+        this.series = series;
+        this.index = index;
+    }
+
+    /**
+     * @return the symbol
+     */
+    public K getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return the series of the symbol
+     */
+    public TimeSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * @return the index of the matching tick
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the matching tick
+     */
+    public Tick getTick() {
+        return series.getTick(index);
+    }
+
+    @Override
+    public String toString() {
+        return "ScreenerMatch{symbol=" + symbol + ", index=" + index + "}";
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.ta4j.core.Order;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * A trading signal.
+ * <p>
+ * Emitted by a {@link LiveTradingEngine live trading engine} when a subscribed {@link Strategy strategy}
+ * enters or exits a trade on a new tick.
+ */
+public class TradingSignal {
+
+    private final Strategy strategy;
+
+    private final TradingRecord tradingRecord;
+
+    private final Order order;
+
+    private final boolean entry;
+
+    private final Tick tick;
+
+    private final long latency;
+
+    /**
+     * Constructor.
+     * @param strategy the strategy which fired the signal
+     * @param tradingRecord the trading record of the strategy
+     * @param order the order placed on the signal
+     * @param entry true if the order opened a trade, false if it closed one
+     * @param tick the tick which triggered the signal
+     * @param latency the time elapsed (in nanoseconds) between the reception of the tick and the signal
+     */
+    public TradingSignal(Strategy strategy, TradingRecord tradingRecord, Order order, boolean entry, Tick tick,
+            long latency) {
+        this.strategy = strategy;
+        this.tradingRecord = tradingRecord;
+        this.order = order;
+        this.entry = entry;
+        this.tick = tick;
+        this.latency = latency;
+    }
+
+    /**
+     * @return the strategy which fired the signal
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the trading record of the strategy (updated as new ticks are added)
+     */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /**
+     * @return the order placed on the signal
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * @return the tick which triggered the signal
+     */
+    public Tick getTick() {
+        return tick;
+    }
+
+    /**
+     * @return the index of the tick which triggered the signal
+     */
+    public int getIndex() {
+        return order.getIndex();
+    }
+
+    /**
+     * @return true if the signal opened a trade, false if it closed one
+     */
+    public boolean isEntry() {
+        return entry;
+    }
+
+    /**
+     * @return the time elapsed (in nanoseconds) between the reception of the tick and the signal
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return (isEntry() ? "Entry" : "Exit") + " signal on " + order.getIndex() + " (" + order + ", latency: "
+                + latency + " ns)";
+    }
+}
@@ -0,0 +1,357 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.probes;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.RuleProbe;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram rule probe.
+ * <p>
+ * Records in memory, per rule and per strategy (entry and exit separately), the number of evaluations and the number
+ * of satisfied ones (i.e. the hit ratio). The evaluations of the strategies, and of the rules wrapped with
+ * {@link #timed(Rule)}, are also timed, in a histogram of power-of-two buckets (in nanoseconds).<br>
+ * The rules and strategies are weakly referenced (their statistics are dropped once they are garbage collected). Can
+ * be shared by concurrent evaluations (no global lock).
+ */
+public class HistogramRuleProbe implements RuleProbe {
+
+    /**
+     * Statistics of the evaluations of a rule.
+     */
+    public static class Statistics {
+
+        private final LongAdder evaluationCount = new LongAdder();
+
+        private final LongAdder satisfiedCount = new LongAdder();
+
+        private final LongAdder totalDuration = new LongAdder();
+
+        /** Bucket i counts the durations in [2^i, 2^(i+1)) ns (bucket 0 also counts the null durations) */
+        private final AtomicLongArray durationHistogram = new AtomicLongArray(Long.SIZE);
+
+        private void record(boolean satisfied) {
+            evaluationCount.increment();
+            if (satisfied) {
+                satisfiedCount.increment();
+            }
+        }
+
+        private void record(boolean satisfied, long duration) {
+            record(satisfied);
+            totalDuration.add(duration);
+            durationHistogram.incrementAndGet(duration > 0 ? 63 - Long.numberOfLeadingZeros(duration) : 0);
+        }
+
+        /**
+         * @return the number of evaluations
+         */
+        public long getEvaluationCount() {
+            return evaluationCount.sum();
+        }
+
+        /**
+         * @return the number of evaluations which were satisfied
+         */
+        public long getSatisfiedCount() {
+            return satisfiedCount.sum();
+        }
+
+        /**
+         * @return the ratio of satisfied evaluations, NaN if no evaluation
+         */
+        public double getHitRatio() {
+            long evaluations = getEvaluationCount();
+            return evaluations == 0 ? Double.NaN : (double) getSatisfiedCount() / evaluations;
+        }
+
+        /**
+         * @return the total duration of the timed evaluations (in nanoseconds)
+         */
+        public long getTotalDuration() {
+            return totalDuration.sum();
+        }
+
+        /**
+         * @return the duration histogram: the i-th value is the number of evaluations which lasted between 2^i
+         * (included) and 2^(i+1) (excluded) nanoseconds
+         */
+        public long[] getDurationHistogram() {
+            long[] histogram = new long[durationHistogram.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = durationHistogram.get(i);
+            }
+            return histogram;
+        }
+
+        @Override
+        public String toString() {
+            return "evaluations: " + getEvaluationCount() + ", hit ratio: " + getHitRatio()
+                    + ", total duration: " + getTotalDuration() + " ns";
+        }
+    }
+
+    /**
+     * Concurrent map of statistics with weak identity keys.
+     */
+    private static final class StatisticsMap {
+
+        private final ConcurrentMap<Object, Statistics> statistics = new ConcurrentHashMap<>();
+
+        /** The keys of the garbage collected rules and strategies */
+        private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+
+        /**
+         * @param object a rule or a strategy
+         * @return its statistics, null if none
+         */
+        Statistics get(Object object) {
+            return statistics.get(new LookupKey(object));
+        }
+
+        /**
+         * @param object a rule or a strategy
+         * @return its statistics (created if needed)
+         */
+        Statistics getOrCreate(Object object) {
+            Statistics objectStatistics = statistics.get(new LookupKey(object));
+            if (objectStatistics == null) {
+                removeCollectedKeys();
+                Statistics newStatistics = new Statistics();
+                objectStatistics = statistics.putIfAbsent(new WeakKey(object, collectedKeys), newStatistics);
+                if (objectStatistics == null) {
+                    objectStatistics = newStatistics;
+                }
+            }
+            return objectStatistics;
+        }
+
+        void clear() {
+            statistics.clear();
+            removeCollectedKeys();
+        }
+
+        private void removeCollectedKeys() {
+            Reference<?> key;
+            while ((key = collectedKeys.poll()) != null) {
+                statistics.remove(key);
+            }
+        }
+    }
+
+    /**
+     * A key comparing its referent by identity.
+     */
+    private interface IdentityKey {
+
+        /**
+         * @return the rule or the strategy, null if garbage collected
+         */
+        Object getReferent();
+
+        static boolean equals(IdentityKey key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = key.getReferent();
+            return referent != null && referent == ((IdentityKey) other).getReferent();
+        }
+    }
+
+    /**
+     * Key of the statistics map (weak reference to the rule or the strategy).
+     */
+    private static final class WeakKey extends WeakReference<Object> implements IdentityKey {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public Object getReferent() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return IdentityKey.equals(this, other);
+        }
+    }
+
+    /**
+     * Key for the lookups in the statistics map (strong reference, not stored).
+     */
+    private static final class LookupKey implements IdentityKey {
+
+        private final Object referent;
+
+        LookupKey(Object referent) {
+            this.referent = referent;
+        }
+
+        @Override
+        public Object getReferent() {
+            return referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return IdentityKey.equals(this, other);
+        }
+    }
+
+    /**
+     * A rule timed by the probe.
+     */
+    private final class TimedRule implements Rule {
+
+        private final Rule rule;
+
+        TimedRule(Rule rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+            final long startTime = System.nanoTime();
+            final boolean satisfied = rule.isSatisfied(index, tradingRecord);
+            ruleStatistics.getOrCreate(this).record(satisfied, System.nanoTime() - startTime);
+            return satisfied;
+        }
+
+        @Override
+        public boolean isTradingRecordDependent() {
+            return rule.isTradingRecordDependent();
+        }
+
+        @Override
+        public List<Object> getDependencies() {
+            return Collections.singletonList(rule);
+        }
+
+        @Override
+        public String toString() {
+            return "Timed " + rule;
+        }
+    }
+
+    private final StatisticsMap ruleStatistics = new StatisticsMap();
+
+    private final StatisticsMap entryStatistics = new StatisticsMap();
+
+    private final StatisticsMap exitStatistics = new StatisticsMap();
+
+    /**
+     * Wraps a rule so that its evaluations are timed.
+     * <p>
+     * The rules are only counted by default (timing each node of each rule tree would cost more than most rules): the
+     * evaluations of the returned rule are counted and timed by this probe, whatever the {@link org.ta4j.core.RuleProbes
+     * probe in use} (see {@link #getStatistics(Rule)}). The wrapped rule keeps its own statistics.
+     * @param rule the rule to be timed
+     * @return the timed rule
+     */
+    public Rule timed(Rule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule cannot be null");
+        }
+        return new TimedRule(rule);
+    }
+
+    @Override
+    public void onRuleEvaluated(Rule rule, int index, boolean satisfied) {
+        ruleStatistics.getOrCreate(rule).record(satisfied);
+    }
+
+    @Override
+    public long startTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void onStrategyEvaluated(Strategy strategy, int index, boolean entry, boolean satisfied, long startTime) {
+        long duration = System.nanoTime() - startTime;
+        (entry ? entryStatistics : exitStatistics).getOrCreate(strategy).record(satisfied, duration);
+    }
+
+    /**
+     * @param rule a rule
+     * @return the statistics of the evaluations of the rule (with the timings for a {@link #timed(Rule) timed rule}),
+     *         null if the rule has not been evaluated
+     */
+    public Statistics getStatistics(Rule rule) {
+        return ruleStatistics.get(rule);
+    }
+
+    /**
+     * @param strategy a strategy
+     * @return the statistics of the evaluations of the entry rule of the strategy, null if not evaluated
+     */
+    public Statistics getEntryStatistics(Strategy strategy) {
+        return entryStatistics.get(strategy);
+    }
+
+    /**
+     * @param strategy a strategy
+     * @return the statistics of the evaluations of the exit rule of the strategy, null if not evaluated
+     */
+    public Statistics getExitStatistics(Strategy strategy) {
+        return exitStatistics.get(strategy);
+    }
+
+    /**
+     * Clears all the statistics.
+     */
+    public void reset() {
+        ruleStatistics.clear();
+        entryStatistics.clear();
+        exitStatistics.clear();
+    }
+}
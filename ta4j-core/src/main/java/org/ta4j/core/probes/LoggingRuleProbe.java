@@ -0,0 +1,55 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.probes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.Rule;
+import org.ta4j.core.RuleProbe;
+import org.ta4j.core.Strategy;
+
+/**
+ * Logging rule probe.
+ * <p>
+ * Traces the evaluations of the rules and of the strategies (TRACE level).
+ */
+public class LoggingRuleProbe implements RuleProbe {
+
+    /** The logger */
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    @Override
+    public void onRuleEvaluated(Rule rule, int index, boolean satisfied) {
+        if (log.isTraceEnabled()) {
+            log.trace("{}#isSatisfied({}): {}", rule.getClass().getSimpleName(), index, satisfied);
+        }
+    }
+
+    @Override
+    public void onStrategyEvaluated(Strategy strategy, int index, boolean entry, boolean satisfied, long startTime) {
+        if (log.isTraceEnabled()) {
+            log.trace(">>> {}#{}({}): {}", strategy.getClass().getSimpleName(), entry ? "shouldEnter" : "shouldExit",
+                    index, satisfied);
+        }
+    }
+}
@@ -25,6 +25,8 @@ package org.ta4j.core.trading.rules;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.Rule;
+import org.ta4j.core.RuleProbe;
+import org.ta4j.core.RuleProbes;
 
 /**
  * An abstract trading {@link Rule rule}.
@@ -35,11 +37,11 @@ public abstract class AbstractRule implements Rule {
     protected final Logger log = LoggerFactory.getLogger(getClass());
     
     /**
-     * Traces the isSatisfied() method calls.
+     * Traces the isSatisfied() method calls (i.e. notifies the {@link RuleProbe rule probe} in use).
      * @param index the tick index
      * @param isSatisfied true if the rule is satisfied, false otherwise
      */
     protected void traceIsSatisfied(int index, boolean isSatisfied) {
-        log.trace("{}#isSatisfied({}): {}", getClass().getSimpleName(), index, isSatisfied);
+        RuleProbes.getProbe().onRuleEvaluated(this, index, isSatisfied);
     }
 }
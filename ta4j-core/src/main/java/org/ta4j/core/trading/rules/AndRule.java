@@ -25,6 +25,9 @@ package org.ta4j.core.trading.rules;
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * An AND combination of two {@link Rule rules}.
  * <p>
@@ -53,4 +56,28 @@ public class AndRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return rule1.isTradingRecordDependent() || rule2.isTradingRecordDependent();
+    }
+
+    /**
+     * @return the first rule
+     */
+    public Rule getRule1() {
+        return rule1;
+    }
+
+    /**
+     * @return the second rule
+     */
+    public Rule getRule2() {
+        return rule2;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Arrays.asList(rule1, rule2);
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.trading.rules;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A boolean-indicator-based rule.
  * <p>
@@ -48,4 +51,14 @@ public class BooleanIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(indicator);
+    }
 }
@@ -24,6 +24,9 @@ package org.ta4j.core.trading.rules;
 
 import org.ta4j.core.TradingRecord;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A simple boolean rule.
  * <p>
@@ -52,4 +55,14 @@ public class BooleanRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.emptyList();
+    }
 }
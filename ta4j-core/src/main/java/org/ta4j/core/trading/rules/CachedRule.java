@@ -0,0 +1,247 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.trading.rules;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TradingRecord;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A cached (memoized) rule.
+ * <p>
+ * Wraps a rule and keeps its result for each tick index, so that a sub-rule shared by several rules (e.g. by the entry
+ * and the exit rules of a strategy, or by several strategies) is evaluated only once per index.<br>
+ * Only the rules which do not {@link Rule#isTradingRecordDependent() depend on the trading record} are cached:
+ * the other ones (e.g. {@link StopLossRule stop loss}, {@link StopGainRule stop gain}, {@link WaitForRule wait for})
+ * are evaluated on each call.<br>
+ * When built with the time series the rule is evaluated over, the results of the ticks removed from the series
+ * (see {@link TimeSeries#setMaximumTickCount(int)}) are dropped, as for a
+ * {@link org.ta4j.core.indicators.CachedIndicator cached indicator}: the cache of a live series does not grow
+ * without bound.<br>
+ * The cached results are read without locking; the rule is evaluated outside of the lock, which is only held to store
+ * a result.
+ */
+public class CachedRule extends AbstractRule {
+
+    /**
+     * Published results: two bits per tick index (evaluated, satisfied) from the first index.
+     * <p>
+     * The words are only written under the lock of the rule; a reader gets the state of a word from a volatile read
+     * (a result missing from a stale instance is just evaluated again).
+     */
+    private static final class Results {
+
+        private static final Results EMPTY = new Results(0, new AtomicLongArray(0));
+
+        /** The tick index of the first result (at the beginning of a word) */
+        private final int firstIndex;
+
+        private final AtomicLongArray words;
+
+        Results(int firstIndex, AtomicLongArray words) {
+            this.firstIndex = firstIndex;
+            this.words = words;
+        }
+
+        /**
+         * @param index a tick index (from the first index)
+         * @return the word holding the result of the index, 0 (not evaluated) if out of range
+         */
+        long getWord(int index) {
+            final int word = (index - firstIndex) / INDEXES_PER_WORD;
+            return word < words.length() ? words.get(word) : 0L;
+        }
+    }
+
+    private static final int INDEXES_PER_WORD = Long.SIZE / 2;
+
+    private static final long EVALUATED = 1L;
+
+    private static final long SATISFIED = 2L;
+
+    private final Rule rule;
+
+    /** True if the results of the rule are cached */
+    private final boolean cached;
+
+    /** The time series the rule is evaluated over, null if unknown (results never dropped) */
+    private final TimeSeries series;
+
+    /** The published results */
+    private volatile Results results = Results.EMPTY;
+
+    /** The number of invalidations (a result evaluated across an invalidation is not stored) */
+    private volatile int invalidationCount;
+
+    /**
+     * Constructor.
+     * @param rule the trading rule to be cached
+     */
+    public CachedRule(Rule rule) {
+        this(rule, null);
+    }
+
+    /**
+     * Constructor.
+     * @param rule the trading rule to be cached
+     * @param series the time series the rule is evaluated over (the results of its removed ticks are dropped)
+     */
+    public CachedRule(Rule rule, TimeSeries series) {
+        this.rule = rule;
+        this.series = series;
+        this.cached = !rule.isTradingRecordDependent();
+    }
+
+    @Override
+    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        if (!cached || index < 0 || (series != null && index < series.getRemovedTicksCount())) {
+            // Not cached, or result of a removed tick
+            return rule.isSatisfied(index, tradingRecord);
+        }
+        final Results current = results;
+        if (index >= current.firstIndex) {
+            final long bits = current.getWord(index) >>> getShift(index);
+            if ((bits & EVALUATED) != 0) {
+                return (bits & SATISFIED) != 0;
+            }
+        }
+        // Evaluated outside of the lock (the rule may be evaluated concurrently by several threads)
+        final int invalidations = invalidationCount;
+        final boolean isSatisfied = rule.isSatisfied(index, tradingRecord);
+        if (store(index, isSatisfied, invalidations)) {
+            traceIsSatisfied(index, isSatisfied);
+        }
+        return isSatisfied;
+    }
+
+    /**
+     * Stores and publishes a result.
+     * @param index the tick index
+     * @param isSatisfied the result of the rule for the index
+     * @param invalidations the number of invalidations before the rule has been evaluated
+     * @return true if the result has been stored, false otherwise (already stored, invalidated meanwhile, or result
+     *         of a removed tick)
+     */
+    private synchronized boolean store(int index, boolean isSatisfied, int invalidations) {
+        if (invalidations != invalidationCount) {
+            return false;
+        }
+        final Results current = reserve(results, index);
+        results = current;
+        if (index < current.firstIndex) {
+            return false;
+        }
+        final int word = (index - current.firstIndex) / INDEXES_PER_WORD;
+        final long bits = current.words.get(word);
+        final int shift = getShift(index);
+        if ((bits >>> shift & EVALUATED) != 0) {
+            return false;
+        }
+        current.words.set(word, bits | (isSatisfied ? EVALUATED | SATISFIED : EVALUATED) << shift);
+        return true;
+    }
+
+    /**
+     * Makes room for the result of an index.
+     * <p>
+     * The words of the removed ticks are dropped once they fill half of the array, or when it has to grow anyway.
+     * @param current the current results
+     * @param index the tick index to be stored
+     * @return the results to store the index into (the current ones if there is room)
+     */
+    private Results reserve(Results current, int index) {
+        final int length = current.words.length();
+        final int requiredLength = Math.max(0, index - current.firstIndex) / INDEXES_PER_WORD + 1;
+        int droppedLength = 0;
+        if (series != null) {
+            final int removedCount = Math.max(0, series.getRemovedTicksCount() - current.firstIndex);
+            droppedLength = Math.min(length, removedCount / INDEXES_PER_WORD);
+        }
+        final boolean growing = requiredLength > length;
+        if (!growing && 2 * droppedLength < length) {
+            return current;
+        }
+        final int keptLength = length - droppedLength;
+        final int newLength = Math.max(requiredLength - droppedLength, growing ? 2 * keptLength : keptLength);
+        final AtomicLongArray words = new AtomicLongArray(newLength);
+        for (int i = 0; i < keptLength; i++) {
+            words.set(i, current.words.get(droppedLength + i));
+        }
+        return new Results(current.firstIndex + droppedLength * INDEXES_PER_WORD, words);
+    }
+
+    /**
+     * @param index a tick index
+     * @return the shift of the bits of the index in its word
+     */
+    private static int getShift(int index) {
+        return (index % INDEXES_PER_WORD) * 2;
+    }
+
+    /**
+     * Invalidates the cached results from an index (e.g. when the last tick of a live series, still forming, has
+     * been amended): the rule will be evaluated again for those indexes.
+     * @param index the first tick index to be invalidated
+     */
+    public synchronized void invalidateFrom(int index) {
+        invalidationCount++;
+        final Results current = results;
+        final int fromIndex = Math.max(index, current.firstIndex);
+        int word = (fromIndex - current.firstIndex) / INDEXES_PER_WORD;
+        if (word < current.words.length()) {
+            // Clears the bits of the word from the index, then the next words
+            current.words.set(word, current.words.get(word) & ~(-1L << getShift(fromIndex)));
+            for (word++; word < current.words.length(); word++) {
+                current.words.set(word, 0L);
+            }
+        }
+    }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return rule.isTradingRecordDependent();
+    }
+
+    /**
+     * @return true if the results of the rule are cached (i.e. the rule does not depend on the trading record), false otherwise
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * @return the cached rule
+     */
+    public Rule getRule() {
+        return rule;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(rule);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.trading.rules;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled rule.
+ * <p>
+ * Evaluates a rule tree fused by the {@link RuleCompiler rule compiler} into a single method handle.<br>
+ * The fused handle is bound to a {@link ConstantCallSite constant call site} of the compiled rule and invoked exactly
+ * through its dynamic invoker: no class (nor class loader) is generated per compiled rule, so that the compiled rules
+ * are collected as any other object (e.g. during the sweeps of an optimizer). The nodes of the fused tree are evaluated
+ * without any interface call between them.
+ */
+public class CompiledRule extends AbstractRule {
+
+    /** The original (interpreted) rule */
+    private final Rule rule;
+
+    /** The invoker of the call site bound to the fused evaluator, of type (int, TradingRecord)boolean */
+    private final MethodHandle evaluator;
+
+    /**
+     * Constructor.
+     * @param rule the original rule
+     * @param evaluator the fused evaluator of the rule, of type (int, TradingRecord)boolean
+     */
+    CompiledRule(Rule rule, MethodHandle evaluator) {
+        this.rule = rule;
+        CallSite callSite = new ConstantCallSite(evaluator);
+        this.evaluator = callSite.dynamicInvoker();
+    }
+
+    @Override
+    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        try {
+            return (boolean) evaluator.invokeExact(index, tradingRecord);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // Not thrown by the rules (no checked exception)
+            throw new IllegalStateException(t);
+        }
+    }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return rule.isTradingRecordDependent();
+    }
+
+    /**
+     * @return the original (interpreted) rule
+     */
+    public Rule getRule() {
+        return rule;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(rule);
+    }
+}
@@ -28,6 +28,9 @@ import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 import org.ta4j.core.indicators.helpers.CrossIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Crossed-up indicator rule.
  * <p>
@@ -62,4 +65,14 @@ public class CrossedUpIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(cross);
+    }
 }
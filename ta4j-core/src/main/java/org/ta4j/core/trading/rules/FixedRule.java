@@ -25,6 +25,8 @@ package org.ta4j.core.trading.rules;
 import org.ta4j.core.TradingRecord;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * An indexes-based rule.
@@ -55,4 +57,14 @@ public class FixedRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.emptyList();
+    }
 }
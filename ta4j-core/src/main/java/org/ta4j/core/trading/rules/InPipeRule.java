@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Indicator-between-indicators rule.
  * <p>
@@ -70,4 +73,14 @@ public class InPipeRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Arrays.asList(upper, lower, ref);
+    }
 }
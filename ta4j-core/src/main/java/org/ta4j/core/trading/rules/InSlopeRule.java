@@ -28,6 +28,9 @@ import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.DifferenceIndicator;
 import org.ta4j.core.indicators.helpers.PreviousValueIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Indicator-in-slope rule.
  * <p>
@@ -101,4 +104,14 @@ public class InSlopeRule extends AbstractRule {
 	traceIsSatisfied(index, satisfied);
 	return satisfied;
    }
+
+   @Override
+   public boolean isTradingRecordDependent() {
+	return false;
+   }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Arrays.asList(ref, prev);
+    }
 }
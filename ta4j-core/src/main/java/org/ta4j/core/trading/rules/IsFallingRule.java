@@ -28,6 +28,9 @@ import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.PreviousValueIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Indicator-falling-indicator rule.
  * <p>
@@ -64,4 +67,14 @@ public class IsFallingRule extends AbstractRule {
 		traceIsSatisfied(index, satisfied);
 		return satisfied;
 	}
+
+	@Override
+	public boolean isTradingRecordDependent() {
+		return false;
+	}
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(ref);
+    }
 }
@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Indicator-highest-indicator rule.
  * <p>
@@ -61,4 +64,14 @@ public class IsHighestRule extends AbstractRule {
 		traceIsSatisfied(index, satisfied);
 		return satisfied;
 	}
+
+	@Override
+	public boolean isTradingRecordDependent() {
+		return false;
+	}
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(ref);
+    }
 }
@@ -24,6 +24,9 @@ package org.ta4j.core.trading.rules;
 
 import org.ta4j.core.TradingRecord;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A one-shot rule.
  * <p>
@@ -43,4 +46,9 @@ public class JustOnceRule extends AbstractRule {
         traceIsSatisfied(index, false);
         return false;
     }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -25,6 +25,9 @@ package org.ta4j.core.trading.rules;
 import org.ta4j.core.Rule;
 import org.ta4j.core.TradingRecord;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * An opposite (logical operator: NOT) rule.
  * <p>
@@ -49,4 +52,21 @@ public class NotRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return rule.isTradingRecordDependent();
+    }
+
+    /**
+     * @return the negated rule
+     */
+    public Rule getRule() {
+        return rule;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(rule);
+    }
 }
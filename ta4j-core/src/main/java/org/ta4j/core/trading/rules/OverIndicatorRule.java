@@ -27,6 +27,9 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Indicator-over-indicator rule.
  * <p>
@@ -64,4 +67,14 @@ public class OverIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public boolean isTradingRecordDependent() {
+        return false;
+    }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Arrays.asList(first, second);
+    }
 }
@@ -0,0 +1,163 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.trading.rules;
+
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+/**
+ * Rule compiler.
+ * <p>
+ * Walks the tree of a {@link Rule rule} and fuses the logical operators ({@link AndRule and}, {@link OrRule or},
+ * {@link XorRule xor}, {@link NotRule not}) and the constant {@link BooleanRule boolean rules} into a single
+ * {@link MethodHandle method handle} the JIT can inline, instead of going through one interface call (and one trace)
+ * per node.<br>
+ * The other rules are the leaves of the tree: they are called directly, with the same short-circuit evaluation as the
+ * interpreted rules (their indicators keep their caches). The compiled rule gives the same results as the original one.
+ */
+public final class RuleCompiler {
+
+    /** The type of the fused evaluators: (int, TradingRecord)boolean */
+    private static final MethodType EVALUATOR_TYPE = MethodType.methodType(boolean.class, int.class, TradingRecord.class);
+
+    private static final MethodHandle IS_SATISFIED;
+
+    private static final MethodHandle NOT;
+
+    private static final MethodHandle TRUE = constant(true);
+
+    private static final MethodHandle FALSE = constant(false);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            IS_SATISFIED = lookup.findVirtual(Rule.class, "isSatisfied", EVALUATOR_TYPE);
+            NOT = lookup.findStatic(RuleCompiler.class, "not", MethodType.methodType(boolean.class, boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * @param rule the rule to be compiled
+     * @return the compiled rule
+     */
+    public static CompiledRule compile(Rule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule cannot be null");
+        }
+        if (rule instanceof CompiledRule) {
+            return (CompiledRule) rule;
+        }
+        return new CompiledRule(rule, fuse(rule));
+    }
+
+    /**
+     * Compiles the entry and exit rules of a strategy.
+     * <p>
+     * Only the {@link BaseStrategy base strategies} can be compiled: the other strategies may override the way their
+     * rules are evaluated, they are returned as is.
+     * @param strategy the strategy to be compiled
+     * @return the compiled strategy
+     */
+    public static Strategy compile(Strategy strategy) {
+        if (strategy.getClass() != BaseStrategy.class) {
+            return strategy;
+        }
+        return new BaseStrategy(compile(strategy.getEntryRule()), compile(strategy.getExitRule()),
+                ((BaseStrategy) strategy).getUnstablePeriod());
+    }
+
+    /**
+     * @param rule a rule
+     * @return the fused evaluator of the rule, of type (int, TradingRecord)boolean
+     */
+    private static MethodHandle fuse(Rule rule) {
+        final Class<?> type = rule.getClass();
+        if (type == AndRule.class) {
+            AndRule and = (AndRule) rule;
+            return MethodHandles.guardWithTest(fuse(and.getRule1()), fuse(and.getRule2()), FALSE);
+        }
+        if (type == OrRule.class) {
+            OrRule or = (OrRule) rule;
+            return MethodHandles.guardWithTest(fuse(or.getRule1()), TRUE, fuse(or.getRule2()));
+        }
+        if (type == XorRule.class) {
+            XorRule xor = (XorRule) rule;
+            MethodHandle rule2 = fuse(xor.getRule2());
+            return MethodHandles.guardWithTest(fuse(xor.getRule1()), MethodHandles.filterReturnValue(rule2, NOT), rule2);
+        }
+        if (type == NotRule.class) {
+            return MethodHandles.filterReturnValue(fuse(((NotRule) rule).getRule()), NOT);
+        }
+        if (type == BooleanRule.class) {
+            return rule.isSatisfied(0, null) ? TRUE : FALSE;
+        }
+        if (rule instanceof CompiledRule) {
+            return fuse(((CompiledRule) rule).getRule());
+        }
+        return leaf(rule);
+    }
+
+    /**
+     * @param rule a leaf rule
+     * @return the evaluator calling the rule
+     */
+    private static MethodHandle leaf(Rule rule) {
+        if (Modifier.isPublic(rule.getClass().getModifiers())) {
+            try {
+                // Virtual call on the concrete class (instead of an interface call)
+                return MethodHandles.publicLookup().findVirtual(rule.getClass(), "isSatisfied", EVALUATOR_TYPE).bindTo(rule);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Falling back to the interface call
+            }
+        }
+        return IS_SATISFIED.bindTo(rule);
+    }
+
+    /**
+     * @param satisfied a constant result
+     * @return an evaluator always returning the constant result
+     */
+    private static MethodHandle constant(boolean satisfied) {
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, satisfied), 0, int.class, TradingRecord.class);
+    }
+
+    /**
+     * @param satisfied a result
+     * @return the negated result
+     */
+    private static boolean not(boolean satisfied) {
+        return !satisfied;
+    }
+}
@@ -27,6 +27,9 @@ import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A stop-loss rule.
  * <p>
@@ -70,4 +73,9 @@ public class StopLossRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.singletonList(closePrice);
+    }
 }
@@ -27,6 +27,9 @@ import org.ta4j.core.TradingRecord;
 
 import static org.ta4j.core.Order.OrderType;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A {@link Rule rule} which waits for a number of {@link Tick ticks} after an order.
  * <p>
@@ -64,4 +67,9 @@ public class WaitForRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    @Override
+    public List<Object> getDependencies() {
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.junit.Test;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.StopLossRule;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompactTradingRecordTest {
+
+    @Test
+    public void operate() {
+        CompactTradingRecord record = new CompactTradingRecord();
+        assertTrue(record.getCurrentTrade().isNew());
+        assertNull(record.getCurrentTrade().getEntry());
+        assertNull(record.getLastOrder());
+        assertNull(record.getLastEntry());
+        assertNull(record.getLastOrder(OrderType.BUY));
+
+        record.operate(1);
+        assertTrue(record.getCurrentTrade().isOpened());
+        assertEquals(Order.buyAt(1), record.getCurrentTrade().getEntry());
+        assertSame(record.getLastEntry(), record.getCurrentTrade().getEntry());
+        assertEquals(0, record.getTradeCount());
+        assertNull(record.getLastTrade());
+        assertEquals(Order.buyAt(1), record.getLastOrder());
+        assertEquals(Order.buyAt(1), record.getLastOrder(OrderType.BUY));
+        assertNull(record.getLastOrder(OrderType.SELL));
+        assertNull(record.getLastExit());
+
+        record.operate(3);
+        assertTrue(record.getCurrentTrade().isNew());
+        assertTrue(record.isClosed());
+        assertEquals(1, record.getTradeCount());
+        assertEquals(new Trade(Order.buyAt(1), Order.sellAt(3)), record.getLastTrade());
+        assertEquals(Order.sellAt(3), record.getLastOrder());
+        assertEquals(Order.buyAt(1), record.getLastOrder(OrderType.BUY));
+        assertEquals(Order.sellAt(3), record.getLastOrder(OrderType.SELL));
+        assertEquals(Order.buyAt(1), record.getLastEntry());
+        assertEquals(Order.sellAt(3), record.getLastExit());
+
+        assertFalse(record.exit(4));
+        assertTrue(record.enter(5));
+        assertFalse(record.enter(6));
+        assertEquals(Order.buyAt(5), record.getLastOrder());
+        assertEquals(Order.buyAt(5), record.getLastOrder(OrderType.BUY));
+        assertEquals(Order.sellAt(3), record.getLastOrder(OrderType.SELL));
+        assertEquals(Order.sellAt(3), record.getLastExit());
+        assertFalse(record.isClosed());
+
+        // Operating the current trade
+        assertEquals(Order.sellAt(7), record.getCurrentTrade().operate(7));
+        assertEquals(2, record.getTradeCount());
+    }
+
+    @Test
+    public void orderAccessors() {
+        CompactTradingRecord record = new CompactTradingRecord(OrderType.SELL);
+        record.operate(2, Decimal.TEN, Decimal.ONE);
+        record.operate(4, Decimal.TWO, Decimal.ONE);
+        record.operate(6, Decimal.THREE, Decimal.HUNDRED);
+
+        assertEquals(3, record.getOrderCount());
+        assertEquals(OrderType.SELL, record.getOrderType(0));
+        assertEquals(OrderType.BUY, record.getOrderType(1));
+        assertTrue(record.isEntry(2));
+        assertFalse(record.isEntry(1));
+        assertEquals(4, record.getOrderIndex(1));
+        assertSame(Decimal.TWO, record.getOrderPrice(1));
+        assertSame(Decimal.HUNDRED, record.getOrderAmount(2));
+        assertEquals(Order.sellAt(6, Decimal.THREE, Decimal.HUNDRED), record.getOrder(2));
+        assertEquals(Order.sellAt(6, Decimal.THREE, Decimal.HUNDRED), record.getLastOrder(OrderType.SELL));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void unknownOrder() {
+        new CompactTradingRecord().getOrderIndex(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exitBeforeEntry() {
+        CompactTradingRecord record = new CompactTradingRecord();
+        record.operate(5);
+        record.operate(4);
+    }
+
+    @Test
+    public void sameAsBaseTradingRecord() {
+        Random random = new Random(42);
+        for (OrderType type : OrderType.values()) {
+            TradingRecord expected = new BaseTradingRecord(type);
+            CompactTradingRecord record = new CompactTradingRecord(type);
+            int index = 0;
+            for (int i = 0; i < 1001; i++) {
+                index += 1 + random.nextInt(5);
+                Decimal price = Decimal.valueOf(1 + random.nextInt(100));
+                expected.operate(index, price, Decimal.ONE);
+                record.operate(index, price, Decimal.ONE);
+            }
+            assertEquals(expected.getTrades(), record.getTrades());
+            assertEquals(expected.getTradeCount(), record.getTradeCount());
+            assertEquals(expected.getLastTrade(), record.getLastTrade());
+            assertEquals(expected.getLastOrder(), record.getLastOrder());
+            assertEquals(expected.getLastEntry(), record.getLastEntry());
+            assertEquals(expected.getLastExit(), record.getLastExit());
+            for (OrderType orderType : OrderType.values()) {
+                assertEquals(expected.getLastOrder(orderType), record.getLastOrder(orderType));
+            }
+            assertEquals(expected.getCurrentTrade().getEntry(), record.getCurrentTrade().getEntry());
+        }
+    }
+
+    @Test
+    public void criteriaAndRules() {
+        TimeSeries series = new MockTimeSeries(100, 105, 95, 90, 110, 120, 80, 100);
+        TradingRecord expected = new BaseTradingRecord();
+        TradingRecord record = new CompactTradingRecord();
+        for (int index : new int[] { 0, 2, 4, 6, 7 }) {
+            expected.operate(index, series.getTick(index).getClosePrice(), Decimal.ONE);
+            record.operate(index, series.getTick(index).getClosePrice(), Decimal.ONE);
+        }
+        assertEquals(new TotalProfitCriterion().calculate(series, expected),
+                new TotalProfitCriterion().calculate(series, record), 0);
+        assertEquals(new MaximumDrawdownCriterion().calculate(series, expected),
+                new MaximumDrawdownCriterion().calculate(series, record), 0);
+
+        // The current trade exposes its entry to the rules
+        StopLossRule stopLoss = new StopLossRule(new ClosePriceIndicator(series), Decimal.valueOf(10));
+        TradingRecord openedRecord = new CompactTradingRecord();
+        openedRecord.operate(5, series.getTick(5).getClosePrice(), Decimal.ONE);
+        assertTrue(stopLoss.isSatisfied(6, openedRecord));
+        assertFalse(stopLoss.isSatisfied(5, openedRecord));
+    }
+}
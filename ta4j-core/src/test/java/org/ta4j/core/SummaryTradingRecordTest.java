@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.analysis.criteria.AverageProfitCriterion;
+import org.ta4j.core.analysis.criteria.AverageProfitableTradesCriterion;
+import org.ta4j.core.analysis.criteria.LinearTransactionCostCriterion;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.NumberOfTicksCriterion;
+import org.ta4j.core.analysis.criteria.NumberOfTradesCriterion;
+import org.ta4j.core.analysis.criteria.RewardRiskRatioCriterion;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.analysis.criteria.VersusBuyAndHoldCriterion;
+import org.ta4j.core.backtest.VectorizedTimeSeriesManager;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.StopGainRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SummaryTradingRecordTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 3000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+    }
+
+    @Test
+    public void operate() {
+        TimeSeries prices = new MockTimeSeries(10, 12, 8, 16, 4);
+        SummaryTradingRecord record = new SummaryTradingRecord(prices);
+        assertTrue(record.getCurrentTrade().isNew());
+        assertNull(record.getLastOrder());
+        assertNull(record.getLastTrade());
+
+        record.operate(0, Decimal.TEN, Decimal.ONE);
+        assertTrue(record.getCurrentTrade().isOpened());
+        assertEquals(Order.buyAt(0, Decimal.TEN, Decimal.ONE), record.getLastEntry());
+        assertEquals(0, record.getTradeCount());
+
+        assertFalse(record.enter(1));
+        assertTrue(record.exit(3));
+        assertTrue(record.isClosed());
+        assertEquals(1, record.getTradeCount());
+        assertEquals(new Trade(Order.buyAt(0, Decimal.TEN, Decimal.ONE), Order.sellAt(3)), record.getLastTrade());
+        assertEquals(Order.sellAt(3), record.getLastOrder());
+        assertEquals(Order.sellAt(3), record.getLastOrder(OrderType.SELL));
+        assertEquals(Order.sellAt(3), record.getLastExit());
+        assertEquals(1, record.getProfitableTradeCount());
+        assertEquals(4, record.getTradedTickCount());
+        assertEquals(1.6, record.getTotalProfit(), 1e-12);
+        TATestsUtils.assertDecimalEquals(record.getCashFlow(), 1.6);
+        TATestsUtils.assertDecimalEquals(record.getPeakCashFlow(), 1.6);
+        // 1.2 -> 0.8
+        TATestsUtils.assertDecimalEquals(record.getMaximumDrawdown(), 1d / 3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void tradesAreNotKept() {
+        new SummaryTradingRecord(series).getTrades();
+    }
+
+    @Test
+    public void criteriaMatchBaseTradingRecord() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<AnalysisCriterion> criteria = Arrays.asList(new TotalProfitCriterion(), new MaximumDrawdownCriterion(),
+                new NumberOfTicksCriterion(), new NumberOfTradesCriterion(), new AverageProfitableTradesCriterion(),
+                new AverageProfitCriterion(), new RewardRiskRatioCriterion());
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        for (OrderType orderType : OrderType.values()) {
+            for (int timeFrame : new int[] { 5, 20, 50 }) {
+                SMAIndicator sma = new SMAIndicator(closePrice, timeFrame);
+                Strategy strategy = new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                        new CrossedDownIndicatorRule(closePrice, sma).or(new StopGainRule(closePrice, Decimal.valueOf(3))));
+
+                TradingRecord expected = manager.run(strategy, orderType);
+                SummaryTradingRecord record = new SummaryTradingRecord(series, orderType);
+                manager.run(strategy, record);
+
+                assertEquals(expected.getTradeCount(), record.getTradeCount());
+                assertEquals(expected.getLastTrade(), record.getLastTrade());
+                assertEquals(expected.getLastOrder(), record.getLastOrder());
+                assertEquals(expected.getCurrentTrade().isOpened(), record.getCurrentTrade().isOpened());
+                for (AnalysisCriterion criterion : criteria) {
+                    assertEquals(criterion.toString(), criterion.calculate(series, expected),
+                            criterion.calculate(series, record), 1e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void criteriaSupportingTheSummary() {
+        SummaryTradingRecord record = new SummaryTradingRecord(series);
+        record.enter(0);
+        record.exit(10);
+        // Subclasses inherit the summary support of the criteria
+        AnalysisCriterion totalProfit = new TotalProfitCriterion() {
+        };
+        assertTrue(totalProfit.isSummarySupported());
+        assertEquals(series.getTick(10).getClosePrice().dividedBy(series.getTick(0).getClosePrice()).toDouble(),
+                totalProfit.calculate(series, record), 1e-12);
+        assertTrue(new VersusBuyAndHoldCriterion(new NumberOfTradesCriterion()).isSummarySupported());
+        assertFalse(new LinearTransactionCostCriterion(1000, 0.005).isSummarySupported());
+        assertFalse(new VersusBuyAndHoldCriterion(new LinearTransactionCostCriterion(1000, 0.005)).isSummarySupported());
+    }
+
+    @Test
+    public void summaryHeldAsTradingRecord() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 10);
+        Strategy strategy = new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma));
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+
+        TradingRecord expected = manager.run(strategy);
+        TradingRecord record = manager.run(strategy, new SummaryTradingRecord(series));
+        for (AnalysisCriterion criterion : Arrays.asList(new TotalProfitCriterion(), new MaximumDrawdownCriterion(),
+                new NumberOfTradesCriterion(), new VersusBuyAndHoldCriterion(new TotalProfitCriterion()))) {
+            assertEquals(criterion.toString(), criterion.calculate(series, expected),
+                    criterion.calculate(series, record), 1e-12);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void criterionNotSupportingTheSummary() {
+        SummaryTradingRecord record = new SummaryTradingRecord(series);
+        record.enter(0);
+        record.exit(10);
+        new LinearTransactionCostCriterion(1000, 0.005).calculate(series, (TradingRecord) record);
+    }
+
+    @Test
+    public void vectorizedRun() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 10);
+        Strategy strategy = new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma));
+
+        TradingRecord expected = new TimeSeriesManager(series).run(strategy);
+        SummaryTradingRecord record = new SummaryTradingRecord(series);
+        new VectorizedTimeSeriesManager(series).run(strategy, record);
+
+        assertEquals(expected.getTradeCount(), record.getTradeCount());
+        assertEquals(new TotalProfitCriterion().calculate(series, expected),
+                new TotalProfitCriterion().calculate(series, record), 1e-12);
+    }
+}
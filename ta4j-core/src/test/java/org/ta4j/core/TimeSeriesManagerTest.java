@@ -75,6 +75,17 @@ public class TimeSeriesManagerTest {
         assertEquals(2, allTrades.size());
     }
     
+    @Test
+    public void runWithTradingRecord() {
+        TimeSeries series = new MockTimeSeries(20d, 40d, 60d, 10d, 30d, 50d, 0d, 20d, 40d);
+        manager.setTimeSeries(series);
+        TradingRecord record = new CompactTradingRecord(OrderType.SELL);
+
+        assertTrue(record == manager.run(strategy, record));
+        assertEquals(manager.run(strategy, OrderType.SELL).getTrades(), record.getTrades());
+        assertEquals(OrderType.SELL, record.getLastEntry().getType());
+    }
+
     @Test
     public void runOnWholeSeriesWithAmount() {
         TimeSeries series = new MockTimeSeries(20d, 40d, 60d, 10d, 30d, 50d, 0d, 20d, 40d);
@@ -30,6 +30,7 @@ import org.ta4j.core.mocks.MockTimeSeries;
 import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
 
 public class CashFlowTest {
@@ -209,4 +210,45 @@ public class CashFlowTest {
         assertDecimalEquals(cashFlow.getValue(size - 1), 1);
     }
 
+    @Test
+    public void cashFlowValueInRandomOrder() {
+        TimeSeries sampleTimeSeries = new MockTimeSeries(2, 1, 3, 5, 6, 3, 20);
+        TradingRecord tradingRecord = new BaseTradingRecord(
+                Order.buyAt(0), Order.sellAt(1),
+                Order.buyAt(3), Order.sellAt(4),
+                Order.sellAt(5), Order.buyAt(6));
+
+        CashFlow cashFlow = new CashFlow(sampleTimeSeries, tradingRecord);
+
+        assertDecimalEquals(cashFlow.getValue(6), "0.09");
+        assertDecimalEquals(cashFlow.getValue(2), "0.5");
+        assertDecimalEquals(cashFlow.getValue(4), "0.6");
+        assertDecimalEquals(cashFlow.getValue(0), 1);
+        assertDecimalEquals(cashFlow.getValue(5), "0.6");
+        // Same value between two trades
+        assertSame(cashFlow.getValue(1), cashFlow.getValue(3));
+    }
+
+    @Test
+    public void cashFlowValueWithTradeEnteredAtExitIndex() {
+        TimeSeries sampleTimeSeries = new MockTimeSeries(1, 2, 4, 2, 8);
+        TradingRecord tradingRecord = new BaseTradingRecord(
+                Order.buyAt(0), Order.sellAt(2),
+                Order.buyAt(2), Order.sellAt(4));
+
+        CashFlow cashFlow = new CashFlow(sampleTimeSeries, tradingRecord);
+
+        assertDecimalEquals(cashFlow.getValue(1), 2);
+        assertDecimalEquals(cashFlow.getValue(2), 4);
+        assertDecimalEquals(cashFlow.getValue(3), 2);
+        assertDecimalEquals(cashFlow.getValue(4), 8);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void cashFlowValueAfterTheEnd() {
+        TimeSeries sampleTimeSeries = new MockTimeSeries(1, 2, 4);
+        CashFlow cashFlow = new CashFlow(sampleTimeSeries, new BaseTradingRecord(Order.buyAt(0), Order.sellAt(1)));
+        cashFlow.getValue(3);
+    }
+
 }
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.ta4j.core.*;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.analysis.criteria.AverageProfitableTradesCriterion;
+import org.ta4j.core.analysis.criteria.LinearTransactionCostCriterion;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.NumberOfTicksCriterion;
+import org.ta4j.core.analysis.criteria.NumberOfTradesCriterion;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.FixedRule;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks each accumulator against the criterion it is the online version of.
+ */
+@RunWith(Parameterized.class)
+public class CriterionAccumulatorTest {
+
+    @Parameters(name = "{0}")
+    public static List<Object[]> data() {
+        return Arrays.asList(
+                pair(TotalProfitAccumulator::new, new TotalProfitCriterion()),
+                pair(NumberOfTradesAccumulator::new, new NumberOfTradesCriterion()),
+                pair(AverageProfitableTradesAccumulator::new, new AverageProfitableTradesCriterion()),
+                pair(NumberOfTicksAccumulator::new, new NumberOfTicksCriterion()),
+                pair(MaximumDrawdownAccumulator::new, new MaximumDrawdownCriterion()),
+                pair(() -> new LinearTransactionCostAccumulator(1000, 0.005), new LinearTransactionCostCriterion(1000, 0.005)),
+                pair(() -> new LinearTransactionCostAccumulator(1000, 0.005, 0.2), new LinearTransactionCostCriterion(1000, 0.005, 0.2)));
+    }
+
+    private static Object[] pair(Supplier<CriterionAccumulator> accumulator, AnalysisCriterion criterion) {
+        return new Object[] { criterion.toString(), accumulator, criterion };
+    }
+
+    private final TimeSeries series = new MockTimeSeries(100, 95, 100, 80, 85, 70, 75, 90, 110, 105, 95, 120);
+
+    private final Supplier<CriterionAccumulator> accumulatorSupplier;
+
+    private final AnalysisCriterion criterion;
+
+    public CriterionAccumulatorTest(String name, Supplier<CriterionAccumulator> accumulatorSupplier, AnalysisCriterion criterion) {
+        this.accumulatorSupplier = accumulatorSupplier;
+        this.criterion = criterion;
+    }
+
+    private void assertSameAsCriterion(OrderType orderType, Rule entryRule, Rule exitRule) {
+        CriterionAccumulator accumulator = accumulatorSupplier.get();
+        TradingRecord tradingRecord = new TimeSeriesManager(series)
+                .run(new BaseStrategy(entryRule, exitRule), new BaseTradingRecord(orderType), accumulator);
+        assertEquals(criterion.calculate(series, tradingRecord), accumulator.getValue(), TATestsUtils.TA_OFFSET);
+    }
+
+    @Test
+    public void calculateWithBuyTrades() {
+        assertSameAsCriterion(OrderType.BUY, new FixedRule(0, 3, 6, 9), new FixedRule(2, 5, 8, 10));
+    }
+
+    @Test
+    public void calculateWithSellTrades() {
+        assertSameAsCriterion(OrderType.SELL, new FixedRule(0, 2, 8), new FixedRule(1, 5, 10));
+    }
+
+    @Test
+    public void calculateWithOpenedTrade() {
+        assertSameAsCriterion(OrderType.BUY, new FixedRule(1, 7), new FixedRule(4));
+    }
+
+    @Test
+    public void calculateWithNoTrades() {
+        CriterionAccumulator accumulator = accumulatorSupplier.get();
+        assertEquals(criterion.calculate(series, new BaseTradingRecord()), accumulator.getValue(), TATestsUtils.TA_OFFSET);
+    }
+
+    @Test
+    public void calculateAfterEachOrder() {
+        CriterionAccumulator accumulator = accumulatorSupplier.get();
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        for (int index : new int[] { 0, 3, 5, 7, 8, 11 }) {
+            tradingRecord.operate(index);
+            accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+            assertEquals(criterion.calculate(series, tradingRecord), accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        }
+    }
+}
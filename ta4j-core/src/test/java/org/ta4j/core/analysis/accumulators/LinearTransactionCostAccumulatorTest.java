@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.junit.Test;
+import org.ta4j.core.*;
+import org.ta4j.core.analysis.criteria.LinearTransactionCostCriterion;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import static org.junit.Assert.assertEquals;
+
+public class LinearTransactionCostAccumulatorTest {
+
+    private final TimeSeries series = new MockTimeSeries(100, 95, 100, 80, 85, 70, 75, 90, 110, 105, 95, 120);
+
+    @Test
+    public void entryCostOfTheCurrentTrade() {
+        LinearTransactionCostAccumulator accumulator = new LinearTransactionCostAccumulator(1000, 0.01);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(0);
+        accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+        assertEquals(10, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        tradingRecord.exit(2);
+        accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+        // Exit cost: 1% of (1000 - 10) * 100 / 100
+        assertEquals(10 + 9.9, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+    }
+
+    @Test
+    public void fixedCostPerOrder() {
+        LinearTransactionCostAccumulator accumulator = new LinearTransactionCostAccumulator(1000, 0.01, 2);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(0);
+        accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+        assertEquals(10 + 2, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        tradingRecord.exit(8);
+        accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+        // Exit cost: 1% of (1000 - 12) * 110 / 100, plus 2
+        assertEquals(12 + 10.868 + 2, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        assertEquals(new LinearTransactionCostCriterion(1000, 0.01, 2).calculate(series, tradingRecord),
+                accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        // Next trade on the amount left after the costs of the first one: (1000 - 24.868) * 1.1
+        tradingRecord.enter(9);
+        accumulator.onOrder(series, tradingRecord, tradingRecord.getLastOrder());
+        assertEquals(24.868 + 0.01 * (1000 - 24.868) * 1.1 + 2, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+    }
+}
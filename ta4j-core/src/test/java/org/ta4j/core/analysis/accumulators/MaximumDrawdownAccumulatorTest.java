@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.accumulators;
+
+import org.junit.Test;
+import org.ta4j.core.*;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.FixedRule;
+
+import static org.junit.Assert.assertEquals;
+
+public class MaximumDrawdownAccumulatorTest {
+
+    private final TimeSeries series = new MockTimeSeries(100, 95, 100, 80, 85, 70, 75, 90, 110, 105, 95, 120);
+
+    @Test
+    public void drawdownInsideATrade() {
+        TimeSeries prices = new MockTimeSeries(100, 50, 150, 120);
+        MaximumDrawdownAccumulator accumulator = new MaximumDrawdownAccumulator();
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(0);
+        accumulator.onOrder(prices, tradingRecord, tradingRecord.getLastOrder());
+        // Trade still open: not in the cash flow yet
+        assertEquals(new MaximumDrawdownCriterion().calculate(prices, tradingRecord), accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        assertEquals(0, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+
+        tradingRecord.exit(2);
+        accumulator.onOrder(prices, tradingRecord, tradingRecord.getLastOrder());
+        // Profitable trade, but 100 -> 50 before the exit
+        assertEquals(new MaximumDrawdownCriterion().calculate(prices, tradingRecord), accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        assertEquals(0.5, accumulator.getValue(), TATestsUtils.TA_OFFSET);
+        TATestsUtils.assertDecimalEquals(accumulator.getPeakCashFlow(), 1.5);
+        TATestsUtils.assertDecimalEquals(accumulator.getCashFlow(), 1.5);
+    }
+
+    @Test
+    public void cashFlowAtLastExit() {
+        MaximumDrawdownAccumulator accumulator = new MaximumDrawdownAccumulator();
+        TradingRecord tradingRecord = new TimeSeriesManager(series)
+                .run(new BaseStrategy(new FixedRule(0, 3), new FixedRule(2, 5)), new BaseTradingRecord(), accumulator);
+        // 100 -> 100, then 80 -> 70
+        TATestsUtils.assertDecimalEquals(accumulator.getCashFlow(), 0.875);
+        assertEquals(2, tradingRecord.getTradeCount());
+    }
+}
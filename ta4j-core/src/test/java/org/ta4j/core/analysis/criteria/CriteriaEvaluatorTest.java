@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.criteria;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.*;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CriteriaEvaluatorTest {
+
+    private MockTimeSeries series;
+
+    private List<AnalysisCriterion> criteria;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(100, 95, 100, 80, 85, 70, 75, 90, 110, 105, 95, 120);
+        criteria = Arrays.asList(
+                new TotalProfitCriterion(),
+                new MaximumDrawdownCriterion(),
+                new NumberOfTicksCriterion(),
+                new NumberOfTradesCriterion(),
+                new AverageProfitableTradesCriterion(),
+                new AverageProfitCriterion(),
+                new RewardRiskRatioCriterion(),
+                new BuyAndHoldCriterion(),
+                new VersusBuyAndHoldCriterion(new TotalProfitCriterion()),
+                new VersusBuyAndHoldCriterion(new LinearTransactionCostCriterion(1000, 0.005, 0.2)),
+                new LinearTransactionCostCriterion(1000, 0.005, 0.2));
+    }
+
+    private void assertSameAsCriteria(TradingRecord tradingRecord) {
+        double[] values = new CriteriaEvaluator(criteria).calculate(series, tradingRecord);
+        assertEquals(criteria.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(criteria.get(i).toString(),
+                    criteria.get(i).calculate(series, tradingRecord), values[i], TATestsUtils.TA_OFFSET);
+        }
+    }
+
+    @Test
+    public void calculateWithBuyTrades() {
+        assertSameAsCriteria(new BaseTradingRecord(
+                Order.buyAt(0), Order.sellAt(2),
+                Order.buyAt(3), Order.sellAt(5),
+                Order.buyAt(6), Order.sellAt(8),
+                Order.buyAt(9), Order.sellAt(10)));
+    }
+
+    @Test
+    public void calculateWithSellTrades() {
+        assertSameAsCriteria(new BaseTradingRecord(
+                Order.sellAt(0), Order.buyAt(1),
+                Order.sellAt(2), Order.buyAt(5),
+                Order.sellAt(8), Order.buyAt(10)));
+    }
+
+    @Test
+    public void calculateWithOpenedTrade() {
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(1);
+        tradingRecord.exit(4);
+        tradingRecord.enter(7);
+        assertSameAsCriteria(tradingRecord);
+    }
+
+    @Test
+    public void calculateWithNoTrade() {
+        assertSameAsCriteria(new BaseTradingRecord());
+    }
+
+    @Test
+    public void calculateWithMixedEntryTypes() {
+        // Not replayable into a summary record: the criteria are calculated one by one
+        assertSameAsCriteria(new BaseTradingRecord(
+                Order.buyAt(0), Order.sellAt(2),
+                Order.sellAt(3), Order.buyAt(5)));
+    }
+
+    @Test
+    public void calculateWithSummaryTradingRecord() {
+        List<AnalysisCriterion> summaryCriteria = criteria.subList(0, 9);
+        SummaryTradingRecord summary = new SummaryTradingRecord(series);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        for (int[] trade : new int[][] { { 0, 2 }, { 3, 5 }, { 7, 11 } }) {
+            summary.enter(trade[0]);
+            summary.exit(trade[1]);
+            tradingRecord.enter(trade[0]);
+            tradingRecord.exit(trade[1]);
+        }
+        double[] values = new CriteriaEvaluator(summaryCriteria).calculate(series, summary);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(summaryCriteria.get(i).calculate(series, tradingRecord), values[i], TATestsUtils.TA_OFFSET);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void summaryTradingRecordOfAnotherSeries() {
+        SummaryTradingRecord summary = new SummaryTradingRecord(new MockTimeSeries(1, 2, 3));
+        new CriteriaEvaluator(new TotalProfitCriterion()).calculate(series, summary);
+    }
+
+    @Test
+    public void calculateCustomCriterion() {
+        AnalysisCriterion lastIndex = new AbstractAnalysisCriterion() {
+            @Override
+            public double calculate(TimeSeries series, Trade trade) {
+                return trade.getExit().getIndex();
+            }
+
+            @Override
+            public double calculate(TimeSeries series, TradingRecord tradingRecord) {
+                return tradingRecord.getLastExit().getIndex();
+            }
+
+            @Override
+            public boolean betterThan(double criterionValue1, double criterionValue2) {
+                return criterionValue1 > criterionValue2;
+            }
+        };
+        TradingRecord tradingRecord = new BaseTradingRecord(Order.buyAt(0), Order.sellAt(4));
+        double[] values = new CriteriaEvaluator(new TotalProfitCriterion(), lastIndex).calculate(series, tradingRecord);
+        assertEquals(0.85, values[0], TATestsUtils.TA_OFFSET);
+        assertEquals(4, values[1], TATestsUtils.TA_OFFSET);
+    }
+
+    @Test
+    public void calculateSubclassOfAccumulatedCriterion() {
+        // Subclasses use the accumulator of their criterion
+        criteria = Collections.singletonList(new LinearTransactionCostCriterion(1000, 0.005, 0.2) {
+        });
+        assertSameAsCriteria(new BaseTradingRecord(
+                Order.buyAt(0), Order.sellAt(2),
+                Order.buyAt(3), Order.sellAt(5),
+                Order.buyAt(6)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noCriteria() {
+        new CriteriaEvaluator(Collections.emptyList());
+    }
+}
@@ -24,6 +24,7 @@ package org.ta4j.core.analysis.criteria;
 
 import org.junit.Test;
 import org.ta4j.core.*;
+import org.ta4j.core.mocks.MockTick;
 import org.ta4j.core.mocks.MockTimeSeries;
 
 import static org.junit.Assert.*;
@@ -93,6 +94,43 @@ public class VersusBuyAndHoldCriterionTest {
         assertEquals(6d/6d, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
     }
 
+    @Test
+    public void buyAndHoldValueComputedOncePerSeries() {
+        MockTimeSeries series = new MockTimeSeries(100, 95, 100, 80, 85, 70);
+        TradingRecord tradingRecord = new BaseTradingRecord(Order.buyAt(0), Order.sellAt(1));
+        int[] buyAndHoldCalls = { 0 };
+        AnalysisCriterion profit = new TotalProfitCriterion() {
+            @Override
+            public double calculate(TimeSeries series, TradingRecord record) {
+                if (record != tradingRecord) {
+                    buyAndHoldCalls[0]++;
+                }
+                return super.calculate(series, record);
+            }
+        };
+        AnalysisCriterion buyAndHold = new VersusBuyAndHoldCriterion(profit);
+
+        assertEquals(0.95 / 0.7, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
+        assertEquals(0.95 / 0.7, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
+        assertEquals(1, buyAndHoldCalls[0]);
+
+        // New tick: the buy and hold value is computed again
+        series.addTick(new MockTick(series.getLastTick().getEndTime().plusDays(1), 140));
+        assertEquals(0.95 / 1.4, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
+        assertEquals(2, buyAndHoldCalls[0]);
+
+        // Last tick updated in place (e.g. live trade): computed again
+        series.getLastTick().addTrade(Decimal.ONE, Decimal.valueOf(175));
+        assertEquals(0.95 / 1.75, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
+        assertEquals(0.95 / 1.75, buyAndHold.calculate(series, tradingRecord), TATestsUtils.TA_OFFSET);
+        assertEquals(3, buyAndHoldCalls[0]);
+
+        // Another series
+        assertEquals(0.95 / 0.7, buyAndHold.calculate(new MockTimeSeries(100, 95, 100, 80, 85, 70), tradingRecord),
+                TATestsUtils.TA_OFFSET);
+        assertEquals(4, buyAndHoldCalls[0]);
+    }
+
     @Test
     public void betterThan() {
         AnalysisCriterion criterion = new VersusBuyAndHoldCriterion(new TotalProfitCriterion());
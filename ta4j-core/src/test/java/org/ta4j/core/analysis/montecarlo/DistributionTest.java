@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.montecarlo;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class DistributionTest {
+
+    @Test
+    public void statistics() {
+        Distribution distribution = new Distribution(new double[] { 4, 1, 3, 2, 5 });
+        assertEquals(5, distribution.size());
+        assertEquals(3, distribution.getMean(), 1e-12);
+        assertEquals(Math.sqrt(2), distribution.getStandardDeviation(), 1e-12);
+        assertEquals(1, distribution.getMin(), 0);
+        assertEquals(5, distribution.getMax(), 0);
+        assertEquals(3, distribution.getMedian(), 0);
+        assertEquals(1, distribution.getPercentile(0), 0);
+        assertEquals(5, distribution.getPercentile(100), 0);
+        assertEquals(1.4, distribution.getPercentile(10), 1e-12);
+        assertArrayEquals(new double[] { 1, 2, 3, 4, 5 }, distribution.getValues(), 0);
+    }
+
+    @Test
+    public void singleValue() {
+        Distribution distribution = new Distribution(new double[] { 7 });
+        assertEquals(7, distribution.getPercentile(33), 0);
+        assertEquals(0, distribution.getStandardDeviation(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noValue() {
+        new Distribution(new double[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentage() {
+        new Distribution(new double[] { 1 }).getPercentile(101);
+    }
+}
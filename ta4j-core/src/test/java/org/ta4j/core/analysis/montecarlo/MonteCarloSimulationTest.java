@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis.montecarlo;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Order;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.accumulators.MaximumDrawdownAccumulator;
+import org.ta4j.core.analysis.accumulators.NumberOfTradesAccumulator;
+import org.ta4j.core.analysis.accumulators.TotalProfitAccumulator;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MonteCarloSimulationTest {
+
+    private TimeSeries series;
+
+    private TradingRecord tradingRecord;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 3000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 20);
+        tradingRecord = new TimeSeriesManager(series).run(new BaseStrategy(
+                new CrossedUpIndicatorRule(closePrice, sma), new CrossedDownIndicatorRule(closePrice, sma)));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shuffledTradesKeepTheTotalProfit() {
+        double totalProfit = new TotalProfitCriterion().calculate(series, tradingRecord);
+        double maximumDrawdown = new MaximumDrawdownCriterion().calculate(series, tradingRecord);
+
+        MonteCarloResult result = new MonteCarloSimulation(series, tradingRecord, executor).shuffleTrades(5000, 1);
+
+        assertEquals(5000, result.getTotalProfit().size());
+        assertEquals(totalProfit, result.getTotalProfit().getMin(), 1e-9);
+        assertEquals(totalProfit, result.getTotalProfit().getMax(), 1e-9);
+        assertTrue(result.getMaximumDrawdown().getMin() <= maximumDrawdown + 1e-9);
+        assertTrue(result.getMaximumDrawdown().getMax() >= maximumDrawdown - 1e-9);
+        assertTrue(result.getMaximumDrawdown().getStandardDeviation() > 0);
+    }
+
+    @Test
+    public void singleTradeMatchesCriteria() {
+        TradingRecord record = new BaseTradingRecord(Order.sellAt(100, series.getTick(100).getClosePrice(), null),
+                Order.buyAt(900, series.getTick(900).getClosePrice(), null));
+        MonteCarloSimulation simulation = new MonteCarloSimulation(series, record, executor);
+        double totalProfit = new TotalProfitCriterion().calculate(series, record);
+        double maximumDrawdown = new MaximumDrawdownCriterion().calculate(series, record);
+
+        for (MonteCarloResult result : new MonteCarloResult[] { simulation.shuffleTrades(10, 1),
+                simulation.resampleTrades(10, 1) }) {
+            assertEquals(totalProfit, result.getTotalProfit().getMean(), 1e-9);
+            assertEquals(maximumDrawdown, result.getMaximumDrawdown().getMean(), 1e-9);
+        }
+    }
+
+    @Test
+    public void wholeSeriesBlockMatchesCriteria() {
+        MonteCarloResult result = new MonteCarloSimulation(series, tradingRecord, executor)
+                .blockBootstrap(series.getTickCount(), 10, 1);
+
+        assertEquals(new TotalProfitCriterion().calculate(series, tradingRecord), result.getTotalProfit().getMax(), 1e-9);
+        assertEquals(new MaximumDrawdownCriterion().calculate(series, tradingRecord), result.getMaximumDrawdown().getMin(), 1e-9);
+        assertEquals(0, result.getTotalProfit().getStandardDeviation(), 1e-9);
+    }
+
+    @Test
+    public void resultsOnlyDependOnTheSeed() {
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            MonteCarloSimulation parallel = new MonteCarloSimulation(series, tradingRecord, executor);
+            MonteCarloSimulation serial = new MonteCarloSimulation(series, tradingRecord, singleThread);
+            assertSameResults(serial.resampleTrades(20000, 7), parallel.resampleTrades(20000, 7));
+            assertSameResults(serial.blockBootstrap(50, 3000, 7), parallel.blockBootstrap(50, 3000, 7));
+            assertSameResults(serial.shuffleTrades(3000, 7), parallel.shuffleTrades(3000, 7));
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void resampledTrades() {
+        MonteCarloResult result = new MonteCarloSimulation(series, tradingRecord).resampleTrades(100000, 3);
+        double totalProfit = new TotalProfitCriterion().calculate(series, tradingRecord);
+
+        assertEquals(100000, result.getTotalProfit().size());
+        assertTrue(result.getTotalProfit().getMin() < totalProfit);
+        assertTrue(result.getTotalProfit().getMax() > totalProfit);
+        assertTrue(result.getMaximumDrawdown().getMin() >= 0);
+        assertTrue(result.getMaximumDrawdown().getMax() <= 1);
+    }
+
+    @Test
+    public void emptyTradingRecord() {
+        MonteCarloResult result = new MonteCarloSimulation(series, new BaseTradingRecord(OrderType.BUY), executor)
+                .resampleTrades(10, 1);
+        assertEquals(1, result.getTotalProfit().getMean(), 0);
+        assertEquals(0, result.getMaximumDrawdown().getMean(), 0);
+    }
+
+    @Test
+    public void criterionAccumulators() {
+        MonteCarloSimulation simulation = new MonteCarloSimulation(series, tradingRecord, executor, Arrays.asList(
+                TotalProfitAccumulator::new, MaximumDrawdownAccumulator::new, NumberOfTradesAccumulator::new));
+        for (MonteCarloResult result : new MonteCarloResult[] { simulation.shuffleTrades(50, 1),
+                simulation.resampleTrades(50, 1), simulation.blockBootstrap(100, 50, 1) }) {
+            List<Distribution> distributions = result.getCriterionDistributions();
+            assertEquals(3, distributions.size());
+            // Same values as the built-in distributions
+            assertArrayEquals(result.getTotalProfit().getValues(), distributions.get(0).getValues(), 1e-9);
+            assertArrayEquals(result.getMaximumDrawdown().getValues(), distributions.get(1).getValues(), 1e-9);
+        }
+        double tradeCount = tradingRecord.getTradeCount();
+        assertEquals(tradeCount, simulation.shuffleTrades(10, 1).getCriterionDistributions().get(2).getMean(), 0);
+        assertEquals(1, simulation.blockBootstrap(100, 10, 1).getCriterionDistributions().get(2).getMean(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidIterations() {
+        new MonteCarloSimulation(series, tradingRecord, executor).shuffleTrades(0, 1);
+    }
+
+    private static void assertSameResults(MonteCarloResult expected, MonteCarloResult actual) {
+        assertArrayEquals(expected.getTotalProfit().getValues(), actual.getTotalProfit().getValues(), 0);
+        assertArrayEquals(expected.getMaximumDrawdown().getValues(), actual.getMaximumDrawdown().getValues(), 0);
+    }
+}
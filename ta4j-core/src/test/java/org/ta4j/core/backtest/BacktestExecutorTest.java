@@ -0,0 +1,155 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.criteria.NumberOfTradesCriterion;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BacktestExecutorTest {
+
+    private TimeSeries series;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 5000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resultsMatchSerialRuns() {
+        List<Strategy> sharedStrategies = buildStrategies(series);
+        List<Strategy> serialStrategies = buildStrategies(series);
+        AnalysisCriterion criterion = new TotalProfitCriterion();
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+
+        List<BacktestResult> results = new BacktestExecutor(manager, executor).execute(sharedStrategies, criterion);
+
+        assertEquals(sharedStrategies.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BacktestResult result = results.get(i);
+            TradingRecord expectedRecord = manager.run(serialStrategies.get(i));
+            assertSame(sharedStrategies.get(i), result.getStrategy());
+            assertEquals(expectedRecord.getTrades(), result.getTradingRecord().getTrades());
+            assertEquals(criterion.calculate(series, expectedRecord), result.getCriterionValue(), 1e-9);
+        }
+    }
+
+    @Test
+    public void chooseBestMatchesCriterionChooseBest() {
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        BacktestExecutor backtestExecutor = new BacktestExecutor(manager, executor);
+        for (AnalysisCriterion criterion : Arrays.asList(new TotalProfitCriterion(), new NumberOfTradesCriterion())) {
+            List<Strategy> strategies = buildStrategies(series);
+            Strategy expected = criterion.chooseBest(manager, strategies);
+            assertSame(expected, backtestExecutor.chooseBest(strategies, criterion).getStrategy());
+        }
+    }
+
+    @Test
+    public void defaultPool() {
+        List<Strategy> strategies = buildStrategies(series);
+        List<BacktestResult> results = new BacktestExecutor(new TimeSeriesManager(series))
+                .execute(strategies, new TotalProfitCriterion());
+        assertEquals(strategies.size(), results.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chooseBestWithoutStrategies() {
+        new BacktestExecutor(new TimeSeriesManager(series), executor).chooseBest(new ArrayList<>(), new TotalProfitCriterion());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failureOfAStrategyIsPropagated() {
+        Strategy failing = new BaseStrategy((index, record) -> {
+            throw new IllegalStateException("Failing rule");
+        }, (index, record) -> false);
+        new BacktestExecutor(new TimeSeriesManager(series), executor)
+                .execute(Arrays.asList(failing), new TotalProfitCriterion());
+    }
+
+    /**
+     * @param series a time series
+     * @return strategies sharing their indicators
+     */
+    private static List<Strategy> buildStrategies(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 50);
+        RSIIndicator rsi = new RSIIndicator(closePrice, 14);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int timeFrame = 5; timeFrame <= 40; timeFrame += 5) {
+            EMAIndicator shortEma = new EMAIndicator(closePrice, timeFrame);
+            strategies.add(new BaseStrategy(
+                    new CrossedUpIndicatorRule(shortEma, longSma).and(new UnderIndicatorRule(rsi, Decimal.valueOf(70))),
+                    new CrossedDownIndicatorRule(shortEma, longSma).or(new OverIndicatorRule(rsi, Decimal.valueOf(80)))));
+        }
+        return strategies;
+    }
+}
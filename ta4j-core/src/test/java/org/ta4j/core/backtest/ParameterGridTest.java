@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParameterGridTest {
+
+    @Test
+    public void range() {
+        assertArrayEquals(new int[] { 5, 10, 15, 20 }, ParameterGrid.range(5, 20, 5));
+        assertArrayEquals(new int[] { 5, 10, 15 }, ParameterGrid.range(5, 19, 5));
+        assertArrayEquals(new int[] { 3 }, ParameterGrid.range(3, 3, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRange() {
+        ParameterGrid.range(5, 1, 1);
+    }
+
+    @Test
+    public void iterateOverAllCombinations() {
+        ParameterGrid grid = new ParameterGrid(new int[] { 1, 2 }, new int[] { 10, 20, 30 });
+        assertEquals(6, grid.size());
+        List<int[]> combinations = new ArrayList<>();
+        for (int[] combination : grid) {
+            combinations.add(combination);
+        }
+        assertEquals(6, combinations.size());
+        assertArrayEquals(new int[] { 1, 10 }, combinations.get(0));
+        assertArrayEquals(new int[] { 1, 20 }, combinations.get(1));
+        assertArrayEquals(new int[] { 1, 30 }, combinations.get(2));
+        assertArrayEquals(new int[] { 2, 10 }, combinations.get(3));
+        assertArrayEquals(new int[] { 2, 30 }, combinations.get(5));
+        assertArrayEquals(new int[] { 2, 20 }, grid.get(4));
+    }
+
+    @Test
+    public void sampleDrawsDistinctCombinations() {
+        ParameterGrid grid = new ParameterGrid(ParameterGrid.range(1, 10, 1), ParameterGrid.range(1, 10, 1));
+        List<int[]> sample = grid.sample(100, new Random(42));
+        Set<Integer> distinct = new HashSet<>();
+        for (int[] combination : sample) {
+            distinct.add(combination[0] * 100 + combination[1]);
+        }
+        assertEquals(100, distinct.size());
+        assertEquals(10, grid.sample(10, new Random(1)).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleLargerThanGrid() {
+        new ParameterGrid(new int[] { 1, 2 }).sample(3, new Random(42));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyAxis() {
+        new ParameterGrid(new int[] { 1, 2 }, new int[0]);
+    }
+}
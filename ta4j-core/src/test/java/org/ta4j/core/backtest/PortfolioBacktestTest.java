@@ -0,0 +1,224 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.FixedRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class PortfolioBacktestTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void singleAssetMatchesTimeSeriesManager() {
+        TimeSeries series = randomSeries(new Random(42), 2000, 1);
+        PortfolioBacktest<String> backtest = new PortfolioBacktest<>(Decimal.valueOf(1000000), Decimal.valueOf(1000), executor);
+        backtest.addAsset("A", series, crossoverStrategy(series, 10));
+
+        PortfolioResult<String> result = backtest.run();
+
+        TradingRecord expected = new TimeSeriesManager(series).run(crossoverStrategy(series, 10), 0, series.getEndIndex());
+        TradingRecord record = result.getTradingRecord("A");
+        assertEquals(expected.getTradeCount(), record.getTradeCount());
+        Decimal cash = Decimal.valueOf(1000000);
+        for (int i = 0; i < record.getTradeCount(); i++) {
+            Trade trade = record.getTrades().get(i);
+            assertEquals(expected.getTrades().get(i).getEntry().getIndex(), trade.getEntry().getIndex());
+            assertEquals(expected.getTrades().get(i).getExit().getIndex(), trade.getExit().getIndex());
+            cash = cash.plus(trade.getExit().getPrice().multipliedBy(trade.getEntry().getAmount())).minus(Decimal.valueOf(1000));
+        }
+        if (record.getCurrentTrade().isOpened()) {
+            cash = cash.minus(Decimal.valueOf(1000));
+        }
+        assertDecimalEquals(result.getCash(), cash.toDouble());
+    }
+
+    @Test
+    public void cashIsSharedBetweenAssets() {
+        ZonedDateTime[] times = new ZonedDateTime[5];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = START.plusDays(i);
+        }
+        TimeSeries a = new MockTimeSeries(new double[] { 10, 10, 20, 20, 10 }, times);
+        TimeSeries b = new MockTimeSeries(new double[] { 5, 5, 5, 10, 10 }, times);
+        TimeSeries c = new MockTimeSeries(new double[] { 2, 2, 2, 2, 4 }, times);
+        PortfolioBacktest<String> backtest = new PortfolioBacktest<>(Decimal.valueOf(150), Decimal.valueOf(100), executor);
+        // A: enters on 1 (100), exits on 3 (200)
+        backtest.addAsset("A", a, new BaseStrategy(new FixedRule(1), new FixedRule(3)));
+        // B: enters on 1 (50 remaining), exits on 4 (100)
+        backtest.addAsset("B", b, new BaseStrategy(new FixedRule(1), new FixedRule(4)));
+        // C: no cash on 1, enters on 3 (with the cash released by A)
+        backtest.addAsset("C", c, new BaseStrategy(new FixedRule(1, 3), new FixedRule(2)));
+
+        PortfolioResult<String> result = backtest.run();
+
+        assertEquals(1, result.getTradingRecord("A").getTradeCount());
+        assertDecimalEquals(result.getTradingRecord("A").getLastExit().getPrice(), 20);
+        assertEquals(1, result.getTradingRecord("B").getTradeCount());
+        assertDecimalEquals(result.getTradingRecord("B").getLastEntry().getAmount(), 10);
+        TradingRecord recordC = result.getTradingRecord("C");
+        assertEquals(0, recordC.getTradeCount());
+        assertEquals(3, recordC.getCurrentTrade().getEntry().getIndex());
+        assertDecimalEquals(recordC.getCurrentTrade().getEntry().getAmount(), 50);
+        // 150 - 100 - 50 + 200 - 100 (C) + 100 (B)
+        assertDecimalEquals(result.getCash(), 200);
+        assertDecimalEquals(result.getEquity(), 400);
+        assertEquals(Collections.singletonList("A"), new ArrayList<>(result.getTradingRecords().keySet()).subList(0, 1));
+    }
+
+    @Test
+    public void mergedTimeline() {
+        List<Tick> minuteTicks = new ArrayList<>();
+        List<Tick> twoMinuteTicks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            minuteTicks.add(new MockTick(START.plusMinutes(i), 1));
+            if (i % 2 == 0) {
+                twoMinuteTicks.add(new MockTick(START.plusMinutes(i + 1), 1));
+            }
+        }
+        List<ZonedDateTime> times = Collections.synchronizedList(new ArrayList<>());
+        PortfolioBacktest<String> backtest = new PortfolioBacktest<>(Decimal.HUNDRED, Decimal.ONE, executor);
+        TimeSeries minuteSeries = new MockTimeSeries(minuteTicks);
+        TimeSeries twoMinuteSeries = new MockTimeSeries(twoMinuteTicks);
+        backtest.addAsset("1m", minuteSeries, recordingStrategy(minuteSeries, times));
+        backtest.addAsset("2m", twoMinuteSeries, recordingStrategy(twoMinuteSeries, times));
+
+        backtest.run();
+
+        assertEquals(30, times.size());
+        for (int i = 1; i < times.size(); i++) {
+            assertTrue(!times.get(i).isBefore(times.get(i - 1)));
+        }
+    }
+
+    @Test
+    public void parallelRunMatchesSerialRun() {
+        Random random = new Random(42);
+        List<TimeSeries> seriesList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            seriesList.add(randomSeries(random, 500 + 10 * i, 1 + i % 3));
+        }
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            PortfolioBacktest<Integer> parallel = new PortfolioBacktest<>(Decimal.valueOf(5000), Decimal.valueOf(1000), executor);
+            PortfolioBacktest<Integer> serial = new PortfolioBacktest<>(Decimal.valueOf(5000), Decimal.valueOf(1000), singleThread);
+            for (int i = 0; i < seriesList.size(); i++) {
+                parallel.addAsset(i, seriesList.get(i), crossoverStrategy(seriesList.get(i), 5 + i));
+                serial.addAsset(i, seriesList.get(i), crossoverStrategy(seriesList.get(i), 5 + i));
+            }
+            PortfolioResult<Integer> expected = serial.run();
+            PortfolioResult<Integer> result = parallel.run();
+            for (int i = 0; i < seriesList.size(); i++) {
+                assertEquals(expected.getTradingRecord(i).getTrades(), result.getTradingRecord(i).getTrades());
+            }
+            assertEquals(expected.getCash(), result.getCash());
+            assertEquals(expected.getEquity(), result.getEquity());
+            // Runs can be repeated
+            assertEquals(expected.getEquity(), parallel.run().getEquity());
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateAsset() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3);
+        PortfolioBacktest<String> backtest = new PortfolioBacktest<>(Decimal.HUNDRED, Decimal.ONE, executor);
+        backtest.addAsset("A", series, new BaseStrategy(new FixedRule(0), new FixedRule(1)));
+        backtest.addAsset("A", series, new BaseStrategy(new FixedRule(0), new FixedRule(1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPositionValue() {
+        new PortfolioBacktest<String>(Decimal.HUNDRED, Decimal.ZERO);
+    }
+
+    private static Strategy crossoverStrategy(TimeSeries series, int timeFrame) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, timeFrame);
+        return new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma), new CrossedDownIndicatorRule(closePrice, sma));
+    }
+
+    private static Strategy recordingStrategy(TimeSeries series, List<ZonedDateTime> times) {
+        Rule rule = new Rule() {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                times.add(series.getTick(index).getEndTime());
+                return false;
+            }
+        };
+        return new BaseStrategy(rule, rule);
+    }
+
+    private static TimeSeries randomSeries(Random random, int tickCount, int minutes) {
+        List<Tick> ticks = new ArrayList<>();
+        double price = 100;
+        for (int i = 0; i < tickCount; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(START.plusMinutes(minutes * i), price));
+        }
+        return new MockTimeSeries(ticks);
+    }
+}
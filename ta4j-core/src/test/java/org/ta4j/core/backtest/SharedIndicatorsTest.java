@@ -0,0 +1,62 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SharedIndicatorsTest {
+
+    @Test
+    public void indicatorsAreBuiltOncePerKey() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5);
+        SharedIndicators shared = new SharedIndicators();
+        Indicator<Decimal> closePrice = shared.get(() -> new ClosePriceIndicator(series), "close");
+        assertSame(closePrice, shared.get(() -> new ClosePriceIndicator(series), "close"));
+
+        Indicator<Decimal> sma2 = shared.get(() -> new SMAIndicator(closePrice, 2), "sma", 2);
+        assertSame(sma2, shared.get(() -> new SMAIndicator(closePrice, 2), "sma", 2));
+        assertNotSame(sma2, shared.get(() -> new SMAIndicator(closePrice, 3), "sma", 3));
+        assertEquals(3, shared.size());
+    }
+
+    @Test
+    public void buildersMayUseTheRegistry() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5);
+        SharedIndicators shared = new SharedIndicators();
+        Indicator<Decimal> ema = shared.get(() -> new EMAIndicator(
+                shared.get(() -> new ClosePriceIndicator(series), "close"), 3), "ema", 3);
+        assertSame(ema, shared.get(() -> new EMAIndicator(new ClosePriceIndicator(series), 3), "ema", 3));
+        assertEquals(2, shared.size());
+    }
+}
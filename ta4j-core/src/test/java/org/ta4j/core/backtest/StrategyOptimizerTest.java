@@ -0,0 +1,185 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StrategyOptimizerTest {
+
+    private TimeSeries series;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 2000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resultsAreStreamedForEveryCandidate() {
+        SharedIndicators shared = new SharedIndicators();
+        ParameterGrid grid = new ParameterGrid(ParameterGrid.range(5, 30, 5), ParameterGrid.range(50, 100, 25));
+        StrategyOptimizer<int[]> optimizer = new StrategyOptimizer<>(new TimeSeriesManager(series),
+                crossoverBuilder(shared), executor, 4);
+
+        Set<Long> candidateIndexes = new HashSet<>();
+        optimizer.run(grid, new TotalProfitCriterion(), result -> {
+            assertArrayEquals(grid.get(result.getCandidateIndex()), result.getParameters());
+            candidateIndexes.add(result.getCandidateIndex());
+        });
+        assertEquals(grid.size(), candidateIndexes.size());
+        // Close price + 6 EMAs + 3 SMAs
+        assertEquals(10, shared.size());
+    }
+
+    @Test
+    public void optimizeMatchesSerialSearch() {
+        ParameterGrid grid = new ParameterGrid(ParameterGrid.range(5, 30, 5), ParameterGrid.range(50, 100, 25));
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        AnalysisCriterion criterion = new TotalProfitCriterion();
+
+        OptimizationResult<int[]> best = new StrategyOptimizer<>(manager, crossoverBuilder(new SharedIndicators()), executor, 4)
+                .optimize(grid, criterion);
+
+        Function<int[], Strategy> serialBuilder = crossoverBuilder(new SharedIndicators());
+        int[] expectedParameters = null;
+        double expectedValue = Double.NaN;
+        for (int[] parameters : grid) {
+            double value = criterion.calculate(series, manager.run(serialBuilder.apply(parameters)));
+            if (expectedParameters == null || criterion.betterThan(value, expectedValue)) {
+                expectedParameters = parameters;
+                expectedValue = value;
+            }
+        }
+        assertArrayEquals(expectedParameters, best.getParameters());
+        assertEquals(expectedValue, best.getCriterionValue(), 1e-9);
+    }
+
+    @Test
+    public void tiesAreWonByTheFirstCandidate() {
+        Strategy neverTrading = new BaseStrategy((index, record) -> false, (index, record) -> false);
+        OptimizationResult<Integer> best = new StrategyOptimizer<Integer>(new TimeSeriesManager(series),
+                parameter -> neverTrading, executor, 2).optimize(Arrays.asList(3, 1, 2), new TotalProfitCriterion());
+        assertEquals(0, best.getCandidateIndex());
+        assertEquals(3, best.getParameters().intValue());
+        assertEquals(0, best.getTradeCount());
+    }
+
+    @Test
+    public void failingCandidateCancelsThePendingOnes() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        StrategyOptimizer<Integer> optimizer = new StrategyOptimizer<>(new TimeSeriesManager(series), parameter -> {
+            try {
+                if (parameter == 0) {
+                    started.await();
+                    throw new IllegalArgumentException("Invalid candidate");
+                }
+                started.countDown();
+                Thread.sleep(60000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new BaseStrategy((index, record) -> false, (index, record) -> false);
+        }, executor, 3);
+
+        try {
+            optimizer.run(Arrays.asList(0, 1, 2), new TotalProfitCriterion(), result -> fail("No result expected"));
+            fail("The failure of the candidate should be thrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid candidate", e.getMessage());
+        }
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void noCandidate() {
+        assertNull(new StrategyOptimizer<int[]>(new TimeSeriesManager(series), crossoverBuilder(new SharedIndicators()))
+                .optimize(new ArrayList<>(), new TotalProfitCriterion()));
+    }
+
+    /**
+     * @param shared the shared indicators
+     * @return a builder of EMA/SMA crossover strategies (parameters: EMA time frame, SMA time frame)
+     */
+    private Function<int[], Strategy> crossoverBuilder(SharedIndicators shared) {
+        return parameters -> {
+            Indicator<Decimal> closePrice = shared.get(() -> new ClosePriceIndicator(series), "close");
+            Indicator<Decimal> ema = shared.get(() -> new EMAIndicator(closePrice, parameters[0]), "ema", parameters[0]);
+            Indicator<Decimal> sma = shared.get(() -> new SMAIndicator(closePrice, parameters[1]), "sma", parameters[1]);
+            return new BaseStrategy(new CrossedUpIndicatorRule(ema, sma), new CrossedDownIndicatorRule(ema, sma));
+        };
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TATestsUtils;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.accumulators.NumberOfTradesAccumulator;
+import org.ta4j.core.analysis.accumulators.TotalProfitAccumulator;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.BooleanRule;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.FixedRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.StopLossRule;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VectorizedTimeSeriesManagerTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 5000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+    }
+
+    @Test
+    public void tradingRecordDependency() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        Rule independent = new OverIndicatorRule(closePrice, Decimal.HUNDRED);
+        Rule stopLoss = new StopLossRule(closePrice, Decimal.valueOf(5));
+
+        assertFalse(independent.isTradingRecordDependent());
+        assertFalse(independent.and(new FixedRule(1, 2)).negation().isTradingRecordDependent());
+        assertTrue(stopLoss.isTradingRecordDependent());
+        assertTrue(independent.or(stopLoss).isTradingRecordDependent());
+        assertTrue(new Rule() {
+            @Override
+            public boolean isSatisfied(int index, org.ta4j.core.TradingRecord tradingRecord) {
+                return false;
+            }
+        }.isTradingRecordDependent());
+
+        assertTrue(VectorizedTimeSeriesManager.isVectorizable(new BaseStrategy(independent, independent.negation())));
+        assertFalse(VectorizedTimeSeriesManager.isVectorizable(new BaseStrategy(independent, stopLoss)));
+    }
+
+    @Test
+    public void evaluateCombinations() {
+        Rule r1 = new FixedRule(1, 2, 3, 5);
+        Rule r2 = new FixedRule(2, 3, 4, 8);
+        BitSet indexes = new BitSet();
+        indexes.set(0, 8);
+
+        assertEquals(bits(2, 3), VectorizedTimeSeriesManager.evaluate(r1.and(r2), indexes));
+        assertEquals(bits(1, 2, 3, 4, 5), VectorizedTimeSeriesManager.evaluate(r1.or(r2), indexes));
+        assertEquals(bits(1, 4, 5), VectorizedTimeSeriesManager.evaluate(r1.xor(r2), indexes));
+        assertEquals(bits(0, 4, 6, 7), VectorizedTimeSeriesManager.evaluate(r1.negation(), indexes));
+        assertEquals(bits(0, 1, 5, 6, 7), VectorizedTimeSeriesManager.evaluate(r1.and(r2).negation().and(r2.negation().or(r1)), indexes));
+        assertEquals(bits(), VectorizedTimeSeriesManager.evaluate(new BooleanRule(true), new BitSet()));
+    }
+
+    @Test
+    public void sameTradesAsTickByTickRun() {
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        VectorizedTimeSeriesManager vectorizedManager = new VectorizedTimeSeriesManager(series);
+        for (Strategy strategy : buildStrategies()) {
+            assertEquals(manager.run(strategy).getTrades(), vectorizedManager.run(strategy).getTrades());
+            assertEquals(manager.run(strategy, OrderType.SELL).getTrades(),
+                    vectorizedManager.run(strategy, OrderType.SELL).getTrades());
+            assertEquals(manager.run(strategy, 1000, 2000).getTrades(),
+                    vectorizedManager.run(strategy, 1000, 2000).getTrades());
+            assertEquals(manager.run(strategy, 4990, 6000).getTrades(),
+                    vectorizedManager.run(strategy, 4990, 6000).getTrades());
+        }
+    }
+
+    @Test
+    public void accumulatorsUpdatedOnEachOrder() {
+        for (Strategy strategy : buildStrategies()) {
+            TotalProfitAccumulator profit = new TotalProfitAccumulator();
+            NumberOfTradesAccumulator tradeCount = new NumberOfTradesAccumulator();
+            TradingRecord tradingRecord = new VectorizedTimeSeriesManager(series)
+                    .run(strategy, new BaseTradingRecord(), profit, tradeCount);
+
+            assertEquals(new TotalProfitCriterion().calculate(series, tradingRecord), profit.getValue(), TATestsUtils.TA_OFFSET);
+            assertEquals(tradingRecord.getTradeCount(), tradeCount.getValue(), TATestsUtils.TA_OFFSET);
+        }
+    }
+
+    @Test
+    public void tradeOpenedAtTheEndOfTheRunIsClosedAfterIt() {
+        TimeSeries shortSeries = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        Strategy strategy = new BaseStrategy(new FixedRule(2, 6), new FixedRule(4, 8));
+
+        List<?> trades = new VectorizedTimeSeriesManager(shortSeries).run(strategy, 0, 6).getTrades();
+
+        assertEquals(new TimeSeriesManager(shortSeries).run(strategy, 0, 6).getTrades(), trades);
+        assertEquals(2, trades.size());
+    }
+
+    @Test
+    public void unstablePeriod() {
+        TimeSeries shortSeries = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        Strategy strategy = new BaseStrategy(new FixedRule(1, 5), new FixedRule(2, 7), 3);
+
+        assertEquals(new TimeSeriesManager(shortSeries).run(strategy).getTrades(),
+                new VectorizedTimeSeriesManager(shortSeries).run(strategy).getTrades());
+    }
+
+    @Test
+    public void tradingRecordDependentStrategyFallsBack() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        Strategy strategy = new BaseStrategy(
+                new CrossedUpIndicatorRule(closePrice, new SMAIndicator(closePrice, 20)),
+                new StopLossRule(closePrice, Decimal.valueOf(2)));
+
+        assertEquals(new TimeSeriesManager(series).run(strategy).getTrades(),
+                new VectorizedTimeSeriesManager(series).run(strategy).getTrades());
+    }
+
+    private List<Strategy> buildStrategies() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int timeFrame : new int[] { 5, 20, 50 }) {
+            SMAIndicator sma = new SMAIndicator(closePrice, timeFrame);
+            strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                    new CrossedDownIndicatorRule(closePrice, sma), timeFrame));
+            RSIIndicator rsi = new RSIIndicator(closePrice, timeFrame);
+            strategies.add(new BaseStrategy(
+                    new UnderIndicatorRule(rsi, Decimal.valueOf(30)).and(new OverIndicatorRule(closePrice, sma).negation()),
+                    new OverIndicatorRule(rsi, Decimal.valueOf(70)).or(new UnderIndicatorRule(rsi, Decimal.valueOf(20)))));
+        }
+        return strategies;
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class WalkForwardOptimizerTest {
+
+    private TimeSeries series;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 3000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+        series = new MockTimeSeries(ticks);
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resultsMatchSerialWalkForward() {
+        ParameterGrid grid = new ParameterGrid(ParameterGrid.range(5, 25, 5), ParameterGrid.range(40, 80, 20));
+        List<WalkForwardWindow> windows = WalkForwardWindow.rolling(series, 1000, 500);
+        AnalysisCriterion criterion = new TotalProfitCriterion();
+
+        List<WalkForwardResult<int[]>> results = new WalkForwardOptimizer<>(series,
+                crossoverBuilder(new SharedIndicators()), executor).run(windows, grid, criterion);
+
+        Function<int[], Strategy> serialBuilder = crossoverBuilder(new SharedIndicators());
+        assertEquals(windows.size(), results.size());
+        for (int i = 0; i < windows.size(); i++) {
+            WalkForwardWindow window = windows.get(i);
+            WalkForwardResult<int[]> result = results.get(i);
+            assertSame(window, result.getWindow());
+
+            TimeSeries inSample = new BaseTimeSeries(series, window.getInSampleBeginIndex(), window.getInSampleEndIndex());
+            int[] bestParameters = null;
+            double bestValue = Double.NaN;
+            for (int[] parameters : grid) {
+                double value = criterion.calculate(inSample, new TimeSeriesManager(inSample).run(serialBuilder.apply(parameters)));
+                if (bestParameters == null || criterion.betterThan(value, bestValue)) {
+                    bestParameters = parameters;
+                    bestValue = value;
+                }
+            }
+            assertArrayEquals(bestParameters, result.getParameters());
+            assertEquals(bestValue, result.getInSampleResult().getCriterionValue(), 1e-9);
+
+            TimeSeries outOfSample = new BaseTimeSeries(series, window.getOutOfSampleBeginIndex(), window.getOutOfSampleEndIndex());
+            TradingRecord outOfSampleRecord = new TimeSeriesManager(outOfSample).run(serialBuilder.apply(bestParameters));
+            assertEquals(outOfSampleRecord.getTrades(), result.getOutOfSampleTradingRecord().getTrades());
+            assertEquals(criterion.calculate(outOfSample, outOfSampleRecord), result.getOutOfSampleCriterionValue(), 1e-9);
+        }
+    }
+
+    @Test
+    public void resultsAreStreamedInWindowsOrder() {
+        List<WalkForwardWindow> windows = WalkForwardWindow.rolling(series, 500, 250);
+        List<WalkForwardWindow> streamed = new ArrayList<>();
+        new WalkForwardOptimizer<>(series, crossoverBuilder(new SharedIndicators()), executor)
+                .run(windows, new ParameterGrid(new int[] { 10 }, new int[] { 50 }), new TotalProfitCriterion(),
+                        result -> streamed.add(result.getWindow()));
+        assertEquals(windows, streamed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atLeastOneCandidate() {
+        new WalkForwardOptimizer<int[]>(series, crossoverBuilder(new SharedIndicators()), executor)
+                .run(WalkForwardWindow.rolling(series, 500, 250), new ArrayList<>(), new TotalProfitCriterion());
+    }
+
+    /**
+     * @param shared the shared indicators
+     * @return a builder of EMA/SMA crossover strategies (parameters: EMA time frame, SMA time frame)
+     */
+    private Function<int[], Strategy> crossoverBuilder(SharedIndicators shared) {
+        return parameters -> {
+            Indicator<Decimal> closePrice = shared.get(() -> new ClosePriceIndicator(series), "close");
+            Indicator<Decimal> ema = shared.get(() -> new EMAIndicator(closePrice, parameters[0]), "ema", parameters[0]);
+            Indicator<Decimal> sma = shared.get(() -> new SMAIndicator(closePrice, parameters[1]), "sma", parameters[1]);
+            return new BaseStrategy(new CrossedUpIndicatorRule(ema, sma), new CrossedDownIndicatorRule(ema, sma));
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.junit.Test;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WalkForwardWindowTest {
+
+    @Test
+    public void rollingWindowsByTickCounts() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        List<WalkForwardWindow> windows = WalkForwardWindow.rolling(series, 5, 3);
+        assertEquals(3, windows.size());
+        assertWindow(windows.get(0), 0, 4, 5, 7);
+        assertWindow(windows.get(1), 3, 7, 8, 10);
+        // Last out-of-sample range is shorter
+        assertWindow(windows.get(2), 6, 10, 11, 11);
+    }
+
+    @Test
+    public void rollingWindowsByDurations() {
+        // Hourly ticks, with a gap of one day after the 30th tick
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 60; i++) {
+            ticks.add(new MockTick(time.plusHours(i < 30 ? i : i + 24), i));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+
+        List<WalkForwardWindow> windows = WalkForwardWindow.rolling(series, Duration.ofHours(10), Duration.ofHours(5));
+        assertWindow(windows.get(0), 0, 9, 10, 14);
+        assertWindow(windows.get(1), 5, 14, 15, 19);
+        for (WalkForwardWindow window : windows) {
+            ZonedDateTime inSampleStart = series.getTick(window.getInSampleBeginIndex()).getEndTime();
+            assertTrue(series.getTick(window.getInSampleEndIndex()).getEndTime().isBefore(inSampleStart.plusHours(10)));
+            assertTrue(series.getTick(window.getOutOfSampleEndIndex()).getEndTime().isBefore(inSampleStart.plusHours(15)));
+        }
+        // Windows falling in the gap are skipped
+        WalkForwardWindow last = windows.get(windows.size() - 1);
+        assertEquals(59, last.getOutOfSampleEndIndex());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidWindow() {
+        new WalkForwardWindow(5, 10, 10);
+    }
+
+    private static void assertWindow(WalkForwardWindow window, int inSampleBegin, int inSampleEnd,
+            int outOfSampleBegin, int outOfSampleEnd) {
+        assertEquals(inSampleBegin, window.getInSampleBeginIndex());
+        assertEquals(inSampleEnd, window.getInSampleEndIndex());
+        assertEquals(outOfSampleBegin, window.getOutOfSampleBeginIndex());
+        assertEquals(outOfSampleEnd, window.getOutOfSampleEndIndex());
+    }
+}
@@ -78,6 +78,22 @@ public class CachedIndicatorTest {
         assertDecimalEquals(sma.getValue(105), 10);
     }
 
+    @Test
+    public void invalidateFrom() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        assertDecimalEquals(sma.getValue(12), 3);
+        // Amending the last tick
+        series.getLastTick().addTrade(1, 5);
+        assertDecimalEquals(sma.getValue(12), 3);
+        // The SMA first (its window is rolled back with the close price before the amendment)
+        sma.invalidateFrom(12);
+        closePrice.invalidateFrom(12);
+        assertDecimalEquals(closePrice.getValue(12), 5);
+        assertDecimalEquals(sma.getValue(12), 4);
+        assertDecimalEquals(sma.getValue(11), 3.3333);
+    }
+
     @Test
     public void getValueWithOldResultsRemoval() {
         double[] data = new double[20];
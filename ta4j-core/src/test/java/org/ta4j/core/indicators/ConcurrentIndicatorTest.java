@@ -0,0 +1,149 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class ConcurrentIndicatorTest {
+
+    /**
+     * Counts its calculations.
+     */
+    private static class CountingIndicator extends CachedIndicator<Decimal> {
+
+        private final Indicator<Decimal> indicator;
+
+        private final AtomicInteger calculations = new AtomicInteger();
+
+        CountingIndicator(Indicator<Decimal> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            calculations.incrementAndGet();
+            return indicator.getValue(index);
+        }
+    }
+
+    @Test
+    public void valuesOfTheWrappedIndicator() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        ConcurrentIndicator<Decimal> concurrent = new ConcurrentIndicator<>(sma);
+        assertSame(series, concurrent.getTimeSeries());
+        assertSame(sma, concurrent.getIndicator());
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            assertEquals(new SMAIndicator(new ClosePriceIndicator(series), 3).getValue(i), concurrent.getValue(i));
+        }
+    }
+
+    @Test
+    public void concurrentReads() throws Exception {
+        double[] prices = new double[900];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 100 + Math.sin(i / 10.0) * 10;
+        }
+        TimeSeries series = new MockTimeSeries(prices);
+        CountingIndicator counting = new CountingIndicator(new ClosePriceIndicator(series));
+        ConcurrentIndicator<Decimal> concurrent = new ConcurrentIndicator<>(counting);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Decimal>> futures = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                futures.add(executor.submit(() -> {
+                    Decimal sum = Decimal.ZERO;
+                    for (int i = 0; i < prices.length; i++) {
+                        sum = sum.plus(concurrent.getValue(i));
+                    }
+                    return sum;
+                }));
+            }
+            Decimal expected = Decimal.ZERO;
+            for (int i = 0; i < prices.length; i++) {
+                expected = expected.plus(Decimal.valueOf(prices[i]));
+            }
+            for (Future<Decimal> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // Each value computed exactly once
+        assertEquals(prices.length, counting.calculations.get());
+    }
+
+    @Test
+    public void movingSeries() {
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        TimeSeries movingSeries = new MockTimeSeries(new double[] { 1, 2, 3 },
+                new ZonedDateTime[] { time, time.plusDays(1), time.plusDays(2) });
+        movingSeries.setMaximumTickCount(3);
+        CountingIndicator counting = new CountingIndicator(new ClosePriceIndicator(movingSeries));
+        ConcurrentIndicator<Decimal> concurrent = new ConcurrentIndicator<>(counting);
+        for (int i = 3; i < 50; i++) {
+            movingSeries.addTick(new MockTick(time.plusDays(i), i + 1));
+            for (int j = movingSeries.getRemovedTicksCount(); j <= i; j++) {
+                assertDecimalEquals(concurrent.getValue(j), j + 1);
+            }
+        }
+        // Each value computed exactly once (tick 0 removed before the first read)
+        assertEquals(49, counting.calculations.get());
+    }
+
+    @Test
+    public void invalidateFrom() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        ConcurrentIndicator<Decimal> concurrent = new ConcurrentIndicator<>(closePrice);
+        assertDecimalEquals(concurrent.getValue(12), 2);
+        // Amending the last tick
+        series.getLastTick().addTrade(1, 5);
+        IndicatorGraph graph = new IndicatorGraph(Collections.singletonList(concurrent));
+        graph.invalidateFrom(12);
+        assertDecimalEquals(concurrent.getValue(12), 5);
+        assertDecimalEquals(concurrent.getValue(11), 3);
+    }
+}
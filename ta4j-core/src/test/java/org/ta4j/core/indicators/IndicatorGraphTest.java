@@ -0,0 +1,325 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTick;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.GainLossIndicator;
+import org.ta4j.core.indicators.helpers.SumIndicator;
+import org.ta4j.core.indicators.pivotpoints.PivotPointIndicator;
+import org.ta4j.core.indicators.pivotpoints.TimeLevel;
+import org.ta4j.core.indicators.statistics.MedianIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.BooleanRule;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.StopLossRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class IndicatorGraphTest {
+
+    private TimeSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 4, 5, 6);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    /**
+     * Counts its calculations.
+     */
+    private static class CountingIndicator extends CachedIndicator<Decimal> {
+
+        private final Indicator<Decimal> indicator;
+
+        private int calculations;
+
+        CountingIndicator(Indicator<Decimal> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            calculations++;
+            return indicator.getValue(index);
+        }
+    }
+
+    @Test
+    public void dependencies() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        assertEquals(Collections.singletonList(closePrice), sma.getDependencies());
+        assertEquals(Collections.singletonList(closePrice), IndicatorGraph.dependenciesOf(sma));
+        assertTrue(closePrice.getDependencies().isEmpty());
+        assertTrue(IndicatorGraph.dependenciesOf(closePrice).isEmpty());
+
+        RSIIndicator rsi = new RSIIndicator(closePrice, 5);
+        List<Indicator<?>> rsiDependencies = IndicatorGraph.dependenciesOf(rsi);
+        assertEquals(2, rsiDependencies.size());
+        // Average gain and loss, both from the same gain/loss indicator
+        Indicator<?> gainLoss = IndicatorGraph.dependenciesOf(rsiDependencies.get(0)).get(0);
+        assertTrue(gainLoss instanceof GainLossIndicator);
+        assertTrue(gainLoss == IndicatorGraph.dependenciesOf(rsiDependencies.get(1)).get(0));
+
+        SumIndicator sum = new SumIndicator(closePrice, sma);
+        assertEquals(Arrays.asList(closePrice, sma), IndicatorGraph.dependenciesOf(sum));
+    }
+
+    @Test
+    public void declaredDependencies() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        // Declares the SMA only (instead of the close price found from its fields)
+        CountingIndicator counting = new CountingIndicator(closePrice) {
+            @Override
+            public List<Indicator<?>> getDependencies() {
+                return Collections.singletonList(sma);
+            }
+        };
+        IndicatorGraph graph = new IndicatorGraph(Collections.singletonList(counting));
+        assertEquals(Collections.singletonList(sma), graph.getDependencies(counting));
+        assertEquals(Arrays.asList(closePrice, sma, counting), graph.getIndicators());
+    }
+
+    /**
+     * Holds its dependencies in fields not declared as indicators.
+     */
+    private static class UndeclaredIndicator extends CachedIndicator<Decimal> {
+
+        private final List<? extends Indicator<Decimal>> operands;
+
+        private final Map<String, Indicator<Decimal>> namedOperands;
+
+        private final Object operand;
+
+        UndeclaredIndicator(List<? extends Indicator<Decimal>> operands, Map<String, Indicator<Decimal>> namedOperands,
+                Object operand) {
+            super(operands.get(0));
+            this.operands = operands;
+            this.namedOperands = namedOperands;
+            this.operand = operand;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            return Decimal.NaN;
+        }
+    }
+
+    @Test
+    public void undeclaredDependenciesFound() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        EMAIndicator ema = new EMAIndicator(closePrice, 3);
+        WMAIndicator wma = new WMAIndicator(closePrice, 3);
+        UndeclaredIndicator undeclared = new UndeclaredIndicator(Collections.singletonList(sma),
+                Collections.singletonMap("ema", ema), wma);
+        assertEquals(Arrays.asList(sma, ema, wma), IndicatorGraph.dependenciesOf(undeclared));
+
+        // Variable captured by an anonymous class
+        CachedIndicator<Decimal> captured = new CachedIndicator<Decimal>(series) {
+            @Override
+            protected Decimal calculate(int index) {
+                return sma.getValue(index);
+            }
+        };
+        assertEquals(Collections.singletonList(sma), IndicatorGraph.dependenciesOf(captured));
+    }
+
+    @Test
+    public void ruleDependencies() {
+        OverIndicatorRule over = new OverIndicatorRule(closePrice, Decimal.ONE);
+        Rule and = over.and(BooleanRule.TRUE);
+        assertEquals(Arrays.asList(over, BooleanRule.TRUE), and.getDependencies());
+        assertEquals(2, over.getDependencies().size());
+        assertTrue(over.getDependencies().contains(closePrice));
+    }
+
+    @Test
+    public void topologicalOrder() {
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 3);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 5);
+        RSIIndicator rsi = new RSIIndicator(shortSma, 4);
+        IndicatorGraph graph = new IndicatorGraph(Arrays.asList(rsi, longSma, shortSma));
+
+        List<Indicator<?>> indicators = graph.getIndicators();
+        // Close price, short SMA, gain/loss, average gain, average loss, RSI, long SMA
+        assertEquals(7, indicators.size());
+        for (int i = 0; i < indicators.size(); i++) {
+            for (Indicator<?> dependency : graph.getDependencies(indicators.get(i))) {
+                assertTrue(indicators.indexOf(dependency) < i);
+            }
+        }
+        assertEquals(closePrice, indicators.get(0));
+    }
+
+    @Test
+    public void strategyGraph() {
+        CountingIndicator counting = new CountingIndicator(closePrice);
+        SMAIndicator sma = new SMAIndicator(counting, 3);
+        Strategy first = new BaseStrategy(new CrossedUpIndicatorRule(counting, sma), new StopLossRule(closePrice, Decimal.ONE));
+        Strategy second = new BaseStrategy(new OverIndicatorRule(sma, Decimal.TWO).and(new OverIndicatorRule(counting, sma)),
+                new OverIndicatorRule(sma, counting));
+        IndicatorGraph graph = IndicatorGraph.of(first, second);
+
+        List<Indicator<?>> indicators = graph.getIndicators();
+        assertTrue(indicators.contains(counting));
+        assertTrue(indicators.contains(sma));
+        assertTrue(indicators.indexOf(counting) < indicators.indexOf(sma));
+        assertEquals(1, indicators.stream().filter(indicator -> indicator == counting).count());
+
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            graph.update(i);
+            first.shouldEnter(i);
+            second.shouldEnter(i);
+            second.shouldExit(i);
+        }
+        // Each value computed exactly once
+        assertEquals(series.getTickCount(), counting.calculations);
+    }
+
+    @Test
+    public void amendedLastTickComputedAgain() {
+        TimeSeries liveSeries = new BaseTimeSeries("live");
+        List<Indicator<Decimal>> liveIndicators = buildIndicators(liveSeries);
+        Rule liveRule = buildRule(liveIndicators).cached();
+        Rule exitRule = new BooleanRule(false);
+        for (Indicator<Decimal> indicator : liveIndicators) {
+            exitRule = exitRule.or(new OverIndicatorRule(indicator, Decimal.ZERO));
+        }
+        IndicatorGraph graph = IndicatorGraph.of(new BaseStrategy(liveRule, exitRule));
+        assertEquals(1, graph.getCachedRules().size());
+
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 2, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 120; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            liveSeries.addTick(new BaseTick(time.plusHours(i), price, price, price, price, 1));
+            graph.update(i);
+            liveRule.isSatisfied(i);
+            for (int trade = 0; trade < 3; trade++) {
+                // New trade on the forming tick
+                price = Math.max(1, price + random.nextGaussian());
+                liveSeries.getLastTick().addTrade(1, price);
+                graph.invalidateFrom(i);
+                graph.update(i);
+
+                List<Indicator<Decimal>> indicators = buildIndicators(liveSeries);
+                for (int j = 0; j <= i; j++) {
+                    for (Indicator<Decimal> indicator : indicators) {
+                        indicator.getValue(j);
+                    }
+                }
+                for (int k = 0; k < indicators.size(); k++) {
+                    assertDecimalEquals(liveIndicators.get(k).getValue(i), indicators.get(k).getValue(i).toDouble());
+                }
+                assertEquals(buildRule(indicators).isSatisfied(i), liveRule.isSatisfied(i));
+            }
+        }
+    }
+
+    @Test
+    public void amendedTicksRolledBack() {
+        TimeSeries liveSeries = new BaseTimeSeries("live");
+        List<Indicator<Decimal>> liveIndicators = buildIndicators(liveSeries);
+        IndicatorGraph graph = new IndicatorGraph(liveIndicators);
+
+        Random random = new Random(7);
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 2, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 80; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            liveSeries.addTick(new BaseTick(time.plusHours(i), price, price, price, price, 1));
+            graph.update(i);
+            if (i % 5 == 4) {
+                // Late trades on the last three ticks
+                final int firstAmendedIndex = i - 2;
+                for (int j = firstAmendedIndex; j <= i; j++) {
+                    liveSeries.getTick(j).addTrade(1, Math.max(1, price + random.nextGaussian()));
+                }
+                graph.invalidateFrom(firstAmendedIndex);
+                for (int j = firstAmendedIndex; j <= i; j++) {
+                    graph.update(j);
+                }
+
+                List<Indicator<Decimal>> indicators = buildIndicators(liveSeries);
+                for (int j = 0; j <= i; j++) {
+                    for (int k = 0; k < indicators.size(); k++) {
+                        assertDecimalEquals(liveIndicators.get(k).getValue(j), indicators.get(k).getValue(j).toDouble());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param series a time series
+     * @return indicators keeping a state between two ticks
+     */
+    private static List<Indicator<Decimal>> buildIndicators(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return Arrays.asList(closePrice,
+                new SMAIndicator(closePrice, 5),
+                new EMAIndicator(closePrice, 5),
+                new RSIIndicator(closePrice, 5),
+                new MedianIndicator(closePrice, 5),
+                new StandardDeviationIndicator(closePrice, 5),
+                new ParabolicSarIndicator(series),
+                new TrailingStopLossIndicator(closePrice, Decimal.TWO),
+                new PivotPointIndicator(series, TimeLevel.DAY));
+    }
+
+    /**
+     * @param indicators the indicators built by {@link #buildIndicators(TimeSeries)}
+     * @return a rule on the crosses of the indicators
+     */
+    private static Rule buildRule(List<Indicator<Decimal>> indicators) {
+        return new CrossedUpIndicatorRule(indicators.get(0), indicators.get(1))
+                .or(new CrossedDownIndicatorRule(indicators.get(0), indicators.get(2)));
+    }
+}
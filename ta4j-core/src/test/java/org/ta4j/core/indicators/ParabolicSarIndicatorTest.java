@@ -35,8 +35,10 @@ import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
 
 public class ParabolicSarIndicatorTest {
 
-    @Test
-    public void startUpAndDownTrendTest() {
+    /**
+     * @return the ticks of the tests
+     */
+    private static List<Tick> buildTicks() {
         List<Tick> ticks = new ArrayList<Tick>();
         ticks.add(new MockTick(0, 75.1, 74.06, 75.11));
         ticks.add(new MockTick(0, 75.9, 76.030000, 74.640000));
@@ -60,8 +62,12 @@ public class ParabolicSarIndicatorTest {
         ticks.add(new MockTick(0, 76.450000, 76.450000, 75.435000));
         ticks.add(new MockTick(0, 76.260000, 76.470000, 75.840000));
         ticks.add(new MockTick(0, 76.850000, 77.000000, 76.190000));
+        return ticks;
+    }
 
-
+    @Test
+    public void startUpAndDownTrendTest() {
+        List<Tick> ticks = buildTicks();
         ParabolicSarIndicator sar = new ParabolicSarIndicator(new MockTimeSeries(ticks));
 
         assertEquals(sar.getValue(0).toString(), "NaN");
@@ -87,4 +93,21 @@ public class ParabolicSarIndicatorTest {
         assertDecimalEquals(sar.getValue(20), 74.913289886525645818855027337894);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void invalidateFrom() {
+        ParabolicSarIndicator expected = new ParabolicSarIndicator(new MockTimeSeries(buildTicks()));
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(new MockTimeSeries(buildTicks()));
+        int endIndex = sar.getTimeSeries().getEndIndex();
+        sar.getValue(endIndex);
+        // State kept for the last two ticks
+        sar.invalidateFrom(endIndex - 1);
+        assertDecimalEquals(sar.getValue(endIndex), expected.getValue(endIndex).toDouble());
+        // State lost: computed again from the beginning
+        for (int index : new int[] { 12, 9, 2 }) {
+            sar.invalidateFrom(index);
+            for (int i = index; i <= endIndex; i++) {
+                assertDecimalEquals(sar.getValue(i), expected.getValue(i).toDouble());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class RecursiveCachedIndicatorTest {
+
+    @Test
+    public void valuesAreComputedInIndexOrder() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        CumulativeSumIndicator sum = new CumulativeSumIndicator(new ClosePriceIndicator(series));
+
+        assertDecimalEquals(sum.getValue(5), 21);
+        assertEquals(6, sum.calculatedIndexes.size());
+        assertDecimalEquals(sum.getValue(9), 55);
+        assertDecimalEquals(sum.getValue(7), 36);
+        for (int i = 0; i < sum.calculatedIndexes.size(); i++) {
+            assertEquals(i, sum.calculatedIndexes.get(i).intValue());
+        }
+        assertEquals(10, sum.calculatedIndexes.size());
+    }
+
+    @Test
+    public void nestedRecursiveIndicatorsDoNotOverflowTheStack() throws InterruptedException {
+        List<Tick> ticks = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            ticks.add(new MockTick(i));
+        }
+        final TripleEMAIndicator tripleEma = new TripleEMAIndicator(new ClosePriceIndicator(new MockTimeSeries(ticks)), 10);
+        final Decimal[] result = new Decimal[1];
+        // Small stack: the former recursion threshold needed hundreds of frames per nested EMA
+        Thread thread = new Thread(null, () -> result[0] = tripleEma.getValue(19999), "small-stack", 128 * 1024);
+        thread.start();
+        thread.join();
+        assertDecimalEquals(result[0], 19999);
+    }
+
+    /**
+     * Cumulative sum of an indicator, recording the indexes it has been calculated for.
+     */
+    private static class CumulativeSumIndicator extends RecursiveCachedIndicator<Decimal> {
+
+        private final Indicator<Decimal> indicator;
+
+        private final List<Integer> calculatedIndexes = new ArrayList<>();
+
+        CumulativeSumIndicator(Indicator<Decimal> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            calculatedIndexes.add(index);
+            if (index == 0) {
+                return indicator.getValue(0);
+            }
+            return getValue(index - 1).plus(indicator.getValue(index));
+        }
+    }
+}
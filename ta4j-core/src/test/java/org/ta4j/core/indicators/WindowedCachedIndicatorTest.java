@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.FixedDecimalIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class WindowedCachedIndicatorTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+    }
+
+    @Test
+    public void sequentialAccessSlidesTheWindow() {
+        CountingSumIndicator sum = new CountingSumIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = 0; i < series.getTickCount(); i++) {
+            sum.getValue(i);
+        }
+        // One add per tick, one eviction per tick beyond the first window
+        assertEquals(series.getTickCount(), sum.addCount);
+        assertEquals(series.getTickCount() - 3, sum.evictCount);
+        assertEquals(1, sum.resetCount);
+        assertDecimalEquals(sum.getValue(12), 9);
+    }
+
+    @Test
+    public void randomAccessRecomputesTheWindow() {
+        CountingSumIndicator sum = new CountingSumIndicator(new ClosePriceIndicator(series), 3);
+        assertDecimalEquals(sum.getValue(6), 12);
+        assertDecimalEquals(sum.getValue(2), 6);
+        assertDecimalEquals(sum.getValue(10), 10);
+        assertDecimalEquals(sum.getValue(11), 10);
+        assertEquals(3, sum.resetCount);
+        assertEquals(1, sum.evictCount);
+    }
+
+    @Test
+    public void sequentialAndRandomAccessesGiveSameValues() {
+        Indicator<Decimal> closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sequentialSma = new SMAIndicator(closePrice, 4);
+        SMAIndicator randomSma = new SMAIndicator(closePrice, 4);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            randomSma.getValue(i);
+        }
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(randomSma.getValue(i), sequentialSma.getValue(i));
+        }
+    }
+
+    @Test
+    public void nanValuesLeaveTheWindow() {
+        Indicator<Decimal> values = new FixedDecimalIndicator(1, 2, Double.NaN, 4, 5, 6);
+        SMAIndicator sma = new SMAIndicator(values, 2);
+        assertDecimalEquals(sma.getValue(1), 1.5);
+        assertTrue(sma.getValue(2).isNaN());
+        assertTrue(sma.getValue(3).isNaN());
+        assertDecimalEquals(sma.getValue(4), 4.5);
+        assertDecimalEquals(sma.getValue(5), 5.5);
+    }
+
+    @Test
+    public void windowIsRebuiltWhenEvictedTickHasBeenRemoved() {
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        TimeSeries movingSeries = new MockTimeSeries(new double[] { 1, 2, 3 },
+                new ZonedDateTime[] { time, time.plusDays(1), time.plusDays(2) });
+        movingSeries.setMaximumTickCount(3);
+        CountingSumIndicator sum = new CountingSumIndicator(new ClosePriceIndicator(movingSeries), 2);
+        assertDecimalEquals(sum.getValue(0), 1);
+        assertDecimalEquals(sum.getValue(1), 3);
+        assertDecimalEquals(sum.getValue(2), 5);
+
+        movingSeries.addTick(new MockTick(time.plusDays(3), 4));
+        assertDecimalEquals(sum.getValue(3), 7);
+        assertEquals(1, sum.resetCount);
+
+        movingSeries.addTick(new MockTick(time.plusDays(4), 5));
+        movingSeries.addTick(new MockTick(time.plusDays(5), 6));
+        // Tick 2 (to be evicted) has been removed from the series
+        assertDecimalEquals(sum.getValue(4), 9);
+        assertEquals(2, sum.resetCount);
+        assertDecimalEquals(sum.getValue(5), 11);
+        assertEquals(2, sum.resetCount);
+    }
+
+    @Test
+    public void invalidatedTicksSlideTheWindowBack() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        CountingSumIndicator sum = new CountingSumIndicator(closePrice, 3);
+        for (int i = 0; i < series.getTickCount(); i++) {
+            sum.getValue(i);
+        }
+        // Amending the last two ticks (close prices: 5 and 6)
+        series.getTick(11).addTrade(1, 5);
+        series.getLastTick().addTrade(1, 6);
+        sum.invalidateFrom(11);
+        closePrice.invalidateFrom(11);
+        assertDecimalEquals(sum.getValue(11), 12);
+        assertDecimalEquals(sum.getValue(12), 15);
+        // Ticks 11 and 12 evicted, ticks 8 and 9 added back, then the window slides again
+        assertEquals(1, sum.resetCount);
+        assertEquals(series.getTickCount() + 4, sum.addCount);
+        assertEquals(series.getTickCount() - 3 + 4, sum.evictCount);
+
+        // The whole window amended: rebuilt
+        sum.invalidateFrom(9);
+        assertDecimalEquals(sum.getValue(9), 10);
+        assertEquals(2, sum.resetCount);
+    }
+
+    /**
+     * A windowed sum counting the calls to the window hooks.
+     */
+    private static class CountingSumIndicator extends WindowedCachedIndicator<Decimal> {
+
+        private final Indicator<Decimal> indicator;
+
+        private Decimal sum = Decimal.ZERO;
+
+        private int addCount = 0;
+
+        private int evictCount = 0;
+
+        private int resetCount = 0;
+
+        CountingSumIndicator(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator, timeFrame);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected void resetWindow() {
+            resetCount++;
+            sum = Decimal.ZERO;
+        }
+
+        @Override
+        protected void onAdd(int index) {
+            addCount++;
+            sum = sum.plus(indicator.getValue(index));
+        }
+
+        @Override
+        protected void onEvict(int index) {
+            evictCount++;
+            sum = sum.minus(indicator.getValue(index));
+        }
+
+        @Override
+        protected Decimal getWindowValue(int index) {
+            return sum;
+        }
+    }
+}
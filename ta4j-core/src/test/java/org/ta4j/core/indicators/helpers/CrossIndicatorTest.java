@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CrossIndicatorTest {
+
+    private TimeSeries series;
+
+    private Indicator<Decimal> closePrice;
+
+    private Indicator<Decimal> threshold;
+
+    @Before
+    public void setUp() {
+        // Quantized prices: long stretches equal to the threshold
+        Random random = new Random(42);
+        double[] prices = new double[500];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = random.nextInt(10) < 7 ? 2 : 1 + 2 * random.nextInt(2);
+        }
+        series = new MockTimeSeries(prices);
+        closePrice = new ClosePriceIndicator(series);
+        threshold = new ConstantIndicator<>(Decimal.TWO);
+    }
+
+    /**
+     * Reference implementation, walking back over the equal values on each tick.
+     */
+    private static boolean crosses(Indicator<Decimal> up, Indicator<Decimal> low, int index) {
+        int i = index;
+        if (i == 0 || up.getValue(i).isGreaterThanOrEqual(low.getValue(i))) {
+            return false;
+        }
+        i--;
+        if (up.getValue(i).isGreaterThan(low.getValue(i))) {
+            return true;
+        }
+        while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
+            i--;
+        }
+        return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+    }
+
+    @Test
+    public void crossDownOverEqualValues() {
+        TimeSeries shortSeries = new MockTimeSeries(1, 3, 2, 2, 2, 1, 2, 1, 3);
+        CrossIndicator cross = new CrossIndicator(new ClosePriceIndicator(shortSeries), new ConstantIndicator<>(Decimal.TWO));
+        assertFalse(cross.getValue(0));
+        assertFalse(cross.getValue(1));
+        assertFalse(cross.getValue(4));
+        assertTrue(cross.getValue(5));
+        assertFalse(cross.getValue(7));
+        assertFalse(cross.getValue(8));
+    }
+
+    @Test
+    public void sameValuesAsWalkingBackInIndexOrder() {
+        CrossIndicator crossDown = new CrossIndicator(closePrice, threshold);
+        CrossIndicator crossUp = new CrossIndicator(threshold, closePrice);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(crosses(closePrice, threshold, i), crossDown.getValue(i));
+            assertEquals(crosses(threshold, closePrice, i), crossUp.getValue(i));
+        }
+    }
+
+    @Test
+    public void sameValuesAsWalkingBackInRandomOrder() {
+        CrossIndicator crossDown = new CrossIndicator(closePrice, threshold);
+        Random random = new Random(7);
+        for (int n = 0; n < 1000; n++) {
+            int i = random.nextInt(series.getTickCount());
+            assertEquals(crosses(closePrice, threshold, i), crossDown.getValue(i));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class GainLossIndicatorTest {
+
+    private TimeSeries data;
+
+    @Before
+    public void setUp() {
+        data = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+    }
+
+    @Test
+    public void gainsAndLosses() {
+        GainLossIndicator gainLoss = new GainLossIndicator(new ClosePriceIndicator(data), 5);
+        assertDecimalEquals(gainLoss.getValue(0).getGain(), 0);
+        assertDecimalEquals(gainLoss.getValue(0).getLoss(), 0);
+        assertDecimalEquals(gainLoss.getValue(3).getGain(), 1);
+        assertDecimalEquals(gainLoss.getValue(3).getLoss(), 0);
+        assertDecimalEquals(gainLoss.getValue(4).getGain(), 0);
+        assertDecimalEquals(gainLoss.getValue(4).getLoss(), 1);
+        assertDecimalEquals(gainLoss.getValue(9).getGain(), 0);
+        assertDecimalEquals(gainLoss.getValue(9).getLoss(), 0);
+    }
+
+    @Test
+    public void cumulatedAndAveragedValues() {
+        GainLossIndicator gainLoss = new GainLossIndicator(new ClosePriceIndicator(data), 3);
+        assertDecimalEquals(gainLoss.getValue(1).getCumulatedGains(), 1);
+        assertDecimalEquals(gainLoss.getValue(1).getAverageGain(), 0.5);
+        assertDecimalEquals(gainLoss.getValue(6).getCumulatedGains(), 2);
+        assertDecimalEquals(gainLoss.getValue(6).getCumulatedLosses(), 1);
+        assertDecimalEquals(gainLoss.getValue(6).getAverageLoss(), 1d / 3);
+        assertDecimalEquals(gainLoss.getValue(12).getCumulatedGains(), 1);
+        assertDecimalEquals(gainLoss.getValue(12).getCumulatedLosses(), 2);
+    }
+
+    @Test
+    public void matchesStandaloneIndicators() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        GainLossIndicator gainLoss = new GainLossIndicator(closePrice, 5);
+        CumulatedGainsIndicator cumulatedGains = new CumulatedGainsIndicator(closePrice, 5);
+        CumulatedLossesIndicator cumulatedLosses = new CumulatedLossesIndicator(closePrice, 5);
+        for (int i = 0; i <= data.getEndIndex(); i++) {
+            assertEquals(cumulatedGains.getValue(i), gainLoss.getValue(i).getCumulatedGains());
+            assertEquals(cumulatedLosses.getValue(i), gainLoss.getValue(i).getCumulatedLosses());
+        }
+        assertDecimalEquals(gainLoss.getValue(5).getSmoothedAverageGain(), "0.8");
+        assertDecimalEquals(gainLoss.getValue(12).getSmoothedAverageGain(), "0.34820096");
+    }
+
+    @Test
+    public void randomAccessMatchesSequentialAccess() {
+        GainLossIndicator sequential = new GainLossIndicator(new ClosePriceIndicator(data), 4);
+        GainLossIndicator random = new GainLossIndicator(new ClosePriceIndicator(data), 4);
+        assertDecimalEquals(random.getValue(11).getSmoothedAverageLoss(),
+                sequential.getValue(11).getSmoothedAverageLoss().toDouble());
+        for (int i = 0; i <= data.getEndIndex(); i++) {
+            GainLossIndicator.GainLoss expected = sequential.getValue(i);
+            GainLossIndicator.GainLoss actual = random.getValue(i);
+            assertEquals(expected.getCumulatedGains(), actual.getCumulatedGains());
+            assertEquals(expected.getCumulatedLosses(), actual.getCumulatedLosses());
+            assertEquals(expected.getSmoothedAverageGain(), actual.getSmoothedAverageGain());
+            assertEquals(expected.getSmoothedAverageLoss(), actual.getSmoothedAverageLoss());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timeFrameMustBePositive() {
+        new GainLossIndicator(new ClosePriceIndicator(data), 0);
+    }
+}
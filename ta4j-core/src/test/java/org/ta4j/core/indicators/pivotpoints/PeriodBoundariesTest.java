@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.pivotpoints;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class PeriodBoundariesTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        List<Tick> ticks = new ArrayList<>();
+        ZonedDateTime monday = ZonedDateTime.of(2017, 10, 9, 10, 0, 0, 0, ZoneId.systemDefault());
+        // Monday: 3 ticks
+        ticks.add(tick(monday, 10, 11, 12, 9));
+        ticks.add(tick(monday.plusHours(1), 11, 13, 14, 10));
+        ticks.add(tick(monday.plusHours(2), 13, 12, 13, 11));
+        // Tuesday: 2 ticks
+        ticks.add(tick(monday.plusDays(1), 12, 15, 16, 12));
+        ticks.add(tick(monday.plusDays(1).plusHours(1), 15, 14, 15, 8));
+        // Friday (missing days): 1 tick
+        ticks.add(tick(monday.plusDays(4), 14, 14, 14, 14));
+        // Monday of the week after next (missing week): 1 tick
+        ticks.add(tick(monday.plusWeeks(2), 20, 21, 22, 19));
+        series = new MockTimeSeries(ticks);
+    }
+
+    @Test
+    public void boundariesAreSharedPerSeriesAndTimeLevel() {
+        assertSame(PeriodBoundaries.of(series, TimeLevel.DAY), PeriodBoundaries.of(series, TimeLevel.DAY));
+        assertNotSame(PeriodBoundaries.of(series, TimeLevel.DAY), PeriodBoundaries.of(series, TimeLevel.WEEK));
+        assertNotSame(PeriodBoundaries.of(series, TimeLevel.DAY), PeriodBoundaries.of(new MockTimeSeries(1, 2), TimeLevel.DAY));
+    }
+
+    @Test
+    public void dailyPeriods() {
+        PeriodBoundaries boundaries = PeriodBoundaries.of(series, TimeLevel.DAY);
+        assertNull(boundaries.getPreviousPeriod(series, 0));
+        assertNull(boundaries.getPreviousPeriod(series, 2));
+
+        PeriodBoundaries.Period monday = boundaries.getPreviousPeriod(series, 3);
+        assertEquals(Arrays.asList(2, 1, 0), monday.getTickIndices());
+        assertDecimalEquals(monday.getOpenPrice(), 10);
+        assertDecimalEquals(monday.getMaxPrice(), 14);
+        assertDecimalEquals(monday.getMinPrice(), 9);
+        assertDecimalEquals(monday.getClosePrice(), 12);
+        assertSame(monday, boundaries.getPreviousPeriod(series, 4));
+
+        // Weekends and holidays are skipped
+        PeriodBoundaries.Period tuesday = boundaries.getPreviousPeriod(series, 5);
+        assertEquals(Arrays.asList(4, 3), tuesday.getTickIndices());
+        assertDecimalEquals(tuesday.getMinPrice(), 8);
+        assertDecimalEquals(tuesday.getClosePrice(), 14);
+    }
+
+    @Test
+    public void weeklyPeriodsWithMissingWeek() {
+        PeriodBoundaries boundaries = PeriodBoundaries.of(series, TimeLevel.WEEK);
+        assertNull(boundaries.getPreviousPeriod(series, 5));
+        // The previous calendar week is missing
+        assertNull(boundaries.getPreviousPeriod(series, 6));
+    }
+
+    @Test
+    public void tickBasedPeriods() {
+        PeriodBoundaries boundaries = PeriodBoundaries.of(series, TimeLevel.TICKBASED);
+        assertEquals(Arrays.asList(0), boundaries.getPreviousPeriod(series, 0).getTickIndices());
+        assertEquals(Arrays.asList(0), boundaries.getPreviousPeriod(series, 1).getTickIndices());
+        assertEquals(Arrays.asList(5), boundaries.getPreviousPeriod(series, 6).getTickIndices());
+    }
+
+    @Test
+    public void boundariesAreExtendedIncrementally() {
+        PeriodBoundaries boundaries = PeriodBoundaries.of(series, TimeLevel.DAY);
+        // Only the first tick of Tuesday is known
+        PeriodBoundaries.Period monday = boundaries.getPreviousPeriod(series, 3);
+        series.addTick(tick(series.getLastTick().getEndTime().plusDays(1), 21, 22, 23, 20));
+        assertSame(monday, boundaries.getPreviousPeriod(series, 3));
+        assertEquals(Arrays.asList(6), boundaries.getPreviousPeriod(series, 7).getTickIndices());
+    }
+
+    private static Tick tick(ZonedDateTime endTime, double open, double close, double max, double min) {
+        return new MockTick(endTime, open, close, max, min, 0, 0, 0);
+    }
+}
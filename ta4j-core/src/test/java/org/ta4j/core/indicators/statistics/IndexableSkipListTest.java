@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IndexableSkipListTest {
+
+    @Test
+    public void insertAndGet() {
+        IndexableSkipList list = new IndexableSkipList(8);
+        list.insert(Decimal.valueOf(5));
+        list.insert(Decimal.valueOf(1));
+        list.insert(Decimal.valueOf(3));
+        list.insert(Decimal.valueOf(3));
+        assertEquals(4, list.size());
+        assertEquals(Decimal.ONE, list.get(0));
+        assertEquals(Decimal.THREE, list.get(1));
+        assertEquals(Decimal.THREE, list.get(2));
+        assertEquals(Decimal.valueOf(5), list.get(3));
+        assertEquals(1, list.countLessThan(Decimal.THREE));
+        assertEquals(3, list.countLessThan(Decimal.valueOf(4)));
+    }
+
+    @Test
+    public void remove() {
+        IndexableSkipList list = new IndexableSkipList(8);
+        list.insert(Decimal.valueOf(2));
+        list.insert(Decimal.valueOf(2));
+        list.insert(Decimal.valueOf(7));
+        list.remove(Decimal.valueOf(2));
+        assertEquals(2, list.size());
+        assertEquals(Decimal.TWO, list.get(0));
+        assertEquals(Decimal.valueOf(7), list.get(1));
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void removeMissingValue() {
+        IndexableSkipList list = new IndexableSkipList(8);
+        list.insert(Decimal.ONE);
+        list.remove(Decimal.TWO);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        new IndexableSkipList(8).get(0);
+    }
+
+    @Test
+    public void randomUpdatesMatchSortedList() {
+        Random random = new Random(7);
+        IndexableSkipList list = new IndexableSkipList(64);
+        List<Decimal> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (expected.size() < 64 && (expected.isEmpty() || random.nextBoolean())) {
+                Decimal value = Decimal.valueOf(random.nextInt(50));
+                list.insert(value);
+                expected.add(value);
+            } else {
+                Decimal value = expected.remove(random.nextInt(expected.size()));
+                list.remove(value);
+            }
+            Collections.sort(expected);
+            assertEquals(expected.size(), list.size());
+            for (int rank = 0; rank < expected.size(); rank++) {
+                assertEquals(expected.get(rank), list.get(rank));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class MedianAbsoluteDeviationIndicatorTest {
+
+    @Test
+    public void madUsingTimeFrame5UsingClosePrice() {
+        TimeSeries data = new MockTimeSeries(1, 1, 2, 2, 4, 6, 9, 4, 3, 0, 100);
+        MedianAbsoluteDeviationIndicator mad = new MedianAbsoluteDeviationIndicator(new ClosePriceIndicator(data), 5);
+
+        assertDecimalEquals(mad.getValue(0), 0);
+        assertDecimalEquals(mad.getValue(1), 0);
+        assertDecimalEquals(mad.getValue(2), 0);
+        assertDecimalEquals(mad.getValue(3), 0.5);
+        // 1, 1, 2, 2, 4 -> median 2 -> deviations 1, 1, 0, 0, 2
+        assertDecimalEquals(mad.getValue(4), 1);
+        // 1, 2, 2, 4, 6 -> median 2 -> deviations 1, 0, 0, 2, 4
+        assertDecimalEquals(mad.getValue(5), 1);
+        // 2, 2, 4, 6, 9 -> median 4 -> deviations 2, 2, 0, 2, 5
+        assertDecimalEquals(mad.getValue(6), 2);
+        // 2, 4, 6, 9, 4 -> median 4 -> deviations 2, 0, 2, 5, 0
+        assertDecimalEquals(mad.getValue(7), 2);
+        // 4, 6, 9, 4, 3 -> median 4 -> deviations 0, 2, 5, 0, 1
+        assertDecimalEquals(mad.getValue(8), 1);
+        // 6, 9, 4, 3, 0 -> median 4 -> deviations 2, 5, 0, 1, 4
+        assertDecimalEquals(mad.getValue(9), 2);
+        // 9, 4, 3, 0, 100 -> median 4 -> deviations 5, 0, 1, 4, 96 (insensitive to the outlier)
+        assertDecimalEquals(mad.getValue(10), 4);
+    }
+
+    @Test
+    public void matchesNaiveWindowSort() {
+        Random random = new Random(5);
+        double[] values = new double[400];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(40) / 4d;
+        }
+        TimeSeries data = new MockTimeSeries(values);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        for (int timeFrame : new int[] { 1, 2, 6, 15 }) {
+            MedianAbsoluteDeviationIndicator mad = new MedianAbsoluteDeviationIndicator(closePrice, timeFrame);
+            for (int i = 0; i < values.length; i++) {
+                List<Decimal> window = new ArrayList<>();
+                for (int j = Math.max(0, i - timeFrame + 1); j <= i; j++) {
+                    window.add(closePrice.getValue(j));
+                }
+                Decimal median = median(window);
+                List<Decimal> deviations = new ArrayList<>();
+                for (Decimal value : window) {
+                    deviations.add(value.minus(median).abs());
+                }
+                assertEquals(median(deviations), mad.getValue(i));
+            }
+        }
+    }
+
+    private static Decimal median(List<Decimal> values) {
+        List<Decimal> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int size = sorted.size();
+        return size % 2 == 1 ? sorted.get(size / 2)
+                : sorted.get(size / 2 - 1).plus(sorted.get(size / 2)).dividedBy(Decimal.TWO);
+    }
+}
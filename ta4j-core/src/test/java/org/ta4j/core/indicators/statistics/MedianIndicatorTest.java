@@ -0,0 +1,83 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Test;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class MedianIndicatorTest {
+
+    @Test
+    public void medianUsingTimeFrame3UsingClosePrice() {
+        TimeSeries data = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 0, 9);
+        MedianIndicator median = new MedianIndicator(new ClosePriceIndicator(data), 3);
+
+        assertDecimalEquals(median.getValue(0), 1);
+        assertDecimalEquals(median.getValue(1), 1.5);
+        assertDecimalEquals(median.getValue(2), 2);
+        assertDecimalEquals(median.getValue(3), 3);
+        assertDecimalEquals(median.getValue(4), 3);
+        assertDecimalEquals(median.getValue(5), 4);
+        assertDecimalEquals(median.getValue(6), 4);
+        assertDecimalEquals(median.getValue(7), 4);
+        assertDecimalEquals(median.getValue(8), 4);
+        assertDecimalEquals(median.getValue(9), 3);
+        assertDecimalEquals(median.getValue(10), 3);
+    }
+
+    @Test
+    public void matchesNaiveWindowSort() {
+        Random random = new Random(3);
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100);
+        }
+        TimeSeries data = new MockTimeSeries(values);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        for (int timeFrame : new int[] { 1, 2, 7, 20 }) {
+            MedianIndicator median = new MedianIndicator(closePrice, timeFrame);
+            for (int i = 0; i < values.length; i++) {
+                List<Decimal> window = new ArrayList<>();
+                for (int j = Math.max(0, i - timeFrame + 1); j <= i; j++) {
+                    window.add(closePrice.getValue(j));
+                }
+                Collections.sort(window);
+                int size = window.size();
+                Decimal expected = size % 2 == 1 ? window.get(size / 2)
+                        : window.get(size / 2 - 1).plus(window.get(size / 2)).dividedBy(Decimal.TWO);
+                assertEquals(expected, median.getValue(i));
+            }
+        }
+    }
+}
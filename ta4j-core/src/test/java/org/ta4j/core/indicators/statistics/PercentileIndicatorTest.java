@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.FixedDecimalIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class PercentileIndicatorTest {
+
+    private TimeSeries data;
+
+    @Before
+    public void setUp() {
+        data = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 0, 9);
+    }
+
+    @Test
+    public void percentile25UsingTimeFrame4UsingClosePrice() {
+        PercentileIndicator percentile = new PercentileIndicator(new ClosePriceIndicator(data), 4, 25);
+
+        assertDecimalEquals(percentile.getValue(0), 1);
+        assertDecimalEquals(percentile.getValue(1), 1.25);
+        assertDecimalEquals(percentile.getValue(2), 1.5);
+        assertDecimalEquals(percentile.getValue(3), 1.75);
+        assertDecimalEquals(percentile.getValue(4), 2.75);
+        assertDecimalEquals(percentile.getValue(5), 3);
+        assertDecimalEquals(percentile.getValue(6), 3.75);
+        assertDecimalEquals(percentile.getValue(7), 3.75);
+        assertDecimalEquals(percentile.getValue(8), 3.75);
+        assertDecimalEquals(percentile.getValue(9), 2.25);
+        assertDecimalEquals(percentile.getValue(10), 2.25);
+    }
+
+    @Test
+    public void extremePercentilesAreMinAndMax() {
+        PercentileIndicator min = new PercentileIndicator(new ClosePriceIndicator(data), 3, 0);
+        PercentileIndicator max = new PercentileIndicator(new ClosePriceIndicator(data), 3, 100);
+        assertDecimalEquals(min.getValue(6), 3);
+        assertDecimalEquals(max.getValue(6), 5);
+        assertDecimalEquals(min.getValue(10), 0);
+        assertDecimalEquals(max.getValue(10), 9);
+    }
+
+    @Test
+    public void nanValues() {
+        PercentileIndicator percentile = new PercentileIndicator(new FixedDecimalIndicator(1, Double.NaN, 3, 4, 5), 2, 50);
+        assertDecimalEquals(percentile.getValue(0), 1);
+        assertTrue(percentile.getValue(1).isNaN());
+        assertTrue(percentile.getValue(2).isNaN());
+        assertDecimalEquals(percentile.getValue(3), 3.5);
+        assertDecimalEquals(percentile.getValue(4), 4.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentileOutOfRange() {
+        new PercentileIndicator(new ClosePriceIndicator(data), 3, 101);
+    }
+
+    @Test
+    public void toStringContainsParameters() {
+        assertTrue(new PercentileIndicator(new ClosePriceIndicator(data), 3, 75).toString().contains("timeFrame: 3"));
+    }
+}
@@ -28,6 +28,7 @@ import org.ta4j.core.TimeSeries;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockTimeSeries;
 
+import static org.junit.Assert.assertFalse;
 import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
 
 public class VarianceIndicatorTest {
@@ -79,4 +80,21 @@ public class VarianceIndicatorTest {
         assertDecimalEquals(var.getValue(9), 2.25);
         assertDecimalEquals(var.getValue(10), 20.25);
     }
+
+    @Test
+    public void neverNegativeOnLongSeries() {
+        double[] prices = new double[900];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 123456789.123 + (i % 7) * 0.001;
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(prices));
+        VarianceIndicator var = new VarianceIndicator(closePrice, 7);
+        StandardDeviationIndicator sdev = new StandardDeviationIndicator(closePrice, 7);
+        for (int i = 0; i < prices.length; i++) {
+            assertFalse(var.getValue(i).isNegative());
+            assertFalse(sdev.getValue(i).isNaN());
+        }
+        // Variance of 0, 0.001, ..., 0.006
+        assertDecimalEquals(var.getValue(prices.length - 1), 0.000004);
+    }
 }
@@ -0,0 +1,224 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Order.OrderType;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.FixedRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.StopLossRule;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TATestsUtils.assertDecimalEquals;
+
+public class LiveTradingEngineTest {
+
+    private List<Tick> ticks;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        ticks = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        double price = 100;
+        for (int i = 0; i < 2000; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(time.plusMinutes(i), price));
+        }
+    }
+
+    @Test
+    public void sameTradesAsBacktest() {
+        TimeSeries liveSeries = new BaseTimeSeries("live");
+        LiveTradingEngine engine = new LiveTradingEngine(liveSeries);
+        List<Strategy> strategies = buildStrategies(liveSeries);
+        List<TradingRecord> records = new ArrayList<>();
+        for (Strategy strategy : strategies) {
+            records.add(engine.subscribe(strategy));
+        }
+        List<TradingSignal> signals = new ArrayList<>();
+        engine.addListener(signals::add);
+
+        for (Tick tick : ticks) {
+            engine.addTick(tick);
+        }
+
+        TimeSeries series = new MockTimeSeries(ticks);
+        List<Strategy> backtestStrategies = buildStrategies(series);
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        int orderCount = 0;
+        for (int i = 0; i < strategies.size(); i++) {
+            TradingRecord expected = manager.run(backtestStrategies.get(i));
+            assertEquals(expected.getTrades(), records.get(i).getTrades());
+            orderCount += 2 * expected.getTradeCount() + (expected.getCurrentTrade().isOpened() ? 1 : 0);
+        }
+        assertEquals(orderCount, signals.size());
+        for (TradingSignal signal : signals) {
+            assertTrue(signal.getLatency() >= 0);
+            assertSame(liveSeries.getTick(signal.getIndex()), signal.getTick());
+            assertEquals(signal.isEntry(), signal.getOrder().isBuy());
+        }
+    }
+
+    @Test
+    public void signals() {
+        TimeSeries series = new BaseTimeSeries("live");
+        LiveTradingEngine engine = new LiveTradingEngine(series);
+        Strategy strategy = new BaseStrategy(new FixedRule(1, 3), new FixedRule(2, 4));
+        TradingRecord record = engine.subscribe(strategy, OrderType.SELL, Decimal.TEN);
+        List<TradingSignal> signals = new ArrayList<>();
+        engine.addListener(signals::add);
+
+        for (int i = 0; i < 3; i++) {
+            engine.addTick(ticks.get(i));
+            // Evaluating the same tick again has no effect
+            engine.evaluateLastTick();
+        }
+
+        assertEquals(2, signals.size());
+        assertTrue(signals.get(0).isEntry());
+        assertEquals(1, signals.get(0).getIndex());
+        assertTrue(signals.get(0).getOrder().isSell());
+        assertEquals(Decimal.TEN, signals.get(0).getOrder().getAmount());
+        assertFalse(signals.get(1).isEntry());
+        assertEquals(2, signals.get(1).getIndex());
+        assertSame(strategy, signals.get(1).getStrategy());
+        assertSame(record, signals.get(1).getTradingRecord());
+        assertEquals(1, record.getTradeCount());
+
+        // Ticks added by another component
+        series.addTick(ticks.get(3));
+        engine.evaluateLastTick();
+        assertEquals(3, signals.size());
+        assertTrue(record.getCurrentTrade().isOpened());
+
+        assertTrue(engine.unsubscribe(strategy));
+        assertFalse(engine.unsubscribe(strategy));
+        engine.addTick(ticks.get(4));
+        assertEquals(3, signals.size());
+        assertTrue(record.getCurrentTrade().isOpened());
+    }
+
+    @Test
+    public void movingSeries() {
+        TimeSeries liveSeries = new BaseTimeSeries("live");
+        liveSeries.setMaximumTickCount(100);
+        LiveTradingEngine engine = new LiveTradingEngine(liveSeries);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(liveSeries);
+        SMAIndicator sma = new SMAIndicator(closePrice, 20);
+        TradingRecord record = engine.subscribe(new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                new CrossedDownIndicatorRule(closePrice, sma)));
+
+        for (Tick tick : ticks) {
+            engine.addTick(tick);
+        }
+
+        TimeSeries series = new MockTimeSeries(ticks);
+        ClosePriceIndicator expectedClosePrice = new ClosePriceIndicator(series);
+        SMAIndicator expectedSma = new SMAIndicator(expectedClosePrice, 20);
+        TradingRecord expected = new TimeSeriesManager(series).run(new BaseStrategy(
+                new CrossedUpIndicatorRule(expectedClosePrice, expectedSma),
+                new CrossedDownIndicatorRule(expectedClosePrice, expectedSma)));
+        assertEquals(expected.getTrades(), record.getTrades());
+    }
+
+    @Test
+    public void amendedLastTick() {
+        TimeSeries liveSeries = new BaseTimeSeries("live");
+        LiveTradingEngine engine = new LiveTradingEngine(liveSeries);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(liveSeries);
+        SMAIndicator sma = new SMAIndicator(closePrice, 2);
+        TradingRecord record = engine.subscribe(new BaseStrategy(new OverIndicatorRule(sma, Decimal.valueOf(104)),
+                new UnderIndicatorRule(closePrice, Decimal.valueOf(95))));
+        List<TradingSignal> signals = new ArrayList<>();
+        engine.addListener(signals::add);
+
+        ZonedDateTime time = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+        engine.addTick(new MockTick(time, 100));
+        engine.addTick(new MockTick(time.plusMinutes(1), 100));
+        assertTrue(signals.isEmpty());
+
+        // Intrabar entry
+        engine.addTrade(Decimal.ONE, Decimal.valueOf(110));
+        assertDecimalEquals(sma.getValue(1), 105);
+        assertEquals(1, signals.size());
+        assertTrue(signals.get(0).isEntry());
+        assertEquals(1, signals.get(0).getIndex());
+
+        // Already operated on the tick
+        engine.addTrade(Decimal.ONE, Decimal.valueOf(90));
+        assertDecimalEquals(sma.getValue(1), 95);
+        assertEquals(1, signals.size());
+
+        engine.addTick(new MockTick(time.plusMinutes(2), 90));
+        assertEquals(2, signals.size());
+        assertFalse(signals.get(1).isEntry());
+        assertEquals(2, record.getLastOrder().getIndex());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void amendedTickOnEmptySeries() {
+        new LiveTradingEngine(new BaseTimeSeries()).addTrade(Decimal.ONE, Decimal.TEN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullStrategy() {
+        new LiveTradingEngine(new BaseTimeSeries()).subscribe(null);
+    }
+
+    private static List<Strategy> buildStrategies(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int timeFrame : new int[] { 5, 10, 20, 50 }) {
+            SMAIndicator sma = new SMAIndicator(closePrice, timeFrame);
+            strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(closePrice, sma),
+                    new CrossedDownIndicatorRule(closePrice, sma).or(new StopLossRule(closePrice, Decimal.valueOf(2)))));
+        }
+        return strategies;
+    }
+}
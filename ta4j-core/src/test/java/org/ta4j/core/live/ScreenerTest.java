@@ -0,0 +1,181 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ScreenerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+
+    private final Random random = new Random(42);
+
+    private final AtomicInteger builtRules = new AtomicInteger();
+
+    private final Function<TimeSeries, Rule> ruleFactory = series -> {
+        builtRules.incrementAndGet();
+        return buildRule(series);
+    };
+
+    private List<TimeSeries> seriesList;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        seriesList = new ArrayList<>();
+        for (int s = 0; s < 50; s++) {
+            TimeSeries series = new BaseTimeSeries("symbol" + s);
+            for (int i = 0; i < 300; i++) {
+                addRandomTick(series);
+            }
+            seriesList.add(series);
+        }
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void screenLastTick() {
+        Screener<String> screener = new Screener<>(ruleFactory, executor);
+        for (TimeSeries series : seriesList) {
+            screener.register(series.getName(), series);
+        }
+        assertEquals(seriesList.size(), screener.size());
+
+        for (int cycle = 0; cycle < 10; cycle++) {
+            List<ScreenerMatch<String>> matches = screener.screen();
+            assertEquals(expectedMatches(1), toStrings(matches));
+            for (ScreenerMatch<String> match : matches) {
+                assertSame(match.getSeries().getLastTick(), match.getTick());
+            }
+            for (TimeSeries series : seriesList) {
+                addRandomTick(series);
+            }
+        }
+        // The rules are kept between the screenings
+        assertEquals(seriesList.size(), builtRules.get());
+    }
+
+    @Test
+    public void screenLastTicks() {
+        Screener<String> screener = new Screener<>(ruleFactory);
+        for (TimeSeries series : seriesList) {
+            screener.register(series.getName(), series);
+        }
+        assertEquals(expectedMatches(30), toStrings(screener.screen(30)));
+        assertEquals(expectedMatches(1000), toStrings(screener.screen(1000)));
+    }
+
+    @Test
+    public void registration() {
+        Screener<String> screener = new Screener<>(ruleFactory, executor);
+        assertTrue(screener.screen().isEmpty());
+        screener.register("a", seriesList.get(0));
+        screener.register("b", new BaseTimeSeries());
+        screener.register("a", seriesList.get(1));
+        assertEquals(2, screener.size());
+        for (ScreenerMatch<String> match : screener.screen(300)) {
+            assertEquals("a", match.getSymbol());
+            assertSame(seriesList.get(1), match.getSeries());
+        }
+        assertTrue(screener.unregister("b"));
+        assertFalse(screener.unregister("b"));
+        assertEquals(1, screener.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTickCount() {
+        new Screener<>(ruleFactory, executor).screen(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failingRuleFactory() {
+        Screener<String> screener = new Screener<>(series -> {
+            throw new IllegalStateException("No rule");
+        }, executor);
+        screener.register("a", seriesList.get(0));
+        screener.screen();
+    }
+
+    private List<String> expectedMatches(int tickCount) {
+        List<String> matches = new ArrayList<>();
+        for (TimeSeries series : seriesList) {
+            Rule rule = buildRule(series);
+            for (int i = Math.max(0, series.getEndIndex() - tickCount + 1); i <= series.getEndIndex(); i++) {
+                if (rule.isSatisfied(i)) {
+                    matches.add(series.getName() + "@" + i);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Rule buildRule(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return new OverIndicatorRule(new SMAIndicator(closePrice, 5), new SMAIndicator(closePrice, 20));
+    }
+
+    private static List<String> toStrings(List<ScreenerMatch<String>> matches) {
+        List<String> strings = new ArrayList<>();
+        for (ScreenerMatch<String> match : matches) {
+            strings.add(match.getSymbol() + "@" + match.getIndex());
+        }
+        return strings;
+    }
+
+    private void addRandomTick(TimeSeries series) {
+        double price = series.isEmpty() ? 100 : series.getLastTick().getClosePrice().toDouble();
+        Tick tick = new MockTick(START.plusMinutes(series.getTickCount()), Math.max(1, price + random.nextGaussian()));
+        series.addTick(tick);
+    }
+}
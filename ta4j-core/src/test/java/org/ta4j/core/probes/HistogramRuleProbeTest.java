@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.probes;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Rule;
+import org.ta4j.core.RuleProbe;
+import org.ta4j.core.RuleProbes;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.mocks.MockTimeSeries;
+import org.ta4j.core.trading.rules.FixedRule;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class HistogramRuleProbeTest {
+
+    private HistogramRuleProbe probe;
+
+    @Before
+    public void setUp() {
+        probe = new HistogramRuleProbe();
+        RuleProbes.setProbe(probe);
+    }
+
+    @After
+    public void tearDown() {
+        RuleProbes.setProbe(null);
+    }
+
+    @Test
+    public void ruleStatistics() {
+        Rule rule = new FixedRule(1, 3, 5);
+        for (int i = 0; i < 8; i++) {
+            rule.isSatisfied(i);
+        }
+        HistogramRuleProbe.Statistics statistics = probe.getStatistics(rule);
+        assertEquals(8, statistics.getEvaluationCount());
+        assertEquals(3, statistics.getSatisfiedCount());
+        assertEquals(3d / 8, statistics.getHitRatio(), 1e-9);
+        assertNull(probe.getStatistics(new FixedRule(1)));
+    }
+
+    @Test
+    public void strategyStatistics() {
+        Rule entryRule = new FixedRule(0, 4);
+        Rule exitRule = new FixedRule(2, 6);
+        Strategy strategy = new BaseStrategy(entryRule, exitRule);
+        new TimeSeriesManager(new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8)).run(strategy);
+
+        // Entry rule evaluated at 0 (enter), 3, 4 (enter) and 7; exit rule at 1, 2 (exit), 5 and 6 (exit)
+        HistogramRuleProbe.Statistics entries = probe.getEntryStatistics(strategy);
+        HistogramRuleProbe.Statistics exits = probe.getExitStatistics(strategy);
+        assertEquals(4, entries.getEvaluationCount());
+        assertEquals(4, exits.getEvaluationCount());
+        assertEquals(2, entries.getSatisfiedCount());
+        assertEquals(2, exits.getSatisfiedCount());
+        assertEquals(entries.getEvaluationCount(), Arrays.stream(entries.getDurationHistogram()).sum());
+        assertEquals(entries.getEvaluationCount(), probe.getStatistics(entryRule).getEvaluationCount());
+
+        probe.reset();
+        assertNull(probe.getEntryStatistics(strategy));
+    }
+
+    @Test
+    public void timedRuleStatistics() {
+        Rule rule = new FixedRule(1, 3, 5);
+        Rule timedRule = probe.timed(rule);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(rule.isSatisfied(i), timedRule.isSatisfied(i));
+        }
+        HistogramRuleProbe.Statistics statistics = probe.getStatistics(timedRule);
+        assertEquals(8, statistics.getEvaluationCount());
+        assertEquals(3, statistics.getSatisfiedCount());
+        assertEquals(8, Arrays.stream(statistics.getDurationHistogram()).sum());
+        // The wrapped rule keeps its own (untimed) statistics
+        HistogramRuleProbe.Statistics ruleStatistics = probe.getStatistics(rule);
+        assertEquals(16, ruleStatistics.getEvaluationCount());
+        assertEquals(0, Arrays.stream(ruleStatistics.getDurationHistogram()).sum());
+    }
+
+    @Test
+    public void rulesNotRetained() throws InterruptedException {
+        Rule rule = new FixedRule(1);
+        rule.isSatisfied(1);
+        WeakReference<Rule> ruleReference = new WeakReference<>(rule);
+        rule = null;
+        for (int i = 0; i < 50 && ruleReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ruleReference.get());
+    }
+
+    @Test
+    public void noProbe() {
+        RuleProbes.setProbe(null);
+        assertSame(RuleProbe.NO_OP, RuleProbes.getProbe());
+        new FixedRule(1).isSatisfied(1);
+        assertNull(probe.getStatistics(new FixedRule(1)));
+    }
+}
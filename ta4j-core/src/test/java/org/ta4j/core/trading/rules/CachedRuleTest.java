@@ -0,0 +1,142 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.trading.rules;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTick;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CachedRuleTest {
+
+    private int calls;
+
+    private Rule evenIndexRule;
+
+    @Before
+    public void setUp() {
+        calls = 0;
+        evenIndexRule = new AbstractRule() {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                calls++;
+                return index % 2 == 0;
+            }
+
+            @Override
+            public boolean isTradingRecordDependent() {
+                return false;
+            }
+        };
+    }
+
+    @Test
+    public void isSatisfied() {
+        Rule cachedRule = evenIndexRule.cached();
+        assertTrue(cachedRule.isSatisfied(0));
+        assertFalse(cachedRule.isSatisfied(1));
+        assertTrue(cachedRule.isSatisfied(10));
+        assertFalse(cachedRule.isSatisfied(1));
+        assertTrue(cachedRule.isSatisfied(0));
+        assertEquals(3, calls);
+    }
+
+    @Test
+    public void sharedSubRuleEvaluatedOncePerIndex() {
+        Rule shared = evenIndexRule.cached();
+        Rule entryRule = shared.and(new FixedRule(2, 4));
+        Rule exitRule = shared.negation().or(new FixedRule(3));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i == 2 || i == 4, entryRule.isSatisfied(i));
+            assertEquals(i % 2 == 1, exitRule.isSatisfied(i));
+        }
+        assertEquals(6, calls);
+        assertFalse(entryRule.isTradingRecordDependent());
+    }
+
+    @Test
+    public void resultsOfRemovedTicksDropped() {
+        MockTimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        series.setMaximumTickCount(4);
+        Rule cachedRule = evenIndexRule.cached(series);
+        assertTrue(cachedRule.isSatisfied(6));
+        assertFalse(cachedRule.isSatisfied(7));
+        assertTrue(cachedRule.isSatisfied(8));
+        assertFalse(cachedRule.isSatisfied(9));
+        assertEquals(4, calls);
+        assertTrue(cachedRule.isSatisfied(8));
+        assertFalse(cachedRule.isSatisfied(9));
+        assertEquals(4, calls);
+
+        // New tick: index 6 removed
+        series.addTick(new MockTick(series.getLastTick().getEndTime().plusDays(1), 11));
+        assertEquals(7, series.getRemovedTicksCount());
+        assertFalse(cachedRule.isSatisfied(7));
+        assertTrue(cachedRule.isSatisfied(10));
+        assertEquals(5, calls);
+        // Removed index: evaluated again
+        assertTrue(cachedRule.isSatisfied(6));
+        assertEquals(6, calls);
+
+        ((CachedRule) cachedRule).invalidateFrom(10);
+        assertTrue(cachedRule.isSatisfied(10));
+        assertFalse(cachedRule.isSatisfied(9));
+        assertEquals(7, calls);
+    }
+
+    @Test
+    public void invalidateFromAcrossWords() {
+        Rule cachedRule = evenIndexRule.cached();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 0, cachedRule.isSatisfied(i));
+        }
+        assertEquals(200, calls);
+        ((CachedRule) cachedRule).invalidateFrom(45);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 0, cachedRule.isSatisfied(i));
+        }
+        assertEquals(355, calls);
+    }
+
+    @Test
+    public void tradingRecordDependentRuleNotCached() {
+        MockTimeSeries series = new MockTimeSeries(100, 105, 110, 120, 100, 150);
+        CachedRule stopLoss = new CachedRule(new StopLossRule(new ClosePriceIndicator(series), Decimal.valueOf(5)));
+        assertFalse(stopLoss.isCached());
+        assertTrue(stopLoss.isTradingRecordDependent());
+
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        assertFalse(stopLoss.isSatisfied(4, tradingRecord));
+        tradingRecord.enter(3, Decimal.valueOf(120), Decimal.ONE);
+        assertTrue(stopLoss.isSatisfied(4, tradingRecord));
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.trading.rules;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockTimeSeries;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RuleCompilerTest {
+
+    private TimeSeries series;
+
+    private Rule[] leaves;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        double[] prices = new double[300];
+        double price = 100;
+        for (int i = 0; i < prices.length; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            prices[i] = price;
+        }
+        series = new MockTimeSeries(prices);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 5);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 20);
+        leaves = new Rule[] {
+                new OverIndicatorRule(shortSma, longSma),
+                new UnderIndicatorRule(shortSma, longSma),
+                new CrossedUpIndicatorRule(closePrice, longSma),
+                new CrossedDownIndicatorRule(closePrice, shortSma),
+                new FixedRule(3, 50, 51, 120, 250),
+                new StopLossRule(closePrice, Decimal.valueOf(2)),
+                new StopGainRule(closePrice, Decimal.valueOf(3)),
+                BooleanRule.TRUE,
+                BooleanRule.FALSE,
+                // Non-public rule
+                new AbstractRule() {
+                    @Override
+                    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                        return index % 3 == 0;
+                    }
+                }
+        };
+    }
+
+    /**
+     * @param random the random generator
+     * @param depth the maximum depth of the tree
+     * @return a random rule tree
+     */
+    private Rule buildRandomRule(Random random, int depth) {
+        if (depth == 0 || random.nextInt(4) == 0) {
+            return leaves[random.nextInt(leaves.length)];
+        }
+        switch (random.nextInt(4)) {
+            case 0:
+                return buildRandomRule(random, depth - 1).and(buildRandomRule(random, depth - 1));
+            case 1:
+                return buildRandomRule(random, depth - 1).or(buildRandomRule(random, depth - 1));
+            case 2:
+                return buildRandomRule(random, depth - 1).xor(buildRandomRule(random, depth - 1));
+            default:
+                return buildRandomRule(random, depth - 1).negation();
+        }
+    }
+
+    @Test
+    public void logicalOperators() {
+        Rule r1 = new FixedRule(1, 2, 3, 5);
+        Rule r2 = new FixedRule(2, 3, 4, 8);
+        Rule and = RuleCompiler.compile(r1.and(r2));
+        Rule or = RuleCompiler.compile(r1.or(r2));
+        Rule xor = RuleCompiler.compile(r1.xor(r2));
+        Rule not = RuleCompiler.compile(r1.negation());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(r1.isSatisfied(i) && r2.isSatisfied(i), and.isSatisfied(i));
+            assertEquals(r1.isSatisfied(i) || r2.isSatisfied(i), or.isSatisfied(i));
+            assertEquals(r1.isSatisfied(i) ^ r2.isSatisfied(i), xor.isSatisfied(i));
+            assertEquals(!r1.isSatisfied(i), not.isSatisfied(i));
+        }
+        assertTrue(RuleCompiler.compile(BooleanRule.FALSE.negation().and(BooleanRule.TRUE)).isSatisfied(0));
+    }
+
+    @Test
+    public void sameResultsAsInterpretedRules() {
+        Random random = new Random(7);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(10, Decimal.valueOf(100), Decimal.ONE);
+        for (int n = 0; n < 200; n++) {
+            Rule rule = buildRandomRule(random, 5);
+            CompiledRule compiled = RuleCompiler.compile(rule);
+            assertEquals(rule.isTradingRecordDependent(), compiled.isTradingRecordDependent());
+            for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+                assertEquals(rule.isSatisfied(i, tradingRecord), compiled.isSatisfied(i, tradingRecord));
+            }
+        }
+    }
+
+    @Test
+    public void sameTradesAsInterpretedStrategy() {
+        Random random = new Random(3);
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        for (int n = 0; n < 50; n++) {
+            Strategy strategy = new BaseStrategy(buildRandomRule(random, 4), buildRandomRule(random, 4), random.nextInt(30));
+            Strategy compiled = RuleCompiler.compile(strategy);
+            assertTrue(compiled.getEntryRule() instanceof CompiledRule);
+            assertEquals(manager.run(strategy).getTrades(), manager.run(compiled).getTrades());
+        }
+    }
+
+    @Test
+    public void compileTwice() {
+        CompiledRule compiled = RuleCompiler.compile(new FixedRule(1, 2));
+        assertSame(compiled, RuleCompiler.compile(compiled));
+        assertFalse(RuleCompiler.compile(compiled.negation()).isSatisfied(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileNullRule() {
+        RuleCompiler.compile((Rule) null);
+    }
+}
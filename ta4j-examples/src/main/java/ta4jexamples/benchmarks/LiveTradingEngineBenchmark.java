@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.live.LiveTradingEngine;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+
+import java.util.Arrays;
+
+/**
+ * Benchmark of the {@link LiveTradingEngine live trading engine}.
+ * <p>
+ * Measures the time needed to evaluate several hundreds of strategies on each new tick
+ * (i.e. the latency between the reception of a tick and the last signal).
+ */
+public class LiveTradingEngineBenchmark {
+
+    /** Number of ticks used to warm the indicators (and the JIT) up */
+    private static final int WARM_UP_TICK_COUNT = 20000;
+
+    /** Number of measured ticks */
+    private static final int TICK_COUNT = 5000;
+
+    /** Number of subscribed strategies (by kind) */
+    private static final int STRATEGY_COUNT = 100;
+
+    public static void main(String[] args) {
+        TimeSeries ticks = OrderStatisticsBenchmark.buildRandomWalkSeries(WARM_UP_TICK_COUNT + TICK_COUNT);
+        TimeSeries series = new BaseTimeSeries("live");
+        series.setMaximumTickCount(1000);
+        LiveTradingEngine engine = new LiveTradingEngine(series);
+
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 200);
+        for (int i = 0; i < STRATEGY_COUNT; i++) {
+            EMAIndicator shortEma = new EMAIndicator(closePrice, 5 + i);
+            engine.subscribe(new BaseStrategy(new CrossedUpIndicatorRule(shortEma, longSma),
+                    new CrossedDownIndicatorRule(shortEma, longSma)));
+            RSIIndicator rsi = new RSIIndicator(closePrice, 2 + i % 20);
+            engine.subscribe(new BaseStrategy(new UnderIndicatorRule(rsi, Decimal.valueOf(5 + i % 20)),
+                    new OverIndicatorRule(rsi, Decimal.valueOf(95 - i % 20))));
+            engine.subscribe(new BaseStrategy(new OverIndicatorRule(shortEma, longSma),
+                    new UnderIndicatorRule(shortEma, longSma), 200));
+        }
+        final int[] signalCount = new int[1];
+        engine.addListener(signal -> signalCount[0]++);
+
+        for (int i = 0; i < WARM_UP_TICK_COUNT; i++) {
+            engine.addTick(ticks.getTick(i));
+        }
+        signalCount[0] = 0;
+        long[] latencies = new long[TICK_COUNT];
+        for (int i = 0; i < TICK_COUNT; i++) {
+            long start = System.nanoTime();
+            engine.addTick(ticks.getTick(WARM_UP_TICK_COUNT + i));
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.println(3 * STRATEGY_COUNT + " strategies, " + TICK_COUNT + " ticks (" + signalCount[0] + " signals):");
+        System.out.println("\tMedian tick evaluation: " + latencies[TICK_COUNT / 2] / 1000 + " us");
+        System.out.println("\t99th percentile:        " + latencies[TICK_COUNT * 99 / 100] / 1000 + " us");
+        System.out.println("\tMaximum:                " + latencies[TICK_COUNT - 1] / 1000 + " us");
+    }
+}
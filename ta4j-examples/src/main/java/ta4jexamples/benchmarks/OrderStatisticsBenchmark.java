@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import org.ta4j.core.BaseTick;
+import org.ta4j.core.BaseTimeSeries;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Tick;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.MedianAbsoluteDeviationIndicator;
+import org.ta4j.core.indicators.statistics.MedianIndicator;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark of the rolling order statistics indicators.
+ * <p>
+ * Compares the {@link MedianIndicator median indicator} and the {@link MedianAbsoluteDeviationIndicator MAD indicator}
+ * (indexable skip list, O(log n) per tick) with a naive implementation sorting the whole window on each tick.
+ */
+public class OrderStatisticsBenchmark {
+
+    /** Number of ticks of the benchmark series */
+    private static final int TICK_COUNT = 50000;
+
+    /** Number of runs for each measure (the first ones warm the JIT up) */
+    private static final int RUNS = 5;
+
+    /**
+     * Naive rolling median: sorts a copy of the window on each tick.
+     */
+    private static class NaiveMedianIndicator extends CachedIndicator<Decimal> {
+
+        private final Indicator<Decimal> indicator;
+
+        private final int timeFrame;
+
+        NaiveMedianIndicator(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator);
+            this.indicator = indicator;
+            this.timeFrame = timeFrame;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            int startIndex = Math.max(0, index - timeFrame + 1);
+            Decimal[] window = new Decimal[index - startIndex + 1];
+            for (int i = startIndex; i <= index; i++) {
+                window[i - startIndex] = indicator.getValue(i);
+            }
+            Arrays.sort(window);
+            int size = window.length;
+            if (size % 2 == 1) {
+                return window[size / 2];
+            }
+            return window[size / 2 - 1].plus(window[size / 2]).dividedBy(Decimal.TWO);
+        }
+    }
+
+    /**
+     * @param tickCount the number of ticks
+     * @return a random walk time series
+     */
+    public static TimeSeries buildRandomWalkSeries(int tickCount) {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<>(tickCount);
+        ZonedDateTime time = ZonedDateTime.now().minusMinutes(tickCount);
+        double price = 100;
+        for (int i = 0; i < tickCount; i++) {
+            double open = price;
+            price = Math.max(1, price + random.nextGaussian());
+            double high = Math.max(open, price) + random.nextDouble();
+            double low = Math.min(open, price) - random.nextDouble();
+            ticks.add(new BaseTick(time.plusMinutes(i), open, high, low, price, 1000 + random.nextInt(1000)));
+        }
+        return new BaseTimeSeries("random_walk", ticks);
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param series the time series
+     * @return the duration (in ms) of the computation of all the values of the indicator
+     */
+    private static long measure(Indicator<Decimal> indicator, TimeSeries series) {
+        long start = System.nanoTime();
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            indicator.getValue(i);
+        }
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    public static void main(String[] args) {
+        TimeSeries series = buildRandomWalkSeries(TICK_COUNT);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        // Filling the close price cache
+        measure(closePrice, series);
+
+        for (int timeFrame : new int[] { 10, 50, 200, 1000 }) {
+            long naive = Long.MAX_VALUE;
+            long skipList = Long.MAX_VALUE;
+            long mad = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                naive = Math.min(naive, measure(new NaiveMedianIndicator(closePrice, timeFrame), series));
+                skipList = Math.min(skipList, measure(new MedianIndicator(closePrice, timeFrame), series));
+                mad = Math.min(mad, measure(new MedianAbsoluteDeviationIndicator(closePrice, timeFrame), series));
+            }
+            System.out.println("Time frame " + timeFrame + " (" + TICK_COUNT + " ticks):");
+            System.out.println("\tNaive window sort median: " + naive + " ms");
+            System.out.println("\tSkip list median:         " + skipList + " ms");
+            System.out.println("\tSkip list MAD:            " + mad + " ms");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.backtest.BacktestExecutor;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Benchmark of the {@link BacktestExecutor parallel backtest executor}.
+ * <p>
+ * Compares the serial {@link AnalysisCriterion#chooseBest(TimeSeriesManager, List) chooseBest} with the
+ * parallel executor for an increasing number of threads.
+ */
+public class ParallelBacktestBenchmark {
+
+    /** Number of ticks of the benchmark series */
+    private static final int TICK_COUNT = 50000;
+
+    /** Number of backtested strategies */
+    private static final int STRATEGY_COUNT = 32;
+
+    /** Number of runs for each measure (the first ones warm the JIT up) */
+    private static final int RUNS = 3;
+
+    /**
+     * @param series the time series
+     * @return moving average crossover strategies (sharing the close price and the long SMA)
+     */
+    private static List<Strategy> buildStrategies(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 200);
+        List<Strategy> strategies = new ArrayList<>(STRATEGY_COUNT);
+        for (int i = 0; i < STRATEGY_COUNT; i++) {
+            EMAIndicator shortEma = new EMAIndicator(closePrice, 5 + 3 * i);
+            strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(shortEma, longSma),
+                    new CrossedDownIndicatorRule(shortEma, longSma)));
+        }
+        return strategies;
+    }
+
+    public static void main(String[] args) {
+        TimeSeries series = OrderStatisticsBenchmark.buildRandomWalkSeries(TICK_COUNT);
+        TimeSeriesManager manager = new TimeSeriesManager(series);
+        AnalysisCriterion criterion = new TotalProfitCriterion();
+
+        long serial = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            List<Strategy> strategies = buildStrategies(series);
+            long start = System.nanoTime();
+            criterion.chooseBest(manager, strategies);
+            serial = Math.min(serial, (System.nanoTime() - start) / 1000000);
+        }
+        System.out.println(STRATEGY_COUNT + " strategies, " + TICK_COUNT + " ticks:");
+        System.out.println("\tSerial chooseBest: " + serial + " ms");
+
+        final int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            BacktestExecutor executor = new BacktestExecutor(manager, pool);
+            long parallel = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                List<Strategy> strategies = buildStrategies(series);
+                long start = System.nanoTime();
+                executor.chooseBest(strategies, criterion);
+                parallel = Math.min(parallel, (System.nanoTime() - start) / 1000000);
+            }
+            pool.shutdown();
+            System.out.println("\tBacktest executor (" + threads + " threads): " + parallel + " ms");
+        }
+    }
+}
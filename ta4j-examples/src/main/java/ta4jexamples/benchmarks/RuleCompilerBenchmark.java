@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Rule;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.trading.rules.BooleanRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.RuleCompiler;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+
+/**
+ * Benchmark of the rule compiler.
+ * <p>
+ * Evaluates a rule tree (logical operators over indicator rules) on every tick, interpreted and
+ * {@link RuleCompiler compiled}. The indicator values are computed beforehand, so that the measures are about the
+ * evaluation of the rule tree itself.
+ */
+public class RuleCompilerBenchmark {
+
+    /** Number of ticks of the benchmark series */
+    private static final int TICK_COUNT = 20000;
+
+    /** Number of passes over the series for each measure */
+    private static final int PASSES = 50;
+
+    /** Number of runs for each measure (the first ones warm the JIT up) */
+    private static final int RUNS = 10;
+
+    /**
+     * @param rule a rule
+     * @param series the time series
+     * @return the duration (in ms) of the evaluation of the rule over the series (PASSES times)
+     */
+    private static long measure(Rule rule, TimeSeries series) {
+        int satisfiedCount = 0;
+        long start = System.nanoTime();
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+                if (rule.isSatisfied(i, null)) {
+                    satisfiedCount++;
+                }
+            }
+        }
+        long duration = (System.nanoTime() - start) / 1000000;
+        if (satisfiedCount < 0) {
+            // Never occurs (keeps the evaluations from being optimized away)
+            System.out.println(satisfiedCount);
+        }
+        return duration;
+    }
+
+    public static void main(String[] args) {
+        TimeSeries series = OrderStatisticsBenchmark.buildRandomWalkSeries(TICK_COUNT);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 10);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 50);
+        EMAIndicator ema = new EMAIndicator(closePrice, 20);
+        RSIIndicator rsi = new RSIIndicator(closePrice, 14);
+
+        Rule rule = new OverIndicatorRule(shortSma, longSma)
+                .and(new UnderIndicatorRule(rsi, Decimal.valueOf(70)))
+                .and(new OverIndicatorRule(closePrice, ema).or(new UnderIndicatorRule(rsi, Decimal.valueOf(30))))
+                .and(new UnderIndicatorRule(closePrice, longSma).negation().or(BooleanRule.FALSE))
+                .xor(new OverIndicatorRule(rsi, Decimal.valueOf(95)))
+                .or(new UnderIndicatorRule(shortSma, ema).and(new OverIndicatorRule(rsi, Decimal.valueOf(50))));
+        Rule compiledRule = RuleCompiler.compile(rule);
+
+        // Filling the indicator caches
+        measure(rule, series);
+
+        long interpreted = Long.MAX_VALUE;
+        long compiled = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            interpreted = Math.min(interpreted, measure(rule, series));
+            compiled = Math.min(compiled, measure(compiledRule, series));
+        }
+        System.out.println("Rule tree evaluated " + PASSES + " times over " + TICK_COUNT + " ticks:");
+        System.out.println("\tInterpreted: " + interpreted + " ms");
+        System.out.println("\tCompiled:    " + compiled + " ms");
+    }
+}
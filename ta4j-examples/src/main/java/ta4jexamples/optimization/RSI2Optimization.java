@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.optimization;
+
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Decimal;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TimeSeries;
+import org.ta4j.core.TimeSeriesManager;
+import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.backtest.OptimizationResult;
+import org.ta4j.core.backtest.ParameterGrid;
+import org.ta4j.core.backtest.SharedIndicators;
+import org.ta4j.core.backtest.StrategyOptimizer;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.trading.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.trading.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.trading.rules.OverIndicatorRule;
+import org.ta4j.core.trading.rules.UnderIndicatorRule;
+import ta4jexamples.loaders.CsvTradesLoader;
+import ta4jexamples.strategies.RSI2Strategy;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parameter sweep of the {@link RSI2Strategy RSI-2 strategy}.
+ * <p>
+ * Sweeps the RSI time frame, the entry/exit RSI thresholds and the short SMA time frame. The close price and
+ * the 200-period SMA are shared by all the candidates, the RSI and short SMA by the candidates using the same
+ * time frames.
+ */
+public class RSI2Optimization {
+
+    /**
+     * @param series a time series
+     * @param shared the indicators shared between the candidates
+     * @param parameters the RSI time frame, the entry threshold, the exit threshold and the short SMA time frame
+     * @return a RSI-2 strategy
+     */
+    public static Strategy buildStrategy(TimeSeries series, SharedIndicators shared, int[] parameters) {
+        Indicator<Decimal> closePrice = shared.get(() -> new ClosePriceIndicator(series), "close");
+        Indicator<Decimal> longSma = shared.get(() -> new SMAIndicator(closePrice, 200), "sma", 200);
+        Indicator<Decimal> shortSma = shared.get(() -> new SMAIndicator(closePrice, parameters[3]), "sma", parameters[3]);
+        Indicator<Decimal> rsi = shared.get(() -> new RSIIndicator(closePrice, parameters[0]), "rsi", parameters[0]);
+
+        Rule entryRule = new OverIndicatorRule(shortSma, longSma)
+                .and(new CrossedDownIndicatorRule(rsi, Decimal.valueOf(parameters[1])))
+                .and(new OverIndicatorRule(shortSma, closePrice));
+        Rule exitRule = new UnderIndicatorRule(shortSma, longSma)
+                .and(new CrossedUpIndicatorRule(rsi, Decimal.valueOf(parameters[2])))
+                .and(new UnderIndicatorRule(shortSma, closePrice));
+        return new BaseStrategy(entryRule, exitRule);
+    }
+
+    public static void main(String[] args) {
+        TimeSeries series = CsvTradesLoader.loadBitstampSeries();
+        SharedIndicators shared = new SharedIndicators();
+        ParameterGrid grid = new ParameterGrid(
+                ParameterGrid.range(2, 6, 1),     // RSI time frame
+                ParameterGrid.range(5, 30, 5),    // Entry threshold
+                ParameterGrid.range(70, 95, 5),   // Exit threshold
+                ParameterGrid.range(3, 10, 1));   // Short SMA time frame
+
+        StrategyOptimizer<int[]> optimizer = new StrategyOptimizer<>(new TimeSeriesManager(series),
+                parameters -> buildStrategy(series, shared, parameters));
+
+        long start = System.nanoTime();
+        AtomicInteger profitableCandidates = new AtomicInteger();
+        AtomicReference<OptimizationResult<int[]>> best = new AtomicReference<>();
+        TotalProfitCriterion criterion = new TotalProfitCriterion();
+        optimizer.run(grid, criterion, result -> {
+            // Streamed results: only the best one is kept
+            if (result.getCriterionValue() > 1) {
+                profitableCandidates.incrementAndGet();
+            }
+            OptimizationResult<int[]> currentBest = best.get();
+            if (currentBest == null || criterion.betterThan(result.getCriterionValue(), currentBest.getCriterionValue())) {
+                best.set(result);
+            }
+        });
+        long duration = (System.nanoTime() - start) / 1000000;
+
+        System.out.println(grid.size() + " candidates evaluated in " + duration + " ms ("
+                + shared.size() + " shared indicators)");
+        System.out.println("Profitable candidates: " + profitableCandidates.get());
+        System.out.println("Best parameters (RSI time frame, entry, exit, short SMA): "
+                + Arrays.toString(best.get().getParameters()) + ", total profit: " + best.get().getCriterionValue()
+                + ", trades: " + best.get().getTradeCount());
+    }
+}
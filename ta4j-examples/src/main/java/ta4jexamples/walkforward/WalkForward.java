@@ -24,6 +24,8 @@ package ta4jexamples.walkforward;
 
 import org.ta4j.core.*;
 import org.ta4j.core.analysis.criteria.TotalProfitCriterion;
+import org.ta4j.core.backtest.WalkForwardOptimizer;
+import org.ta4j.core.backtest.WalkForwardWindow;
 import ta4jexamples.loaders.CsvTradesLoader;
 import ta4jexamples.strategies.CCICorrectionStrategy;
 import ta4jexamples.strategies.GlobalExtremaStrategy;
@@ -40,6 +42,8 @@ import java.util.Map;
 /**
  * Walk-forward optimization example.
  * <p>
+ * Splits the series by hand and runs the strategies on each slice, then does the same analysis
+ * with the core {@link WalkForwardOptimizer walk-forward optimizer}.
  * @see http://en.wikipedia.org/wiki/Walk_forward_optimization
  * @see http://www.futuresmag.com/2010/04/01/can-your-system-do-the-walk
  */
@@ -178,6 +182,17 @@ public class WalkForward {
             Strategy bestStrategy = profitCriterion.chooseBest(sliceManager, new ArrayList<Strategy>(strategies.keySet()));
             System.out.println("\t\t--> Best strategy: " + strategies.get(bestStrategy) + "\n");
         }
+
+        // Walk-forward analysis with the core engine: the best in-sample strategy (12 hours)
+        // is validated on the following out-of-sample range (6 hours), windows processed in parallel
+        List<WalkForwardWindow> windows = WalkForwardWindow.rolling(series, Duration.ofHours(12), Duration.ofHours(6));
+        new WalkForwardOptimizer<Strategy>(series, strategy -> strategy)
+                .run(windows, strategies.keySet(), profitCriterion, result -> {
+                    System.out.println(result.getWindow());
+                    System.out.println("\tBest in-sample strategy: " + strategies.get(result.getParameters())
+                            + " (profit: " + result.getInSampleResult().getCriterionValue() + ")");
+                    System.out.println("\tOut-of-sample profit: " + result.getOutOfSampleCriterionValue());
+                });
     }
     
 }